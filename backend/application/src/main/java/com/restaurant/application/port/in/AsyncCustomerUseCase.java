@@ -0,0 +1,39 @@
+package com.restaurant.application.port.in;
+
+import com.restaurant.domain.entity.Customer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking variant of the customer use cases, served end to end without a request thread
+ */
+public interface AsyncCustomerUseCase {
+    
+    /**
+     * Create a new customer
+     */
+    CompletionStage<Customer> createCustomer(CustomerUseCase.CreateCustomerCommand command);
+    
+    /**
+     * Find customer by ID
+     */
+    CompletionStage<Optional<Customer>> findCustomerById(UUID customerId);
+    
+    /**
+     * Find customer by email
+     */
+    CompletionStage<Optional<Customer>> findCustomerByEmail(String email);
+    
+    /**
+     * Get all active customers
+     */
+    CompletionStage<List<Customer>> getAllActiveCustomers();
+    
+    /**
+     * Search customers by name, returning at most limit customers
+     */
+    CompletionStage<List<Customer>> searchCustomersByName(String name, int limit);
+}
@@ -0,0 +1,40 @@
+package com.restaurant.application.port.in;
+
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking variant of the menu use cases, served end to end without a request thread
+ */
+public interface AsyncMenuUseCase {
+    
+    /**
+     * Create a new menu item
+     */
+    CompletionStage<MenuItem> createMenuItem(MenuUseCase.CreateMenuItemCommand command);
+    
+    /**
+     * Find menu item by ID
+     */
+    CompletionStage<Optional<MenuItem>> findMenuItemById(UUID menuItemId);
+    
+    /**
+     * Get available menu items
+     */
+    CompletionStage<List<MenuItem>> getAvailableMenuItems();
+    
+    /**
+     * Get menu items by category
+     */
+    CompletionStage<List<MenuItem>> getMenuItemsByCategory(MenuCategory category);
+    
+    /**
+     * Search menu items by name, returning at most limit items
+     */
+    CompletionStage<List<MenuItem>> searchMenuItemsByName(String name, int limit);
+}
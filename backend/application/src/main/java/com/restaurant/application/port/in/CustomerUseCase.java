@@ -2,6 +2,7 @@ package com.restaurant.application.port.in;
 
 import com.restaurant.domain.entity.Customer;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,6 +37,11 @@ public interface CustomerUseCase {
      */
     List<Customer> searchCustomersByName(String name);
     
+    /**
+     * Search customers by name or email, returning at most limit ranked results
+     */
+    List<Customer> searchCustomersByName(String name, int limit);
+    
     /**
      * Get all active customers
      */
@@ -56,6 +62,17 @@ public interface CustomerUseCase {
      */
     void deleteCustomer(UUID customerId);
     
+    /**
+     * Import customers in fixed-size chunks, each committed on its own, skipping emails that already exist;
+     * an IllegalArgumentException thrown by the iterator marks a malformed record and ends the import
+     */
+    ImportResult importCustomers(Iterator<CreateCustomerCommand> commands);
+    
+    /**
+     * Get customer counts
+     */
+    CustomerStatistics getCustomerStatistics();
+    
     /**
      * Command for creating a customer
      */
@@ -76,4 +93,23 @@ public interface CustomerUseCase {
         String phone,
         String address
     ) {}
+    
+    /**
+     * Outcome of a bulk import. An import stops at the first malformed record, which error describes;
+     * the records received before it have been imported or skipped. Error is null when all records were read.
+     */
+    record ImportResult(
+        int received,
+        int imported,
+        int skipped,
+        String error
+    ) {}
+    
+    /**
+     * Customer counts
+     */
+    record CustomerStatistics(
+        long totalCustomers,
+        long activeCustomers
+    ) {}
 }
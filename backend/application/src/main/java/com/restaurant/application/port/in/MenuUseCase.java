@@ -4,7 +4,9 @@ import com.restaurant.domain.entity.MenuItem;
 import com.restaurant.domain.valueobject.MenuCategory;
 import com.restaurant.domain.valueobject.Money;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -53,6 +55,11 @@ public interface MenuUseCase {
      */
     List<MenuItem> searchMenuItemsByName(String name);
     
+    /**
+     * Search menu items by name, returning at most limit ranked results
+     */
+    List<MenuItem> searchMenuItemsByName(String name, int limit);
+    
     /**
      * Update menu item availability
      */
@@ -68,6 +75,17 @@ public interface MenuUseCase {
      */
     void deleteMenuItem(UUID menuItemId);
     
+    /**
+     * Import menu items in fixed-size chunks, each committed on its own, skipping names that already exist;
+     * an IllegalArgumentException thrown by the iterator marks a malformed record and ends the import
+     */
+    ImportResult importMenuItems(Iterator<CreateMenuItemCommand> commands);
+    
+    /**
+     * Get menu item counts, overall and per category
+     */
+    MenuStatistics getMenuStatistics();
+    
     /**
      * Command for creating a menu item
      */
@@ -93,4 +111,24 @@ public interface MenuUseCase {
         int preparationTimeMinutes,
         boolean available
     ) {}
+    
+    /**
+     * Outcome of a bulk import. An import stops at the first malformed record, which error describes;
+     * the records received before it have been imported or skipped. Error is null when all records were read.
+     */
+    record ImportResult(
+        int received,
+        int imported,
+        int skipped,
+        String error
+    ) {}
+    
+    /**
+     * Menu item counts
+     */
+    record MenuStatistics(
+        long totalItems,
+        long availableItems,
+        Map<MenuCategory, Long> itemsByCategory
+    ) {}
 }
@@ -0,0 +1,100 @@
+package com.restaurant.application.port.in;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Input port for runtime monitoring use cases
+ */
+public interface MonitoringUseCase {
+    
+    /**
+     * Get query execution and plan cache statistics, including the most executed queries
+     */
+    QueryStatistics getQueryStatistics(int topQueries);
+    
+    /**
+     * Reset the collected query statistics
+     */
+    void resetQueryStatistics();
+    
+    /**
+     * Get per-method repository call statistics, most total time first
+     */
+    RepositoryStatistics getRepositoryStatistics();
+    
+    /**
+     * Get the most recent repository calls that exceeded the slow-call threshold, newest first
+     */
+    List<SlowQuery> getSlowQueries(int limit);
+    
+    /**
+     * Reset the repository call statistics and drop the captured slow calls
+     */
+    void resetRepositoryStatistics();
+    
+    /**
+     * Query execution and plan cache statistics
+     */
+    record QueryStatistics(
+        boolean enabled,
+        long executionCount,
+        long planCacheHitCount,
+        long planCacheMissCount,
+        double planCacheHitRate,
+        long maxExecutionTimeMs,
+        String slowestQuery,
+        List<QueryPlanStatistics> queries
+    ) {}
+    
+    /**
+     * Statistics of a single query
+     */
+    record QueryPlanStatistics(
+        String query,
+        long executionCount,
+        long averageExecutionTimeMs,
+        long maxExecutionTimeMs,
+        long planCacheHitCount,
+        long planCacheMissCount
+    ) {}
+    
+    /**
+     * Repository call statistics
+     */
+    record RepositoryStatistics(
+        long slowThresholdMs,
+        long callCount,
+        long errorCount,
+        long slowCount,
+        List<RepositoryMethodStatistics> methods
+    ) {}
+    
+    /**
+     * Call statistics of a single repository method; rows are the rows returned or affected
+     */
+    record RepositoryMethodStatistics(
+        String method,
+        long callCount,
+        long errorCount,
+        long slowCount,
+        long totalTimeMs,
+        double averageTimeMs,
+        long maxTimeMs,
+        long totalRows,
+        long maxRows
+    ) {}
+    
+    /**
+     * A repository call that exceeded the slow-call threshold, with its parameters and caller
+     */
+    record SlowQuery(
+        Instant timestamp,
+        String method,
+        long durationMs,
+        List<String> parameters,
+        String callSite,
+        long rows,
+        String error
+    ) {}
+}
@@ -18,6 +18,11 @@ public interface OrderUseCase {
      */
     Order createOrder(CreateOrderCommand command);
     
+    /**
+     * Create an order together with all its items; either the whole order is placed or nothing is
+     */
+    Order placeOrder(PlaceOrderCommand command);
+    
     /**
      * Add item to order
      */
@@ -58,6 +63,13 @@ public interface OrderUseCase {
      */
     Order cancelOrder(UUID orderId, String reason);
     
+    /**
+     * Move several orders to the same status at once, e.g. marking a batch ready at the pass.
+     * Orders that cannot make the transition are reported and left as they are; the others are
+     * written together. Returns one result per requested order, in the order requested.
+     */
+    List<TransitionResult> transitionOrders(TransitionOrdersCommand command);
+    
     /**
      * Find order by ID
      */
@@ -73,6 +85,11 @@ public interface OrderUseCase {
      */
     List<Order> getOrdersByTable(UUID tableId);
     
+    /**
+     * Get the active orders of a table
+     */
+    List<Order> getActiveOrdersByTable(UUID tableId);
+    
     /**
      * Get orders by status
      */
@@ -102,6 +119,45 @@ public interface OrderUseCase {
         String specialInstructions
     ) {}
     
+    /**
+     * Command for placing an order with all its lines at once, as a POS terminal submits a ticket
+     */
+    record PlaceOrderCommand(
+        UUID customerId,
+        UUID tableId,
+        String specialInstructions,
+        List<OrderLine> lines
+    ) {}
+    
+    /**
+     * One line of a placed order
+     */
+    record OrderLine(
+        UUID menuItemId,
+        int quantity,
+        String notes
+    ) {}
+    
+    /**
+     * Command for moving several orders to one status; the reason is used when cancelling
+     */
+    record TransitionOrdersCommand(
+        List<UUID> orderIds,
+        OrderStatus status,
+        String reason
+    ) {}
+    
+    /**
+     * Outcome of one order in a batch transition: its status afterwards, or null if it was not found,
+     * and why it was not moved
+     */
+    record TransitionResult(
+        UUID orderId,
+        boolean transitioned,
+        OrderStatus status,
+        String error
+    ) {}
+    
     /**
      * Command for adding an item to an order
      */
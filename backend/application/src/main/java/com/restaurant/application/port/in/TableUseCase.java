@@ -57,6 +57,12 @@ public interface TableUseCase {
      */
     RestaurantTable occupyTable(UUID tableId, UUID orderId);
     
+    /**
+     * Occupy the smallest available table that seats the party, moving on to the next
+     * best fit when another host takes the table first. Empty if no table fits.
+     */
+    Optional<RestaurantTable> seatParty(int partySize, UUID orderId);
+    
     /**
      * Reserve a table
      */
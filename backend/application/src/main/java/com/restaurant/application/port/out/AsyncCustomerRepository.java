@@ -0,0 +1,42 @@
+package com.restaurant.application.port.out;
+
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.domain.entity.Customer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking output port for customer persistence.
+ * Stages complete on the database client's event loop, so callbacks must not block.
+ */
+public interface AsyncCustomerRepository {
+    
+    /**
+     * Insert a new customer and append the outbox messages in the same transaction.
+     * Completes with false, writing nothing, when the email is already taken.
+     */
+    CompletionStage<Boolean> insert(Customer customer, List<OutboxMessage> outboxMessages);
+    
+    /**
+     * Find customer by ID
+     */
+    CompletionStage<Optional<Customer>> findById(UUID customerId);
+    
+    /**
+     * Find customer by email
+     */
+    CompletionStage<Optional<Customer>> findByEmail(String email);
+    
+    /**
+     * Find all active customers
+     */
+    CompletionStage<List<Customer>> findAllActive();
+    
+    /**
+     * Search customers by name, returning at most limit customers
+     */
+    CompletionStage<List<Customer>> searchByName(String name, int limit);
+}
@@ -0,0 +1,43 @@
+package com.restaurant.application.port.out;
+
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking output port for menu item persistence.
+ * Stages complete on the database client's event loop, so callbacks must not block.
+ */
+public interface AsyncMenuItemRepository {
+    
+    /**
+     * Insert a new menu item and append the outbox messages in the same transaction.
+     * Completes with false, writing nothing, when the name is already taken.
+     */
+    CompletionStage<Boolean> insert(MenuItem menuItem, List<OutboxMessage> outboxMessages);
+    
+    /**
+     * Find menu item by ID
+     */
+    CompletionStage<Optional<MenuItem>> findById(UUID menuItemId);
+    
+    /**
+     * Find all available menu items
+     */
+    CompletionStage<List<MenuItem>> findAllAvailable();
+    
+    /**
+     * Find menu items by category
+     */
+    CompletionStage<List<MenuItem>> findByCategory(MenuCategory category);
+    
+    /**
+     * Search menu items by name, returning at most limit items
+     */
+    CompletionStage<List<MenuItem>> searchByName(String name, int limit);
+}
@@ -0,0 +1,62 @@
+package com.restaurant.application.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Output port for cache operations
+ */
+public interface CacheService {
+    
+    /**
+     * Put a value in the cache without expiration
+     */
+    void put(String key, Object value);
+    
+    /**
+     * Put a value in the cache with expiration
+     */
+    void put(String key, Object value, Duration expiration);
+    
+    /**
+     * Get a value from the cache
+     */
+    <T> Optional<T> get(String key, Class<T> type);
+    
+    /**
+     * Check if a key exists in the cache
+     */
+    boolean exists(String key);
+    
+    /**
+     * Evict a single key.
+     * Unlike reads and puts, a failed eviction is not swallowed: it throws IllegalStateException
+     * so that the caller can retry it.
+     */
+    void evict(String key);
+    
+    /**
+     * Evict all keys matching a pattern, throwing IllegalStateException when it fails
+     */
+    void evictPattern(String pattern);
+    
+    /**
+     * Clear the whole cache
+     */
+    void clear();
+    
+    /**
+     * Get cache statistics
+     */
+    CacheStats getStats();
+    
+    /**
+     * Cache statistics snapshot
+     */
+    record CacheStats(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        double hitRate
+    ) {}
+}
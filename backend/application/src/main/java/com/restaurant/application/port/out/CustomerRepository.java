@@ -0,0 +1,101 @@
+package com.restaurant.application.port.out;
+
+import com.restaurant.domain.entity.Customer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Output port for customer persistence
+ */
+public interface CustomerRepository {
+    
+    /**
+     * Save a customer (create or update)
+     */
+    Customer save(Customer customer);
+    
+    /**
+     * Save a batch of customers using JDBC statement batching
+     */
+    List<Customer> saveAll(List<Customer> customers);
+    
+    /**
+     * Insert a new customer without checking for an existing one first, relying on the unique email index.
+     * Returns false, leaving the current transaction usable, when the email is already taken.
+     */
+    boolean insert(Customer customer);
+    
+    /**
+     * Insert or update a customer, returning the affected row count
+     */
+    int upsert(Customer customer);
+    
+    /**
+     * Update only the active flag of a customer, returning the affected row count
+     */
+    int updateActive(UUID customerId, boolean active);
+    
+    /**
+     * Find customer by ID
+     */
+    Optional<Customer> findById(UUID customerId);
+    
+    /**
+     * Find customer by email
+     */
+    Optional<Customer> findByEmail(String email);
+    
+    /**
+     * Find all customers
+     */
+    List<Customer> findAll();
+    
+    /**
+     * Find all active customers
+     */
+    List<Customer> findAllActive();
+    
+    /**
+     * Search customers by name
+     */
+    List<Customer> searchByName(String name);
+    
+    /**
+     * Search customers by name or email, best matches first, returning at most limit customers
+     */
+    List<Customer> searchByName(String name, int limit);
+    
+    /**
+     * Check if a customer with the given email exists
+     */
+    boolean existsByEmail(String email);
+    
+    /**
+     * Return the subset of the given emails that already exist, in a single query
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+    
+    /**
+     * Return the emails of all customers, reading only the email column
+     */
+    List<String> findAllEmails();
+    
+    /**
+     * Delete customer by ID
+     */
+    void deleteById(UUID customerId);
+    
+    /**
+     * Count all customers
+     */
+    long count();
+    
+    /**
+     * Count active customers
+     */
+    long countActive();
+}
@@ -0,0 +1,123 @@
+package com.restaurant.application.port.out;
+
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.domain.valueobject.Money;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Output port for menu item persistence
+ */
+public interface MenuItemRepository {
+    
+    /**
+     * Save a menu item (create or update)
+     */
+    MenuItem save(MenuItem menuItem);
+    
+    /**
+     * Save a batch of menu items using JDBC statement batching
+     */
+    List<MenuItem> saveAll(List<MenuItem> menuItems);
+    
+    /**
+     * Insert a new menu item without checking for an existing one first, relying on the unique name index.
+     * Returns false, leaving the current transaction usable, when the name is already taken.
+     */
+    boolean insert(MenuItem menuItem);
+    
+    /**
+     * Insert or update a menu item, returning the affected row count
+     */
+    int upsert(MenuItem menuItem);
+    
+    /**
+     * Update only the price of a menu item, returning the affected row count
+     */
+    int updatePrice(UUID menuItemId, Money price);
+    
+    /**
+     * Update only the availability of a menu item, returning the affected row count
+     */
+    int updateAvailability(UUID menuItemId, boolean available);
+    
+    /**
+     * Find menu item by ID
+     */
+    Optional<MenuItem> findById(UUID menuItemId);
+    
+    /**
+     * Find the menu items with the given IDs in a single query; IDs that do not exist are left out
+     */
+    List<MenuItem> findAllById(Collection<UUID> menuItemIds);
+    
+    /**
+     * Find all menu items
+     */
+    List<MenuItem> findAll();
+    
+    /**
+     * Find all available menu items
+     */
+    List<MenuItem> findAllAvailable();
+    
+    /**
+     * Find menu items by category
+     */
+    List<MenuItem> findByCategory(MenuCategory category);
+    
+    /**
+     * Find available menu items by category
+     */
+    List<MenuItem> findAvailableByCategory(MenuCategory category);
+    
+    /**
+     * Search menu items by name
+     */
+    List<MenuItem> searchByName(String name);
+    
+    /**
+     * Search menu items by name, best matches first, returning at most limit items
+     */
+    List<MenuItem> searchByName(String name, int limit);
+    
+    /**
+     * Check if a menu item with the given name exists
+     */
+    boolean existsByName(String name);
+    
+    /**
+     * Return the subset of the given names that already exist, in a single query
+     */
+    Set<String> findExistingNames(Collection<String> names);
+    
+    /**
+     * Return the names of all menu items, reading only the name column
+     */
+    List<String> findAllNames();
+    
+    /**
+     * Delete menu item by ID
+     */
+    void deleteById(UUID menuItemId);
+    
+    /**
+     * Count all menu items
+     */
+    long count();
+    
+    /**
+     * Count available menu items
+     */
+    long countAvailable();
+    
+    /**
+     * Count menu items by category
+     */
+    long countByCategory(MenuCategory category);
+}
@@ -0,0 +1,121 @@
+package com.restaurant.application.port.out;
+
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output port for order persistence
+ */
+public interface OrderRepository {
+    
+    /**
+     * Save an order and its items (create or update)
+     */
+    Order save(Order order);
+    
+    /**
+     * Store a new order and its items; the order must not be stored yet
+     */
+    Order insert(Order order);
+    
+    /**
+     * Save a batch of orders and their items using JDBC statement batching
+     */
+    List<Order> saveAll(List<Order> orders);
+    
+    /**
+     * Save edits of orders and their items only where the stored order is still pending, in one transaction
+     * with JDBC batches, returning the affected row count of each order in the order given;
+     * an order that has left pending or has no stored row is not written and counts 0
+     */
+    int[] savePending(List<Order> orders);
+    
+    /**
+     * Update only the status-related columns of an order (status, instructions, delivery times),
+     * leaving its items untouched, only where the stored status is still previousStatus, returning the
+     * affected row count; an order that has moved on from previousStatus or has no stored row counts 0
+     */
+    int updateStatus(Order order, OrderStatus previousStatus);
+    
+    /**
+     * Update the status-related columns of several orders in one transaction with a single JDBC batch,
+     * each only where its stored status is still the previous status at the same position, returning
+     * the affected row count of each order in the order given
+     */
+    int[] updateStatuses(List<Order> orders, List<OrderStatus> previousStatuses);
+    
+    /**
+     * Find order by ID, including its items
+     */
+    Optional<Order> findById(UUID orderId);
+    
+    /**
+     * Find the orders with the given IDs, including their items, in a single query;
+     * IDs that do not exist are left out
+     */
+    List<Order> findAllById(Collection<UUID> orderIds);
+    
+    /**
+     * Find orders of a customer with their items, newest first
+     */
+    List<Order> findByCustomerId(UUID customerId);
+    
+    /**
+     * Find orders of a table with their items, newest first
+     */
+    List<Order> findByTableId(UUID tableId);
+    
+    /**
+     * Find the orders of a table that are neither delivered nor cancelled with their items, newest first
+     */
+    List<Order> findActiveByTableId(UUID tableId);
+    
+    /**
+     * Find orders in the given status with their items, oldest first
+     */
+    List<Order> findByStatus(OrderStatus status);
+    
+    /**
+     * Find orders that are neither delivered nor cancelled with their items, oldest first
+     */
+    List<Order> findActive();
+    
+    /**
+     * Find orders placed in the given time range with their items, oldest first
+     */
+    List<Order> findByOrderTimeBetween(LocalDateTime start, LocalDateTime end);
+    
+    /**
+     * Delete order and its items by ID
+     */
+    void deleteById(UUID orderId);
+    
+    /**
+     * Move up to limit delivered or cancelled orders placed before the cutoff, with their items,
+     * to the archive in one transaction, returning the number of orders moved
+     */
+    int archiveCompletedBefore(LocalDateTime cutoff, int limit);
+    
+    /**
+     * Split monthly partitions of orders through the given month off the catch-all partition, returning the number
+     * of partitions added; a table without monthly partitions and a catch-all partition is left as it is
+     */
+    int addMonthlyPartitionsThrough(YearMonth month);
+    
+    /**
+     * Count all orders
+     */
+    long count();
+    
+    /**
+     * Count orders by status
+     */
+    long countByStatus(OrderStatus status);
+}
@@ -0,0 +1,74 @@
+package com.restaurant.application.port.out;
+
+import com.restaurant.domain.identity.Ids;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port for the transactional outbox.
+ * Messages are appended in the same transaction as the change they describe and
+ * published afterwards by a relay, at least once.
+ */
+public interface OutboxRepository {
+    
+    /** Evict the cache key in the payload */
+    String CACHE_EVICT = "cache.evict";
+    
+    /** Evict all cache keys matching the pattern in the payload */
+    String CACHE_EVICT_PATTERN = "cache.evict-pattern";
+    
+    /** A menu item was created or changed; the payload is its ID */
+    String MENU_ITEM_CHANGED = "menu-item.changed";
+    
+    /** A menu item was deleted; the payload is its ID */
+    String MENU_ITEM_DELETED = "menu-item.deleted";
+    
+    /** A customer was created or changed; the payload is its ID */
+    String CUSTOMER_CHANGED = "customer.changed";
+    
+    /** A customer was deleted; the payload is its ID */
+    String CUSTOMER_DELETED = "customer.deleted";
+    
+    /**
+     * Append messages to the outbox, as part of the current transaction
+     */
+    void append(List<OutboxMessage> messages);
+    
+    /**
+     * Lock and return up to limit unpublished messages that are due, oldest first.
+     * Messages locked by another relay are skipped; the locks are held until the current transaction ends.
+     */
+    List<OutboxMessage> claimPending(LocalDateTime now, int limit);
+    
+    /**
+     * Mark messages as published
+     */
+    void markPublished(List<UUID> messageIds, LocalDateTime publishedAt);
+    
+    /**
+     * Record a failed publish attempt; a null nextAttemptAt parks the message for good
+     */
+    void markFailed(UUID messageId, int attempts, LocalDateTime nextAttemptAt, String error);
+    
+    /**
+     * Delete messages published before the cutoff, returning the number deleted
+     */
+    int deletePublishedBefore(LocalDateTime cutoff);
+    
+    /**
+     * Outbox message
+     */
+    record OutboxMessage(
+        UUID id,
+        String topic,
+        String payload,
+        int attempts,
+        LocalDateTime createdAt
+    ) {
+        public static OutboxMessage of(String topic, String payload) {
+            return new OutboxMessage(Ids.next(), topic, payload, 0, LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.restaurant.application.port.out;
+
+import java.util.List;
+
+/**
+ * Output port for persistence query statistics
+ */
+public interface QueryStatisticsService {
+    
+    /**
+     * Get query execution and plan cache statistics, with at most topQueries per-query entries
+     * ordered by execution count
+     */
+    QueryStats getStats(int topQueries);
+    
+    /**
+     * Reset all collected statistics
+     */
+    void reset();
+    
+    /**
+     * Query statistics data
+     */
+    record QueryStats(
+        boolean enabled,
+        long executionCount,
+        long planCacheHitCount,
+        long planCacheMissCount,
+        double planCacheHitRate,
+        long maxExecutionTimeMs,
+        String slowestQuery,
+        List<QueryStat> queries
+    ) {}
+    
+    /**
+     * Statistics of a single query
+     */
+    record QueryStat(
+        String query,
+        long executionCount,
+        long averageExecutionTimeMs,
+        long maxExecutionTimeMs,
+        long planCacheHitCount,
+        long planCacheMissCount
+    ) {}
+}
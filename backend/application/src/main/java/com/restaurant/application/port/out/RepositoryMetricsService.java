@@ -0,0 +1,58 @@
+package com.restaurant.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Output port for per-method repository call metrics and captured slow calls
+ */
+public interface RepositoryMetricsService {
+    
+    /**
+     * Get call metrics of every repository method called so far, most total time first
+     */
+    List<MethodStats> getMethodStats();
+    
+    /**
+     * Get at most limit of the most recent calls that exceeded the slow-call threshold, newest first
+     */
+    List<SlowCall> getSlowCalls(int limit);
+    
+    /**
+     * Calls taking at least this long are captured as slow calls
+     */
+    long getSlowThresholdMs();
+    
+    /**
+     * Reset all metrics and drop the captured slow calls
+     */
+    void reset();
+    
+    /**
+     * Call metrics of a single repository method; rows are the rows returned or affected
+     */
+    record MethodStats(
+        String method,
+        long callCount,
+        long errorCount,
+        long slowCount,
+        long totalTimeMs,
+        double averageTimeMs,
+        long maxTimeMs,
+        long totalRows,
+        long maxRows
+    ) {}
+    
+    /**
+     * A repository call that exceeded the slow-call threshold
+     */
+    record SlowCall(
+        Instant timestamp,
+        String method,
+        long durationMs,
+        List<String> parameters,
+        String callSite,
+        long rows,
+        String error
+    ) {}
+}
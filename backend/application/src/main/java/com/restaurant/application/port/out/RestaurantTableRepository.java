@@ -0,0 +1,61 @@
+package com.restaurant.application.port.out;
+
+import com.restaurant.domain.entity.RestaurantTable;
+import com.restaurant.domain.valueobject.TableStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output port for restaurant table persistence
+ */
+public interface RestaurantTableRepository {
+    
+    /**
+     * Save a table (create, or update its number, capacity and location).
+     * The status of an existing table is only changed through compareAndSetStatus.
+     */
+    RestaurantTable save(RestaurantTable table);
+    
+    /**
+     * Write the table's status, current order and occupation time, but only if its stored
+     * status is still the expected one. Returns false when another writer changed the table first.
+     */
+    boolean compareAndSetStatus(RestaurantTable table, TableStatus expectedStatus);
+    
+    /**
+     * Find table by ID
+     */
+    Optional<RestaurantTable> findById(UUID tableId);
+    
+    /**
+     * Find table by number
+     */
+    Optional<RestaurantTable> findByTableNumber(String tableNumber);
+    
+    /**
+     * Find all tables, ordered by number
+     */
+    List<RestaurantTable> findAll();
+    
+    /**
+     * Find tables by status, ordered by number
+     */
+    List<RestaurantTable> findByStatus(TableStatus status);
+    
+    /**
+     * Find the smallest available table that seats the party
+     */
+    Optional<RestaurantTable> findBestFit(int partySize);
+    
+    /**
+     * Check if a table number is taken
+     */
+    boolean existsByTableNumber(String tableNumber);
+    
+    /**
+     * Delete table by ID
+     */
+    void deleteById(UUID tableId);
+}
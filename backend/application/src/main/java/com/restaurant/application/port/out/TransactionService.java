@@ -0,0 +1,34 @@
+package com.restaurant.application.port.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Output port for transaction demarcation.
+ * Repository calls made by the work join the transaction, so their changes commit or roll back together.
+ */
+public interface TransactionService {
+    
+    /**
+     * Run the work in a transaction, joining the current one if there is one, and return its result
+     */
+    <T> T inTransaction(Supplier<T> work);
+    
+    /**
+     * Run the work in a transaction, joining the current one if there is one
+     */
+    default void runInTransaction(Runnable work) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+    
+    /**
+     * Run the action once the transaction of the enclosing inTransaction call has committed, and not at all
+     * if it rolls back; outside of inTransaction it runs right away. Implementations that cannot tell when
+     * a transaction commits run it right away.
+     */
+    default void afterCommit(Runnable action) {
+        action.run();
+    }
+}
@@ -0,0 +1,71 @@
+package com.restaurant.application.service;
+
+import com.restaurant.application.port.in.AsyncCustomerUseCase;
+import com.restaurant.application.port.in.CustomerUseCase.CreateCustomerCommand;
+import com.restaurant.application.port.out.AsyncCustomerRepository;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.domain.entity.Customer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking customer service implementation.
+ * The cache client is blocking, so reads go straight to the database.
+ */
+public class AsyncCustomerService implements AsyncCustomerUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AsyncCustomerService.class);
+    
+    private final AsyncCustomerRepository customerRepository;
+    
+    public AsyncCustomerService(AsyncCustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+    
+    @Override
+    public CompletionStage<Customer> createCustomer(CreateCustomerCommand command) {
+        logger.debug("Creating customer with email: {}", command.email());
+        
+        Customer customer;
+        try {
+            customer = new Customer(command.name(), command.email(), command.phone(), command.address());
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedStage(e);
+        }
+        
+        // No existence check first: the unique email index rejects duplicates, including concurrent ones
+        return customerRepository.insert(customer, List.of(
+            OutboxMessage.of(OutboxRepository.CUSTOMER_CHANGED, customer.getId().toString())
+        )).thenCompose(inserted -> inserted
+            ? CompletableFuture.completedStage(customer)
+            : CompletableFuture.failedStage(
+                new IllegalArgumentException("Customer with email already exists: " + command.email())));
+    }
+    
+    @Override
+    public CompletionStage<Optional<Customer>> findCustomerById(UUID customerId) {
+        return customerRepository.findById(customerId);
+    }
+    
+    @Override
+    public CompletionStage<Optional<Customer>> findCustomerByEmail(String email) {
+        return customerRepository.findByEmail(email);
+    }
+    
+    @Override
+    public CompletionStage<List<Customer>> getAllActiveCustomers() {
+        return customerRepository.findAllActive();
+    }
+    
+    @Override
+    public CompletionStage<List<Customer>> searchCustomersByName(String name, int limit) {
+        return customerRepository.searchByName(name, limit);
+    }
+}
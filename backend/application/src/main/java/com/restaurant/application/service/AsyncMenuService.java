@@ -0,0 +1,83 @@
+package com.restaurant.application.service;
+
+import com.restaurant.application.port.in.AsyncMenuUseCase;
+import com.restaurant.application.port.in.MenuUseCase.CreateMenuItemCommand;
+import com.restaurant.application.port.out.AsyncMenuItemRepository;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking menu service implementation.
+ * The cache client is blocking, so reads go straight to the database; writes still record their
+ * cache invalidations in the outbox, keeping the caches of the blocking path consistent.
+ */
+public class AsyncMenuService implements AsyncMenuUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AsyncMenuService.class);
+    private static final String CACHE_PREFIX = "menu:";
+    private static final String CACHE_CATEGORY_PREFIX = "menu:category:";
+    
+    private final AsyncMenuItemRepository menuItemRepository;
+    
+    public AsyncMenuService(AsyncMenuItemRepository menuItemRepository) {
+        this.menuItemRepository = menuItemRepository;
+    }
+    
+    @Override
+    public CompletionStage<MenuItem> createMenuItem(CreateMenuItemCommand command) {
+        logger.debug("Creating menu item: {}", command.name());
+        
+        MenuItem menuItem;
+        try {
+            menuItem = new MenuItem(command.name(), command.description(), command.price(), command.category());
+            if (command.imageUrl() != null) {
+                menuItem.setImageUrl(command.imageUrl());
+            }
+            if (command.preparationTimeMinutes() > 0) {
+                menuItem.setPreparationTime(command.preparationTimeMinutes());
+            }
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedStage(e);
+        }
+        
+        // No existence check first: the unique name index rejects duplicates, including concurrent ones
+        return menuItemRepository.insert(menuItem, List.of(
+            OutboxMessage.of(OutboxRepository.CACHE_EVICT_PATTERN, CACHE_CATEGORY_PREFIX + command.category().name() + "*"),
+            OutboxMessage.of(OutboxRepository.CACHE_EVICT, CACHE_PREFIX + "available"),
+            OutboxMessage.of(OutboxRepository.MENU_ITEM_CHANGED, menuItem.getId().toString())
+        )).thenCompose(inserted -> inserted
+            ? CompletableFuture.completedStage(menuItem)
+            : CompletableFuture.failedStage(
+                new IllegalArgumentException("Menu item with name already exists: " + command.name())));
+    }
+    
+    @Override
+    public CompletionStage<Optional<MenuItem>> findMenuItemById(UUID menuItemId) {
+        return menuItemRepository.findById(menuItemId);
+    }
+    
+    @Override
+    public CompletionStage<List<MenuItem>> getAvailableMenuItems() {
+        return menuItemRepository.findAllAvailable();
+    }
+    
+    @Override
+    public CompletionStage<List<MenuItem>> getMenuItemsByCategory(MenuCategory category) {
+        return menuItemRepository.findByCategory(category);
+    }
+    
+    @Override
+    public CompletionStage<List<MenuItem>> searchMenuItemsByName(String name, int limit) {
+        return menuItemRepository.searchByName(name, limit);
+    }
+}
@@ -3,37 +3,53 @@ package com.restaurant.application.service;
 import com.restaurant.application.port.in.CustomerUseCase;
 import com.restaurant.application.port.out.CacheService;
 import com.restaurant.application.port.out.CustomerRepository;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.application.port.out.TransactionService;
 import com.restaurant.domain.entity.Customer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
- * Customer service implementation
+ * Customer service implementation.
+ * Cache invalidations and change events are written to the outbox in the same transaction as the change,
+ * so a cache outage cannot leave stale entries behind for the length of the TTL.
  */
 public class CustomerService implements CustomerUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(CustomerService.class);
     private static final String CACHE_PREFIX = "customer:";
-    private static final Duration CACHE_DURATION = Duration.ofMinutes(30);
+    private static final Duration CACHE_DURATION = Duration.ofHours(24);
+    private static final int IMPORT_CHUNK_SIZE = 500;
     
     private final CustomerRepository customerRepository;
     private final CacheService cacheService;
+    private final OutboxRepository outboxRepository;
+    private final TransactionService transactionService;
     
-    public CustomerService(CustomerRepository customerRepository, CacheService cacheService) {
+    public CustomerService(CustomerRepository customerRepository, CacheService cacheService,
+                           OutboxRepository outboxRepository, TransactionService transactionService) {
         this.customerRepository = customerRepository;
         this.cacheService = cacheService;
+        this.outboxRepository = outboxRepository;
+        this.transactionService = transactionService;
     }
     
     @Override
     public Customer createCustomer(CreateCustomerCommand command) {
         logger.info("Creating customer with email: {}", command.email());
         
-        // Check if customer already exists
+        // Reject obvious duplicates early; emails the repository has never seen skip the query
         if (customerRepository.existsByEmail(command.email())) {
             throw new IllegalArgumentException("Customer with email already exists: " + command.email());
         }
@@ -45,9 +61,16 @@ public class CustomerService implements CustomerUseCase {
             command.address()
         );
         
-        Customer savedCustomer = customerRepository.save(customer);
+        // The unique email index is the actual check, which also covers concurrent creates
+        Customer savedCustomer = transactionService.inTransaction(() -> {
+            if (!customerRepository.insert(customer)) {
+                throw new IllegalArgumentException("Customer with email already exists: " + command.email());
+            }
+            outboxRepository.append(List.of(event(OutboxRepository.CUSTOMER_CHANGED, customer.getId())));
+            return customer;
+        });
         
-        // Cache the customer
+        // Cache the customer once it is committed
         cacheService.put(CACHE_PREFIX + savedCustomer.getId(), savedCustomer, CACHE_DURATION);
         cacheService.put(CACHE_PREFIX + "email:" + savedCustomer.getEmail(), savedCustomer, CACHE_DURATION);
         
@@ -59,7 +82,9 @@ public class CustomerService implements CustomerUseCase {
     public Customer updateCustomer(UpdateCustomerCommand command) {
         logger.info("Updating customer with ID: {}", command.customerId());
         
-        Customer customer = findCustomerById(command.customerId())
+        // The whole customer is saved back, so it is loaded from the repository rather than a cached copy that
+        // may predate a change not yet evicted
+        Customer customer = customerRepository.findById(command.customerId())
             .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + command.customerId()));
         
         // Check if email is being changed and if new email already exists
@@ -68,13 +93,21 @@ public class CustomerService implements CustomerUseCase {
             throw new IllegalArgumentException("Customer with email already exists: " + command.email());
         }
         
+        String oldEmail = customer.getEmail();
         customer.updateInfo(command.name(), command.email(), command.phone(), command.address());
         
-        Customer updatedCustomer = customerRepository.save(customer);
+        Customer updatedCustomer = transactionService.inTransaction(() -> {
+            Customer saved = customerRepository.save(customer);
+            outboxRepository.append(List.of(
+                evict(CACHE_PREFIX + saved.getId()),
+                evict(CACHE_PREFIX + "email:" + oldEmail),
+                evict(CACHE_PREFIX + "email:" + saved.getEmail()),
+                event(OutboxRepository.CUSTOMER_CHANGED, saved.getId())
+            ));
+            return saved;
+        });
         
-        // Update cache
-        cacheService.evict(CACHE_PREFIX + customer.getId());
-        cacheService.evict(CACHE_PREFIX + "email:" + customer.getEmail());
+        // The relayed evictions may drop these entries again, which only costs one cache miss
         cacheService.put(CACHE_PREFIX + updatedCustomer.getId(), updatedCustomer, CACHE_DURATION);
         cacheService.put(CACHE_PREFIX + "email:" + updatedCustomer.getEmail(), updatedCustomer, CACHE_DURATION);
         
@@ -131,6 +164,12 @@ public class CustomerService implements CustomerUseCase {
         return customerRepository.searchByName(name);
     }
     
+    @Override
+    public List<Customer> searchCustomersByName(String name, int limit) {
+        logger.debug("Searching customers by name: {} (limit {})", name, limit);
+        return customerRepository.searchByName(name, limit);
+    }
+    
     @Override
     public List<Customer> getAllActiveCustomers() {
         logger.debug("Getting all active customers");
@@ -141,15 +180,13 @@ public class CustomerService implements CustomerUseCase {
     public void deactivateCustomer(UUID customerId) {
         logger.info("Deactivating customer: {}", customerId);
         
-        Customer customer = findCustomerById(customerId)
-            .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
-        
-        customer.deactivate();
-        customerRepository.save(customer);
-        
-        // Update cache
-        cacheService.evict(CACHE_PREFIX + customerId);
-        cacheService.evict(CACHE_PREFIX + "email:" + customer.getEmail());
+        List<OutboxMessage> evictions = customerEvictions(customerId);
+        transactionService.runInTransaction(() -> {
+            if (customerRepository.updateActive(customerId, false) == 0) {
+                throw new IllegalArgumentException("Customer not found: " + customerId);
+            }
+            outboxRepository.append(evictions);
+        });
         
         logger.info("Customer deactivated successfully: {}", customerId);
     }
@@ -158,15 +195,13 @@ public class CustomerService implements CustomerUseCase {
     public void activateCustomer(UUID customerId) {
         logger.info("Activating customer: {}", customerId);
         
-        Customer customer = findCustomerById(customerId)
-            .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
-        
-        customer.activate();
-        customerRepository.save(customer);
-        
-        // Update cache
-        cacheService.evict(CACHE_PREFIX + customerId);
-        cacheService.evict(CACHE_PREFIX + "email:" + customer.getEmail());
+        List<OutboxMessage> evictions = customerEvictions(customerId);
+        transactionService.runInTransaction(() -> {
+            if (customerRepository.updateActive(customerId, true) == 0) {
+                throw new IllegalArgumentException("Customer not found: " + customerId);
+            }
+            outboxRepository.append(evictions);
+        });
         
         logger.info("Customer activated successfully: {}", customerId);
     }
@@ -178,12 +213,98 @@ public class CustomerService implements CustomerUseCase {
         Customer customer = findCustomerById(customerId)
             .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
         
-        customerRepository.deleteById(customerId);
-        
-        // Remove from cache
-        cacheService.evict(CACHE_PREFIX + customerId);
-        cacheService.evict(CACHE_PREFIX + "email:" + customer.getEmail());
+        transactionService.runInTransaction(() -> {
+            customerRepository.deleteById(customerId);
+            outboxRepository.append(List.of(
+                evict(CACHE_PREFIX + customerId),
+                evict(CACHE_PREFIX + "email:" + customer.getEmail()),
+                event(OutboxRepository.CUSTOMER_DELETED, customerId)
+            ));
+        });
         
         logger.info("Customer deleted successfully: {}", customerId);
     }
+    
+    @Override
+    public ImportResult importCustomers(Iterator<CreateCustomerCommand> commands) {
+        logger.info("Importing customers in chunks of {}", IMPORT_CHUNK_SIZE);
+        
+        int received = 0;
+        int imported = 0;
+        List<CreateCustomerCommand> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        String error = null;
+        
+        while (true) {
+            CreateCustomerCommand command;
+            try {
+                if (!commands.hasNext()) {
+                    break;
+                }
+                command = commands.next();
+            } catch (IllegalArgumentException e) {
+                // Earlier chunks are already committed, so the records read so far are imported as well
+                // and the result reports exactly what was stored
+                error = e.getMessage();
+                break;
+            }
+            chunk.add(command);
+            received++;
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                imported += importCustomerChunk(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importCustomerChunk(chunk);
+        }
+        
+        if (error != null) {
+            logger.warn("Customer import stopped after {} received, {} imported: {}", received, imported, error);
+        } else {
+            logger.info("Customer import finished: {} received, {} imported", received, imported);
+        }
+        return new ImportResult(received, imported, received - imported, error);
+    }
+    
+    @Override
+    public CustomerStatistics getCustomerStatistics() {
+        return new CustomerStatistics(customerRepository.count(), customerRepository.countActive());
+    }
+    
+    private List<OutboxMessage> customerEvictions(UUID customerId) {
+        List<OutboxMessage> evictions = new ArrayList<>(3);
+        // The email entry is always written together with the ID entry and never outlives it,
+        // so it only needs evicting when the ID entry is still cached
+        cacheService.get(CACHE_PREFIX + customerId, Customer.class)
+            .ifPresent(customer -> evictions.add(evict(CACHE_PREFIX + "email:" + customer.getEmail())));
+        evictions.add(evict(CACHE_PREFIX + customerId));
+        evictions.add(event(OutboxRepository.CUSTOMER_CHANGED, customerId));
+        return evictions;
+    }
+    
+    private static OutboxMessage evict(String key) {
+        return OutboxMessage.of(OutboxRepository.CACHE_EVICT, key);
+    }
+    
+    private static OutboxMessage event(String topic, UUID customerId) {
+        return OutboxMessage.of(topic, customerId.toString());
+    }
+    
+    private int importCustomerChunk(List<CreateCustomerCommand> chunk) {
+        Set<String> existingEmails = new HashSet<>();
+        customerRepository.findExistingEmails(chunk.stream().map(CreateCustomerCommand::email).toList())
+            .forEach(email -> existingEmails.add(email.toLowerCase(Locale.ROOT)));
+        
+        List<Customer> customers = new ArrayList<>(chunk.size());
+        for (CreateCustomerCommand command : chunk) {
+            // Also drops duplicates repeated within the same chunk
+            if (existingEmails.add(command.email().toLowerCase(Locale.ROOT))) {
+                customers.add(new Customer(command.name(), command.email(), command.phone(), command.address()));
+            }
+        }
+        
+        customerRepository.saveAll(customers);
+        logger.debug("Imported chunk of {} customers ({} skipped)", customers.size(), chunk.size() - customers.size());
+        return customers.size();
+    }
 }
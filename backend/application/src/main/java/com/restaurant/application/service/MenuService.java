@@ -3,6 +3,9 @@ package com.restaurant.application.service;
 import com.restaurant.application.port.in.MenuUseCase;
 import com.restaurant.application.port.out.CacheService;
 import com.restaurant.application.port.out.MenuItemRepository;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.application.port.out.TransactionService;
 import com.restaurant.domain.entity.MenuItem;
 import com.restaurant.domain.valueobject.MenuCategory;
 import com.restaurant.domain.valueobject.Money;
@@ -10,59 +13,71 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
- * Menu service implementation
+ * Menu service implementation.
+ * Cache invalidations and change events are written to the outbox in the same transaction as the change,
+ * so they cannot be lost when the cache is briefly unavailable; that is what makes the long cache TTLs safe.
  */
 public class MenuService implements MenuUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(MenuService.class);
     private static final String CACHE_PREFIX = "menu:";
     private static final String CACHE_CATEGORY_PREFIX = "menu:category:";
-    private static final Duration CACHE_DURATION = Duration.ofHours(1);
+    private static final Duration CACHE_DURATION = Duration.ofHours(24);
+    private static final Duration LIST_CACHE_DURATION = Duration.ofHours(6);
+    private static final int IMPORT_CHUNK_SIZE = 500;
     
     private final MenuItemRepository menuItemRepository;
     private final CacheService cacheService;
+    private final OutboxRepository outboxRepository;
+    private final TransactionService transactionService;
     
-    public MenuService(MenuItemRepository menuItemRepository, CacheService cacheService) {
+    public MenuService(MenuItemRepository menuItemRepository, CacheService cacheService,
+                       OutboxRepository outboxRepository, TransactionService transactionService) {
         this.menuItemRepository = menuItemRepository;
         this.cacheService = cacheService;
+        this.outboxRepository = outboxRepository;
+        this.transactionService = transactionService;
     }
     
     @Override
     public MenuItem createMenuItem(CreateMenuItemCommand command) {
         logger.info("Creating menu item: {}", command.name());
         
+        // Reject obvious duplicates early; names the repository has never seen skip the query
         if (menuItemRepository.existsByName(command.name())) {
             throw new IllegalArgumentException("Menu item with name already exists: " + command.name());
         }
         
-        MenuItem menuItem = new MenuItem(
-            command.name(),
-            command.description(),
-            command.price(),
-            command.category()
-        );
-        
-        if (command.imageUrl() != null) {
-            menuItem.setImageUrl(command.imageUrl());
-        }
-        
-        if (command.preparationTimeMinutes() > 0) {
-            menuItem.setPreparationTime(command.preparationTimeMinutes());
-        }
-        
-        MenuItem savedMenuItem = menuItemRepository.save(menuItem);
-        
-        // Cache the menu item
+        // The unique name index is the actual check, which also covers concurrent creates
+        MenuItem savedMenuItem = transactionService.inTransaction(() -> {
+            MenuItem menuItem = newMenuItem(command);
+            if (!menuItemRepository.insert(menuItem)) {
+                throw new IllegalArgumentException("Menu item with name already exists: " + command.name());
+            }
+            outboxRepository.append(List.of(
+                evictPattern(CACHE_CATEGORY_PREFIX + command.category().name() + "*"),
+                evict(CACHE_PREFIX + "available"),
+                event(OutboxRepository.MENU_ITEM_CHANGED, menuItem.getId())
+            ));
+            return menuItem;
+        });
+        
+        // Cache the menu item once it is committed
         cacheService.put(CACHE_PREFIX + savedMenuItem.getId(), savedMenuItem, CACHE_DURATION);
         
-        // Invalidate category cache
-        cacheService.evictPattern(CACHE_CATEGORY_PREFIX + command.category().name() + "*");
-        
         logger.info("Menu item created successfully with ID: {}", savedMenuItem.getId());
         return savedMenuItem;
     }
@@ -71,7 +86,9 @@ public class MenuService implements MenuUseCase {
     public MenuItem updateMenuItem(UpdateMenuItemCommand command) {
         logger.info("Updating menu item with ID: {}", command.menuItemId());
         
-        MenuItem menuItem = findMenuItemById(command.menuItemId())
+        // The whole item is saved back, so it is loaded from the repository: a cached copy may still hold a price
+        // or availability changed since, until the relayed eviction arrives, and saving it would undo that change
+        MenuItem menuItem = menuItemRepository.findById(command.menuItemId())
             .orElseThrow(() -> new IllegalArgumentException("Menu item not found: " + command.menuItemId()));
         
         // Check if name is being changed and if new name already exists
@@ -92,16 +109,21 @@ public class MenuService implements MenuUseCase {
             menuItem.makeUnavailable();
         }
         
-        MenuItem updatedMenuItem = menuItemRepository.save(menuItem);
-        
-        // Update cache
-        cacheService.evict(CACHE_PREFIX + menuItem.getId());
+        MenuItem updatedMenuItem = transactionService.inTransaction(() -> {
+            MenuItem saved = menuItemRepository.save(menuItem);
+            outboxRepository.append(List.of(
+                evict(CACHE_PREFIX + saved.getId()),
+                evictPattern(CACHE_CATEGORY_PREFIX + oldCategory.name() + "*"),
+                evictPattern(CACHE_CATEGORY_PREFIX + command.category().name() + "*"),
+                evict(CACHE_PREFIX + "available"),
+                event(OutboxRepository.MENU_ITEM_CHANGED, saved.getId())
+            ));
+            return saved;
+        });
+        
+        // The relayed eviction may drop this entry again, which only costs one cache miss
         cacheService.put(CACHE_PREFIX + updatedMenuItem.getId(), updatedMenuItem, CACHE_DURATION);
         
-        // Invalidate category caches
-        cacheService.evictPattern(CACHE_CATEGORY_PREFIX + oldCategory.name() + "*");
-        cacheService.evictPattern(CACHE_CATEGORY_PREFIX + command.category().name() + "*");
-        
         logger.info("Menu item updated successfully: {}", updatedMenuItem.getId());
         return updatedMenuItem;
     }
@@ -145,7 +167,7 @@ public class MenuService implements MenuUseCase {
         }
         
         List<MenuItem> items = menuItemRepository.findAllAvailable();
-        cacheService.put(cacheKey, items, Duration.ofMinutes(15));
+        cacheService.put(cacheKey, items, LIST_CACHE_DURATION);
         return items;
     }
     
@@ -161,7 +183,7 @@ public class MenuService implements MenuUseCase {
         }
         
         List<MenuItem> items = menuItemRepository.findByCategory(category);
-        cacheService.put(cacheKey, items, Duration.ofMinutes(30));
+        cacheService.put(cacheKey, items, LIST_CACHE_DURATION);
         return items;
     }
     
@@ -177,7 +199,7 @@ public class MenuService implements MenuUseCase {
         }
         
         List<MenuItem> items = menuItemRepository.findAvailableByCategory(category);
-        cacheService.put(cacheKey, items, Duration.ofMinutes(15));
+        cacheService.put(cacheKey, items, LIST_CACHE_DURATION);
         return items;
     }
     
@@ -187,25 +209,23 @@ public class MenuService implements MenuUseCase {
         return menuItemRepository.searchByName(name);
     }
     
+    @Override
+    public List<MenuItem> searchMenuItemsByName(String name, int limit) {
+        logger.debug("Searching menu items by name: {} (limit {})", name, limit);
+        return menuItemRepository.searchByName(name, limit);
+    }
+    
     @Override
     public void updateMenuItemAvailability(UUID menuItemId, boolean available) {
         logger.info("Updating menu item availability: {} to {}", menuItemId, available);
         
-        MenuItem menuItem = findMenuItemById(menuItemId)
-            .orElseThrow(() -> new IllegalArgumentException("Menu item not found: " + menuItemId));
-        
-        if (available) {
-            menuItem.makeAvailable();
-        } else {
-            menuItem.makeUnavailable();
-        }
-        
-        menuItemRepository.save(menuItem);
-        
-        // Update cache
-        cacheService.evict(CACHE_PREFIX + menuItemId);
-        cacheService.evictPattern(CACHE_CATEGORY_PREFIX + menuItem.getCategory().name() + "*");
-        cacheService.evict(CACHE_PREFIX + "available");
+        List<OutboxMessage> evictions = menuItemEvictions(menuItemId);
+        transactionService.runInTransaction(() -> {
+            if (menuItemRepository.updateAvailability(menuItemId, available) == 0) {
+                throw new IllegalArgumentException("Menu item not found: " + menuItemId);
+            }
+            outboxRepository.append(evictions);
+        });
         
         logger.info("Menu item availability updated successfully: {}", menuItemId);
     }
@@ -214,15 +234,13 @@ public class MenuService implements MenuUseCase {
     public void updateMenuItemPrice(UUID menuItemId, Money newPrice) {
         logger.info("Updating menu item price: {} to {}", menuItemId, newPrice);
         
-        MenuItem menuItem = findMenuItemById(menuItemId)
-            .orElseThrow(() -> new IllegalArgumentException("Menu item not found: " + menuItemId));
-        
-        menuItem.updatePrice(newPrice);
-        menuItemRepository.save(menuItem);
-        
-        // Update cache
-        cacheService.evict(CACHE_PREFIX + menuItemId);
-        cacheService.evictPattern(CACHE_CATEGORY_PREFIX + menuItem.getCategory().name() + "*");
+        List<OutboxMessage> evictions = menuItemEvictions(menuItemId);
+        transactionService.runInTransaction(() -> {
+            if (menuItemRepository.updatePrice(menuItemId, newPrice) == 0) {
+                throw new IllegalArgumentException("Menu item not found: " + menuItemId);
+            }
+            outboxRepository.append(evictions);
+        });
         
         logger.info("Menu item price updated successfully: {}", menuItemId);
     }
@@ -234,13 +252,137 @@ public class MenuService implements MenuUseCase {
         MenuItem menuItem = findMenuItemById(menuItemId)
             .orElseThrow(() -> new IllegalArgumentException("Menu item not found: " + menuItemId));
         
-        menuItemRepository.deleteById(menuItemId);
-        
-        // Remove from cache
-        cacheService.evict(CACHE_PREFIX + menuItemId);
-        cacheService.evictPattern(CACHE_CATEGORY_PREFIX + menuItem.getCategory().name() + "*");
-        cacheService.evict(CACHE_PREFIX + "available");
+        transactionService.runInTransaction(() -> {
+            menuItemRepository.deleteById(menuItemId);
+            outboxRepository.append(List.of(
+                evict(CACHE_PREFIX + menuItemId),
+                evictPattern(CACHE_CATEGORY_PREFIX + menuItem.getCategory().name() + "*"),
+                evict(CACHE_PREFIX + "available"),
+                event(OutboxRepository.MENU_ITEM_DELETED, menuItemId)
+            ));
+        });
         
         logger.info("Menu item deleted successfully: {}", menuItemId);
     }
+    
+    @Override
+    public ImportResult importMenuItems(Iterator<CreateMenuItemCommand> commands) {
+        logger.info("Importing menu items in chunks of {}", IMPORT_CHUNK_SIZE);
+        
+        int received = 0;
+        int imported = 0;
+        List<CreateMenuItemCommand> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        String error = null;
+        
+        while (true) {
+            CreateMenuItemCommand command;
+            try {
+                if (!commands.hasNext()) {
+                    break;
+                }
+                command = commands.next();
+            } catch (IllegalArgumentException e) {
+                // Earlier chunks are already committed, so the records read so far are imported as well
+                // and the result reports exactly what was stored
+                error = e.getMessage();
+                break;
+            }
+            chunk.add(command);
+            received++;
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                imported += importMenuItemChunk(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importMenuItemChunk(chunk);
+        }
+        
+        if (error != null) {
+            logger.warn("Menu item import stopped after {} received, {} imported: {}", received, imported, error);
+        } else {
+            logger.info("Menu item import finished: {} received, {} imported", received, imported);
+        }
+        return new ImportResult(received, imported, received - imported, error);
+    }
+    
+    @Override
+    public MenuStatistics getMenuStatistics() {
+        Map<MenuCategory, Long> itemsByCategory = new EnumMap<>(MenuCategory.class);
+        for (MenuCategory category : MenuCategory.values()) {
+            itemsByCategory.put(category, menuItemRepository.countByCategory(category));
+        }
+        return new MenuStatistics(menuItemRepository.count(), menuItemRepository.countAvailable(), itemsByCategory);
+    }
+    
+    private int importMenuItemChunk(List<CreateMenuItemCommand> chunk) {
+        Set<String> existingNames = new HashSet<>();
+        menuItemRepository.findExistingNames(chunk.stream().map(CreateMenuItemCommand::name).toList())
+            .forEach(name -> existingNames.add(name.toLowerCase(Locale.ROOT)));
+        
+        List<MenuItem> menuItems = new ArrayList<>(chunk.size());
+        Set<MenuCategory> touchedCategories = EnumSet.noneOf(MenuCategory.class);
+        for (CreateMenuItemCommand command : chunk) {
+            // Also drops duplicates repeated within the same chunk
+            if (existingNames.add(command.name().toLowerCase(Locale.ROOT))) {
+                menuItems.add(newMenuItem(command));
+                touchedCategories.add(command.category());
+            }
+        }
+        
+        // List caches are invalidated once per chunk rather than once per item
+        List<OutboxMessage> evictions = new ArrayList<>();
+        touchedCategories.forEach(category -> evictions.add(evictPattern(CACHE_CATEGORY_PREFIX + category.name() + "*")));
+        evictions.add(evict(CACHE_PREFIX + "available"));
+        transactionService.runInTransaction(() -> {
+            menuItemRepository.saveAll(menuItems);
+            outboxRepository.append(evictions);
+        });
+        logger.debug("Imported chunk of {} menu items ({} skipped)", menuItems.size(), chunk.size() - menuItems.size());
+        return menuItems.size();
+    }
+    
+    private List<OutboxMessage> menuItemEvictions(UUID menuItemId) {
+        // Targeted updates never load the item, so its category is only known when it is cached
+        String categoryPattern = cacheService.get(CACHE_PREFIX + menuItemId, MenuItem.class)
+            .map(cached -> CACHE_CATEGORY_PREFIX + cached.getCategory().name() + "*")
+            .orElse(CACHE_CATEGORY_PREFIX + "*");
+        return List.of(
+            evictPattern(categoryPattern),
+            evict(CACHE_PREFIX + menuItemId),
+            evict(CACHE_PREFIX + "available"),
+            event(OutboxRepository.MENU_ITEM_CHANGED, menuItemId)
+        );
+    }
+    
+    private static OutboxMessage evict(String key) {
+        return OutboxMessage.of(OutboxRepository.CACHE_EVICT, key);
+    }
+    
+    private static OutboxMessage evictPattern(String pattern) {
+        return OutboxMessage.of(OutboxRepository.CACHE_EVICT_PATTERN, pattern);
+    }
+    
+    private static OutboxMessage event(String topic, UUID menuItemId) {
+        return OutboxMessage.of(topic, menuItemId.toString());
+    }
+    
+    private MenuItem newMenuItem(CreateMenuItemCommand command) {
+        MenuItem menuItem = new MenuItem(
+            command.name(),
+            command.description(),
+            command.price(),
+            command.category()
+        );
+        
+        if (command.imageUrl() != null) {
+            menuItem.setImageUrl(command.imageUrl());
+        }
+        
+        if (command.preparationTimeMinutes() > 0) {
+            menuItem.setPreparationTime(command.preparationTimeMinutes());
+        }
+        
+        return menuItem;
+    }
 }
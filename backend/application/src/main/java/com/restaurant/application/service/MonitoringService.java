@@ -0,0 +1,98 @@
+package com.restaurant.application.service;
+
+import com.restaurant.application.port.in.MonitoringUseCase;
+import com.restaurant.application.port.out.QueryStatisticsService;
+import com.restaurant.application.port.out.RepositoryMetricsService;
+
+import java.util.List;
+
+/**
+ * Monitoring service implementation
+ */
+public class MonitoringService implements MonitoringUseCase {
+    
+    private static final int MAX_TOP_QUERIES = 100;
+    private static final int MAX_SLOW_QUERIES = 100;
+    
+    private final QueryStatisticsService queryStatisticsService;
+    private final RepositoryMetricsService repositoryMetricsService;
+    
+    public MonitoringService(QueryStatisticsService queryStatisticsService,
+                             RepositoryMetricsService repositoryMetricsService) {
+        this.queryStatisticsService = queryStatisticsService;
+        this.repositoryMetricsService = repositoryMetricsService;
+    }
+    
+    @Override
+    public QueryStatistics getQueryStatistics(int topQueries) {
+        QueryStatisticsService.QueryStats stats =
+            queryStatisticsService.getStats(Math.max(0, Math.min(topQueries, MAX_TOP_QUERIES)));
+        
+        return new QueryStatistics(
+            stats.enabled(),
+            stats.executionCount(),
+            stats.planCacheHitCount(),
+            stats.planCacheMissCount(),
+            stats.planCacheHitRate(),
+            stats.maxExecutionTimeMs(),
+            stats.slowestQuery(),
+            stats.queries().stream()
+                .map(query -> new QueryPlanStatistics(
+                    query.query(),
+                    query.executionCount(),
+                    query.averageExecutionTimeMs(),
+                    query.maxExecutionTimeMs(),
+                    query.planCacheHitCount(),
+                    query.planCacheMissCount()))
+                .toList()
+        );
+    }
+    
+    @Override
+    public void resetQueryStatistics() {
+        queryStatisticsService.reset();
+    }
+    
+    @Override
+    public RepositoryStatistics getRepositoryStatistics() {
+        List<RepositoryMethodStatistics> methods = repositoryMetricsService.getMethodStats().stream()
+            .map(stats -> new RepositoryMethodStatistics(
+                stats.method(),
+                stats.callCount(),
+                stats.errorCount(),
+                stats.slowCount(),
+                stats.totalTimeMs(),
+                stats.averageTimeMs(),
+                stats.maxTimeMs(),
+                stats.totalRows(),
+                stats.maxRows()))
+            .toList();
+        
+        return new RepositoryStatistics(
+            repositoryMetricsService.getSlowThresholdMs(),
+            methods.stream().mapToLong(RepositoryMethodStatistics::callCount).sum(),
+            methods.stream().mapToLong(RepositoryMethodStatistics::errorCount).sum(),
+            methods.stream().mapToLong(RepositoryMethodStatistics::slowCount).sum(),
+            methods
+        );
+    }
+    
+    @Override
+    public List<SlowQuery> getSlowQueries(int limit) {
+        return repositoryMetricsService.getSlowCalls(Math.max(0, Math.min(limit, MAX_SLOW_QUERIES))).stream()
+            .map(call -> new SlowQuery(
+                call.timestamp(),
+                call.method(),
+                call.durationMs(),
+                call.parameters(),
+                call.callSite(),
+                call.rows(),
+                call.error()))
+            .toList();
+    }
+    
+    @Override
+    public void resetRepositoryStatistics() {
+        repositoryMetricsService.reset();
+    }
+}
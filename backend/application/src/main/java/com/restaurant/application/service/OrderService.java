@@ -0,0 +1,409 @@
+package com.restaurant.application.service;
+
+import com.restaurant.application.port.in.OrderUseCase;
+import com.restaurant.application.port.out.MenuItemRepository;
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.entity.OrderItem;
+import com.restaurant.domain.kitchen.KitchenBacklog;
+import com.restaurant.domain.valueobject.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Order service implementation.
+ * Confirmed and preparing orders are tracked in the kitchen backlog, which sets their estimated
+ * delivery time from the preparation times of their items and the load on the kitchen.
+ *
+ * The backlog is per instance: it is loaded from the database on first use and then follows the
+ * transitions made through this instance only. With several instances, each estimates on its own and
+ * their estimates drift apart as orders move through the others; the estimates are meant for a
+ * single-node deployment, or as a rough guide behind a load balancer.
+ */
+public class OrderService implements OrderUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
+    
+    private final OrderRepository orderRepository;
+    private final MenuItemRepository menuItemRepository;
+    
+    // Holds the transitions made through this instance, on top of the backlog loaded on first use
+    private final KitchenBacklog kitchenBacklog;
+    private volatile boolean kitchenBacklogLoaded;
+    
+    public OrderService(OrderRepository orderRepository, MenuItemRepository menuItemRepository,
+                        KitchenBacklog kitchenBacklog) {
+        this.orderRepository = orderRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.kitchenBacklog = kitchenBacklog;
+    }
+    
+    @Override
+    public Order createOrder(CreateOrderCommand command) {
+        logger.info("Creating order for customer: {}", command.customerId());
+        
+        if (command.customerId() == null) {
+            throw new IllegalArgumentException("Customer ID is required");
+        }
+        
+        Order order = new Order(command.customerId(), command.tableId());
+        order.setSpecialInstructions(command.specialInstructions());
+        
+        Order savedOrder = orderRepository.insert(order);
+        
+        logger.info("Order created successfully with ID: {}", savedOrder.getId());
+        return savedOrder;
+    }
+    
+    @Override
+    public Order placeOrder(PlaceOrderCommand command) {
+        logger.info("Placing order for customer {} with {} lines", command.customerId(),
+            command.lines() != null ? command.lines().size() : 0);
+        
+        if (command.customerId() == null) {
+            throw new IllegalArgumentException("Customer ID is required");
+        }
+        if (command.lines() == null || command.lines().isEmpty()) {
+            throw new IllegalArgumentException("An order needs at least one line");
+        }
+        
+        Set<UUID> menuItemIds = new HashSet<>();
+        for (OrderLine line : command.lines()) {
+            if (line == null || line.menuItemId() == null) {
+                throw new IllegalArgumentException("Menu item ID is required on every line");
+            }
+            if (line.quantity() < 1) {
+                throw new IllegalArgumentException("Quantity must be at least 1");
+            }
+            menuItemIds.add(line.menuItemId());
+        }
+        
+        // One lookup for the whole ticket instead of one per line
+        Map<UUID, MenuItem> menuItems = new HashMap<>();
+        for (MenuItem menuItem : menuItemRepository.findAllById(menuItemIds)) {
+            menuItems.put(menuItem.getId(), menuItem);
+        }
+        
+        List<OrderItem> items = new ArrayList<>(command.lines().size());
+        for (OrderLine line : command.lines()) {
+            MenuItem menuItem = menuItems.get(line.menuItemId());
+            if (menuItem == null) {
+                throw new IllegalArgumentException("Menu item not found: " + line.menuItemId());
+            }
+            if (!menuItem.isAvailable()) {
+                throw new IllegalStateException("Menu item is not available: " + menuItem.getName());
+            }
+            items.add(new OrderItem(menuItem.getId(), menuItem.getName(), menuItem.getPrice(), line.quantity(),
+                line.notes(), menuItem.getPreparationTimeMinutes()));
+        }
+        
+        // All lines at once, so the totals are added up once rather than after every line
+        Order order = new Order(command.customerId(), command.tableId());
+        order.setSpecialInstructions(command.specialInstructions());
+        order.setItems(items);
+        order.setEstimatedDeliveryTime(order.getOrderTime().plusMinutes(order.getPreparationMinutes()));
+        
+        // The order row and all its item rows are written in one transaction, the items as one batch
+        Order savedOrder = orderRepository.insert(order);
+        
+        logger.info("Order placed successfully with ID: {}", savedOrder.getId());
+        return savedOrder;
+    }
+    
+    @Override
+    public Order addItemToOrder(AddOrderItemCommand command) {
+        logger.info("Adding menu item {} to order {}", command.menuItemId(), command.orderId());
+        
+        if (command.quantity() < 1) {
+            throw new IllegalArgumentException("Quantity must be at least 1");
+        }
+        
+        Order order = findPendingOrder(command.orderId());
+        MenuItem menuItem = menuItemRepository.findById(command.menuItemId())
+            .orElseThrow(() -> new IllegalArgumentException("Menu item not found: " + command.menuItemId()));
+        if (!menuItem.isAvailable()) {
+            throw new IllegalStateException("Menu item is not available: " + menuItem.getName());
+        }
+        
+        order.addItem(menuItem, command.quantity(), command.notes());
+        return orderRepository.save(order);
+    }
+    
+    @Override
+    public Order removeItemFromOrder(UUID orderId, UUID menuItemId) {
+        logger.info("Removing menu item {} from order {}", menuItemId, orderId);
+        
+        Order order = findPendingOrder(orderId);
+        order.removeItem(menuItemId);
+        return orderRepository.save(order);
+    }
+    
+    @Override
+    public Order updateOrderItemQuantity(UUID orderId, UUID menuItemId, int newQuantity) {
+        logger.info("Updating quantity of menu item {} in order {} to {}", menuItemId, orderId, newQuantity);
+        
+        if (newQuantity < 1) {
+            throw new IllegalArgumentException("Quantity must be at least 1");
+        }
+        
+        Order order = findPendingOrder(orderId);
+        order.updateItemQuantity(menuItemId, newQuantity);
+        return orderRepository.save(order);
+    }
+    
+    @Override
+    public Order confirmOrder(UUID orderId) {
+        return transition(orderId, Order::confirm);
+    }
+    
+    @Override
+    public Order startPreparingOrder(UUID orderId) {
+        return transition(orderId, Order::startPreparing);
+    }
+    
+    @Override
+    public Order markOrderReady(UUID orderId) {
+        return transition(orderId, Order::markReady);
+    }
+    
+    @Override
+    public Order deliverOrder(UUID orderId) {
+        return transition(orderId, Order::deliver);
+    }
+    
+    @Override
+    public Order cancelOrder(UUID orderId, String reason) {
+        return transition(orderId, order -> order.cancel(reason));
+    }
+    
+    @Override
+    public List<TransitionResult> transitionOrders(TransitionOrdersCommand command) {
+        OrderStatus target = command.status();
+        if (target == null) {
+            throw new IllegalArgumentException("Target status is required");
+        }
+        if (command.orderIds() == null || command.orderIds().isEmpty()) {
+            throw new IllegalArgumentException("At least one order ID is required");
+        }
+        Consumer<Order> change = switch (target) {
+            case CONFIRMED -> Order::confirm;
+            case PREPARING -> Order::startPreparing;
+            case READY -> Order::markReady;
+            case DELIVERED -> Order::deliver;
+            case CANCELLED -> order -> order.cancel(command.reason());
+            case PENDING -> throw new IllegalArgumentException("Orders cannot be moved back to " + target);
+        };
+        logger.info("Moving {} orders to {}", command.orderIds().size(), target);
+        
+        Map<UUID, Order> orders = new HashMap<>();
+        for (Order order : orderRepository.findAllById(new LinkedHashSet<>(command.orderIds()))) {
+            orders.put(order.getId(), order);
+        }
+        
+        Map<UUID, TransitionResult> results = new HashMap<>();
+        List<Order> changed = new ArrayList<>();
+        List<OrderStatus> previousStatuses = new ArrayList<>();
+        for (Order order : orders.values()) {
+            OrderStatus previousStatus = order.getStatus();
+            if (!previousStatus.canTransitionTo(target)) {
+                results.put(order.getId(), new TransitionResult(order.getId(), false, previousStatus,
+                    "Cannot move order from " + previousStatus + " to " + target));
+                continue;
+            }
+            try {
+                change.accept(order);
+            } catch (IllegalStateException e) {
+                results.put(order.getId(), new TransitionResult(order.getId(), false, previousStatus, e.getMessage()));
+                continue;
+            }
+            estimateDelivery(order);
+            changed.add(order);
+            previousStatuses.add(previousStatus);
+        }
+        
+        // All accepted transitions go out as one batch of status updates in one transaction; the backlog
+        // only follows the ones that were written
+        int[] rows = changed.isEmpty() ? new int[0] : orderRepository.updateStatuses(changed, previousStatuses);
+        for (int i = 0; i < rows.length; i++) {
+            Order order = changed.get(i);
+            if (rows[i] == 0) {
+                results.put(order.getId(), new TransitionResult(order.getId(), false, null,
+                    "Order was changed or removed concurrently, it is no longer " + previousStatuses.get(i)));
+            } else {
+                updateKitchenBacklog(order);
+                results.put(order.getId(), new TransitionResult(order.getId(), true, order.getStatus(), null));
+            }
+        }
+        
+        List<TransitionResult> ordered = new ArrayList<>(command.orderIds().size());
+        for (UUID orderId : command.orderIds()) {
+            ordered.add(results.getOrDefault(orderId, new TransitionResult(orderId, false, null, "Order not found")));
+        }
+        logger.info("Moved {} of {} orders to {}", ordered.stream().filter(TransitionResult::transitioned).count(),
+            ordered.size(), target);
+        return ordered;
+    }
+    
+    @Override
+    public Optional<Order> findOrderById(UUID orderId) {
+        logger.debug("Finding order by ID: {}", orderId);
+        return orderRepository.findById(orderId).map(this::withKitchenEstimate);
+    }
+    
+    @Override
+    public List<Order> getOrdersByCustomer(UUID customerId) {
+        logger.debug("Getting orders by customer: {}", customerId);
+        return withKitchenEstimates(orderRepository.findByCustomerId(customerId));
+    }
+    
+    @Override
+    public List<Order> getOrdersByTable(UUID tableId) {
+        logger.debug("Getting orders by table: {}", tableId);
+        return withKitchenEstimates(orderRepository.findByTableId(tableId));
+    }
+    
+    @Override
+    public List<Order> getActiveOrdersByTable(UUID tableId) {
+        logger.debug("Getting active orders by table: {}", tableId);
+        return withKitchenEstimates(orderRepository.findActiveByTableId(tableId));
+    }
+    
+    @Override
+    public List<Order> getOrdersByStatus(OrderStatus status) {
+        logger.debug("Getting orders by status: {}", status);
+        return withKitchenEstimates(orderRepository.findByStatus(status));
+    }
+    
+    @Override
+    public List<Order> getActiveOrders() {
+        logger.debug("Getting active orders");
+        return withKitchenEstimates(orderRepository.findActive());
+    }
+    
+    @Override
+    public List<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        logger.debug("Getting orders between {} and {}", startDate, endDate);
+        
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        
+        return orderRepository.findByOrderTimeBetween(startDate, endDate);
+    }
+    
+    @Override
+    public List<Order> getTodaysOrders() {
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        return getOrdersByDateRange(startOfDay, startOfDay.plusDays(1).minusNanos(1));
+    }
+    
+    private Order findPendingOrder(UUID orderId) {
+        Order order = orderRepository.findById(orderId)
+            .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        if (order.getStatus() != OrderStatus.PENDING) {
+            throw new IllegalStateException("Only pending orders can be modified, order is " + order.getStatus());
+        }
+        return order;
+    }
+    
+    private Order transition(UUID orderId, Consumer<Order> change) {
+        Order order = orderRepository.findById(orderId)
+            .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        
+        OrderStatus previousStatus = order.getStatus();
+        change.accept(order);
+        estimateDelivery(order);
+        
+        // Items do not change on a status transition, so only the order row is written, and only while the
+        // order is still in the status it was read in: of two concurrent transitions, the second one fails
+        if (orderRepository.updateStatus(order, previousStatus) == 0) {
+            throw new IllegalStateException(
+                "Order " + orderId + " was changed or removed concurrently, it is no longer " + previousStatus);
+        }
+        // The update has committed, so the backlog only ever follows transitions that were stored
+        updateKitchenBacklog(order);
+        
+        logger.info("Order {} moved from {} to {}", orderId, previousStatus, order.getStatus());
+        return order;
+    }
+    
+    // The estimate written with a transition, taken from the backlog without changing it yet
+    private void estimateDelivery(Order order) {
+        KitchenBacklog backlog = kitchenBacklog();
+        LocalDateTime now = order.getUpdatedAt();
+        if (order.getStatus() == OrderStatus.CONFIRMED) {
+            order.setEstimatedDeliveryTime(backlog.estimateAdd(order, now));
+        } else if (order.getStatus() == OrderStatus.PREPARING) {
+            backlog.estimateStart(order.getId(), now).ifPresent(order::setEstimatedDeliveryTime);
+        }
+    }
+    
+    private void updateKitchenBacklog(Order order) {
+        KitchenBacklog backlog = kitchenBacklog();
+        LocalDateTime now = order.getUpdatedAt();
+        switch (order.getStatus()) {
+            case CONFIRMED -> order.setEstimatedDeliveryTime(backlog.add(order, now));
+            case PREPARING -> backlog.started(order.getId(), now).ifPresent(order::setEstimatedDeliveryTime);
+            case READY -> backlog.ready(order.getId(), now);
+            default -> backlog.remove(order.getId());
+        }
+    }
+    
+    // The stored estimate of an order waiting on the kitchen is the one it got at its last transition;
+    // the backlog has the current one
+    private Order withKitchenEstimate(Order order) {
+        if (order.getStatus() == OrderStatus.CONFIRMED || order.getStatus() == OrderStatus.PREPARING) {
+            kitchenBacklog().estimatedReadyTime(order.getId()).ifPresent(order::setEstimatedDeliveryTime);
+        }
+        return order;
+    }
+    
+    private List<Order> withKitchenEstimates(List<Order> orders) {
+        orders.forEach(this::withKitchenEstimate);
+        return orders;
+    }
+    
+    private KitchenBacklog kitchenBacklog() {
+        if (!kitchenBacklogLoaded) {
+            synchronized (kitchenBacklog) {
+                if (!kitchenBacklogLoaded) {
+                    loadKitchenBacklog();
+                    kitchenBacklogLoaded = true;
+                }
+            }
+        }
+        return kitchenBacklog;
+    }
+    
+    // Orders already in the kitchen go ahead of those waiting for it. A preparing order was last written
+    // when it started, so its updated time is its start; waiting orders cannot start before now.
+    private void loadKitchenBacklog() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Order> preparing = new ArrayList<>(orderRepository.findByStatus(OrderStatus.PREPARING));
+        List<Order> confirmed = orderRepository.findByStatus(OrderStatus.CONFIRMED);
+        preparing.sort(Comparator.comparing(Order::getUpdatedAt));
+        for (Order order : preparing) {
+            LocalDateTime startedAt = order.getUpdatedAt();
+            kitchenBacklog.add(order, startedAt);
+            kitchenBacklog.started(order.getId(), startedAt);
+        }
+        confirmed.forEach(order -> kitchenBacklog.add(order, now));
+        logger.info("Loaded {} preparing and {} confirmed orders into the kitchen backlog",
+            preparing.size(), confirmed.size());
+    }
+}
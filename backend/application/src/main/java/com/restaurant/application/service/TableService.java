@@ -0,0 +1,204 @@
+package com.restaurant.application.service;
+
+import com.restaurant.application.port.in.TableUseCase;
+import com.restaurant.application.port.out.RestaurantTableRepository;
+import com.restaurant.domain.entity.RestaurantTable;
+import com.restaurant.domain.valueobject.TableStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Table service implementation.
+ * Status changes are optimistic: the table is read, changed in memory and written back only if
+ * its status is still the one that was read. A lost race is retried a bounded number of times,
+ * and the re-read decides whether the change is still valid.
+ */
+public class TableService implements TableUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TableService.class);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_SEATING_ATTEMPTS = 5;
+    
+    private final RestaurantTableRepository tableRepository;
+    
+    public TableService(RestaurantTableRepository tableRepository) {
+        this.tableRepository = tableRepository;
+    }
+    
+    @Override
+    public RestaurantTable createTable(CreateTableCommand command) {
+        logger.info("Creating table: {}", command.tableNumber());
+        
+        validateTable(command.tableNumber(), command.capacity());
+        if (tableRepository.existsByTableNumber(command.tableNumber())) {
+            throw new IllegalArgumentException("Table number already exists: " + command.tableNumber());
+        }
+        
+        RestaurantTable table = new RestaurantTable(command.tableNumber(), command.capacity(), command.location());
+        RestaurantTable savedTable = tableRepository.save(table);
+        
+        logger.info("Table created successfully with ID: {}", savedTable.getId());
+        return savedTable;
+    }
+    
+    @Override
+    public RestaurantTable updateTable(UpdateTableCommand command) {
+        logger.info("Updating table: {}", command.tableId());
+        
+        validateTable(command.tableNumber(), command.capacity());
+        RestaurantTable table = findTable(command.tableId());
+        if (!table.getTableNumber().equals(command.tableNumber())
+                && tableRepository.existsByTableNumber(command.tableNumber())) {
+            throw new IllegalArgumentException("Table number already exists: " + command.tableNumber());
+        }
+        
+        table.setTableNumber(command.tableNumber());
+        table.setCapacity(command.capacity());
+        table.setLocation(command.location());
+        table.setUpdatedAt(LocalDateTime.now());
+        
+        return tableRepository.save(table);
+    }
+    
+    @Override
+    public Optional<RestaurantTable> findTableById(UUID tableId) {
+        logger.debug("Finding table by ID: {}", tableId);
+        return tableRepository.findById(tableId);
+    }
+    
+    @Override
+    public Optional<RestaurantTable> findTableByNumber(String tableNumber) {
+        logger.debug("Finding table by number: {}", tableNumber);
+        return tableRepository.findByTableNumber(tableNumber);
+    }
+    
+    @Override
+    public List<RestaurantTable> getAllTables() {
+        logger.debug("Getting all tables");
+        return tableRepository.findAll();
+    }
+    
+    @Override
+    public List<RestaurantTable> getAvailableTables() {
+        return getTablesByStatus(TableStatus.AVAILABLE);
+    }
+    
+    @Override
+    public List<RestaurantTable> getTablesByStatus(TableStatus status) {
+        logger.debug("Getting tables by status: {}", status);
+        return tableRepository.findByStatus(status);
+    }
+    
+    @Override
+    public Optional<RestaurantTable> findAvailableTableForPartySize(int partySize) {
+        logger.debug("Finding available table for party of {}", partySize);
+        validatePartySize(partySize);
+        return tableRepository.findBestFit(partySize);
+    }
+    
+    @Override
+    public RestaurantTable occupyTable(UUID tableId, UUID orderId) {
+        return transition(tableId, table -> table.occupy(orderId));
+    }
+    
+    @Override
+    public Optional<RestaurantTable> seatParty(int partySize, UUID orderId) {
+        logger.info("Seating party of {} for order {}", partySize, orderId);
+        validatePartySize(partySize);
+        
+        for (int attempt = 1; attempt <= MAX_SEATING_ATTEMPTS; attempt++) {
+            Optional<RestaurantTable> candidate = tableRepository.findBestFit(partySize);
+            if (candidate.isEmpty()) {
+                return Optional.empty();
+            }
+            
+            RestaurantTable table = candidate.get();
+            table.occupy(orderId);
+            if (tableRepository.compareAndSetStatus(table, TableStatus.AVAILABLE)) {
+                logger.info("Party of {} seated at table {}", partySize, table.getTableNumber());
+                return Optional.of(table);
+            }
+            logger.debug("Table {} was taken concurrently, looking for the next best fit", table.getTableNumber());
+        }
+        
+        throw new IllegalStateException("Could not seat party of " + partySize + " due to concurrent seating, try again");
+    }
+    
+    @Override
+    public RestaurantTable reserveTable(UUID tableId) {
+        return transition(tableId, RestaurantTable::reserve);
+    }
+    
+    @Override
+    public RestaurantTable makeTableAvailable(UUID tableId) {
+        return transition(tableId, RestaurantTable::makeAvailable);
+    }
+    
+    @Override
+    public RestaurantTable markTableForCleaning(UUID tableId) {
+        return transition(tableId, RestaurantTable::markForCleaning);
+    }
+    
+    @Override
+    public RestaurantTable markTableOutOfService(UUID tableId) {
+        return transition(tableId, RestaurantTable::markOutOfService);
+    }
+    
+    @Override
+    public void deleteTable(UUID tableId) {
+        logger.info("Deleting table: {}", tableId);
+        
+        RestaurantTable table = findTable(tableId);
+        if (table.isOccupied()) {
+            throw new IllegalStateException("Cannot delete an occupied table");
+        }
+        
+        tableRepository.deleteById(tableId);
+        logger.info("Table deleted successfully: {}", tableId);
+    }
+    
+    private RestaurantTable transition(UUID tableId, Consumer<RestaurantTable> change) {
+        for (int attempt = 1; ; attempt++) {
+            RestaurantTable table = findTable(tableId);
+            TableStatus previousStatus = table.getStatus();
+            change.accept(table);
+            
+            // Occupy and reserve only succeed from AVAILABLE, so for them this is a single
+            // UPDATE ... WHERE status = 'AVAILABLE'; a retry re-reads the table and fails fast
+            if (tableRepository.compareAndSetStatus(table, previousStatus)) {
+                logger.info("Table {} moved from {} to {}", tableId, previousStatus, table.getStatus());
+                return table;
+            }
+            if (attempt == MAX_ATTEMPTS) {
+                throw new IllegalStateException("Table " + tableId + " is being changed concurrently, try again");
+            }
+            logger.debug("Table {} changed concurrently, retrying (attempt {})", tableId, attempt);
+        }
+    }
+    
+    private RestaurantTable findTable(UUID tableId) {
+        return tableRepository.findById(tableId)
+            .orElseThrow(() -> new IllegalArgumentException("Table not found: " + tableId));
+    }
+    
+    private void validateTable(String tableNumber, int capacity) {
+        if (tableNumber == null || tableNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Table number is required");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+    }
+    
+    private void validatePartySize(int partySize) {
+        if (partySize < 1) {
+            throw new IllegalArgumentException("Party size must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.restaurant.benchmarks;
+
+import com.restaurant.domain.identity.IdGenerator;
+import com.restaurant.domain.identity.RandomIdGenerator;
+import com.restaurant.domain.identity.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random (v4) against time-ordered (v7) IDs: generation, and inserts into a sorted index keyed by
+ * the 16 bytes the UUID columns store, compared unsigned like a BINARY(16) primary key.
+ *
+ * Each generator is created here and used directly, so the benchmark never touches Ids:
+ *   java -jar benchmarks/target/benchmarks.jar IdBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdBenchmark {
+    
+    private static final int ROWS = 100_000;
+    
+    @Param({"v4", "v7"})
+    private String scheme;
+    
+    private IdGenerator generator;
+    private byte[][] keys;
+    
+    @Setup
+    public void setUp() {
+        generator = "v7".equals(scheme) ? new TimeOrderedIdGenerator() : new RandomIdGenerator();
+        keys = new byte[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            keys[i] = toBytes(generator.nextId());
+        }
+    }
+    
+    @Benchmark
+    public UUID generate() {
+        return generator.nextId();
+    }
+    
+    /**
+     * Time-ordered keys always land at the right edge of the index, random ones anywhere in it
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public TreeMap<byte[], Boolean> insertIntoIndex() {
+        TreeMap<byte[], Boolean> index = new TreeMap<>(Arrays::compareUnsigned);
+        for (byte[] key : keys) {
+            index.put(key, Boolean.TRUE);
+        }
+        return index;
+    }
+    
+    // The same big-endian layout UuidMapper writes to the database
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,101 @@
+package com.restaurant.benchmarks;
+
+import com.restaurant.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order totals and row mapping with Money, against the BigDecimal-only arithmetic it replaced.
+ *
+ * Run with the GC profiler to compare allocations (gc.alloc.rate.norm is bytes per operation):
+ *   java -jar benchmarks/target/benchmarks.jar MoneyBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    
+    private static final Currency USD = Currency.getInstance("USD");
+    
+    @Param({"5", "50"})
+    private int items;
+    
+    private BigDecimal[] prices;
+    private int[] quantities;
+    private Money[] unitPrices;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new BigDecimal[items];
+        quantities = new int[items];
+        unitPrices = new Money[items];
+        for (int i = 0; i < items; i++) {
+            prices[i] = BigDecimal.valueOf(100 + random.nextInt(9_900), 2);
+            quantities[i] = 1 + random.nextInt(4);
+            unitPrices[i] = new Money(prices[i], "USD");
+        }
+    }
+    
+    /**
+     * What Order.recalculateTotal did before: a BigDecimal subtotal per line, reduced from a new zero
+     */
+    @Benchmark
+    public BigDecimal orderTotalBigDecimal() {
+        BigDecimal total = BigDecimal.valueOf(0.0).setScale(2, RoundingMode.HALF_UP);
+        for (int i = 0; i < items; i++) {
+            BigDecimal subtotal = prices[i].multiply(BigDecimal.valueOf((double) quantities[i]))
+                .setScale(2, RoundingMode.HALF_UP);
+            total = total.add(subtotal).setScale(2, RoundingMode.HALF_UP);
+        }
+        return total;
+    }
+    
+    @Benchmark
+    public Money orderTotalMoneyReduce() {
+        Money total = Money.zero(USD);
+        for (int i = 0; i < items; i++) {
+            total = total.add(unitPrices[i].multiply(quantities[i]));
+        }
+        return total;
+    }
+    
+    @Benchmark
+    public Money orderTotalMoneySum() {
+        Money.Sum total = Money.sum(USD);
+        for (int i = 0; i < items; i++) {
+            total.add(unitPrices[i], quantities[i]);
+        }
+        return total.toMoney();
+    }
+    
+    /**
+     * What the menu item mappers do per row: a Money from the price column and the currency code
+     */
+    @Benchmark
+    public Money mapRows() {
+        Money last = null;
+        for (int i = 0; i < items; i++) {
+            last = new Money(prices[i], "USD");
+        }
+        return last;
+    }
+}
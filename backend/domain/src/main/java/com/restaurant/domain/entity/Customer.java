@@ -1,5 +1,6 @@
 package com.restaurant.domain.entity;
 
+import com.restaurant.domain.identity.Ids;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -38,7 +39,7 @@ public class Customer {
     
     // Constructors
     public Customer() {
-        this.id = UUID.randomUUID();
+        this.id = Ids.next();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
         this.active = true;
@@ -1,5 +1,6 @@
 package com.restaurant.domain.entity;
 
+import com.restaurant.domain.identity.Ids;
 import com.restaurant.domain.valueobject.MenuCategory;
 import com.restaurant.domain.valueobject.Money;
 import jakarta.validation.Valid;
@@ -44,7 +45,7 @@ public class MenuItem {
     
     // Constructors
     public MenuItem() {
-        this.id = UUID.randomUUID();
+        this.id = Ids.next();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
         this.available = true;
@@ -1,5 +1,6 @@
 package com.restaurant.domain.entity;
 
+import com.restaurant.domain.identity.Ids;
 import com.restaurant.domain.valueobject.Money;
 import com.restaurant.domain.valueobject.OrderStatus;
 import jakarta.validation.Valid;
@@ -13,7 +14,13 @@ import java.util.Objects;
 import java.util.UUID;
 
 /**
- * Order domain entity representing customer orders
+ * Order domain entity representing customer orders.
+ * The total and the preparation time are kept up to date as items change, so no change
+ * adds up every line again. Items are changed through the order only, in place; getItems hands out an
+ * immutable snapshot, taken once after each change, and items that belong to an order cannot be changed.
+ *
+ * The estimated delivery time of a pending order assumes a kitchen with one free station;
+ * once confirmed, the kitchen backlog replaces it with an estimate that accounts for load.
  */
 public class Order {
     
@@ -28,7 +35,13 @@ public class Order {
     private OrderStatus status;
     
     @Valid
-    private List<OrderItem> items;
+    private final List<OrderItem> items = new ArrayList<>();
+    
+    // Snapshot of items handed out by getItems, dropped on every change
+    private List<OrderItem> itemsSnapshot;
+    
+    // Sum of the preparation times of all units ordered
+    private int preparationMinutes;
     
     @NotNull(message = "Total amount is required")
     @Valid
@@ -49,10 +62,9 @@ public class Order {
     
     // Constructors
     public Order() {
-        this.id = UUID.randomUUID();
+        this.id = Ids.next();
         this.status = OrderStatus.PENDING;
-        this.items = new ArrayList<>();
-        this.totalAmount = new Money(0.0);
+        this.totalAmount = Money.zero(Money.DEFAULT_CURRENCY);
         this.orderTime = LocalDateTime.now();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
@@ -67,30 +79,44 @@ public class Order {
     // Business methods
     public void addItem(MenuItem menuItem, int quantity, String notes) {
         OrderItem orderItem = new OrderItem(menuItem.getId(), menuItem.getName(), 
-                                           menuItem.getPrice(), quantity, notes);
-        this.items.add(orderItem);
-        recalculateTotal();
+                                           menuItem.getPrice(), quantity, notes,
+                                           menuItem.getPreparationTimeMinutes());
+        orderItem.attach();
+        items.add(orderItem);
+        itemsSnapshot = null;
+        changeTotals(orderItem, quantity);
         updateEstimatedDeliveryTime();
         this.updatedAt = LocalDateTime.now();
     }
     
     public void removeItem(UUID menuItemId) {
-        this.items.removeIf(item -> item.getMenuItemId().equals(menuItemId));
-        recalculateTotal();
+        items.removeIf(item -> {
+            if (item.getMenuItemId().equals(menuItemId)) {
+                changeTotals(item, -item.getQuantity());
+                return true;
+            }
+            return false;
+        });
+        itemsSnapshot = null;
         updateEstimatedDeliveryTime();
         this.updatedAt = LocalDateTime.now();
     }
     
     public void updateItemQuantity(UUID menuItemId, int newQuantity) {
-        items.stream()
-            .filter(item -> item.getMenuItemId().equals(menuItemId))
-            .findFirst()
-            .ifPresent(item -> {
-                item.setQuantity(newQuantity);
-                recalculateTotal();
+        if (newQuantity < 1) {
+            throw new IllegalArgumentException("Quantity must be at least 1");
+        }
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
+            if (item.getMenuItemId().equals(menuItemId)) {
+                items.set(i, item.withQuantity(newQuantity));
+                itemsSnapshot = null;
+                changeTotals(item, newQuantity - item.getQuantity());
                 updateEstimatedDeliveryTime();
                 this.updatedAt = LocalDateTime.now();
-            });
+                return;
+            }
+        }
     }
     
     public void confirm() {
@@ -136,17 +162,24 @@ public class Order {
         this.updatedAt = LocalDateTime.now();
     }
     
-    private void recalculateTotal() {
-        this.totalAmount = items.stream()
-            .map(OrderItem::getSubtotal)
-            .reduce(new Money(0.0), Money::add);
+    private void changeTotals(OrderItem item, int quantityDelta) {
+        this.totalAmount = totalAmount.add(item.getUnitPrice().multiply(quantityDelta));
+        this.preparationMinutes += quantityDelta * item.getPreparationTimeMinutes();
+    }
+    
+    private void recalculateTotals() {
+        Money.Sum total = Money.sum(Money.DEFAULT_CURRENCY);
+        int minutes = 0;
+        for (OrderItem item : items) {
+            total.add(item.getUnitPrice(), item.getQuantity());
+            minutes += item.getQuantity() * item.getPreparationTimeMinutes();
+        }
+        this.totalAmount = total.toMoney();
+        this.preparationMinutes = minutes;
     }
     
     private void updateEstimatedDeliveryTime() {
-        int totalPreparationTime = items.stream()
-            .mapToInt(item -> item.getQuantity() * 15) // Assume 15 minutes per item
-            .sum();
-        this.estimatedDeliveryTime = orderTime.plusMinutes(totalPreparationTime);
+        this.estimatedDeliveryTime = orderTime.plusMinutes(preparationMinutes);
     }
     
     public boolean canBeCancelled() {
@@ -190,13 +223,37 @@ public class Order {
         this.status = status;
     }
     
+    /**
+     * Immutable snapshot of the items; later changes to the order do not show in it
+     */
     public List<OrderItem> getItems() {
-        return new ArrayList<>(items);
+        List<OrderItem> snapshot = itemsSnapshot;
+        if (snapshot == null) {
+            snapshot = List.copyOf(items);
+            itemsSnapshot = snapshot;
+        }
+        return snapshot;
     }
     
+    /**
+     * Replace the items; from then on they belong to this order and can no longer be changed directly
+     */
     public void setItems(List<OrderItem> items) {
-        this.items = new ArrayList<>(items);
-        recalculateTotal();
+        for (OrderItem item : items) {
+            item.attach();
+        }
+        List<OrderItem> replacement = List.copyOf(items);
+        this.items.clear();
+        this.items.addAll(replacement);
+        this.itemsSnapshot = replacement;
+        recalculateTotals();
+    }
+    
+    /**
+     * Minutes of kitchen work the order needs: the preparation time of every unit, added up
+     */
+    public int getPreparationMinutes() {
+        return preparationMinutes;
     }
     
     public Money getTotalAmount() {
@@ -1,6 +1,7 @@
 package com.restaurant.domain.entity;
 
 
+import com.restaurant.domain.identity.Ids;
 import com.restaurant.domain.valueobject.Money;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
@@ -16,6 +17,9 @@ import java.util.UUID;
  */
 public class OrderItem {
     
+    // Used for menu items without a preparation time of their own
+    public static final int DEFAULT_PREPARATION_MINUTES = 15;
+    
     private UUID id;
     
     @NotNull(message = "Menu item ID is required")
@@ -34,10 +38,17 @@ public class OrderItem {
     @Size(max = 200, message = "Notes cannot exceed 200 characters")
     private String notes;
     
+    @Min(value = 1, message = "Preparation time must be at least 1 minute")
+    private int preparationTimeMinutes;
+    
+    // Set once the item belongs to an order, which keeps its total in step with its items
+    private boolean attached;
+    
     // Constructors
     public OrderItem() {
-        this.id = UUID.randomUUID();
+        this.id = Ids.next();
         this.quantity = 1;
+        this.preparationTimeMinutes = DEFAULT_PREPARATION_MINUTES;
     }
     
     public OrderItem(UUID menuItemId, String menuItemName, Money unitPrice, int quantity, String notes) {
@@ -49,12 +60,19 @@ public class OrderItem {
         this.notes = notes;
     }
     
+    public OrderItem(UUID menuItemId, String menuItemName, Money unitPrice, int quantity, String notes,
+                     int preparationTimeMinutes) {
+        this(menuItemId, menuItemName, unitPrice, quantity, notes);
+        this.preparationTimeMinutes = preparationTimeMinutes > 0 ? preparationTimeMinutes : DEFAULT_PREPARATION_MINUTES;
+    }
+    
     // Business methods
     public Money getSubtotal() {
         return unitPrice.multiply(quantity);
     }
     
     public void updateQuantity(int newQuantity) {
+        checkDetached();
         if (newQuantity < 1) {
             throw new IllegalArgumentException("Quantity must be at least 1");
         }
@@ -62,6 +80,7 @@ public class OrderItem {
     }
     
     public void addNotes(String additionalNotes) {
+        checkDetached();
         if (this.notes == null || this.notes.isEmpty()) {
             this.notes = additionalNotes;
         } else {
@@ -69,12 +88,33 @@ public class OrderItem {
         }
     }
     
+    /**
+     * The same item with another quantity, belonging to the same order
+     */
+    OrderItem withQuantity(int newQuantity) {
+        OrderItem copy = new OrderItem(menuItemId, menuItemName, unitPrice, newQuantity, notes, preparationTimeMinutes);
+        copy.id = id;
+        copy.attached = true;
+        return copy;
+    }
+    
+    void attach() {
+        this.attached = true;
+    }
+    
+    private void checkDetached() {
+        if (attached) {
+            throw new IllegalStateException("Items of an order can only be changed through the order");
+        }
+    }
+    
     // Getters and Setters
     public UUID getId() {
         return id;
     }
     
     public void setId(UUID id) {
+        checkDetached();
         this.id = id;
     }
     
@@ -83,6 +123,7 @@ public class OrderItem {
     }
     
     public void setMenuItemId(UUID menuItemId) {
+        checkDetached();
         this.menuItemId = menuItemId;
     }
     
@@ -91,6 +132,7 @@ public class OrderItem {
     }
     
     public void setMenuItemName(String menuItemName) {
+        checkDetached();
         this.menuItemName = menuItemName;
     }
     
@@ -99,6 +141,7 @@ public class OrderItem {
     }
     
     public void setUnitPrice(Money unitPrice) {
+        checkDetached();
         this.unitPrice = unitPrice;
     }
     
@@ -107,6 +150,7 @@ public class OrderItem {
     }
     
     public void setQuantity(int quantity) {
+        checkDetached();
         this.quantity = quantity;
     }
     
@@ -115,9 +159,22 @@ public class OrderItem {
     }
     
     public void setNotes(String notes) {
+        checkDetached();
         this.notes = notes;
     }
     
+    /**
+     * Preparation time of one unit, taken from the menu item when it was ordered
+     */
+    public int getPreparationTimeMinutes() {
+        return preparationTimeMinutes;
+    }
+    
+    public void setPreparationTimeMinutes(int preparationTimeMinutes) {
+        checkDetached();
+        this.preparationTimeMinutes = preparationTimeMinutes;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
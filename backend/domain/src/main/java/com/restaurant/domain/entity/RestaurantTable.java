@@ -1,5 +1,6 @@
 package com.restaurant.domain.entity;
 
+import com.restaurant.domain.identity.Ids;
 import com.restaurant.domain.valueobject.TableStatus;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -40,7 +41,7 @@ public class RestaurantTable {
     
     // Constructors
     public RestaurantTable() {
-        this.id = UUID.randomUUID();
+        this.id = Ids.next();
         this.status = TableStatus.AVAILABLE;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,11 @@
+package com.restaurant.domain.identity;
+
+import java.util.UUID;
+
+/**
+ * Source of identifiers for new domain entities
+ */
+public interface IdGenerator {
+    
+    UUID nextId();
+}
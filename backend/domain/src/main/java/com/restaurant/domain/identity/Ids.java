@@ -0,0 +1,28 @@
+package com.restaurant.domain.identity;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Identifier generator used by the domain entity constructors.
+ * Defaults to time-ordered UUIDs; another generator can be plugged in at startup.
+ */
+public final class Ids {
+    
+    private static volatile IdGenerator generator = new TimeOrderedIdGenerator();
+    
+    private Ids() {
+    }
+    
+    public static UUID next() {
+        return generator.nextId();
+    }
+    
+    public static IdGenerator generator() {
+        return generator;
+    }
+    
+    public static void use(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator, "idGenerator");
+    }
+}
@@ -0,0 +1,14 @@
+package com.restaurant.domain.identity;
+
+import java.util.UUID;
+
+/**
+ * Random (version 4) UUIDs. Inserts land at random positions of a UUID primary key index.
+ */
+public class RandomIdGenerator implements IdGenerator {
+    
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,48 @@
+package com.restaurant.domain.identity;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered (version 7) UUIDs, so inserts append to the end of a UUID primary key index
+ * instead of splitting pages at random positions.
+ *
+ * The 48-bit millisecond timestamp is followed by a 12-bit counter that keeps the IDs handed out
+ * by this generator strictly increasing within a millisecond; the remaining 62 bits are random.
+ * Timestamp and counter share one atomic value, so generation is lock-free. When the counter runs
+ * out within a millisecond it carries into the timestamp, which then runs slightly ahead of the
+ * clock until the clock catches up; a clock moving backwards is handled the same way.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+    
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    
+    private final Clock clock;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+    
+    public TimeOrderedIdGenerator() {
+        this(Clock.systemUTC());
+    }
+    
+    public TimeOrderedIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+    
+    @Override
+    public UUID nextId() {
+        long now = clock.millis() << COUNTER_BITS;
+        long timestampAndCounter = lastTimestampAndCounter.updateAndGet(last -> Math.max(last + 1, now));
+        
+        long mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+            | VERSION
+            | (timestampAndCounter & COUNTER_MASK);
+        long leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
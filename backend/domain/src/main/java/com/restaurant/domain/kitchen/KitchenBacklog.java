@@ -0,0 +1,184 @@
+package com.restaurant.domain.kitchen;
+
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.entity.OrderItem;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The kitchen's backlog of confirmed and preparing orders, kept in memory in the order they were
+ * confirmed, with the time each is estimated to be ready.
+ *
+ * The kitchen works through the backlog with a number of stations in parallel, so it clears that many
+ * minutes of preparation work per minute. Each order's position in the backlog is the work queued up to
+ * and including it; it is ready once the kitchen has cleared that position, but no sooner than its
+ * longest item takes from when it starts. Positions become times through one shared anchor, the time
+ * the kitchen would have cleared position zero. An order that starts late or is ready early or late
+ * moves the anchor, which re-estimates every order behind it at once: adding an order and each
+ * transition cost O(log n), reading an estimate O(1).
+ *
+ * An order removed before it was ready (a cancellation) moves every order behind it forward by its work,
+ * which costs O(k log n) for the k orders behind it; cancellations are rare next to the other changes.
+ *
+ * The backlog is an estimate of one instance: it knows the orders it was loaded with and the transitions
+ * reported to it since. Thread-safe.
+ */
+public class KitchenBacklog {
+    
+    private static final long SECONDS_PER_MINUTE = 60;
+    
+    private final int stations;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> queue = new TreeSet<>(Comparator.comparingLong(Entry::position));
+    
+    // Position of the last order queued, in station-seconds of work since the backlog was created
+    private long tail;
+    private LocalDateTime anchor;
+    
+    public KitchenBacklog(int stations) {
+        if (stations < 1) {
+            throw new IllegalArgumentException("The kitchen needs at least one station");
+        }
+        this.stations = stations;
+    }
+    
+    /**
+     * Queue a confirmed order behind everything already in the backlog
+     *
+     * @return the time the order is estimated to be ready
+     */
+    public synchronized LocalDateTime add(Order order, LocalDateTime now) {
+        remove(order.getId());
+        
+        anchor = anchorForNewOrder(now);
+        Entry entry = newEntry(order);
+        tail = entry.position();
+        entries.put(entry.orderId(), entry);
+        queue.add(entry);
+        return readyTime(entry, anchor);
+    }
+    
+    /**
+     * The time an order that is not in the backlog would be estimated to be ready if it were added now,
+     * leaving the backlog as it is
+     */
+    public synchronized LocalDateTime estimateAdd(Order order, LocalDateTime now) {
+        return readyTime(newEntry(order), anchorForNewOrder(now));
+    }
+    
+    /**
+     * Record that the kitchen started on an order. Starting later than estimated delays the order
+     * and every order behind it; starting earlier only means a station was free sooner.
+     *
+     * @return the order's new estimate, or empty if it is not in the backlog
+     */
+    public synchronized Optional<LocalDateTime> started(UUID orderId, LocalDateTime now) {
+        Entry entry = entries.get(orderId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        anchor = anchorForStart(entry, now);
+        return Optional.of(readyTime(entry, anchor));
+    }
+    
+    /**
+     * The estimate started would return for an order, leaving the backlog as it is
+     */
+    public synchronized Optional<LocalDateTime> estimateStart(UUID orderId, LocalDateTime now) {
+        Entry entry = entries.get(orderId);
+        return entry != null ? Optional.of(readyTime(entry, anchorForStart(entry, now))) : Optional.empty();
+    }
+    
+    /**
+     * Take an order the kitchen has finished out of the backlog. The orders behind it are
+     * re-estimated from the time it actually took.
+     */
+    public synchronized void ready(UUID orderId, LocalDateTime now) {
+        Entry entry = entries.remove(orderId);
+        if (entry != null) {
+            queue.remove(entry);
+            anchor = now.minusSeconds(entry.position() / stations);
+        }
+    }
+    
+    /**
+     * Take an order out of the backlog before it is ready, e.g. when it is cancelled. The orders behind it
+     * no longer wait for its work.
+     */
+    public synchronized void remove(UUID orderId) {
+        Entry entry = entries.remove(orderId);
+        if (entry == null) {
+            return;
+        }
+        queue.remove(entry);
+        
+        // Every position behind it drops by the same amount, so the queue order is kept
+        NavigableSet<Entry> behindView = queue.tailSet(entry, false);
+        List<Entry> behind = new ArrayList<>(behindView);
+        behindView.clear();
+        for (Entry moved : behind) {
+            Entry forward = new Entry(moved.orderId(), moved.position() - entry.work(), moved.work(),
+                moved.longestItem());
+            entries.put(forward.orderId(), forward);
+            queue.add(forward);
+        }
+        tail -= entry.work();
+    }
+    
+    public synchronized Optional<LocalDateTime> estimatedReadyTime(UUID orderId) {
+        Entry entry = entries.get(orderId);
+        return entry != null ? Optional.of(readyTime(entry, anchor)) : Optional.empty();
+    }
+    
+    public synchronized int size() {
+        return queue.size();
+    }
+    
+    public int getStations() {
+        return stations;
+    }
+    
+    // Idle, or running later than the backlog says: a new order cannot start before now
+    private LocalDateTime anchorForNewOrder(LocalDateTime now) {
+        return queue.isEmpty() || timeAt(anchor, tail).isBefore(now) ? now.minusSeconds(tail / stations) : anchor;
+    }
+    
+    // Starting later than estimated moves the anchor; starting earlier leaves it
+    private LocalDateTime anchorForStart(Entry entry, LocalDateTime now) {
+        long start = entry.position() - entry.work();
+        return timeAt(anchor, start).isBefore(now) ? now.minusSeconds(start / stations) : anchor;
+    }
+    
+    // The entry an order gets when it is queued behind the current tail
+    private Entry newEntry(Order order) {
+        long work = Math.max(1, order.getPreparationMinutes()) * SECONDS_PER_MINUTE;
+        int longestItem = 0;
+        for (OrderItem item : order.getItems()) {
+            longestItem = Math.max(longestItem, item.getPreparationTimeMinutes());
+        }
+        return new Entry(order.getId(), tail + work, work, longestItem * SECONDS_PER_MINUTE);
+    }
+    
+    private LocalDateTime readyTime(Entry entry, LocalDateTime from) {
+        LocalDateTime cleared = timeAt(from, entry.position());
+        LocalDateTime longestItemDone = timeAt(from, entry.position() - entry.work()).plusSeconds(entry.longestItem());
+        return cleared.isAfter(longestItemDone) ? cleared : longestItemDone;
+    }
+    
+    private LocalDateTime timeAt(LocalDateTime from, long position) {
+        return from.plusSeconds(position / stations);
+    }
+    
+    // Positions grow with every order queued, so they are unique and order the queue
+    private record Entry(UUID orderId, long position, long work, long longestItem) {
+    }
+}
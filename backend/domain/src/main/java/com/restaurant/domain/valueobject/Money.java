@@ -6,28 +6,48 @@ import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Currency;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Money value object representing monetary amounts
+ * Money value object representing monetary amounts.
+ *
+ * Amounts always have two decimal places. They are held as a long count of cents, so adding,
+ * subtracting, multiplying by a quantity and comparing do no BigDecimal arithmetic; only amounts
+ * of more than 18 digits fall back to a BigDecimal. Use {@link #sum(Currency)} to total many amounts.
  */
 public class Money {
     
-    @NotNull(message = "Amount is required")
-    @DecimalMin(value = "0.0", inclusive = true, message = "Amount must be non-negative")
-    private final BigDecimal amount;
+    /** Currency of amounts created without one */
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
     
-    @NotNull(message = "Currency is required")
+    private static final int SCALE = 2;
+    private static final long INFLATED = Long.MIN_VALUE;
+    private static final long MAX_CENTS = 1_000_000_000_000_000_000L;
+    private static final Map<Currency, Money> ZEROS = new ConcurrentHashMap<>();
+    
+    // The amount in cents while it has at most 18 digits, otherwise INFLATED with inflatedAmount holding it;
+    // each amount has exactly one representation, which equals and hashCode rely on
+    private final long cents;
+    private final BigDecimal inflatedAmount;
     private final Currency currency;
     
+    // getAmount's BigDecimal of cents, created on first use; only a cache, never read for the value itself
+    private BigDecimal amount;
+    
     public Money(BigDecimal amount, String currencyCode) {
-        this.amount = amount != null ? amount.setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
-        this.currency = Currency.getInstance(currencyCode != null ? currencyCode : "USD");
+        this(amount, currencyCode != null ? currencyOf(currencyCode) : DEFAULT_CURRENCY);
     }
     
+    // A null amount is the unscaled BigDecimal.ZERO it has always been and serializes as 0,
+    // but like any zero it now equals Money.zero and ofCents(0), which are 0.00
     public Money(BigDecimal amount, Currency currency) {
-        this.amount = amount != null ? amount.setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
-        this.currency = currency != null ? currency : Currency.getInstance("USD");
+        BigDecimal scaled = amount != null ? amount.setScale(SCALE, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+        this.cents = scaled.precision() <= 18 ? scaled.unscaledValue().longValue() : INFLATED;
+        this.inflatedAmount = cents == INFLATED ? scaled : null;
+        this.currency = currency != null ? currency : DEFAULT_CURRENCY;
+        this.amount = scaled;
     }
     
     public Money(double amount, String currencyCode) {
@@ -35,22 +55,74 @@ public class Money {
     }
     
     public Money(double amount) {
-        this(BigDecimal.valueOf(amount), "USD");
+        this(BigDecimal.valueOf(amount), DEFAULT_CURRENCY);
+    }
+    
+    // All fields the value depends on are final, so a Money shared without synchronization is always whole
+    private Money(long cents, BigDecimal inflatedAmount, Currency currency) {
+        this.cents = cents;
+        this.inflatedAmount = inflatedAmount;
+        this.currency = currency;
+    }
+    
+    /**
+     * An amount given in cents
+     */
+    public static Money ofCents(long cents, Currency currency) {
+        return of(cents, Objects.requireNonNull(currency, "Currency is required"));
+    }
+    
+    /**
+     * The shared zero amount of a currency
+     */
+    public static Money zero(Currency currency) {
+        return ZEROS.computeIfAbsent(currency, key -> new Money(0L, null, key));
+    }
+    
+    /**
+     * Start a running total in the given currency.
+     * Adding to it allocates nothing while the total fits in a long.
+     */
+    public static Sum sum(Currency currency) {
+        return new Sum(currency);
     }
     
     // Business methods
     public Money add(Money other) {
         validateSameCurrency(other);
-        return new Money(this.amount.add(other.amount), this.currency);
+        if (!isInflated() && !other.isInflated()) {
+            long result = cents + other.cents;
+            if (((cents ^ result) & (other.cents ^ result)) >= 0) {
+                return of(result, currency);
+            }
+        }
+        return new Money(getAmount().add(other.getAmount()), this.currency);
     }
     
     public Money subtract(Money other) {
         validateSameCurrency(other);
-        return new Money(this.amount.subtract(other.amount), this.currency);
+        if (!isInflated() && !other.isInflated()) {
+            long result = cents - other.cents;
+            if (((cents ^ other.cents) & (cents ^ result)) >= 0) {
+                return of(result, currency);
+            }
+        }
+        return new Money(getAmount().subtract(other.getAmount()), this.currency);
+    }
+    
+    public Money multiply(long quantity) {
+        if (!isInflated()) {
+            long high = Math.multiplyHigh(cents, quantity);
+            long result = cents * quantity;
+            if ((high == 0 && result >= 0) || (high == -1 && result < 0)) {
+                return of(result, currency);
+            }
+        }
+        return new Money(getAmount().multiply(BigDecimal.valueOf(quantity)), this.currency);
     }
     
     public Money multiply(BigDecimal multiplier) {
-        return new Money(this.amount.multiply(multiplier), this.currency);
+        return new Money(getAmount().multiply(multiplier), this.currency);
     }
     
     public Money multiply(double multiplier) {
@@ -58,7 +130,7 @@ public class Money {
     }
     
     public Money divide(BigDecimal divisor) {
-        return new Money(this.amount.divide(divisor, 2, RoundingMode.HALF_UP), this.currency);
+        return new Money(getAmount().divide(divisor, SCALE, RoundingMode.HALF_UP), this.currency);
     }
     
     public Money divide(double divisor) {
@@ -67,45 +139,76 @@ public class Money {
     
     public boolean isGreaterThan(Money other) {
         validateSameCurrency(other);
-        return this.amount.compareTo(other.amount) > 0;
+        return compareAmount(other) > 0;
     }
     
     public boolean isLessThan(Money other) {
         validateSameCurrency(other);
-        return this.amount.compareTo(other.amount) < 0;
+        return compareAmount(other) < 0;
     }
     
     public boolean isEqualTo(Money other) {
         validateSameCurrency(other);
-        return this.amount.compareTo(other.amount) == 0;
+        return compareAmount(other) == 0;
     }
     
     public boolean isZero() {
-        return this.amount.compareTo(BigDecimal.ZERO) == 0;
+        return signum() == 0;
     }
     
     public boolean isPositive() {
-        return this.amount.compareTo(BigDecimal.ZERO) > 0;
+        return signum() > 0;
     }
     
     public boolean isNegative() {
-        return this.amount.compareTo(BigDecimal.ZERO) < 0;
+        return signum() < 0;
+    }
+    
+    private int compareAmount(Money other) {
+        if (!isInflated() && !other.isInflated()) {
+            return Long.compare(cents, other.cents);
+        }
+        return getAmount().compareTo(other.getAmount());
+    }
+    
+    private int signum() {
+        return isInflated() ? inflatedAmount.signum() : Long.signum(cents);
+    }
+    
+    private boolean isInflated() {
+        return cents == INFLATED;
     }
     
     private void validateSameCurrency(Money other) {
-        if (!this.currency.equals(other.currency)) {
+        validateSameCurrency(this.currency, other.currency);
+    }
+    
+    private static void validateSameCurrency(Currency currency, Currency otherCurrency) {
+        if (!currency.equals(otherCurrency)) {
             throw new IllegalArgumentException(
-                String.format("Cannot perform operation with different currencies: %s and %s", 
-                    this.currency.getCurrencyCode(), other.currency.getCurrencyCode())
+                String.format("Cannot perform operation with different currencies: %s and %s",
+                    currency.getCurrencyCode(), otherCurrency.getCurrencyCode())
             );
         }
     }
     
     // Getters
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.0", inclusive = true, message = "Amount must be non-negative")
     public BigDecimal getAmount() {
-        return amount;
+        if (isInflated()) {
+            return inflatedAmount;
+        }
+        BigDecimal cached = amount;
+        if (cached == null) {
+            // Benign race: every thread computes the same value
+            cached = BigDecimal.valueOf(cents, SCALE);
+            amount = cached;
+        }
+        return cached;
     }
     
+    @NotNull(message = "Currency is required")
     public Currency getCurrency() {
         return currency;
     }
@@ -119,16 +222,82 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount) && Objects.equals(currency, money.currency);
+        return cents == money.cents
+            && Objects.equals(inflatedAmount, money.inflatedAmount)
+            && Objects.equals(currency, money.currency);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(amount, currency);
+        return Objects.hash(isInflated() ? inflatedAmount : cents, currency);
     }
     
     @Override
     public String toString() {
-        return String.format("%s %s", currency.getSymbol(), amount);
+        return String.format("%s %s", currency.getSymbol(), getAmount());
+    }
+    
+    private static Money of(long cents, Currency currency) {
+        if (cents == 0) {
+            return zero(currency);
+        }
+        if (cents <= -MAX_CENTS || cents >= MAX_CENTS) {
+            return new Money(INFLATED, BigDecimal.valueOf(cents, SCALE), currency);
+        }
+        return new Money(cents, null, currency);
+    }
+    
+    private static Currency currencyOf(String currencyCode) {
+        // Skips the lookup in Currency's own cache for the currency nearly every amount uses
+        return DEFAULT_CURRENCY.getCurrencyCode().equals(currencyCode)
+            ? DEFAULT_CURRENCY
+            : Currency.getInstance(currencyCode);
+    }
+    
+    /**
+     * Running total of amounts in one currency, kept as a primitive count of cents.
+     * Falls back to BigDecimal only once the total leaves the long range. Not thread-safe.
+     */
+    public static final class Sum {
+        
+        private final Currency currency;
+        private long cents;
+        private BigDecimal overflow;
+        
+        private Sum(Currency currency) {
+            this.currency = Objects.requireNonNull(currency, "Currency is required");
+        }
+        
+        public Sum add(Money amount) {
+            return add(amount, 1);
+        }
+        
+        /**
+         * Add an amount times a quantity, e.g. a unit price and the number of units
+         */
+        public Sum add(Money amount, long quantity) {
+            validateSameCurrency(currency, amount.currency);
+            if (overflow == null && !amount.isInflated()) {
+                long high = Math.multiplyHigh(amount.cents, quantity);
+                long line = amount.cents * quantity;
+                if ((high == 0 && line >= 0) || (high == -1 && line < 0)) {
+                    long result = cents + line;
+                    if (((cents ^ result) & (line ^ result)) >= 0) {
+                        cents = result;
+                        return this;
+                    }
+                }
+            }
+            overflow = total().add(amount.getAmount().multiply(BigDecimal.valueOf(quantity)));
+            return this;
+        }
+        
+        public Money toMoney() {
+            return overflow == null ? of(cents, currency) : new Money(overflow, currency);
+        }
+        
+        private BigDecimal total() {
+            return overflow != null ? overflow : BigDecimal.valueOf(cents, SCALE);
+        }
     }
 }
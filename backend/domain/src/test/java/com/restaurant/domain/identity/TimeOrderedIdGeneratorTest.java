@@ -0,0 +1,104 @@
+package com.restaurant.domain.identity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedIdGeneratorTest {
+    
+    private static final long NOW = Instant.parse("2026-10-19T12:00:00Z").toEpochMilli();
+    
+    @Test
+    @DisplayName("IDs are version 7 with the RFC 4122 variant and the clock's milliseconds up front")
+    void versionVariantAndTimestamp() {
+        UUID id = new TimeOrderedIdGenerator(new SettableClock(NOW)).nextId();
+        
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+    }
+    
+    @Test
+    @DisplayName("IDs strictly increase within one millisecond, also past the 4096 the counter holds")
+    void increasingWithinOneMillisecond() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(new SettableClock(NOW));
+        
+        UUID previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.nextId();
+            assertTrue(compare(previous, next) < 0, "ID " + next + " does not follow " + previous);
+            assertEquals(7, next.version());
+            previous = next;
+        }
+    }
+    
+    @Test
+    @DisplayName("IDs keep increasing when the clock moves backwards")
+    void increasingWhenClockMovesBack() {
+        SettableClock clock = new SettableClock(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock);
+        
+        UUID beforeStep = generator.nextId();
+        clock.millis = NOW - 5_000;
+        UUID afterStep = generator.nextId();
+        
+        assertTrue(compare(beforeStep, afterStep) < 0);
+    }
+    
+    @Test
+    @DisplayName("A later millisecond always sorts after every ID of an earlier one")
+    void laterMillisecondSortsAfter() {
+        SettableClock clock = new SettableClock(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock);
+        
+        UUID earlier = generator.nextId();
+        clock.millis = NOW + 1;
+        UUID later = generator.nextId();
+        
+        assertTrue(compare(earlier, later) < 0);
+        assertEquals(NOW + 1, later.getMostSignificantBits() >>> 16);
+    }
+    
+    // The order of the 16 bytes the UUID columns store
+    private static int compare(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+    
+    private static final class SettableClock extends Clock {
+        
+        private long millis;
+        
+        private SettableClock(long millis) {
+            this.millis = millis;
+        }
+        
+        @Override
+        public long millis() {
+            return millis;
+        }
+        
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
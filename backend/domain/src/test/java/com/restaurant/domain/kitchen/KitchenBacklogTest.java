@@ -0,0 +1,158 @@
+package com.restaurant.domain.kitchen;
+
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.entity.OrderItem;
+import com.restaurant.domain.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KitchenBacklogTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+    
+    @Test
+    @DisplayName("An order is never ready sooner than its longest item takes")
+    void longestItemBoundsTheEstimate() {
+        KitchenBacklog backlog = new KitchenBacklog(2);
+        
+        // 10 minutes of work over 2 stations clears in 5, but the item itself takes 10
+        assertEquals(NOW.plusMinutes(10), backlog.add(order(1, 10), NOW));
+    }
+    
+    @Test
+    @DisplayName("Orders queue behind each other, cleared by all stations in parallel")
+    void ordersQueueBehindEachOther() {
+        KitchenBacklog backlog = new KitchenBacklog(2);
+        
+        assertEquals(NOW.plusMinutes(10), backlog.add(order(4, 5), NOW));
+        assertEquals(NOW.plusMinutes(20), backlog.add(order(4, 5), NOW));
+        assertEquals(2, backlog.size());
+    }
+    
+    @Test
+    @DisplayName("A late start delays the order and every order behind it")
+    void lateStartDelaysTheOrdersBehind() {
+        KitchenBacklog backlog = new KitchenBacklog(1);
+        Order first = order(1, 10);
+        Order second = order(1, 10);
+        backlog.add(first, NOW);
+        backlog.add(second, NOW);
+        
+        assertEquals(Optional.of(NOW.plusMinutes(15)), backlog.started(first.getId(), NOW.plusMinutes(5)));
+        assertEquals(Optional.of(NOW.plusMinutes(25)), backlog.estimatedReadyTime(second.getId()));
+    }
+    
+    @Test
+    @DisplayName("An early start only means a station was free sooner")
+    void earlyStartKeepsTheEstimates() {
+        KitchenBacklog backlog = new KitchenBacklog(1);
+        Order first = order(1, 10);
+        Order second = order(1, 10);
+        backlog.add(first, NOW);
+        backlog.add(second, NOW);
+        
+        assertEquals(Optional.of(NOW.plusMinutes(20)), backlog.started(second.getId(), NOW.plusMinutes(5)));
+    }
+    
+    @Test
+    @DisplayName("An order ready early moves the orders behind it up")
+    void readyEarlyMovesTheOrdersBehindUp() {
+        KitchenBacklog backlog = new KitchenBacklog(1);
+        Order first = order(1, 10);
+        Order second = order(1, 10);
+        backlog.add(first, NOW);
+        backlog.add(second, NOW);
+        
+        backlog.ready(first.getId(), NOW.plusMinutes(8));
+        
+        assertEquals(Optional.empty(), backlog.estimatedReadyTime(first.getId()));
+        assertEquals(Optional.of(NOW.plusMinutes(18)), backlog.estimatedReadyTime(second.getId()));
+        assertEquals(1, backlog.size());
+    }
+    
+    @Test
+    @DisplayName("A removed order no longer holds up the orders behind it")
+    void removeMovesTheOrdersBehindForward() {
+        KitchenBacklog backlog = new KitchenBacklog(2);
+        Order first = order(4, 5);
+        Order second = order(4, 5);
+        Order third = order(4, 5);
+        backlog.add(first, NOW);
+        backlog.add(second, NOW);
+        backlog.add(third, NOW);
+        
+        backlog.remove(first.getId());
+        
+        assertEquals(Optional.of(NOW.plusMinutes(10)), backlog.estimatedReadyTime(second.getId()));
+        assertEquals(Optional.of(NOW.plusMinutes(20)), backlog.estimatedReadyTime(third.getId()));
+        assertEquals(NOW.plusMinutes(30), backlog.add(order(4, 5), NOW));
+    }
+    
+    @Test
+    @DisplayName("Adding an order again queues it anew instead of twice")
+    void addingAgainRequeues() {
+        KitchenBacklog backlog = new KitchenBacklog(1);
+        Order first = order(1, 10);
+        Order second = order(1, 10);
+        backlog.add(first, NOW);
+        backlog.add(second, NOW);
+        
+        assertEquals(NOW.plusMinutes(20), backlog.add(first, NOW));
+        assertEquals(Optional.of(NOW.plusMinutes(10)), backlog.estimatedReadyTime(second.getId()));
+        assertEquals(2, backlog.size());
+    }
+    
+    @Test
+    @DisplayName("An idle kitchen starts a new order now rather than when it last had work")
+    void idleKitchenStartsNow() {
+        KitchenBacklog backlog = new KitchenBacklog(1);
+        Order first = order(1, 10);
+        backlog.add(first, NOW);
+        backlog.ready(first.getId(), NOW.plusMinutes(10));
+        
+        assertEquals(NOW.plusHours(2).plusMinutes(10), backlog.add(order(1, 10), NOW.plusHours(2)));
+    }
+    
+    @Test
+    @DisplayName("Estimates of an addition or a start match the real change but leave the backlog as it is")
+    void estimatesLeaveTheBacklogAsItIs() {
+        KitchenBacklog backlog = new KitchenBacklog(1);
+        Order first = order(1, 10);
+        Order second = order(1, 10);
+        backlog.add(first, NOW);
+        
+        assertEquals(NOW.plusMinutes(20), backlog.estimateAdd(second, NOW));
+        assertEquals(Optional.of(NOW.plusMinutes(15)), backlog.estimateStart(first.getId(), NOW.plusMinutes(5)));
+        assertEquals(Optional.empty(), backlog.estimateStart(second.getId(), NOW));
+        assertEquals(1, backlog.size());
+        assertEquals(Optional.of(NOW.plusMinutes(10)), backlog.estimatedReadyTime(first.getId()));
+        
+        assertEquals(NOW.plusMinutes(20), backlog.add(second, NOW));
+        assertEquals(Optional.of(NOW.plusMinutes(15)), backlog.started(first.getId(), NOW.plusMinutes(5)));
+    }
+    
+    @Test
+    @DisplayName("Orders not in the backlog have no estimate and a kitchen needs a station")
+    void unknownOrdersAndStations() {
+        KitchenBacklog backlog = new KitchenBacklog(1);
+        
+        assertEquals(Optional.empty(), backlog.started(UUID.randomUUID(), NOW));
+        assertEquals(Optional.empty(), backlog.estimatedReadyTime(UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class, () -> new KitchenBacklog(0));
+    }
+    
+    private static Order order(int quantity, int minutesPerUnit) {
+        Order order = new Order(UUID.randomUUID(), UUID.randomUUID());
+        order.setItems(List.of(new OrderItem(UUID.randomUUID(), "Dish", Money.ofCents(1000, Money.DEFAULT_CURRENCY),
+            quantity, null, minutesPerUnit)));
+        return order;
+    }
+}
@@ -0,0 +1,146 @@
+package com.restaurant.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+    
+    private static final Currency USD = Money.DEFAULT_CURRENCY;
+    private static final Currency EUR = Currency.getInstance("EUR");
+    
+    // Largest amount still held as cents: 18 digits
+    private static final long MAX_CENTS = 999_999_999_999_999_999L;
+    
+    @Test
+    @DisplayName("Amounts have two decimals whether given in cents or as a BigDecimal")
+    void amountsHaveTwoDecimals() {
+        assertEquals(new BigDecimal("12.34"), Money.ofCents(1234, USD).getAmount());
+        assertEquals(new BigDecimal("12.30"), new Money(new BigDecimal("12.3"), USD).getAmount());
+        assertEquals(new BigDecimal("1.01"), new Money(new BigDecimal("1.005"), USD).getAmount());
+        assertEquals(Money.ofCents(1234, USD), new Money(new BigDecimal("12.34"), "USD"));
+    }
+    
+    @Test
+    @DisplayName("Arithmetic on cents gives the same results as on BigDecimal")
+    void arithmeticOnCents() {
+        Money price = Money.ofCents(1250, USD);
+        
+        assertEquals(Money.ofCents(1349, USD), price.add(Money.ofCents(99, USD)));
+        assertEquals(Money.ofCents(-50, USD), price.subtract(Money.ofCents(1300, USD)));
+        assertEquals(Money.ofCents(3750, USD), price.multiply(3));
+        assertEquals(Money.ofCents(625, USD), price.divide(2));
+        assertEquals(Money.ofCents(1563, USD), price.multiply(new BigDecimal("1.25")));
+        assertTrue(price.isGreaterThan(Money.ofCents(1249, USD)));
+        assertTrue(price.isLessThan(Money.ofCents(1251, USD)));
+        assertTrue(price.isEqualTo(new Money(new BigDecimal("12.5"), USD)));
+        assertTrue(price.subtract(price).isZero());
+        assertTrue(Money.ofCents(-1, USD).isNegative());
+    }
+    
+    @Test
+    @DisplayName("Results that leave the long range fall back to BigDecimal without losing precision")
+    void overflowFallsBackToBigDecimal() {
+        Money largest = Money.ofCents(Long.MAX_VALUE, USD);
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01"));
+        
+        assertEquals(expected, largest.add(Money.ofCents(1, USD)).getAmount());
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 2).multiply(BigDecimal.valueOf(3)),
+            largest.multiply(3).getAmount());
+        assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, 2).subtract(new BigDecimal("0.01")),
+            Money.ofCents(Long.MIN_VALUE, USD).subtract(Money.ofCents(1, USD)).getAmount());
+        assertTrue(largest.multiply(3).isGreaterThan(largest));
+        assertTrue(largest.multiply(3).isPositive());
+        assertTrue(largest.multiply(-3).isNegative());
+    }
+    
+    @Test
+    @DisplayName("An amount equals itself however it was computed, on either side of 18 digits")
+    void oneRepresentationPerAmount() {
+        Money crossed = Money.ofCents(MAX_CENTS, USD).add(Money.ofCents(1, USD));
+        Money parsed = new Money(new BigDecimal("10000000000000000.00"), USD);
+        assertEquals(parsed, crossed);
+        assertEquals(parsed.hashCode(), crossed.hashCode());
+        
+        Money back = parsed.subtract(Money.ofCents(1, USD));
+        assertEquals(Money.ofCents(MAX_CENTS, USD), back);
+        assertEquals(Money.ofCents(MAX_CENTS, USD).hashCode(), back.hashCode());
+    }
+    
+    @Test
+    @DisplayName("Zero amounts are shared per currency")
+    void zeroIsShared() {
+        assertSame(Money.zero(USD), Money.ofCents(0, USD));
+        assertSame(Money.zero(USD), Money.ofCents(5, USD).subtract(Money.ofCents(5, USD)));
+        assertFalse(Money.zero(USD).equals(Money.zero(EUR)));
+    }
+    
+    @Test
+    @DisplayName("A null amount keeps the unscaled zero but equals every other zero")
+    void nullAmountIsZero() {
+        Money fromNull = new Money((BigDecimal) null, "USD");
+        
+        assertEquals(BigDecimal.ZERO, fromNull.getAmount());
+        assertEquals(Money.zero(USD), fromNull);
+        assertTrue(fromNull.isZero());
+    }
+    
+    @Test
+    @DisplayName("Operations across currencies are rejected")
+    void differentCurrenciesAreRejected() {
+        Money dollars = Money.ofCents(100, USD);
+        Money euros = Money.ofCents(100, EUR);
+        
+        assertThrows(IllegalArgumentException.class, () -> dollars.add(euros));
+        assertThrows(IllegalArgumentException.class, () -> dollars.subtract(euros));
+        assertThrows(IllegalArgumentException.class, () -> dollars.isGreaterThan(euros));
+        assertThrows(NullPointerException.class, () -> Money.ofCents(100, null));
+    }
+    
+    @Test
+    @DisplayName("A running sum adds amounts times quantities")
+    void sumAddsAmountsTimesQuantities() {
+        Money total = Money.sum(USD)
+            .add(Money.ofCents(250, USD), 4)
+            .add(Money.ofCents(199, USD))
+            .add(Money.ofCents(-100, USD), 2)
+            .toMoney();
+        
+        assertEquals(Money.ofCents(999, USD), total);
+        assertSame(Money.zero(USD), Money.sum(USD).toMoney());
+    }
+    
+    @Test
+    @DisplayName("A running sum that leaves the long range continues exactly in BigDecimal")
+    void sumOverflowsToBigDecimal() {
+        Money nearlyLargest = Money.ofCents(MAX_CENTS, USD);
+        Money total = Money.sum(USD)
+            .add(nearlyLargest, 100)
+            .add(Money.ofCents(1, USD))
+            .add(Money.ofCents(Long.MAX_VALUE, USD))
+            .toMoney();
+        
+        BigDecimal expected = BigDecimal.valueOf(MAX_CENTS, 2).multiply(BigDecimal.valueOf(100))
+            .add(new BigDecimal("0.01"))
+            .add(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+        assertEquals(expected, total.getAmount());
+        assertEquals(new Money(expected, USD), total);
+    }
+    
+    @Test
+    @DisplayName("A running sum rejects amounts in another currency")
+    void sumRejectsOtherCurrencies() {
+        Money.Sum sum = Money.sum(USD);
+        
+        assertThrows(IllegalArgumentException.class, () -> sum.add(Money.ofCents(100, EUR)));
+        assertThrows(NullPointerException.class, () -> Money.sum(null));
+    }
+}
@@ -104,7 +104,7 @@ public class RedisCacheService implements CacheService {
                 logger.debug("Evicted key: {}", key);
             }
         } catch (Exception e) {
-            logger.error("Error evicting key: {}", key, e);
+            throw new IllegalStateException("Error evicting key: " + key, e);
         }
     }
     
@@ -131,7 +131,7 @@ public class RedisCacheService implements CacheService {
                 logger.debug("Evicted {} keys matching pattern: {}", totalDeleted, pattern);
             }
         } catch (Exception e) {
-            logger.error("Error evicting keys with pattern: {}", pattern, e);
+            throw new IllegalStateException("Error evicting keys with pattern: " + pattern, e);
         }
     }
     
@@ -0,0 +1,535 @@
+package com.restaurant.infrastructure.coalescing;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.entity.OrderItem;
+import com.restaurant.domain.valueobject.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * OrderRepository decorator that coalesces rapid edits of pending orders into group commits.
+ *
+ * New orders are stored with insert. Every save of a pending order goes through savePending, which writes
+ * only while the stored order is still pending, so a late edit can never undo a confirmation, even of an
+ * order whose stored status this instance does not know; a save that finds the order no longer pending or
+ * not stored at all is rejected with an IllegalStateException.
+ *
+ * With GROUP_COMMIT durability, saving an edit of an order this instance knows to be stored as pending
+ * only holds its latest state in memory; an order whose stored status it does not know is written before
+ * the save returns, and held from its next edit on. A background flush writes all held orders with one
+ * savePending, so one transaction and one JDBC batch, once per window or as soon as maxBatch orders are
+ * held; a quantity tapped up and down five times within the window is written once. Reads of a held order
+ * return its held state and the list finders merge held orders into their results, so this instance reads
+ * its own writes; other instances and the counts see an edit once it is written. The held edits of an
+ * order are written before any status change of it, so confirmOrder and every later transition are durable
+ * when they return.
+ *
+ * Held edits are lost when the process dies, when the order left pending on another instance before the
+ * flush, or after MAX_ATTEMPTS failed writes; each loss is logged and counted in lostEdits. WRITE_THROUGH
+ * durability, the default, holds nothing, writes every edit before the save returns and starts no flusher.
+ */
+public class CoalescingOrderRepository implements OrderRepository, AutoCloseable {
+    
+    /**
+     * When a saved edit of a pending order reaches the database
+     */
+    public enum Durability {
+        
+        /** Before the save returns */
+        WRITE_THROUGH,
+        
+        /** Within the window, together with the edits of other orders, and at the latest on a status change */
+        GROUP_COMMIT;
+        
+        /**
+         * Parse a configured value such as group-commit, ignoring case
+         */
+        public static Durability parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+    
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingOrderRepository.class);
+    
+    private static final Comparator<Order> OLDEST_FIRST =
+        Comparator.comparing(Order::getOrderTime).thenComparing(Order::getId);
+    private static final Comparator<Order> NEWEST_FIRST = OLDEST_FIRST.reversed();
+    
+    // Failed writes of a held order before its edits are given up
+    private static final int MAX_ATTEMPTS = 3;
+    
+    // Orders whose stored status is remembered; an order not seen for longer is saved as it is again
+    private static final int MAX_KNOWN_STATUSES = 100_000;
+    
+    private final OrderRepository delegate;
+    private final Durability durability;
+    private final int maxBatch;
+    
+    // Latest unwritten state of each held order; an entry is only removed once that state is written or
+    // given up, so reads never fall through to the database while a flush is in flight
+    private final Map<UUID, Held> held = new ConcurrentHashMap<>();
+    
+    // Stored status of the orders this instance recently loaded or wrote
+    private final Map<UUID, OrderStatus> knownStatuses = Collections.synchronizedMap(new KnownStatuses());
+    private final LongAdder lostEdits = new LongAdder();
+    
+    // Writes of held orders run one at a time, so an earlier state of an order never lands after a later one
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    
+    // Only with GROUP_COMMIT durability, null otherwise
+    private final ScheduledExecutorService flusher;
+    
+    public CoalescingOrderRepository(OrderRepository delegate, Durability durability, Duration window, int maxBatch) {
+        if (window.isNegative() || window.isZero() || maxBatch <= 0) {
+            throw new IllegalArgumentException("Window and max batch must be positive");
+        }
+        this.delegate = delegate;
+        this.durability = durability;
+        this.maxBatch = maxBatch;
+        
+        if (durability == Durability.GROUP_COMMIT) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "order-write-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.flusher.scheduleWithFixedDelay(this::flushScheduled, window.toNanos(), window.toNanos(),
+                TimeUnit.NANOSECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+    
+    @Override
+    public Order save(Order order) {
+        if (order.getStatus() != OrderStatus.PENDING) {
+            writeThrough(List.of(order));
+            return order;
+        }
+        OrderStatus stored = storedStatus(order.getId());
+        if (stored != null && stored != OrderStatus.PENDING) {
+            throw new IllegalStateException("Order " + order.getId() + " is already " + stored);
+        }
+        
+        if (durability == Durability.WRITE_THROUGH || stored == null) {
+            if (savePending(List.of(order))[0] == 0) {
+                throw new IllegalStateException("Order " + order.getId() + " is no longer pending or not stored");
+            }
+            return order;
+        }
+        
+        // A copy, so that the caller changing its instance afterwards cannot change what gets written
+        held.put(order.getId(), new Held(copyOf(order), 0));
+        if (held.size() >= maxBatch && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushScheduled);
+        }
+        return order;
+    }
+    
+    @Override
+    public Order insert(Order order) {
+        Order inserted = delegate.insert(order);
+        knownStatuses.put(order.getId(), order.getStatus());
+        return inserted;
+    }
+    
+    // Bulk saves come from imports and jobs rather than taps, so they are written as they are
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        writeThrough(orders);
+        return orders;
+    }
+    
+    // Anything held for these orders is older than the state given, so it is dropped rather than written
+    @Override
+    public int[] savePending(List<Order> orders) {
+        flushLock.lock();
+        try {
+            int[] rows = delegate.savePending(orders);
+            for (int i = 0; i < rows.length; i++) {
+                UUID orderId = orders.get(i).getId();
+                held.remove(orderId);
+                if (rows[i] != 0) {
+                    knownStatuses.put(orderId, OrderStatus.PENDING);
+                } else {
+                    knownStatuses.remove(orderId);
+                }
+            }
+            return rows;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    @Override
+    public int updateStatus(Order order, OrderStatus previousStatus) {
+        flush(List.of(order.getId()));
+        int rows = delegate.updateStatus(order, previousStatus);
+        rememberStatus(order, rows);
+        return rows;
+    }
+    
+    @Override
+    public int[] updateStatuses(List<Order> orders, List<OrderStatus> previousStatuses) {
+        flush(orders.stream().map(Order::getId).toList());
+        int[] rows = delegate.updateStatuses(orders, previousStatuses);
+        for (int i = 0; i < rows.length; i++) {
+            rememberStatus(orders.get(i), rows[i]);
+        }
+        return rows;
+    }
+    
+    @Override
+    public void deleteById(UUID orderId) {
+        flushLock.lock();
+        try {
+            held.remove(orderId);
+            delegate.deleteById(orderId);
+            knownStatuses.remove(orderId);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    // Only delivered and cancelled orders are archived, and those are never held
+    @Override
+    public int archiveCompletedBefore(LocalDateTime cutoff, int limit) {
+        return delegate.archiveCompletedBefore(cutoff, limit);
+    }
+    
+    @Override
+    public int addMonthlyPartitionsThrough(YearMonth month) {
+        return delegate.addMonthlyPartitionsThrough(month);
+    }
+    
+    // The two finders that load orders to change them remember the stored status of what they load
+    @Override
+    public Optional<Order> findById(UUID orderId) {
+        Held entry = held.get(orderId);
+        if (entry != null) {
+            return Optional.of(copyOf(entry.order()));
+        }
+        Optional<Order> stored = delegate.findById(orderId);
+        stored.ifPresent(order -> knownStatuses.put(orderId, order.getStatus()));
+        return stored;
+    }
+    
+    @Override
+    public List<Order> findAllById(Collection<UUID> orderIds) {
+        Set<UUID> ids = new HashSet<>(orderIds);
+        List<Order> stored = delegate.findAllById(ids);
+        for (Order order : stored) {
+            knownStatuses.put(order.getId(), order.getStatus());
+        }
+        return withHeld(stored, order -> ids.contains(order.getId()), null);
+    }
+    
+    @Override
+    public List<Order> findByCustomerId(UUID customerId) {
+        return withHeld(delegate.findByCustomerId(customerId),
+            order -> customerId.equals(order.getCustomerId()), NEWEST_FIRST);
+    }
+    
+    @Override
+    public List<Order> findByTableId(UUID tableId) {
+        return withHeld(delegate.findByTableId(tableId),
+            order -> Objects.equals(tableId, order.getTableId()), NEWEST_FIRST);
+    }
+    
+    @Override
+    public List<Order> findActiveByTableId(UUID tableId) {
+        return withHeld(delegate.findActiveByTableId(tableId),
+            order -> order.getStatus().isActive() && Objects.equals(tableId, order.getTableId()), NEWEST_FIRST);
+    }
+    
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        return withHeld(delegate.findByStatus(status), order -> order.getStatus() == status, OLDEST_FIRST);
+    }
+    
+    @Override
+    public List<Order> findActive() {
+        return withHeld(delegate.findActive(), order -> order.getStatus().isActive(), OLDEST_FIRST);
+    }
+    
+    @Override
+    public List<Order> findByOrderTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return withHeld(delegate.findByOrderTimeBetween(start, end),
+            order -> !order.getOrderTime().isBefore(start) && !order.getOrderTime().isAfter(end), OLDEST_FIRST);
+    }
+    
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+    
+    @Override
+    public long countByStatus(OrderStatus status) {
+        return delegate.countByStatus(status);
+    }
+    
+    /**
+     * Write every held order now
+     */
+    public void flushAll() {
+        flushLock.lock();
+        try {
+            write(new ArrayList<>(held.values()));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    /**
+     * Number of orders whose held edits were given up since startup, because the order had left pending
+     * or its writes kept failing
+     */
+    public long lostEdits() {
+        return lostEdits.sum();
+    }
+    
+    /**
+     * Stop the flusher and write what is still held
+     */
+    @Override
+    public void close() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flushAll();
+        } catch (RuntimeException e) {
+            lostEdits.add(held.size());
+            logger.error("Could not write {} held orders on shutdown, their edits are lost", held.size(), e);
+        }
+    }
+    
+    // A status update that wrote nothing found the order moved on or gone, so its stored status is not known
+    private void rememberStatus(Order order, int rows) {
+        if (rows != 0) {
+            knownStatuses.put(order.getId(), order.getStatus());
+        } else {
+            knownStatuses.remove(order.getId());
+        }
+    }
+    
+    // A held order is stored and pending; otherwise the status last seen, or null for an order not seen stored
+    private OrderStatus storedStatus(UUID orderId) {
+        return held.containsKey(orderId) ? OrderStatus.PENDING : knownStatuses.get(orderId);
+    }
+    
+    private void flush(Collection<UUID> orderIds) {
+        flushLock.lock();
+        try {
+            List<Held> batch = new ArrayList<>();
+            for (UUID orderId : orderIds) {
+                Held entry = held.get(orderId);
+                if (entry != null) {
+                    batch.add(entry);
+                }
+            }
+            write(batch);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    // Whatever is held for these orders is older than the state being written, so it is dropped
+    private void writeThrough(List<Order> orders) {
+        flushLock.lock();
+        try {
+            delegate.saveAll(orders);
+            for (Order order : orders) {
+                held.remove(order.getId());
+                knownStatuses.put(order.getId(), order.getStatus());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    // Must hold flushLock. An order saved again while its batch was being written stays held, unless the
+    // order turned out to have left pending: then every later edit of it would be rejected as well.
+    private void write(List<Held> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int[] rows = delegate.savePending(batch.stream().map(Held::order).toList());
+        for (int i = 0; i < rows.length; i++) {
+            Held entry = batch.get(i);
+            UUID orderId = entry.order().getId();
+            if (rows[i] != 0) {
+                held.remove(orderId, entry);
+            } else {
+                held.remove(orderId);
+                knownStatuses.remove(orderId);
+                lostEdits.increment();
+                logger.error("Order {} is no longer pending, its held edits are lost", orderId);
+            }
+        }
+    }
+    
+    private void flushScheduled() {
+        flushRequested.set(false);
+        try {
+            flushAll();
+        } catch (RuntimeException e) {
+            logger.warn("Group commit of {} held orders failed, writing them one at a time", held.size(), e);
+            flushEach();
+        }
+    }
+    
+    // One order that cannot be written must not hold back the others; it stays held for the next flush
+    // until it has failed MAX_ATTEMPTS times in a row, then its edits are given up
+    private void flushEach() {
+        flushLock.lock();
+        try {
+            for (Held entry : new ArrayList<>(held.values())) {
+                try {
+                    write(List.of(entry));
+                } catch (RuntimeException e) {
+                    failed(entry, e);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    private void failed(Held entry, RuntimeException error) {
+        UUID orderId = entry.order().getId();
+        Held retry = new Held(entry.order(), entry.failures() + 1);
+        if (retry.failures() < MAX_ATTEMPTS) {
+            if (held.replace(orderId, entry, retry)) {
+                logger.warn("Could not write order {}, keeping its edits for the next flush", orderId, error);
+            }
+        } else if (held.remove(orderId, entry)) {
+            knownStatuses.remove(orderId);
+            lostEdits.increment();
+            logger.error("Could not write order {} in {} attempts, its held edits are lost", orderId, MAX_ATTEMPTS,
+                error);
+        }
+    }
+    
+    // Replaces stored orders by their held state and adds held orders the query would have matched;
+    // the ordering is reapplied only when held orders changed the result
+    private List<Order> withHeld(List<Order> stored, Predicate<Order> matches, Comparator<Order> ordering) {
+        if (held.isEmpty()) {
+            return stored;
+        }
+        Map<UUID, Order> merged = new LinkedHashMap<>();
+        for (Order order : stored) {
+            merged.put(order.getId(), order);
+        }
+        boolean changed = false;
+        for (Held entry : held.values()) {
+            Order order = entry.order();
+            if (matches.test(order)) {
+                merged.put(order.getId(), copyOf(order));
+                changed = true;
+            } else if (merged.remove(order.getId()) != null) {
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return stored;
+        }
+        List<Order> result = new ArrayList<>(merged.values());
+        if (ordering != null) {
+            result.sort(ordering);
+        }
+        return result;
+    }
+    
+    // Equal by identity only: a later save of the same order replaces the entry, and writing or failing
+    // an earlier entry must leave the later one held
+    private static final class Held {
+        
+        private final Order order;
+        private final int failures;
+        
+        Held(Order order, int failures) {
+            this.order = order;
+            this.failures = failures;
+        }
+        
+        Order order() {
+            return order;
+        }
+        
+        int failures() {
+            return failures;
+        }
+    }
+    
+    // Access order, so the orders edited most recently are the ones remembered
+    private static final class KnownStatuses extends LinkedHashMap<UUID, OrderStatus> {
+        
+        KnownStatuses() {
+            super(16, 0.75f, true);
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, OrderStatus> eldest) {
+            return size() > MAX_KNOWN_STATUSES;
+        }
+    }
+    
+    // Held orders are shared between threads, so callers only ever get their own copy to change
+    private static Order copyOf(Order order) {
+        Order copy = new Order();
+        copy.setId(order.getId());
+        copy.setCustomerId(order.getCustomerId());
+        copy.setTableId(order.getTableId());
+        copy.setStatus(order.getStatus());
+        copy.setItems(order.getItems().stream().map(CoalescingOrderRepository::copyOf).toList());
+        copy.setTotalAmount(order.getTotalAmount());
+        copy.setSpecialInstructions(order.getSpecialInstructions());
+        copy.setOrderTime(order.getOrderTime());
+        copy.setEstimatedDeliveryTime(order.getEstimatedDeliveryTime());
+        copy.setActualDeliveryTime(order.getActualDeliveryTime());
+        copy.setCreatedAt(order.getCreatedAt());
+        copy.setUpdatedAt(order.getUpdatedAt());
+        return copy;
+    }
+    
+    private static OrderItem copyOf(OrderItem item) {
+        OrderItem copy = new OrderItem();
+        copy.setId(item.getId());
+        copy.setMenuItemId(item.getMenuItemId());
+        copy.setMenuItemName(item.getMenuItemName());
+        copy.setUnitPrice(item.getUnitPrice());
+        copy.setQuantity(item.getQuantity());
+        copy.setNotes(item.getNotes());
+        copy.setPreparationTimeMinutes(item.getPreparationTimeMinutes());
+        return copy;
+    }
+}
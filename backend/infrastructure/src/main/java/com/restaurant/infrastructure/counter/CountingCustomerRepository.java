@@ -0,0 +1,158 @@
+package com.restaurant.infrastructure.counter;
+
+import com.restaurant.application.port.out.CustomerRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.domain.entity.Customer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * CustomerRepository decorator that answers the count queries from materialized counters
+ * (total and active) maintained by the writes going through this repository.
+ * Counters only change once the write has committed, so a rolled-back write leaves them as they are.
+ * A successful insert adds its customer; every other write, whose previous state is not known without
+ * another read, invalidates the counters so they are reloaded on the next count.
+ */
+public class CountingCustomerRepository implements CustomerRepository {
+    
+    private static final String TOTAL = "total";
+    private static final String ACTIVE = "active";
+    
+    private final CustomerRepository delegate;
+    private final TransactionService transactionService;
+    private final MaterializedCounters<String> counters;
+    
+    public CountingCustomerRepository(CustomerRepository delegate, TransactionService transactionService) {
+        this(delegate, transactionService, Duration.ofMinutes(1));
+    }
+    
+    public CountingCustomerRepository(CustomerRepository delegate, TransactionService transactionService,
+                                      Duration reconcileInterval) {
+        this.delegate = delegate;
+        this.transactionService = transactionService;
+        this.counters = new MaterializedCounters<>("Customer", this::loadCounts, reconcileInterval);
+    }
+    
+    @Override
+    public Customer save(Customer customer) {
+        Customer saved = delegate.save(customer);
+        invalidateAfterCommit();
+        return saved;
+    }
+    
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<Customer> saved = delegate.saveAll(customers);
+        invalidateAfterCommit();
+        return saved;
+    }
+    
+    @Override
+    public boolean insert(Customer customer) {
+        boolean inserted = delegate.insert(customer);
+        if (inserted) {
+            transactionService.afterCommit(() -> apply(customer, 1));
+        }
+        return inserted;
+    }
+    
+    @Override
+    public int upsert(Customer customer) {
+        int rows = delegate.upsert(customer);
+        if (rows > 0) {
+            invalidateAfterCommit();
+        }
+        return rows;
+    }
+    
+    @Override
+    public int updateActive(UUID customerId, boolean active) {
+        int rows = delegate.updateActive(customerId, active);
+        if (rows > 0) {
+            invalidateAfterCommit();
+        }
+        return rows;
+    }
+    
+    @Override
+    public void deleteById(UUID customerId) {
+        delegate.deleteById(customerId);
+        invalidateAfterCommit();
+    }
+    
+    @Override
+    public Optional<Customer> findById(UUID customerId) {
+        return delegate.findById(customerId);
+    }
+    
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+    
+    @Override
+    public List<Customer> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<Customer> findAllActive() {
+        return delegate.findAllActive();
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name) {
+        return delegate.searchByName(name);
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name, int limit) {
+        return delegate.searchByName(name, limit);
+    }
+    
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+    
+    @Override
+    public List<String> findAllEmails() {
+        return delegate.findAllEmails();
+    }
+    
+    @Override
+    public long count() {
+        return counters.get(TOTAL);
+    }
+    
+    @Override
+    public long countActive() {
+        return counters.get(ACTIVE);
+    }
+    
+    private void invalidateAfterCommit() {
+        transactionService.afterCommit(counters::invalidate);
+    }
+    
+    private void apply(Customer customer, long delta) {
+        counters.add(TOTAL, delta);
+        if (customer.isActive()) {
+            counters.add(ACTIVE, delta);
+        }
+    }
+    
+    private Map<String, Long> loadCounts() {
+        return Map.of(TOTAL, delegate.count(), ACTIVE, delegate.countActive());
+    }
+}
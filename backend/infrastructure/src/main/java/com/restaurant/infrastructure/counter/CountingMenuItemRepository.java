@@ -0,0 +1,188 @@
+package com.restaurant.infrastructure.counter;
+
+import com.restaurant.application.port.out.MenuItemRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.domain.valueobject.Money;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * MenuItemRepository decorator that answers the count queries from materialized counters
+ * (total, available and per category) maintained by the writes going through this repository.
+ * Counters only change once the write has committed, so a rolled-back write leaves them as they are.
+ * A successful insert adds its item; every other write, whose previous state is not known without
+ * another read, invalidates the counters so they are reloaded on the next count.
+ */
+public class CountingMenuItemRepository implements MenuItemRepository {
+    
+    private static final String TOTAL = "total";
+    private static final String AVAILABLE = "available";
+    
+    private final MenuItemRepository delegate;
+    private final TransactionService transactionService;
+    private final MaterializedCounters<String> counters;
+    
+    public CountingMenuItemRepository(MenuItemRepository delegate, TransactionService transactionService) {
+        this(delegate, transactionService, Duration.ofMinutes(1));
+    }
+    
+    public CountingMenuItemRepository(MenuItemRepository delegate, TransactionService transactionService,
+                                      Duration reconcileInterval) {
+        this.delegate = delegate;
+        this.transactionService = transactionService;
+        this.counters = new MaterializedCounters<>("Menu item", this::loadCounts, reconcileInterval);
+    }
+    
+    @Override
+    public MenuItem save(MenuItem menuItem) {
+        MenuItem saved = delegate.save(menuItem);
+        invalidateAfterCommit();
+        return saved;
+    }
+    
+    @Override
+    public List<MenuItem> saveAll(List<MenuItem> menuItems) {
+        List<MenuItem> saved = delegate.saveAll(menuItems);
+        invalidateAfterCommit();
+        return saved;
+    }
+    
+    @Override
+    public boolean insert(MenuItem menuItem) {
+        boolean inserted = delegate.insert(menuItem);
+        if (inserted) {
+            transactionService.afterCommit(() -> apply(menuItem, 1));
+        }
+        return inserted;
+    }
+    
+    @Override
+    public int upsert(MenuItem menuItem) {
+        int rows = delegate.upsert(menuItem);
+        if (rows > 0) {
+            invalidateAfterCommit();
+        }
+        return rows;
+    }
+    
+    @Override
+    public int updatePrice(UUID menuItemId, Money price) {
+        return delegate.updatePrice(menuItemId, price);
+    }
+    
+    @Override
+    public int updateAvailability(UUID menuItemId, boolean available) {
+        int rows = delegate.updateAvailability(menuItemId, available);
+        if (rows > 0) {
+            invalidateAfterCommit();
+        }
+        return rows;
+    }
+    
+    @Override
+    public void deleteById(UUID menuItemId) {
+        delegate.deleteById(menuItemId);
+        invalidateAfterCommit();
+    }
+    
+    @Override
+    public Optional<MenuItem> findById(UUID menuItemId) {
+        return delegate.findById(menuItemId);
+    }
+    
+    @Override
+    public List<MenuItem> findAllById(Collection<UUID> menuItemIds) {
+        return delegate.findAllById(menuItemIds);
+    }
+    
+    @Override
+    public List<MenuItem> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<MenuItem> findAllAvailable() {
+        return delegate.findAllAvailable();
+    }
+    
+    @Override
+    public List<MenuItem> findByCategory(MenuCategory category) {
+        return delegate.findByCategory(category);
+    }
+    
+    @Override
+    public List<MenuItem> findAvailableByCategory(MenuCategory category) {
+        return delegate.findAvailableByCategory(category);
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name) {
+        return delegate.searchByName(name);
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name, int limit) {
+        return delegate.searchByName(name, limit);
+    }
+    
+    @Override
+    public boolean existsByName(String name) {
+        return delegate.existsByName(name);
+    }
+    
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        return delegate.findExistingNames(names);
+    }
+    
+    @Override
+    public List<String> findAllNames() {
+        return delegate.findAllNames();
+    }
+    
+    @Override
+    public long count() {
+        return counters.get(TOTAL);
+    }
+    
+    @Override
+    public long countAvailable() {
+        return counters.get(AVAILABLE);
+    }
+    
+    @Override
+    public long countByCategory(MenuCategory category) {
+        return counters.get(category.name());
+    }
+    
+    private void invalidateAfterCommit() {
+        transactionService.afterCommit(counters::invalidate);
+    }
+    
+    private void apply(MenuItem menuItem, long delta) {
+        counters.add(TOTAL, delta);
+        counters.add(menuItem.getCategory().name(), delta);
+        if (menuItem.isAvailable()) {
+            counters.add(AVAILABLE, delta);
+        }
+    }
+    
+    private Map<String, Long> loadCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        counts.put(TOTAL, delegate.count());
+        counts.put(AVAILABLE, delegate.countAvailable());
+        for (MenuCategory category : MenuCategory.values()) {
+            counts.put(category.name(), delegate.countByCategory(category));
+        }
+        return counts;
+    }
+}
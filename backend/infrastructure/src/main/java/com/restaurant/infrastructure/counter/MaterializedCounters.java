@@ -0,0 +1,115 @@
+package com.restaurant.infrastructure.counter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-memory counters kept current from write deltas, so reads are O(1) instead of a COUNT query.
+ *
+ * Counts are loaded on first read and reconciled with the loader once they are older than the
+ * reconcile interval. That corrects drift from racing or unknown deltas and picks up writes made
+ * by other instances. Reads are lock-free; deltas are serialized with the end of a reconcile,
+ * so none is lost when fresh counts are installed.
+ */
+public class MaterializedCounters<K> {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MaterializedCounters.class);
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+    
+    private final String name;
+    private final Supplier<Map<K, Long>> loader;
+    private final Duration reconcileInterval;
+    private final Map<K, AtomicLong> counts = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+    private long writes;
+    private volatile boolean loaded;
+    private volatile long loadedAt;
+    
+    public MaterializedCounters(String name, Supplier<Map<K, Long>> loader, Duration reconcileInterval) {
+        this.name = name;
+        this.loader = loader;
+        this.reconcileInterval = reconcileInterval;
+    }
+    
+    public long get(K key) {
+        ensureFresh();
+        AtomicLong count = counts.get(key);
+        return count == null ? 0 : count.get();
+    }
+    
+    public void add(K key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        synchronized (writeLock) {
+            writes++;
+            counts.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+    
+    /**
+     * Drop the current counts after a write whose effect on them is unknown; the next read reloads them
+     */
+    public void invalidate() {
+        synchronized (writeLock) {
+            writes++;
+            loaded = false;
+        }
+    }
+    
+    private void ensureFresh() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reconcile();
+                }
+            }
+            return;
+        }
+        
+        // Stale counts are reconciled by a single caller; everybody else keeps reading the current ones
+        if (System.nanoTime() - loadedAt > reconcileInterval.toNanos() && reconciling.compareAndSet(false, true)) {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to reconcile {} counters, keeping the current ones", name, e);
+            } finally {
+                reconciling.set(false);
+            }
+        }
+    }
+    
+    private void reconcile() {
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            long writesBefore;
+            synchronized (writeLock) {
+                writesBefore = writes;
+            }
+            
+            Map<K, Long> fresh = loader.get();
+            
+            synchronized (writeLock) {
+                // A delta applied while the loader ran may or may not be part of its result, so the load
+                // is retried; after the last attempt that small error is left to the next reconcile
+                if (writes != writesBefore && attempt < MAX_RECONCILE_ATTEMPTS) {
+                    continue;
+                }
+                counts.keySet().retainAll(fresh.keySet());
+                fresh.forEach((key, value) -> counts.computeIfAbsent(key, k -> new AtomicLong()).set(value));
+                loadedAt = System.nanoTime();
+                loaded = true;
+                break;
+            }
+        }
+        logger.debug("{} counters reconciled in {} ms", name, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+}
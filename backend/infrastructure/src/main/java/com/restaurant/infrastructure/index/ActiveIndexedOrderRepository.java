@@ -0,0 +1,211 @@
+package com.restaurant.infrastructure.index;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.valueobject.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * OrderRepository decorator that serves the active-order finders from an in-memory ActiveOrderIndex,
+ * so that the kitchen and floor screens polling them do not query the database.
+ *
+ * Writes go to the delegate, then update the index and are announced on the order change channel;
+ * other instances reload each announced order from the database. The index is loaded in full every time
+ * the channel subscribes, at startup and after a lost subscription. Without a subscription this instance
+ * cannot hear of changes made elsewhere, so until it is back the finders fall through to the delegate.
+ *
+ * Loads run on the channel's subscriber thread, outside any request, so they read from the primary
+ * when replica routing is wrapped around this decorator.
+ */
+public class ActiveIndexedOrderRepository implements OrderRepository, RedisOrderChangeChannel.Listener {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ActiveIndexedOrderRepository.class);
+    
+    private final OrderRepository delegate;
+    private final TransactionService transactionService;
+    private final RedisOrderChangeChannel changes;
+    private final ActiveOrderIndex index = new ActiveOrderIndex();
+    private volatile boolean loaded;
+    
+    public ActiveIndexedOrderRepository(OrderRepository delegate, TransactionService transactionService,
+                                        RedisOrderChangeChannel changes) {
+        this.delegate = delegate;
+        this.transactionService = transactionService;
+        this.changes = changes;
+        changes.subscribe(this);
+    }
+    
+    @Override
+    public Order save(Order order) {
+        Order saved = delegate.save(order);
+        indexChanged(List.of(saved));
+        return saved;
+    }
+    
+    @Override
+    public Order insert(Order order) {
+        Order inserted = delegate.insert(order);
+        indexChanged(List.of(inserted));
+        return inserted;
+    }
+    
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        List<Order> saved = delegate.saveAll(orders);
+        indexChanged(saved);
+        return saved;
+    }
+    
+    @Override
+    public int updateStatus(Order order, OrderStatus previousStatus) {
+        int rows = delegate.updateStatus(order, previousStatus);
+        if (rows > 0) {
+            indexChanged(List.of(order));
+        }
+        return rows;
+    }
+    
+    @Override
+    public int[] savePending(List<Order> orders) {
+        int[] rows = delegate.savePending(orders);
+        indexWritten(orders, rows);
+        return rows;
+    }
+    
+    @Override
+    public int[] updateStatuses(List<Order> orders, List<OrderStatus> previousStatuses) {
+        int[] rows = delegate.updateStatuses(orders, previousStatuses);
+        indexWritten(orders, rows);
+        return rows;
+    }
+    
+    @Override
+    public void deleteById(UUID orderId) {
+        delegate.deleteById(orderId);
+        index.remove(orderId, System.nanoTime());
+        changes.publish(orderId);
+    }
+    
+    // Only delivered and cancelled orders are archived, and those are not in the index
+    @Override
+    public int archiveCompletedBefore(LocalDateTime cutoff, int limit) {
+        return delegate.archiveCompletedBefore(cutoff, limit);
+    }
+    
+    @Override
+    public int addMonthlyPartitionsThrough(YearMonth month) {
+        return delegate.addMonthlyPartitionsThrough(month);
+    }
+    
+    @Override
+    public Optional<Order> findById(UUID orderId) {
+        return delegate.findById(orderId);
+    }
+    
+    @Override
+    public List<Order> findAllById(Collection<UUID> orderIds) {
+        return delegate.findAllById(orderIds);
+    }
+    
+    @Override
+    public List<Order> findByCustomerId(UUID customerId) {
+        return delegate.findByCustomerId(customerId);
+    }
+    
+    @Override
+    public List<Order> findByTableId(UUID tableId) {
+        return delegate.findByTableId(tableId);
+    }
+    
+    @Override
+    public List<Order> findActiveByTableId(UUID tableId) {
+        return loaded ? index.findByTableId(tableId) : delegate.findActiveByTableId(tableId);
+    }
+    
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        return loaded && status.isActive() ? index.findByStatus(status) : delegate.findByStatus(status);
+    }
+    
+    @Override
+    public List<Order> findActive() {
+        return loaded ? index.findActive() : delegate.findActive();
+    }
+    
+    @Override
+    public List<Order> findByOrderTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return delegate.findByOrderTimeBetween(start, end);
+    }
+    
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+    
+    @Override
+    public long countByStatus(OrderStatus status) {
+        return delegate.countByStatus(status);
+    }
+    
+    @Override
+    public void onSubscribed() {
+        long start = System.nanoTime();
+        List<Order> activeOrders = transactionService.inTransaction(delegate::findActive);
+        index.rebuild(activeOrders, start);
+        loaded = true;
+        logger.info("Active order index loaded with {} orders in {} ms",
+            index.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+    
+    @Override
+    public void onUnsubscribed() {
+        if (loaded) {
+            loaded = false;
+            logger.warn("Lost the order change subscription, serving active orders from the database until it is back");
+        }
+    }
+    
+    @Override
+    public void onChange(UUID orderId) {
+        long readAt = System.nanoTime();
+        Optional<Order> order = transactionService.inTransaction(() -> delegate.findById(orderId));
+        if (order.isPresent()) {
+            index.put(order.get(), readAt);
+        } else {
+            index.remove(orderId, readAt);
+        }
+    }
+    
+    // Only the orders a batch actually wrote; the whole batch is announced in one pipelined round trip
+    private void indexWritten(List<Order> orders, int[] rows) {
+        List<Order> written = new ArrayList<>(orders.size());
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i] != 0) {
+                written.add(orders.get(i));
+            }
+        }
+        if (!written.isEmpty()) {
+            indexChanged(written);
+        }
+    }
+    
+    // Stamped after the write has returned, so any load that started earlier cannot overwrite it
+    private void indexChanged(List<Order> orders) {
+        long now = System.nanoTime();
+        for (Order order : orders) {
+            index.put(order, now);
+        }
+        changes.publish(orders);
+    }
+}
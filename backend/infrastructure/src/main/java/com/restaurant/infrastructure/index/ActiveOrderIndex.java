@@ -0,0 +1,179 @@
+package com.restaurant.infrastructure.index;
+
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.valueobject.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of the active orders (not delivered or cancelled) by status and by table, oldest first.
+ *
+ * A change moves an order between the status and table sets under one write lock, so readers never see it
+ * in two places; reads copy the orders out under the read lock. Every change records when the state it
+ * carries was read from the database (System.nanoTime), and a change read before the one already applied
+ * to the same order is ignored. Removed orders leave a tombstone for the same purpose until the next
+ * rebuild, so that a reload that started before a removal cannot bring the order back.
+ */
+public class ActiveOrderIndex {
+    
+    private static final Comparator<Order> BY_ORDER_TIME =
+        Comparator.comparing(Order::getOrderTime).thenComparing(Order::getId);
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final NavigableSet<Order> active = new TreeSet<>(BY_ORDER_TIME);
+    private final Map<OrderStatus, NavigableSet<Order>> byStatus = new EnumMap<>(OrderStatus.class);
+    private final Map<UUID, NavigableSet<Order>> byTable = new HashMap<>();
+    
+    /**
+     * Apply the state of an order read at readAt: index it while it is active, drop it once completed
+     */
+    public void put(Order order, long readAt) {
+        lock.writeLock().lock();
+        try {
+            if (isNewer(order.getId(), readAt)) {
+                unindex(order.getId());
+                if (order.getStatus().isActive()) {
+                    index(order, readAt);
+                } else {
+                    entries.put(order.getId(), Entry.tombstone(readAt));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Drop an order that no longer exists as of readAt
+     */
+    public void remove(UUID orderId, long readAt) {
+        lock.writeLock().lock();
+        try {
+            if (isNewer(orderId, readAt)) {
+                unindex(orderId);
+                entries.put(orderId, Entry.tombstone(readAt));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Replace the content with all active orders as read at readAt.
+     * Orders changed after readAt keep their newer state.
+     */
+    public void rebuild(Collection<Order> activeOrders, long readAt) {
+        lock.writeLock().lock();
+        try {
+            Map<UUID, Order> snapshot = new HashMap<>();
+            for (Order order : activeOrders) {
+                snapshot.put(order.getId(), order);
+            }
+            for (UUID orderId : new ArrayList<>(entries.keySet())) {
+                if (!isNewer(orderId, readAt)) {
+                    continue;
+                }
+                unindex(orderId);
+                entries.remove(orderId);
+            }
+            for (Order order : snapshot.values()) {
+                if (!entries.containsKey(order.getId()) && order.getStatus().isActive()) {
+                    index(order, readAt);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public List<Order> findActive() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(active);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public List<Order> findByStatus(OrderStatus status) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<Order> orders = byStatus.get(status);
+            return orders != null ? new ArrayList<>(orders) : new ArrayList<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Active orders of a table, newest first like the table finder of the repository
+     */
+    public List<Order> findByTableId(UUID tableId) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<Order> orders = byTable.get(tableId);
+            return orders != null ? new ArrayList<>(orders.descendingSet()) : new ArrayList<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return active.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private boolean isNewer(UUID orderId, long readAt) {
+        Entry entry = entries.get(orderId);
+        return entry == null || readAt - entry.readAt() >= 0;
+    }
+    
+    private void index(Order order, long readAt) {
+        entries.put(order.getId(), new Entry(order, order.getStatus(), order.getTableId(), readAt));
+        active.add(order);
+        byStatus.computeIfAbsent(order.getStatus(), status -> new TreeSet<>(BY_ORDER_TIME)).add(order);
+        if (order.getTableId() != null) {
+            byTable.computeIfAbsent(order.getTableId(), tableId -> new TreeSet<>(BY_ORDER_TIME)).add(order);
+        }
+    }
+    
+    private void unindex(UUID orderId) {
+        Entry entry = entries.remove(orderId);
+        if (entry == null || entry.order() == null) {
+            return;
+        }
+        active.remove(entry.order());
+        byStatus.get(entry.status()).remove(entry.order());
+        if (entry.tableId() != null) {
+            NavigableSet<Order> tableOrders = byTable.get(entry.tableId());
+            tableOrders.remove(entry.order());
+            if (tableOrders.isEmpty()) {
+                byTable.remove(entry.tableId());
+            }
+        }
+    }
+    
+    // Status and table are those the order was indexed under, whatever happens to the instance later
+    private record Entry(Order order, OrderStatus status, UUID tableId, long readAt) {
+        
+        static Entry tombstone(long readAt) {
+            return new Entry(null, null, null, readAt);
+        }
+    }
+}
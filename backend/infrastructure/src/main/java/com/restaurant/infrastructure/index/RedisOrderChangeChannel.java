@@ -0,0 +1,166 @@
+package com.restaurant.infrastructure.index;
+
+import com.restaurant.domain.entity.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Pipeline;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Announces order changes to every instance over a Redis pub/sub channel.
+ *
+ * A message is the ID of the publishing instance and the ID of the changed order; instances ignore their own.
+ * Pub/sub does not replay what a subscriber missed, so the listener is told when the subscription is lost
+ * and when it is back, and must treat everything in between as possibly changed. A change the listener
+ * fails to apply is handled the same way, by dropping the subscription and subscribing again.
+ */
+public class RedisOrderChangeChannel implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RedisOrderChangeChannel.class);
+    
+    private static final String CHANNEL = "restaurant:orders:changed";
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    
+    private final JedisPool jedisPool;
+    private final String ownMessagePrefix = UUID.randomUUID() + ":";
+    
+    private volatile Subscription subscription;
+    private volatile Thread subscriber;
+    private volatile boolean closed;
+    
+    public RedisOrderChangeChannel(JedisPool jedisPool) {
+        this.jedisPool = jedisPool;
+    }
+    
+    /**
+     * Receives the changes announced by other instances, on the subscriber thread
+     */
+    public interface Listener {
+        
+        /** Subscribed, or subscribed again after losing the subscription */
+        void onSubscribed();
+        
+        /** The subscription was lost; changes are missed until onSubscribed */
+        void onUnsubscribed();
+        
+        void onChange(UUID orderId);
+    }
+    
+    /**
+     * Announce changed orders. Failures are logged and otherwise ignored: the other instances
+     * find out when their own subscription fails too.
+     */
+    public void publish(Collection<Order> orders) {
+        publish(orders.stream().map(Order::getId).toList());
+    }
+    
+    public void publish(UUID orderId) {
+        publish(List.of(orderId));
+    }
+    
+    private void publish(List<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (UUID orderId : orderIds) {
+                pipeline.publish(CHANNEL, ownMessagePrefix + orderId);
+            }
+            pipeline.sync();
+        } catch (Exception e) {
+            logger.warn("Failed to announce changes of {} orders", orderIds.size(), e);
+        }
+    }
+    
+    /**
+     * Start delivering the changes of other instances to the listener, on a thread of its own
+     * that reconnects until the channel is closed
+     */
+    public synchronized void subscribe(Listener listener) {
+        if (subscriber != null) {
+            throw new IllegalStateException("Order change channel already has a listener");
+        }
+        subscriber = new Thread(() -> listen(listener), "order-change-subscriber");
+        subscriber.setDaemon(true);
+        subscriber.start();
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        Subscription current = subscription;
+        if (current != null && current.isSubscribed()) {
+            current.unsubscribe();
+        }
+        Thread thread = subscriber;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+    
+    private void listen(Listener listener) {
+        while (!closed) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                subscription = new Subscription(listener);
+                jedis.subscribe(subscription, CHANNEL);
+            } catch (Exception e) {
+                if (!closed) {
+                    logger.warn("Order change subscription failed, retrying in {}: {}", RECONNECT_DELAY, e.toString());
+                }
+            }
+            listener.onUnsubscribed();
+            
+            if (!closed) {
+                try {
+                    Thread.sleep(RECONNECT_DELAY.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+    
+    private final class Subscription extends JedisPubSub {
+        
+        private final Listener listener;
+        
+        Subscription(Listener listener) {
+            this.listener = listener;
+        }
+        
+        @Override
+        public void onSubscribe(String channel, int subscribedChannels) {
+            listener.onSubscribed();
+        }
+        
+        @Override
+        public void onMessage(String channel, String message) {
+            if (message.startsWith(ownMessagePrefix)) {
+                return;
+            }
+            UUID orderId;
+            try {
+                orderId = UUID.fromString(message.substring(message.indexOf(':') + 1));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring malformed order change {}", message);
+                return;
+            }
+            try {
+                listener.onChange(orderId);
+            } catch (RuntimeException e) {
+                // Resubscribing makes the listener start over from a full reload
+                logger.warn("Failed to apply order change {}, resubscribing", message, e);
+                unsubscribe();
+            }
+        }
+    }
+}
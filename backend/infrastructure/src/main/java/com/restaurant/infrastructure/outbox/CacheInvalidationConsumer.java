@@ -0,0 +1,27 @@
+package com.restaurant.infrastructure.outbox;
+
+import com.restaurant.application.port.out.CacheService;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+
+/**
+ * Applies cache invalidations recorded in the outbox.
+ * Evicting a key that is already gone is a no-op, so replays are harmless.
+ */
+public class CacheInvalidationConsumer implements OutboxConsumer {
+    
+    private final CacheService cacheService;
+    
+    public CacheInvalidationConsumer(CacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+    
+    @Override
+    public void consume(OutboxMessage message) {
+        switch (message.topic()) {
+            case OutboxRepository.CACHE_EVICT -> cacheService.evict(message.payload());
+            case OutboxRepository.CACHE_EVICT_PATTERN -> cacheService.evictPattern(message.payload());
+            default -> throw new IllegalArgumentException("Not a cache invalidation topic: " + message.topic());
+        }
+    }
+}
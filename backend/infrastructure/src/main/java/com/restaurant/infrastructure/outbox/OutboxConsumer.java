@@ -0,0 +1,14 @@
+package com.restaurant.infrastructure.outbox;
+
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+
+/**
+ * Handles the outbox messages of one topic.
+ * Delivery is at least once, so a message may be consumed more than once and consumers must be idempotent.
+ * Throwing leaves the message pending, to be retried later with backoff.
+ */
+@FunctionalInterface
+public interface OutboxConsumer {
+    
+    void consume(OutboxMessage message);
+}
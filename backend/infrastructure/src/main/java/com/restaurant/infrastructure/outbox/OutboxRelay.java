@@ -0,0 +1,146 @@
+package com.restaurant.infrastructure.outbox;
+
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.application.port.out.TransactionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes pending outbox messages to their consumers in batches.
+ *
+ * Each batch is claimed with SKIP LOCKED inside one transaction, so several instances can relay
+ * concurrently without handing the same message out twice. Failed messages are retried with
+ * exponential backoff and parked after too many attempts; topics without a consumer are
+ * acknowledged so that they do not pile up.
+ */
+public class OutboxRelay implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final Duration PUBLISHED_RETENTION = Duration.ofDays(1);
+    private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(1);
+    
+    private final OutboxRepository outboxRepository;
+    private final TransactionService transactionService;
+    private final Map<String, OutboxConsumer> consumers;
+    private final int batchSize;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    
+    private LocalDateTime lastCleanup = LocalDateTime.MIN;
+    
+    public OutboxRelay(OutboxRepository outboxRepository, TransactionService transactionService,
+                       Map<String, OutboxConsumer> consumers, Duration interval, int batchSize) {
+        this(outboxRepository, transactionService, consumers, interval, batchSize, Clock.systemDefaultZone());
+    }
+    
+    public OutboxRelay(OutboxRepository outboxRepository, TransactionService transactionService,
+                       Map<String, OutboxConsumer> consumers, Duration interval, int batchSize, Clock clock) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.outboxRepository = outboxRepository;
+        this.transactionService = transactionService;
+        this.consumers = Map.copyOf(consumers);
+        this.batchSize = batchSize;
+        this.clock = clock;
+        
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::runScheduled, interval.toMillis(), interval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Publish every message that is due, returning the number of messages handled
+     */
+    public long publishNow() {
+        long handled = 0;
+        int claimed;
+        do {
+            claimed = transactionService.inTransaction(this::publishBatch);
+            handled += claimed;
+        } while (claimed == batchSize && !Thread.currentThread().isInterrupted());
+        
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (lastCleanup.plus(CLEANUP_INTERVAL).isBefore(now)) {
+            lastCleanup = now;
+            outboxRepository.deletePublishedBefore(now.minus(PUBLISHED_RETENTION));
+        }
+        return handled;
+    }
+    
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+    
+    private int publishBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxMessage> messages = outboxRepository.claimPending(now, batchSize);
+        
+        // The same key is often evicted by several writes in a row; consuming it once per batch is enough
+        Set<String> delivered = new HashSet<>();
+        List<UUID> published = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            OutboxConsumer consumer = consumers.get(message.topic());
+            if (consumer == null || !delivered.add(message.topic() + '\n' + message.payload())) {
+                published.add(message.id());
+                continue;
+            }
+            
+            try {
+                consumer.consume(message);
+                published.add(message.id());
+            } catch (RuntimeException e) {
+                delivered.remove(message.topic() + '\n' + message.payload());
+                fail(message, now, e);
+            }
+        }
+        
+        outboxRepository.markPublished(published, now);
+        return messages.size();
+    }
+    
+    private void fail(OutboxMessage message, LocalDateTime now, RuntimeException error) {
+        int attempts = message.attempts() + 1;
+        LocalDateTime nextAttemptAt = null;
+        if (attempts < MAX_ATTEMPTS) {
+            Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+            nextAttemptAt = now.plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+            logger.debug("Outbox message {} on {} failed, retrying at {}", message.id(), message.topic(), nextAttemptAt, error);
+        } else {
+            logger.error("Outbox message {} on {} failed {} times, parking it", message.id(), message.topic(), attempts, error);
+        }
+        outboxRepository.markFailed(message.id(), attempts, nextAttemptAt, String.valueOf(error.getMessage()));
+    }
+    
+    private void runScheduled() {
+        try {
+            publishNow();
+        } catch (RuntimeException e) {
+            // Claimed messages stay pending when the batch transaction rolls back
+            logger.warn("Outbox relay failed", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.restaurant.infrastructure.persistence.archive;
+
+import com.restaurant.application.port.out.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps monthly partitions of orders ahead of the current month. At startup and then periodically it splits
+ * the months up to monthsAhead from now off p_future, so orders never land in the catch-all partition,
+ * where date range queries and archival cannot prune them and a later split would have to move them.
+ */
+public class OrderPartitionJob implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OrderPartitionJob.class);
+    
+    private final OrderRepository orderRepository;
+    private final int monthsAhead;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    
+    public OrderPartitionJob(OrderRepository orderRepository, int monthsAhead, Duration interval) {
+        this(orderRepository, monthsAhead, interval, Clock.systemDefaultZone());
+    }
+    
+    public OrderPartitionJob(OrderRepository orderRepository, int monthsAhead, Duration interval, Clock clock) {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("Months ahead must be positive");
+        }
+        this.orderRepository = orderRepository;
+        this.monthsAhead = monthsAhead;
+        this.clock = clock;
+        
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-partitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::runScheduled, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Add the missing monthly partitions through monthsAhead from now, returning the number added
+     */
+    public int addPartitionsNow() {
+        YearMonth through = YearMonth.now(clock).plusMonths(monthsAhead);
+        int added = orderRepository.addMonthlyPartitionsThrough(through);
+        if (added > 0) {
+            logger.info("Added {} monthly order partitions through {}", added, through);
+        }
+        return added;
+    }
+    
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+    
+    private void runScheduled() {
+        try {
+            addPartitionsNow();
+        } catch (RuntimeException e) {
+            // Orders past the last monthly partition still go to p_future; the next run tries again
+            logger.warn("Adding order partitions failed", e);
+        }
+    }
+}
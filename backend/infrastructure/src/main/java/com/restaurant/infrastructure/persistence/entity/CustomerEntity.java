@@ -1,5 +1,6 @@
 package com.restaurant.infrastructure.persistence.entity;
 
+import com.restaurant.domain.identity.Ids;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -19,8 +20,50 @@ import java.util.UUID;
     @Index(name = "idx_customer_active", columnList = "active"),
     @Index(name = "idx_customer_name", columnList = "name")
 })
+@NamedQuery(name = CustomerEntity.UPDATE,
+    query = "UPDATE CustomerEntity c SET c.name = :name, c.email = :email, c.phone = :phone, " +
+            "c.address = :address, c.updatedAt = :updatedAt, c.active = :active WHERE c.id = :id")
+@NamedQuery(name = CustomerEntity.UPDATE_ACTIVE,
+    query = "UPDATE CustomerEntity c SET c.active = :active, c.updatedAt = :updatedAt WHERE c.id = :id")
+@NamedQuery(name = CustomerEntity.DELETE,
+    query = "DELETE FROM CustomerEntity c WHERE c.id = :id")
+@NamedQuery(name = CustomerEntity.FIND_BY_EMAIL,
+    query = "SELECT c FROM CustomerEntity c WHERE c.email = :email")
+@NamedQuery(name = CustomerEntity.FIND_ALL,
+    query = "SELECT c FROM CustomerEntity c ORDER BY c.name")
+@NamedQuery(name = CustomerEntity.FIND_ALL_ACTIVE,
+    query = "SELECT c FROM CustomerEntity c WHERE c.active = true ORDER BY c.name")
+@NamedQuery(name = CustomerEntity.SEARCH_BY_NAME,
+    query = "SELECT c FROM CustomerEntity c WHERE LOWER(c.name) LIKE LOWER(:name) ORDER BY c.name")
+@NamedQuery(name = CustomerEntity.COUNT_BY_EMAIL,
+    query = "SELECT COUNT(c) FROM CustomerEntity c WHERE c.email = :email")
+@NamedQuery(name = CustomerEntity.FIND_EXISTING_EMAILS,
+    query = "SELECT c.email FROM CustomerEntity c WHERE c.email IN :emails")
+@NamedQuery(name = CustomerEntity.FIND_ALL_EMAILS,
+    query = "SELECT c.email FROM CustomerEntity c")
+@NamedQuery(name = CustomerEntity.FIND_EXISTING_IDS,
+    query = "SELECT c.id FROM CustomerEntity c WHERE c.id IN :ids")
+@NamedQuery(name = CustomerEntity.COUNT,
+    query = "SELECT COUNT(c) FROM CustomerEntity c")
+@NamedQuery(name = CustomerEntity.COUNT_ACTIVE,
+    query = "SELECT COUNT(c) FROM CustomerEntity c WHERE c.active = true")
 public class CustomerEntity {
     
+    // Named queries are parsed and validated once when the persistence unit starts
+    public static final String UPDATE = "CustomerEntity.update";
+    public static final String UPDATE_ACTIVE = "CustomerEntity.updateActive";
+    public static final String DELETE = "CustomerEntity.delete";
+    public static final String FIND_BY_EMAIL = "CustomerEntity.findByEmail";
+    public static final String FIND_ALL = "CustomerEntity.findAll";
+    public static final String FIND_ALL_ACTIVE = "CustomerEntity.findAllActive";
+    public static final String SEARCH_BY_NAME = "CustomerEntity.searchByName";
+    public static final String COUNT_BY_EMAIL = "CustomerEntity.countByEmail";
+    public static final String FIND_EXISTING_EMAILS = "CustomerEntity.findExistingEmails";
+    public static final String FIND_ALL_EMAILS = "CustomerEntity.findAllEmails";
+    public static final String FIND_EXISTING_IDS = "CustomerEntity.findExistingIds";
+    public static final String COUNT = "CustomerEntity.count";
+    public static final String COUNT_ACTIVE = "CustomerEntity.countActive";
+    
     @Id
     @Column(name = "id", columnDefinition = "BINARY(16)")
     private UUID id;
@@ -54,7 +97,7 @@ public class CustomerEntity {
     
     // Constructors
     public CustomerEntity() {
-        this.id = UUID.randomUUID();
+        this.id = Ids.next();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
         this.active = true;
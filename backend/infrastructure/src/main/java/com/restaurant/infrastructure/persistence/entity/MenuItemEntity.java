@@ -1,5 +1,6 @@
 package com.restaurant.infrastructure.persistence.entity;
 
+import com.restaurant.domain.identity.Ids;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -20,8 +21,65 @@ import java.util.UUID;
     @Index(name = "idx_menu_item_category", columnList = "category"),
     @Index(name = "idx_menu_item_available", columnList = "available")
 })
+@NamedQuery(name = MenuItemEntity.UPDATE,
+    query = "UPDATE MenuItemEntity m SET m.name = :name, m.description = :description, " +
+            "m.price = :price, m.currency = :currency, m.category = :category, m.imageUrl = :imageUrl, " +
+            "m.available = :available, m.preparationTimeMinutes = :preparationTimeMinutes, " +
+            "m.updatedAt = :updatedAt WHERE m.id = :id")
+@NamedQuery(name = MenuItemEntity.UPDATE_PRICE,
+    query = "UPDATE MenuItemEntity m SET m.price = :price, m.currency = :currency, m.updatedAt = :updatedAt " +
+            "WHERE m.id = :id")
+@NamedQuery(name = MenuItemEntity.UPDATE_AVAILABILITY,
+    query = "UPDATE MenuItemEntity m SET m.available = :available, m.updatedAt = :updatedAt WHERE m.id = :id")
+@NamedQuery(name = MenuItemEntity.DELETE,
+    query = "DELETE FROM MenuItemEntity m WHERE m.id = :id")
+@NamedQuery(name = MenuItemEntity.FIND_ALL,
+    query = "SELECT m FROM MenuItemEntity m ORDER BY m.category, m.name")
+@NamedQuery(name = MenuItemEntity.FIND_ALL_AVAILABLE,
+    query = "SELECT m FROM MenuItemEntity m WHERE m.available = true ORDER BY m.category, m.name")
+@NamedQuery(name = MenuItemEntity.FIND_BY_CATEGORY,
+    query = "SELECT m FROM MenuItemEntity m WHERE m.category = :category ORDER BY m.name")
+@NamedQuery(name = MenuItemEntity.FIND_AVAILABLE_BY_CATEGORY,
+    query = "SELECT m FROM MenuItemEntity m WHERE m.category = :category AND m.available = true ORDER BY m.name")
+@NamedQuery(name = MenuItemEntity.SEARCH_BY_NAME,
+    query = "SELECT m FROM MenuItemEntity m WHERE LOWER(m.name) LIKE LOWER(:name) ORDER BY m.name")
+@NamedQuery(name = MenuItemEntity.COUNT_BY_NAME,
+    query = "SELECT COUNT(m) FROM MenuItemEntity m WHERE m.name = :name")
+@NamedQuery(name = MenuItemEntity.FIND_BY_IDS,
+    query = "SELECT m FROM MenuItemEntity m WHERE m.id IN :ids")
+@NamedQuery(name = MenuItemEntity.FIND_EXISTING_NAMES,
+    query = "SELECT m.name FROM MenuItemEntity m WHERE m.name IN :names")
+@NamedQuery(name = MenuItemEntity.FIND_ALL_NAMES,
+    query = "SELECT m.name FROM MenuItemEntity m")
+@NamedQuery(name = MenuItemEntity.FIND_EXISTING_IDS,
+    query = "SELECT m.id FROM MenuItemEntity m WHERE m.id IN :ids")
+@NamedQuery(name = MenuItemEntity.COUNT,
+    query = "SELECT COUNT(m) FROM MenuItemEntity m")
+@NamedQuery(name = MenuItemEntity.COUNT_AVAILABLE,
+    query = "SELECT COUNT(m) FROM MenuItemEntity m WHERE m.available = true")
+@NamedQuery(name = MenuItemEntity.COUNT_BY_CATEGORY,
+    query = "SELECT COUNT(m) FROM MenuItemEntity m WHERE m.category = :category")
 public class MenuItemEntity {
     
+    // Named queries are parsed and validated once when the persistence unit starts
+    public static final String UPDATE = "MenuItemEntity.update";
+    public static final String UPDATE_PRICE = "MenuItemEntity.updatePrice";
+    public static final String UPDATE_AVAILABILITY = "MenuItemEntity.updateAvailability";
+    public static final String DELETE = "MenuItemEntity.delete";
+    public static final String FIND_ALL = "MenuItemEntity.findAll";
+    public static final String FIND_ALL_AVAILABLE = "MenuItemEntity.findAllAvailable";
+    public static final String FIND_BY_CATEGORY = "MenuItemEntity.findByCategory";
+    public static final String FIND_AVAILABLE_BY_CATEGORY = "MenuItemEntity.findAvailableByCategory";
+    public static final String SEARCH_BY_NAME = "MenuItemEntity.searchByName";
+    public static final String COUNT_BY_NAME = "MenuItemEntity.countByName";
+    public static final String FIND_BY_IDS = "MenuItemEntity.findByIds";
+    public static final String FIND_EXISTING_NAMES = "MenuItemEntity.findExistingNames";
+    public static final String FIND_ALL_NAMES = "MenuItemEntity.findAllNames";
+    public static final String FIND_EXISTING_IDS = "MenuItemEntity.findExistingIds";
+    public static final String COUNT = "MenuItemEntity.count";
+    public static final String COUNT_AVAILABLE = "MenuItemEntity.countAvailable";
+    public static final String COUNT_BY_CATEGORY = "MenuItemEntity.countByCategory";
+    
     @Id
     @Column(name = "id", columnDefinition = "BINARY(16)")
     private UUID id;
@@ -66,7 +124,7 @@ public class MenuItemEntity {
     
     // Constructors
     public MenuItemEntity() {
-        this.id = UUID.randomUUID();
+        this.id = Ids.next();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
         this.available = true;
@@ -0,0 +1,86 @@
+package com.restaurant.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA entity for an archived Order.
+ * Rows are only written by JpaOrderRepository.archiveCompletedBefore, which copies them from orders
+ * with native SQL; the mapping declares the table so that it is part of the managed schema.
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+    @Index(name = "idx_order_archive_customer", columnList = "customer_id"),
+    @Index(name = "idx_order_archive_time", columnList = "order_time")
+})
+public class OrderArchiveEntity {
+    
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
+    
+    @Column(name = "customer_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID customerId;
+    
+    @Column(name = "table_id", columnDefinition = "BINARY(16)")
+    private UUID tableId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderStatusEntity status;
+    
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+    
+    @Column(name = "special_instructions", length = 500)
+    private String specialInstructions;
+    
+    @Column(name = "order_time", nullable = false)
+    private LocalDateTime orderTime;
+    
+    @Column(name = "estimated_delivery_time")
+    private LocalDateTime estimatedDeliveryTime;
+    
+    @Column(name = "actual_delivery_time")
+    private LocalDateTime actualDeliveryTime;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Constructors
+    public OrderArchiveEntity() {
+    }
+    
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public OrderStatusEntity getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
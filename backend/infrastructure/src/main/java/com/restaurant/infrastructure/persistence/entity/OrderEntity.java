@@ -0,0 +1,211 @@
+package com.restaurant.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA entity for Order.
+ * In MySQL the table is range-partitioned by order_time (see db/migration/V2__partition_orders.sql),
+ * which requires order_time in the primary key and rules out foreign keys referencing it.
+ */
+@Entity
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_order_customer_time", columnList = "customer_id, order_time"),
+    @Index(name = "idx_order_table_time", columnList = "table_id, order_time"),
+    @Index(name = "idx_order_status_time", columnList = "status, order_time"),
+    @Index(name = "idx_order_time", columnList = "order_time")
+})
+public class OrderEntity {
+    
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
+    
+    @NotNull
+    @Column(name = "customer_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID customerId;
+    
+    @Column(name = "table_id", columnDefinition = "BINARY(16)")
+    private UUID tableId;
+    
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderStatusEntity status;
+    
+    @NotNull
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @NotNull
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+    
+    @Size(max = 500)
+    @Column(name = "special_instructions", length = 500)
+    private String specialInstructions;
+    
+    @Column(name = "order_time", nullable = false)
+    private LocalDateTime orderTime;
+    
+    @Column(name = "estimated_delivery_time")
+    private LocalDateTime estimatedDeliveryTime;
+    
+    @Column(name = "actual_delivery_time")
+    private LocalDateTime actualDeliveryTime;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("lineNumber")
+    private List<OrderItemEntity> items = new ArrayList<>();
+    
+    // Constructors
+    public OrderEntity() {
+    }
+    
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+    
+    public UUID getTableId() {
+        return tableId;
+    }
+    
+    public void setTableId(UUID tableId) {
+        this.tableId = tableId;
+    }
+    
+    public OrderStatusEntity getStatus() {
+        return status;
+    }
+    
+    public void setStatus(OrderStatusEntity status) {
+        this.status = status;
+    }
+    
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+    
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+    
+    public String getCurrency() {
+        return currency;
+    }
+    
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+    
+    public String getSpecialInstructions() {
+        return specialInstructions;
+    }
+    
+    public void setSpecialInstructions(String specialInstructions) {
+        this.specialInstructions = specialInstructions;
+    }
+    
+    public LocalDateTime getOrderTime() {
+        return orderTime;
+    }
+    
+    public void setOrderTime(LocalDateTime orderTime) {
+        this.orderTime = orderTime;
+    }
+    
+    public LocalDateTime getEstimatedDeliveryTime() {
+        return estimatedDeliveryTime;
+    }
+    
+    public void setEstimatedDeliveryTime(LocalDateTime estimatedDeliveryTime) {
+        this.estimatedDeliveryTime = estimatedDeliveryTime;
+    }
+    
+    public LocalDateTime getActualDeliveryTime() {
+        return actualDeliveryTime;
+    }
+    
+    public void setActualDeliveryTime(LocalDateTime actualDeliveryTime) {
+        this.actualDeliveryTime = actualDeliveryTime;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public List<OrderItemEntity> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<OrderItemEntity> items) {
+        this.items = items;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderEntity that = (OrderEntity) o;
+        return Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+    
+    @Override
+    public String toString() {
+        return "OrderEntity{" +
+                "id=" + id +
+                ", customerId=" + customerId +
+                ", status=" + status +
+                ", totalAmount=" + totalAmount +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package com.restaurant.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * JPA entity for an item of an archived Order.
+ * Rows are only written by JpaOrderRepository.archiveCompletedBefore, which copies them from order_items
+ * with native SQL; the mapping declares the table so that it is part of the managed schema.
+ */
+@Entity
+@Table(name = "order_items_archive", indexes = {
+    @Index(name = "idx_order_item_archive_order", columnList = "order_id")
+})
+public class OrderItemArchiveEntity {
+    
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
+    
+    @Column(name = "order_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID orderId;
+    
+    @Column(name = "menu_item_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID menuItemId;
+    
+    @Column(name = "menu_item_name", nullable = false, length = 100)
+    private String menuItemName;
+    
+    @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal unitPrice;
+    
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+    
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+    
+    @Column(name = "notes", length = 200)
+    private String notes;
+    
+    @Column(name = "line_number", nullable = false)
+    private int lineNumber;
+    
+    @Column(name = "preparation_minutes", nullable = false)
+    private int preparationMinutes;
+    
+    // Constructors
+    public OrderItemArchiveEntity() {
+    }
+    
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+    
+    public UUID getOrderId() {
+        return orderId;
+    }
+    
+    public int getLineNumber() {
+        return lineNumber;
+    }
+    
+    public int getPreparationMinutes() {
+        return preparationMinutes;
+    }
+}
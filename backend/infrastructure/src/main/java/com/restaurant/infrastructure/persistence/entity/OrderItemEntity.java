@@ -0,0 +1,170 @@
+package com.restaurant.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA entity for OrderItem
+ */
+@Entity
+@Table(name = "order_items", indexes = {
+    @Index(name = "idx_order_item_order_line", columnList = "order_id, line_number")
+})
+public class OrderItemEntity {
+    
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
+    
+    // No foreign key constraint: the partitioned orders table cannot be referenced by one
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_id", nullable = false, columnDefinition = "BINARY(16)",
+                foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private OrderEntity order;
+    
+    @NotNull
+    @Column(name = "menu_item_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID menuItemId;
+    
+    @NotBlank
+    @Column(name = "menu_item_name", nullable = false, length = 100)
+    private String menuItemName;
+    
+    @NotNull
+    @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal unitPrice;
+    
+    @NotNull
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+    
+    @Min(1)
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+    
+    @Size(max = 200)
+    @Column(name = "notes", length = 200)
+    private String notes;
+    
+    @Column(name = "line_number", nullable = false)
+    private int lineNumber;
+    
+    @Min(1)
+    @Column(name = "preparation_minutes", nullable = false)
+    private int preparationMinutes;
+    
+    // Constructors
+    public OrderItemEntity() {
+    }
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public OrderEntity getOrder() {
+        return order;
+    }
+    
+    public void setOrder(OrderEntity order) {
+        this.order = order;
+    }
+    
+    public UUID getMenuItemId() {
+        return menuItemId;
+    }
+    
+    public void setMenuItemId(UUID menuItemId) {
+        this.menuItemId = menuItemId;
+    }
+    
+    public String getMenuItemName() {
+        return menuItemName;
+    }
+    
+    public void setMenuItemName(String menuItemName) {
+        this.menuItemName = menuItemName;
+    }
+    
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+    
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+    
+    public String getCurrency() {
+        return currency;
+    }
+    
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+    
+    public int getLineNumber() {
+        return lineNumber;
+    }
+    
+    public void setLineNumber(int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+    
+    public int getPreparationMinutes() {
+        return preparationMinutes;
+    }
+    
+    public void setPreparationMinutes(int preparationMinutes) {
+        this.preparationMinutes = preparationMinutes;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderItemEntity that = (OrderItemEntity) o;
+        return Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+    
+    @Override
+    public String toString() {
+        return "OrderItemEntity{" +
+                "id=" + id +
+                ", menuItemName='" + menuItemName + '\'' +
+                ", unitPrice=" + unitPrice +
+                ", quantity=" + quantity +
+                '}';
+    }
+}
@@ -0,0 +1,13 @@
+package com.restaurant.infrastructure.persistence.entity;
+
+/**
+ * JPA enum for OrderStatus
+ */
+public enum OrderStatusEntity {
+    PENDING,
+    CONFIRMED,
+    PREPARING,
+    READY,
+    DELIVERED,
+    CANCELLED
+}
@@ -0,0 +1,164 @@
+package com.restaurant.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA entity for RestaurantTable.
+ * The (status, capacity) index serves best-fit lookups: the status filter and the
+ * capacity range and ordering are all resolved from the index.
+ */
+@Entity
+@Table(name = "restaurant_tables", indexes = {
+    @Index(name = "idx_table_number", columnList = "table_number", unique = true),
+    @Index(name = "idx_table_status_capacity", columnList = "status, capacity"),
+    @Index(name = "idx_table_status_number", columnList = "status, table_number")
+})
+public class RestaurantTableEntity {
+    
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
+    
+    @NotBlank
+    @Size(min = 1, max = 10)
+    @Column(name = "table_number", nullable = false, unique = true, length = 10)
+    private String tableNumber;
+    
+    @Min(1)
+    @Column(name = "capacity", nullable = false)
+    private int capacity;
+    
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private TableStatusEntity status;
+    
+    @Size(max = 200)
+    @Column(name = "location", length = 200)
+    private String location;
+    
+    @Column(name = "current_order_id", columnDefinition = "BINARY(16)")
+    private UUID currentOrderId;
+    
+    @Column(name = "last_occupied_at")
+    private LocalDateTime lastOccupiedAt;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public RestaurantTableEntity() {
+    }
+    
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public String getTableNumber() {
+        return tableNumber;
+    }
+    
+    public void setTableNumber(String tableNumber) {
+        this.tableNumber = tableNumber;
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+    
+    public TableStatusEntity getStatus() {
+        return status;
+    }
+    
+    public void setStatus(TableStatusEntity status) {
+        this.status = status;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public void setLocation(String location) {
+        this.location = location;
+    }
+    
+    public UUID getCurrentOrderId() {
+        return currentOrderId;
+    }
+    
+    public void setCurrentOrderId(UUID currentOrderId) {
+        this.currentOrderId = currentOrderId;
+    }
+    
+    public LocalDateTime getLastOccupiedAt() {
+        return lastOccupiedAt;
+    }
+    
+    public void setLastOccupiedAt(LocalDateTime lastOccupiedAt) {
+        this.lastOccupiedAt = lastOccupiedAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RestaurantTableEntity that = (RestaurantTableEntity) o;
+        return Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+    
+    @Override
+    public String toString() {
+        return "RestaurantTableEntity{" +
+                "id=" + id +
+                ", tableNumber='" + tableNumber + '\'' +
+                ", capacity=" + capacity +
+                ", status=" + status +
+                '}';
+    }
+}
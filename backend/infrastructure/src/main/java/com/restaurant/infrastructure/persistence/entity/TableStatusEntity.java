@@ -0,0 +1,12 @@
+package com.restaurant.infrastructure.persistence.entity;
+
+/**
+ * JPA enum for TableStatus
+ */
+public enum TableStatusEntity {
+    AVAILABLE,
+    OCCUPIED,
+    RESERVED,
+    CLEANING,
+    OUT_OF_SERVICE
+}
@@ -0,0 +1,219 @@
+package com.restaurant.infrastructure.persistence.instrumentation;
+
+import com.restaurant.application.port.out.RepositoryMetricsService;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory implementation of RepositoryMetricsService.
+ * Repositories are instrumented with a dynamic proxy on their port interface that times every call
+ * and counts the rows returned or affected. Calls at or above the slow threshold are captured,
+ * with their parameters and the application call site, in a bounded ring buffer.
+ */
+public class InMemoryRepositoryMetricsService implements RepositoryMetricsService {
+    
+    private static final int MAX_PARAMETER_LENGTH = 200;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    
+    private final long slowThresholdNanos;
+    private final SlowCallLog slowCalls;
+    private final Map<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+    
+    public InMemoryRepositoryMetricsService(Duration slowThreshold, int slowCallCapacity) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowCalls = new SlowCallLog(slowCallCapacity);
+    }
+    
+    /**
+     * Wrap a repository so that every call through the port interface is measured
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T instrument(Class<T> port, T repository) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[] {port},
+            new MeasuringHandler(port.getSimpleName(), repository));
+    }
+    
+    @Override
+    public List<MethodStats> getMethodStats() {
+        return metrics.entrySet().stream()
+            .map(entry -> entry.getValue().toStats(entry.getKey()))
+            .sorted(Comparator.comparingLong(MethodStats::totalTimeMs).reversed())
+            .toList();
+    }
+    
+    @Override
+    public List<SlowCall> getSlowCalls(int limit) {
+        return slowCalls.latest(limit);
+    }
+    
+    @Override
+    public long getSlowThresholdMs() {
+        return Duration.ofNanos(slowThresholdNanos).toMillis();
+    }
+    
+    @Override
+    public void reset() {
+        metrics.clear();
+        slowCalls.clear();
+    }
+    
+    private void record(String method, long elapsedNanos, Object[] args, Object result, Throwable error) {
+        long rows = rows(result);
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        metrics.computeIfAbsent(method, key -> new MethodMetrics()).record(elapsedNanos, rows, error != null, slow);
+        
+        // Parameters and call site are only rendered for slow calls, keeping the fast path allocation-free
+        if (slow) {
+            slowCalls.add(new SlowCall(
+                Instant.now(),
+                method,
+                Duration.ofNanos(elapsedNanos).toMillis(),
+                describe(args),
+                callSite(),
+                rows,
+                error == null ? null : error.getClass().getSimpleName() + ": " + error.getMessage()
+            ));
+        }
+    }
+    
+    // Collections count their elements, optionals one row if present, int results are affected rows
+    private static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer affected) {
+            return affected;
+        }
+        return 1;
+    }
+    
+    private static List<String> describe(Object[] args) {
+        if (args == null) {
+            return List.of();
+        }
+        return Arrays.stream(args)
+            .map(InMemoryRepositoryMetricsService::describe)
+            .toList();
+    }
+    
+    private static String describe(Object arg) {
+        if (arg instanceof Collection<?> collection) {
+            return arg.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (arg instanceof Iterator<?>) {
+            return "Iterator";
+        }
+        String value = String.valueOf(arg);
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+    
+    // The first application frame below the repository stack: decorators, proxies and framework interceptors are skipped
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(frame -> isApplicationFrame(frame.getClassName()))
+            .findFirst()
+            .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+            .orElse("unknown"));
+    }
+    
+    private static boolean isApplicationFrame(String className) {
+        return className.startsWith("com.restaurant.")
+            && !className.startsWith("com.restaurant.infrastructure.")
+            && !className.contains("$$")
+            && !className.contains("_Subclass")
+            && !className.contains("$Intercepted");
+    }
+    
+    private final class MeasuringHandler implements InvocationHandler {
+        
+        private final String portName;
+        private final Object repository;
+        
+        MeasuringHandler(String portName, Object repository) {
+            this.portName = portName;
+            this.repository = repository;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(repository, args);
+            }
+            
+            long start = System.nanoTime();
+            try {
+                Object result = method.invoke(repository, args);
+                record(portName + "." + method.getName(), System.nanoTime() - start, args, result, null);
+                return result;
+            } catch (InvocationTargetException e) {
+                record(portName + "." + method.getName(), System.nanoTime() - start, args, null, e.getCause());
+                throw e.getCause();
+            }
+        }
+    }
+    
+    private static final class MethodMetrics {
+        
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder totalRows = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong maxRows = new AtomicLong();
+        
+        void record(long elapsedNanos, long rows, boolean failed, boolean slowCall) {
+            calls.increment();
+            totalNanos.add(elapsedNanos);
+            totalRows.add(rows);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            maxRows.accumulateAndGet(rows, Math::max);
+            if (failed) {
+                errors.increment();
+            }
+            if (slowCall) {
+                slow.increment();
+            }
+        }
+        
+        MethodStats toStats(String method) {
+            long callCount = calls.sum();
+            long total = totalNanos.sum();
+            return new MethodStats(
+                method,
+                callCount,
+                errors.sum(),
+                slow.sum(),
+                Duration.ofNanos(total).toMillis(),
+                callCount == 0 ? 0.0 : total / 1_000_000.0 / callCount,
+                Duration.ofNanos(maxNanos.get()).toMillis(),
+                totalRows.sum(),
+                maxRows.get()
+            );
+        }
+    }
+}
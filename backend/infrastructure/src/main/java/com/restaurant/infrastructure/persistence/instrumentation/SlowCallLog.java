@@ -0,0 +1,49 @@
+package com.restaurant.infrastructure.persistence.instrumentation;
+
+import com.restaurant.application.port.out.RepositoryMetricsService.SlowCall;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bounded ring buffer of the most recent slow repository calls.
+ * Once full, each new entry overwrites the oldest one, so memory use stays fixed.
+ */
+public class SlowCallLog {
+    
+    private final SlowCall[] entries;
+    private int next;
+    private int size;
+    
+    public SlowCallLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.entries = new SlowCall[capacity];
+    }
+    
+    public synchronized void add(SlowCall call) {
+        entries[next] = call;
+        next = (next + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+    }
+    
+    /**
+     * Get at most limit entries, newest first
+     */
+    public synchronized List<SlowCall> latest(int limit) {
+        int count = Math.max(0, Math.min(limit, size));
+        List<SlowCall> latest = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            latest.add(entries[Math.floorMod(next - i, entries.length)]);
+        }
+        return latest;
+    }
+    
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        next = 0;
+        size = 0;
+    }
+}
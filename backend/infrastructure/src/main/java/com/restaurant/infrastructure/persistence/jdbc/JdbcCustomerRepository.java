@@ -0,0 +1,121 @@
+package com.restaurant.infrastructure.persistence.jdbc;
+
+import com.restaurant.domain.entity.Customer;
+import com.restaurant.infrastructure.persistence.mapper.UuidMapper;
+import com.restaurant.infrastructure.persistence.repository.JpaCustomerRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * CustomerRepository that serves the entity reads with plain JDBC, mapping rows straight into
+ * domain objects without entity hydration, dirty-checking snapshots or a mapper copy.
+ * Writes, counts and existence checks are the JPA repository's.
+ */
+public class JdbcCustomerRepository extends JpaCustomerRepository {
+    
+    private static final String COLUMNS = "id, name, email, phone, address, created_at, updated_at, active";
+    
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM customers WHERE id = ?";
+    private static final String FIND_BY_EMAIL_SQL = "SELECT " + COLUMNS + " FROM customers WHERE email = ?";
+    private static final String FIND_ALL_SQL = "SELECT " + COLUMNS + " FROM customers ORDER BY name";
+    private static final String FIND_ALL_ACTIVE_SQL =
+        "SELECT " + COLUMNS + " FROM customers WHERE active = true ORDER BY name";
+    private static final String SEARCH_BY_NAME_SQL =
+        "SELECT " + COLUMNS + " FROM customers WHERE LOWER(name) LIKE LOWER(?) ORDER BY name";
+    private static final String SEARCH_BY_NAME_LIMIT_SQL = SEARCH_BY_NAME_SQL + " LIMIT ?";
+    
+    private final EntityManager entityManager;
+    
+    public JdbcCustomerRepository(EntityManager entityManager) {
+        super(entityManager);
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    public Optional<Customer> findById(UUID customerId) {
+        return querySingle(FIND_BY_ID_SQL, statement -> statement.setBytes(1, UuidMapper.toBytes(customerId)));
+    }
+    
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        return querySingle(FIND_BY_EMAIL_SQL, statement -> statement.setString(1, email));
+    }
+    
+    @Override
+    public List<Customer> findAll() {
+        return query(FIND_ALL_SQL, statement -> { });
+    }
+    
+    @Override
+    public List<Customer> findAllActive() {
+        return query(FIND_ALL_ACTIVE_SQL, statement -> { });
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name) {
+        return query(SEARCH_BY_NAME_SQL, statement -> statement.setString(1, "%" + name + "%"));
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name, int limit) {
+        return query(SEARCH_BY_NAME_LIMIT_SQL, statement -> {
+            statement.setString(1, "%" + name + "%");
+            statement.setInt(2, limit);
+        });
+    }
+    
+    private Optional<Customer> querySingle(String sql, Binder binder) {
+        return query(sql, binder).stream().findFirst();
+    }
+    
+    private List<Customer> query(String sql, Binder binder) {
+        Session session = entityManager.unwrap(Session.class);
+        // Plain JDBC bypasses Hibernate's auto-flush, so pending entity changes are flushed first
+        if (session.isDirty()) {
+            session.flush();
+        }
+        
+        // Runs on the session's connection, so it joins the current transaction and replica routing.
+        // Statements are prepared per call; the driver's statement cache (cachePrepStmts) makes that a lookup.
+        return session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                binder.bind(statement);
+                try (ResultSet rows = statement.executeQuery()) {
+                    List<Customer> results = new ArrayList<>();
+                    while (rows.next()) {
+                        results.add(toDomain(rows));
+                    }
+                    return results;
+                }
+            }
+        });
+    }
+    
+    private static Customer toDomain(ResultSet row) throws SQLException {
+        Customer customer = new Customer();
+        customer.setId(UuidMapper.fromBytes(row.getBytes("id")));
+        customer.setName(row.getString("name"));
+        customer.setEmail(row.getString("email"));
+        customer.setPhone(row.getString("phone"));
+        customer.setAddress(row.getString("address"));
+        customer.setCreatedAt(row.getObject("created_at", LocalDateTime.class));
+        customer.setUpdatedAt(row.getObject("updated_at", LocalDateTime.class));
+        customer.setActive(row.getBoolean("active"));
+        return customer;
+    }
+    
+    @FunctionalInterface
+    private interface Binder {
+        
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+}
@@ -0,0 +1,157 @@
+package com.restaurant.infrastructure.persistence.jdbc;
+
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.infrastructure.persistence.mapper.MoneyMapper;
+import com.restaurant.infrastructure.persistence.mapper.UuidMapper;
+import com.restaurant.infrastructure.persistence.repository.JpaMenuItemRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * MenuItemRepository that serves the entity reads with plain JDBC, mapping rows straight into
+ * domain objects without entity hydration, dirty-checking snapshots or a mapper copy.
+ * Writes, counts and existence checks are the JPA repository's.
+ */
+public class JdbcMenuItemRepository extends JpaMenuItemRepository {
+    
+    private static final String COLUMNS =
+        "id, name, description, price, currency, category, image_url, available, " +
+        "preparation_time_minutes, created_at, updated_at";
+    
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM menu_items WHERE id = ?";
+    private static final String FIND_ALL_SQL = "SELECT " + COLUMNS + " FROM menu_items ORDER BY category, name";
+    private static final String FIND_ALL_AVAILABLE_SQL =
+        "SELECT " + COLUMNS + " FROM menu_items WHERE available = true ORDER BY category, name";
+    private static final String FIND_BY_CATEGORY_SQL =
+        "SELECT " + COLUMNS + " FROM menu_items WHERE category = ? ORDER BY name";
+    private static final String FIND_AVAILABLE_BY_CATEGORY_SQL =
+        "SELECT " + COLUMNS + " FROM menu_items WHERE category = ? AND available = true ORDER BY name";
+    private static final String SEARCH_BY_NAME_SQL =
+        "SELECT " + COLUMNS + " FROM menu_items WHERE LOWER(name) LIKE LOWER(?) ORDER BY name";
+    private static final String SEARCH_BY_NAME_LIMIT_SQL = SEARCH_BY_NAME_SQL + " LIMIT ?";
+    private static final String FIND_BY_IDS_SQL = "SELECT " + COLUMNS + " FROM menu_items WHERE id IN (";
+    private static final int IN_CLAUSE_SIZE = 1000;
+    
+    private final EntityManager entityManager;
+    
+    public JdbcMenuItemRepository(EntityManager entityManager) {
+        super(entityManager);
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    public Optional<MenuItem> findById(UUID menuItemId) {
+        return querySingle(FIND_BY_ID_SQL, statement -> statement.setBytes(1, UuidMapper.toBytes(menuItemId)));
+    }
+    
+    @Override
+    public List<MenuItem> findAllById(Collection<UUID> menuItemIds) {
+        List<UUID> ids = new ArrayList<>(menuItemIds);
+        List<MenuItem> menuItems = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+            // The statement cache holds one entry per placeholder count
+            String sql = FIND_BY_IDS_SQL + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            menuItems.addAll(query(sql, statement -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setBytes(i + 1, UuidMapper.toBytes(chunk.get(i)));
+                }
+            }));
+        }
+        return menuItems;
+    }
+    
+    @Override
+    public List<MenuItem> findAll() {
+        return query(FIND_ALL_SQL, statement -> { });
+    }
+    
+    @Override
+    public List<MenuItem> findAllAvailable() {
+        return query(FIND_ALL_AVAILABLE_SQL, statement -> { });
+    }
+    
+    @Override
+    public List<MenuItem> findByCategory(MenuCategory category) {
+        return query(FIND_BY_CATEGORY_SQL, statement -> statement.setString(1, category.name()));
+    }
+    
+    @Override
+    public List<MenuItem> findAvailableByCategory(MenuCategory category) {
+        return query(FIND_AVAILABLE_BY_CATEGORY_SQL, statement -> statement.setString(1, category.name()));
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name) {
+        return query(SEARCH_BY_NAME_SQL, statement -> statement.setString(1, "%" + name + "%"));
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name, int limit) {
+        return query(SEARCH_BY_NAME_LIMIT_SQL, statement -> {
+            statement.setString(1, "%" + name + "%");
+            statement.setInt(2, limit);
+        });
+    }
+    
+    private Optional<MenuItem> querySingle(String sql, Binder binder) {
+        return query(sql, binder).stream().findFirst();
+    }
+    
+    private List<MenuItem> query(String sql, Binder binder) {
+        Session session = entityManager.unwrap(Session.class);
+        // Plain JDBC bypasses Hibernate's auto-flush, so pending entity changes are flushed first
+        if (session.isDirty()) {
+            session.flush();
+        }
+        
+        // Runs on the session's connection, so it joins the current transaction and replica routing.
+        // Statements are prepared per call; the driver's statement cache (cachePrepStmts) makes that a lookup.
+        return session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                binder.bind(statement);
+                try (ResultSet rows = statement.executeQuery()) {
+                    List<MenuItem> results = new ArrayList<>();
+                    while (rows.next()) {
+                        results.add(toDomain(rows));
+                    }
+                    return results;
+                }
+            }
+        });
+    }
+    
+    // The category column holds the enum names, which are the same for the entity and the domain enum
+    private static MenuItem toDomain(ResultSet row) throws SQLException {
+        MenuItem menuItem = new MenuItem();
+        menuItem.setId(UuidMapper.fromBytes(row.getBytes("id")));
+        menuItem.setName(row.getString("name"));
+        menuItem.setDescription(row.getString("description"));
+        menuItem.setPrice(MoneyMapper.toMoney(row.getBigDecimal("price"), row.getString("currency")));
+        menuItem.setCategory(MenuCategory.valueOf(row.getString("category")));
+        menuItem.setImageUrl(row.getString("image_url"));
+        menuItem.setAvailable(row.getBoolean("available"));
+        menuItem.setPreparationTimeMinutes(row.getInt("preparation_time_minutes"));
+        menuItem.setCreatedAt(row.getObject("created_at", LocalDateTime.class));
+        menuItem.setUpdatedAt(row.getObject("updated_at", LocalDateTime.class));
+        return menuItem;
+    }
+    
+    @FunctionalInterface
+    private interface Binder {
+        
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+}
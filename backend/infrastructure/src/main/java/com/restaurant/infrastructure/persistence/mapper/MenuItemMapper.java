@@ -2,7 +2,6 @@ package com.restaurant.infrastructure.persistence.mapper;
 
 import com.restaurant.domain.entity.MenuItem;
 import com.restaurant.domain.valueobject.MenuCategory;
-import com.restaurant.domain.valueobject.Money;
 import com.restaurant.infrastructure.persistence.entity.MenuCategoryEntity;
 import com.restaurant.infrastructure.persistence.entity.MenuItemEntity;
 
@@ -20,7 +19,7 @@ public class MenuItemMapper {
         menuItem.setId(entity.getId());
         menuItem.setName(entity.getName());
         menuItem.setDescription(entity.getDescription());
-        menuItem.setPrice(new Money(entity.getPrice(), entity.getCurrency()));
+        menuItem.setPrice(MoneyMapper.toMoney(entity.getPrice(), entity.getCurrency()));
         menuItem.setCategory(toDomainCategory(entity.getCategory()));
         menuItem.setImageUrl(entity.getImageUrl());
         menuItem.setAvailable(entity.isAvailable());
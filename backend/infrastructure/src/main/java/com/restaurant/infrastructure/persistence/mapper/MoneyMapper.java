@@ -0,0 +1,29 @@
+package com.restaurant.infrastructure.persistence.mapper;
+
+import com.restaurant.domain.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Mapper from DECIMAL(10,2) amount and currency code columns to Money.
+ * Amounts read with two decimals are taken as cents, which skips the rescaling
+ * and the retained BigDecimal of the general constructor.
+ */
+public class MoneyMapper {
+    
+    public static Money toMoney(BigDecimal amount, String currencyCode) {
+        // A null amount keeps the constructor's BigDecimal.ZERO, so it maps and serializes as before
+        if (amount == null || amount.scale() != 2 || amount.precision() > 18) {
+            return new Money(amount, currencyCode);
+        }
+        return Money.ofCents(amount.unscaledValue().longValue(), currencyOf(currencyCode));
+    }
+    
+    private static Currency currencyOf(String currencyCode) {
+        if (currencyCode == null || Money.DEFAULT_CURRENCY.getCurrencyCode().equals(currencyCode)) {
+            return Money.DEFAULT_CURRENCY;
+        }
+        return Currency.getInstance(currencyCode);
+    }
+}
@@ -0,0 +1,89 @@
+package com.restaurant.infrastructure.persistence.mapper;
+
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.entity.OrderItem;
+import com.restaurant.domain.valueobject.OrderStatus;
+import com.restaurant.infrastructure.persistence.entity.OrderEntity;
+import com.restaurant.infrastructure.persistence.entity.OrderItemEntity;
+import com.restaurant.infrastructure.persistence.entity.OrderStatusEntity;
+
+import java.util.List;
+
+/**
+ * Mapper between Order domain entity and OrderEntity JPA entity
+ */
+public class OrderMapper {
+    
+    public static Order toDomain(OrderEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        List<OrderItem> items = entity.getItems().stream()
+            .map(OrderMapper::toDomainItem)
+            .toList();
+        
+        Order order = new Order();
+        order.setId(entity.getId());
+        order.setCustomerId(entity.getCustomerId());
+        order.setTableId(entity.getTableId());
+        order.setStatus(toDomainStatus(entity.getStatus()));
+        order.setItems(items);
+        order.setTotalAmount(MoneyMapper.toMoney(entity.getTotalAmount(), entity.getCurrency()));
+        order.setSpecialInstructions(entity.getSpecialInstructions());
+        order.setOrderTime(entity.getOrderTime());
+        order.setEstimatedDeliveryTime(entity.getEstimatedDeliveryTime());
+        order.setActualDeliveryTime(entity.getActualDeliveryTime());
+        order.setCreatedAt(entity.getCreatedAt());
+        order.setUpdatedAt(entity.getUpdatedAt());
+        
+        return order;
+    }
+    
+    public static OrderItem toDomainItem(OrderItemEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        OrderItem item = new OrderItem();
+        item.setId(entity.getId());
+        item.setMenuItemId(entity.getMenuItemId());
+        item.setMenuItemName(entity.getMenuItemName());
+        item.setUnitPrice(MoneyMapper.toMoney(entity.getUnitPrice(), entity.getCurrency()));
+        item.setQuantity(entity.getQuantity());
+        item.setNotes(entity.getNotes());
+        item.setPreparationTimeMinutes(entity.getPreparationMinutes());
+        
+        return item;
+    }
+    
+    public static OrderStatus toDomainStatus(OrderStatusEntity entityStatus) {
+        if (entityStatus == null) {
+            return null;
+        }
+        
+        return switch (entityStatus) {
+            case PENDING -> OrderStatus.PENDING;
+            case CONFIRMED -> OrderStatus.CONFIRMED;
+            case PREPARING -> OrderStatus.PREPARING;
+            case READY -> OrderStatus.READY;
+            case DELIVERED -> OrderStatus.DELIVERED;
+            case CANCELLED -> OrderStatus.CANCELLED;
+        };
+    }
+    
+    public static OrderStatusEntity toEntityStatus(OrderStatus domainStatus) {
+        if (domainStatus == null) {
+            return null;
+        }
+        
+        return switch (domainStatus) {
+            case PENDING -> OrderStatusEntity.PENDING;
+            case CONFIRMED -> OrderStatusEntity.CONFIRMED;
+            case PREPARING -> OrderStatusEntity.PREPARING;
+            case READY -> OrderStatusEntity.READY;
+            case DELIVERED -> OrderStatusEntity.DELIVERED;
+            case CANCELLED -> OrderStatusEntity.CANCELLED;
+        };
+    }
+}
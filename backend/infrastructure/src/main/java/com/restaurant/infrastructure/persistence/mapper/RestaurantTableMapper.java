@@ -0,0 +1,59 @@
+package com.restaurant.infrastructure.persistence.mapper;
+
+import com.restaurant.domain.entity.RestaurantTable;
+import com.restaurant.domain.valueobject.TableStatus;
+import com.restaurant.infrastructure.persistence.entity.RestaurantTableEntity;
+import com.restaurant.infrastructure.persistence.entity.TableStatusEntity;
+
+/**
+ * Mapper between RestaurantTable domain entity and RestaurantTableEntity JPA entity
+ */
+public class RestaurantTableMapper {
+    
+    public static RestaurantTable toDomain(RestaurantTableEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        RestaurantTable table = new RestaurantTable();
+        table.setId(entity.getId());
+        table.setTableNumber(entity.getTableNumber());
+        table.setCapacity(entity.getCapacity());
+        table.setStatus(toDomainStatus(entity.getStatus()));
+        table.setLocation(entity.getLocation());
+        table.setCurrentOrderId(entity.getCurrentOrderId());
+        table.setLastOccupiedAt(entity.getLastOccupiedAt());
+        table.setCreatedAt(entity.getCreatedAt());
+        table.setUpdatedAt(entity.getUpdatedAt());
+        
+        return table;
+    }
+    
+    public static TableStatus toDomainStatus(TableStatusEntity entityStatus) {
+        if (entityStatus == null) {
+            return null;
+        }
+        
+        return switch (entityStatus) {
+            case AVAILABLE -> TableStatus.AVAILABLE;
+            case OCCUPIED -> TableStatus.OCCUPIED;
+            case RESERVED -> TableStatus.RESERVED;
+            case CLEANING -> TableStatus.CLEANING;
+            case OUT_OF_SERVICE -> TableStatus.OUT_OF_SERVICE;
+        };
+    }
+    
+    public static TableStatusEntity toEntityStatus(TableStatus domainStatus) {
+        if (domainStatus == null) {
+            return null;
+        }
+        
+        return switch (domainStatus) {
+            case AVAILABLE -> TableStatusEntity.AVAILABLE;
+            case OCCUPIED -> TableStatusEntity.OCCUPIED;
+            case RESERVED -> TableStatusEntity.RESERVED;
+            case CLEANING -> TableStatusEntity.CLEANING;
+            case OUT_OF_SERVICE -> TableStatusEntity.OUT_OF_SERVICE;
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.restaurant.infrastructure.persistence.mapper;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Mapper between UUID identifiers and their BINARY(16) column representation,
+ * for statements issued outside of Hibernate's type system
+ */
+public class UuidMapper {
+    
+    public static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+    
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
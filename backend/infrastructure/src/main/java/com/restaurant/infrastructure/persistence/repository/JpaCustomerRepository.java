@@ -4,23 +4,51 @@ import com.restaurant.application.port.out.CustomerRepository;
 import com.restaurant.domain.entity.Customer;
 import com.restaurant.infrastructure.persistence.entity.CustomerEntity;
 import com.restaurant.infrastructure.persistence.mapper.CustomerMapper;
+import com.restaurant.infrastructure.persistence.mapper.UuidMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JPA implementation of CustomerRepository
  */
 public class JpaCustomerRepository implements CustomerRepository {
     
+    private static final int BATCH_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1000;
+    private static final int FETCH_SIZE = 500;
+    private static final Map<String, Object> READ_ONLY = Map.of(HibernateHints.HINT_READ_ONLY, true);
+    
+    // MySQL ER_DUP_ENTRY, raised by the unique email index
+    private static final int DUPLICATE_KEY_ERROR = 1062;
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO customers (id, name, email, phone, address, created_at, updated_at, active) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String UPDATE_SQL =
+        "UPDATE customers SET name = ?, email = ?, phone = ?, address = ?, updated_at = ?, active = ? WHERE id = ?";
+    
     private final EntityManager entityManager;
-
+    
     public JpaCustomerRepository(EntityManager entityManager) {
         this.entityManager = entityManager;
     }
@@ -28,32 +56,125 @@ public class JpaCustomerRepository implements CustomerRepository {
     @Override
     @Transactional
     public Customer save(Customer customer) {
-        CustomerEntity entity = entityManager.find(CustomerEntity.class, customer.getId());
+        upsert(customer);
+        return customer;
+    }
+    
+    @Override
+    @Transactional
+    public boolean insert(Customer customer) {
+        // The violation is caught on the raw connection, so Hibernate never sees it and does not
+        // mark the surrounding transaction for rollback
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                bindInsert(insert, customer);
+                return insert.executeUpdate() > 0;
+            } catch (SQLException e) {
+                if (e.getErrorCode() == DUPLICATE_KEY_ERROR) {
+                    return false;
+                }
+                throw e;
+            }
+        });
+    }
+    
+    @Override
+    @Transactional
+    public int upsert(Customer customer) {
+        // Existing rows take a single UPDATE; only new rows pay for the follow-up INSERT.
+        // A native ON DUPLICATE KEY UPDATE is avoided on purpose: it would also fire on the
+        // unique email index and silently overwrite a different customer.
+        int updated = entityManager.createNamedQuery(CustomerEntity.UPDATE)
+            .setParameter("name", customer.getName())
+            .setParameter("email", customer.getEmail())
+            .setParameter("phone", customer.getPhone())
+            .setParameter("address", customer.getAddress())
+            .setParameter("updatedAt", customer.getUpdatedAt())
+            .setParameter("active", customer.isActive())
+            .setParameter("id", customer.getId())
+            .executeUpdate();
         
-        if (entity == null) {
-            // Create new entity
-            entity = CustomerMapper.toEntity(customer);
-            entityManager.persist(entity);
-        } else {
-            // Update existing entity
-            CustomerMapper.updateEntity(entity, customer);
-            entity = entityManager.merge(entity);
+        if (updated > 0) {
+            return updated;
         }
         
-        return CustomerMapper.toDomain(entity);
+        return entityManager.createNativeQuery(INSERT_SQL)
+            .setParameter(1, UuidMapper.toBytes(customer.getId()))
+            .setParameter(2, customer.getName())
+            .setParameter(3, customer.getEmail())
+            .setParameter(4, customer.getPhone())
+            .setParameter(5, customer.getAddress())
+            .setParameter(6, customer.getCreatedAt())
+            .setParameter(7, customer.getUpdatedAt())
+            .setParameter(8, customer.isActive())
+            .executeUpdate();
+    }
+    
+    @Override
+    @Transactional
+    public int updateActive(UUID customerId, boolean active) {
+        return entityManager.createNamedQuery(CustomerEntity.UPDATE_ACTIVE)
+            .setParameter("active", active)
+            .setParameter("updatedAt", LocalDateTime.now())
+            .setParameter("id", customerId)
+            .executeUpdate();
+    }
+    
+    @Override
+    @Transactional
+    public List<Customer> saveAll(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return customers;
+        }
+        
+        Set<UUID> existingIds = findExistingIds(customers.stream().map(Customer::getId).toList());
+        
+        // Rows bypass the persistence context and go straight to JDBC batches on the session's connection
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL);
+                 PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+                int inserts = 0;
+                int updates = 0;
+                
+                for (Customer customer : customers) {
+                    if (existingIds.contains(customer.getId())) {
+                        bindUpdate(update, customer);
+                        update.addBatch();
+                        if (++updates % BATCH_SIZE == 0) {
+                            update.executeBatch();
+                        }
+                    } else {
+                        bindInsert(insert, customer);
+                        insert.addBatch();
+                        if (++inserts % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                    }
+                }
+                
+                if (inserts % BATCH_SIZE != 0) {
+                    insert.executeBatch();
+                }
+                if (updates % BATCH_SIZE != 0) {
+                    update.executeBatch();
+                }
+            }
+        });
+        
+        return customers;
     }
     
     @Override
     public Optional<Customer> findById(UUID customerId) {
-        CustomerEntity entity = entityManager.find(CustomerEntity.class, customerId);
+        CustomerEntity entity = entityManager.find(CustomerEntity.class, customerId, READ_ONLY);
         return Optional.ofNullable(CustomerMapper.toDomain(entity));
     }
     
     @Override
     public Optional<Customer> findByEmail(String email) {
         try {
-            TypedQuery<CustomerEntity> query = entityManager.createQuery(
-                "SELECT c FROM CustomerEntity c WHERE c.email = :email", CustomerEntity.class);
+            TypedQuery<CustomerEntity> query = readOnly(entityManager.createNamedQuery(
+                CustomerEntity.FIND_BY_EMAIL, CustomerEntity.class));
             query.setParameter("email", email);
             CustomerEntity entity = query.getSingleResult();
             return Optional.of(CustomerMapper.toDomain(entity));
@@ -64,61 +185,141 @@ public class JpaCustomerRepository implements CustomerRepository {
     
     @Override
     public List<Customer> findAll() {
-        TypedQuery<CustomerEntity> query = entityManager.createQuery(
-            "SELECT c FROM CustomerEntity c ORDER BY c.name", CustomerEntity.class);
-        return query.getResultList().stream()
-            .map(CustomerMapper::toDomain)
-            .collect(Collectors.toList());
+        TypedQuery<CustomerEntity> query = readOnly(entityManager.createNamedQuery(
+            CustomerEntity.FIND_ALL, CustomerEntity.class));
+        return toDomain(query);
     }
     
     @Override
     public List<Customer> findAllActive() {
-        TypedQuery<CustomerEntity> query = entityManager.createQuery(
-            "SELECT c FROM CustomerEntity c WHERE c.active = true ORDER BY c.name", CustomerEntity.class);
-        return query.getResultList().stream()
-            .map(CustomerMapper::toDomain)
-            .collect(Collectors.toList());
+        TypedQuery<CustomerEntity> query = readOnly(entityManager.createNamedQuery(
+            CustomerEntity.FIND_ALL_ACTIVE, CustomerEntity.class));
+        return toDomain(query);
     }
     
     @Override
     public List<Customer> searchByName(String name) {
-        TypedQuery<CustomerEntity> query = entityManager.createQuery(
-            "SELECT c FROM CustomerEntity c WHERE LOWER(c.name) LIKE LOWER(:name) ORDER BY c.name", 
-            CustomerEntity.class);
+        TypedQuery<CustomerEntity> query = readOnly(entityManager.createNamedQuery(
+            CustomerEntity.SEARCH_BY_NAME, CustomerEntity.class));
         query.setParameter("name", "%" + name + "%");
-        return query.getResultList().stream()
-            .map(CustomerMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomain(query);
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name, int limit) {
+        TypedQuery<CustomerEntity> query = readOnly(entityManager.createNamedQuery(
+            CustomerEntity.SEARCH_BY_NAME, CustomerEntity.class));
+        query.setParameter("name", "%" + name + "%");
+        query.setMaxResults(limit);
+        return toDomain(query);
     }
     
     @Override
     public boolean existsByEmail(String email) {
-        TypedQuery<Long> query = entityManager.createQuery(
-            "SELECT COUNT(c) FROM CustomerEntity c WHERE c.email = :email", Long.class);
+        TypedQuery<Long> query = readOnly(entityManager.createNamedQuery(
+            CustomerEntity.COUNT_BY_EMAIL, Long.class));
         query.setParameter("email", email);
         return query.getSingleResult() > 0;
     }
     
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> chunk : chunks(emails)) {
+            TypedQuery<String> query = readOnly(entityManager.createNamedQuery(
+                CustomerEntity.FIND_EXISTING_EMAILS, String.class));
+            query.setParameter("emails", chunk);
+            existing.addAll(query.getResultList());
+        }
+        return existing;
+    }
+    
+    @Override
+    public List<String> findAllEmails() {
+        return readOnly(entityManager.createNamedQuery(CustomerEntity.FIND_ALL_EMAILS, String.class)).getResultList();
+    }
+    
     @Override
     @Transactional
     public void deleteById(UUID customerId) {
-        CustomerEntity entity = entityManager.find(CustomerEntity.class, customerId);
-        if (entity != null) {
-            entityManager.remove(entity);
-        }
+        entityManager.createNamedQuery(CustomerEntity.DELETE)
+            .setParameter("id", customerId)
+            .executeUpdate();
     }
     
     @Override
     public long count() {
-        TypedQuery<Long> query = entityManager.createQuery(
-            "SELECT COUNT(c) FROM CustomerEntity c", Long.class);
+        TypedQuery<Long> query = readOnly(entityManager.createNamedQuery(CustomerEntity.COUNT, Long.class));
         return query.getSingleResult();
     }
     
     @Override
     public long countActive() {
-        TypedQuery<Long> query = entityManager.createQuery(
-            "SELECT COUNT(c) FROM CustomerEntity c WHERE c.active = true", Long.class);
+        TypedQuery<Long> query = readOnly(entityManager.createNamedQuery(CustomerEntity.COUNT_ACTIVE, Long.class));
         return query.getSingleResult();
     }
+    
+    private Set<UUID> findExistingIds(Collection<UUID> ids) {
+        Set<UUID> existing = new HashSet<>();
+        for (List<UUID> chunk : chunks(ids)) {
+            TypedQuery<UUID> query = readOnly(entityManager.createNamedQuery(
+                CustomerEntity.FIND_EXISTING_IDS, UUID.class));
+            query.setParameter("ids", chunk);
+            existing.addAll(query.getResultList());
+        }
+        return existing;
+    }
+    
+    // Finders only map what they load: read-only entities keep no dirty-checking snapshot, and since every
+    // write in the repositories is an explicit statement, nothing is ever pending to auto-flush before a query
+    private static <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        return query
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+    
+    // Rows arrive FETCH_SIZE at a time and each entity is detached once mapped,
+    // so the persistence context does not grow with the size of the result
+    private List<Customer> toDomain(TypedQuery<CustomerEntity> query) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE);
+        try (Stream<CustomerEntity> entities = query.getResultStream()) {
+            return entities
+                .map(entity -> {
+                    Customer customer = CustomerMapper.toDomain(entity);
+                    entityManager.detach(entity);
+                    return customer;
+                })
+                .collect(Collectors.toList());
+        }
+    }
+    
+    private static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += IN_CLAUSE_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + IN_CLAUSE_SIZE, list.size())));
+        }
+        return chunks;
+    }
+    
+    private void bindInsert(PreparedStatement statement, Customer customer) throws SQLException {
+        statement.setBytes(1, UuidMapper.toBytes(customer.getId()));
+        statement.setString(2, customer.getName());
+        statement.setString(3, customer.getEmail());
+        statement.setString(4, customer.getPhone());
+        statement.setString(5, customer.getAddress());
+        statement.setObject(6, customer.getCreatedAt());
+        statement.setObject(7, customer.getUpdatedAt());
+        statement.setBoolean(8, customer.isActive());
+    }
+    
+    private void bindUpdate(PreparedStatement statement, Customer customer) throws SQLException {
+        statement.setString(1, customer.getName());
+        statement.setString(2, customer.getEmail());
+        statement.setString(3, customer.getPhone());
+        statement.setString(4, customer.getAddress());
+        statement.setObject(5, customer.getUpdatedAt());
+        statement.setBoolean(6, customer.isActive());
+        statement.setBytes(7, UuidMapper.toBytes(customer.getId()));
+    }
 }
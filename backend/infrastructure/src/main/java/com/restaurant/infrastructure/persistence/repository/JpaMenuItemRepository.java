@@ -3,25 +3,55 @@ package com.restaurant.infrastructure.persistence.repository;
 import com.restaurant.application.port.out.MenuItemRepository;
 import com.restaurant.domain.entity.MenuItem;
 import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.domain.valueobject.Money;
 import com.restaurant.infrastructure.persistence.entity.MenuCategoryEntity;
 import com.restaurant.infrastructure.persistence.entity.MenuItemEntity;
 import com.restaurant.infrastructure.persistence.mapper.MenuItemMapper;
+import com.restaurant.infrastructure.persistence.mapper.UuidMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JPA implementation of MenuItemRepository
  */
 public class JpaMenuItemRepository implements MenuItemRepository {
     
+    private static final int BATCH_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1000;
+    private static final int FETCH_SIZE = 500;
+    private static final Map<String, Object> READ_ONLY = Map.of(HibernateHints.HINT_READ_ONLY, true);
+    
+    // MySQL ER_DUP_ENTRY, raised by the unique name index
+    private static final int DUPLICATE_KEY_ERROR = 1062;
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO menu_items (id, name, description, price, currency, category, image_url, available, " +
+        "preparation_time_minutes, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String UPDATE_SQL =
+        "UPDATE menu_items SET name = ?, description = ?, price = ?, currency = ?, category = ?, image_url = ?, " +
+        "available = ?, preparation_time_minutes = ?, updated_at = ? WHERE id = ?";
+    
     private final EntityManager entityManager;
-
+    
     public JpaMenuItemRepository(EntityManager entityManager) {
         this.entityManager = entityManager;
     }
@@ -29,121 +59,323 @@ public class JpaMenuItemRepository implements MenuItemRepository {
     @Override
     @Transactional
     public MenuItem save(MenuItem menuItem) {
-        MenuItemEntity entity = entityManager.find(MenuItemEntity.class, menuItem.getId());
+        upsert(menuItem);
+        return menuItem;
+    }
+    
+    @Override
+    @Transactional
+    public boolean insert(MenuItem menuItem) {
+        // The violation is caught on the raw connection, so Hibernate never sees it and does not
+        // mark the surrounding transaction for rollback
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                bindInsert(insert, menuItem);
+                return insert.executeUpdate() > 0;
+            } catch (SQLException e) {
+                if (e.getErrorCode() == DUPLICATE_KEY_ERROR) {
+                    return false;
+                }
+                throw e;
+            }
+        });
+    }
+    
+    @Override
+    @Transactional
+    public int upsert(MenuItem menuItem) {
+        // Existing rows take a single UPDATE; only new rows pay for the follow-up INSERT.
+        // A native ON DUPLICATE KEY UPDATE is avoided on purpose: it would also fire on the
+        // unique name index and silently overwrite a different menu item.
+        int updated = entityManager.createNamedQuery(MenuItemEntity.UPDATE)
+            .setParameter("name", menuItem.getName())
+            .setParameter("description", menuItem.getDescription())
+            .setParameter("price", menuItem.getPrice().getAmount())
+            .setParameter("currency", menuItem.getPrice().getCurrencyCode())
+            .setParameter("category", toEntityCategory(menuItem.getCategory()))
+            .setParameter("imageUrl", menuItem.getImageUrl())
+            .setParameter("available", menuItem.isAvailable())
+            .setParameter("preparationTimeMinutes", menuItem.getPreparationTimeMinutes())
+            .setParameter("updatedAt", menuItem.getUpdatedAt())
+            .setParameter("id", menuItem.getId())
+            .executeUpdate();
         
-        if (entity == null) {
-            // Create new entity
-            entity = MenuItemMapper.toEntity(menuItem);
-            entityManager.persist(entity);
-        } else {
-            // Update existing entity
-            MenuItemMapper.updateEntity(entity, menuItem);
-            entity = entityManager.merge(entity);
+        if (updated > 0) {
+            return updated;
         }
         
-        return MenuItemMapper.toDomain(entity);
+        return entityManager.createNativeQuery(INSERT_SQL)
+            .setParameter(1, UuidMapper.toBytes(menuItem.getId()))
+            .setParameter(2, menuItem.getName())
+            .setParameter(3, menuItem.getDescription())
+            .setParameter(4, menuItem.getPrice().getAmount())
+            .setParameter(5, menuItem.getPrice().getCurrencyCode())
+            .setParameter(6, toEntityCategory(menuItem.getCategory()).name())
+            .setParameter(7, menuItem.getImageUrl())
+            .setParameter(8, menuItem.isAvailable())
+            .setParameter(9, menuItem.getPreparationTimeMinutes())
+            .setParameter(10, menuItem.getCreatedAt())
+            .setParameter(11, menuItem.getUpdatedAt())
+            .executeUpdate();
+    }
+    
+    @Override
+    @Transactional
+    public int updatePrice(UUID menuItemId, Money price) {
+        return entityManager.createNamedQuery(MenuItemEntity.UPDATE_PRICE)
+            .setParameter("price", price.getAmount())
+            .setParameter("currency", price.getCurrencyCode())
+            .setParameter("updatedAt", LocalDateTime.now())
+            .setParameter("id", menuItemId)
+            .executeUpdate();
+    }
+    
+    @Override
+    @Transactional
+    public int updateAvailability(UUID menuItemId, boolean available) {
+        return entityManager.createNamedQuery(MenuItemEntity.UPDATE_AVAILABILITY)
+            .setParameter("available", available)
+            .setParameter("updatedAt", LocalDateTime.now())
+            .setParameter("id", menuItemId)
+            .executeUpdate();
+    }
+    
+    @Override
+    @Transactional
+    public List<MenuItem> saveAll(List<MenuItem> menuItems) {
+        if (menuItems.isEmpty()) {
+            return menuItems;
+        }
+        
+        Set<UUID> existingIds = findExistingIds(menuItems.stream().map(MenuItem::getId).toList());
+        
+        // Rows bypass the persistence context and go straight to JDBC batches on the session's connection
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL);
+                 PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+                int inserts = 0;
+                int updates = 0;
+                
+                for (MenuItem menuItem : menuItems) {
+                    if (existingIds.contains(menuItem.getId())) {
+                        bindUpdate(update, menuItem);
+                        update.addBatch();
+                        if (++updates % BATCH_SIZE == 0) {
+                            update.executeBatch();
+                        }
+                    } else {
+                        bindInsert(insert, menuItem);
+                        insert.addBatch();
+                        if (++inserts % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                    }
+                }
+                
+                if (inserts % BATCH_SIZE != 0) {
+                    insert.executeBatch();
+                }
+                if (updates % BATCH_SIZE != 0) {
+                    update.executeBatch();
+                }
+            }
+        });
+        
+        return menuItems;
     }
     
     @Override
     public Optional<MenuItem> findById(UUID menuItemId) {
-        MenuItemEntity entity = entityManager.find(MenuItemEntity.class, menuItemId);
+        MenuItemEntity entity = entityManager.find(MenuItemEntity.class, menuItemId, READ_ONLY);
         return Optional.ofNullable(MenuItemMapper.toDomain(entity));
     }
     
+    @Override
+    public List<MenuItem> findAllById(Collection<UUID> menuItemIds) {
+        List<MenuItem> menuItems = new ArrayList<>();
+        for (List<UUID> chunk : chunks(menuItemIds)) {
+            TypedQuery<MenuItemEntity> query = readOnly(entityManager.createNamedQuery(
+                MenuItemEntity.FIND_BY_IDS, MenuItemEntity.class));
+            query.setParameter("ids", chunk);
+            menuItems.addAll(toDomain(query));
+        }
+        return menuItems;
+    }
+    
     @Override
     public List<MenuItem> findAll() {
-        TypedQuery<MenuItemEntity> query = entityManager.createQuery(
-            "SELECT m FROM MenuItemEntity m ORDER BY m.category, m.name", MenuItemEntity.class);
-        return query.getResultList().stream()
-            .map(MenuItemMapper::toDomain)
-            .collect(Collectors.toList());
+        TypedQuery<MenuItemEntity> query = readOnly(entityManager.createNamedQuery(
+            MenuItemEntity.FIND_ALL, MenuItemEntity.class));
+        return toDomain(query);
     }
     
     @Override
     public List<MenuItem> findAllAvailable() {
-        TypedQuery<MenuItemEntity> query = entityManager.createQuery(
-            "SELECT m FROM MenuItemEntity m WHERE m.available = true ORDER BY m.category, m.name", 
-            MenuItemEntity.class);
-        return query.getResultList().stream()
-            .map(MenuItemMapper::toDomain)
-            .collect(Collectors.toList());
+        TypedQuery<MenuItemEntity> query = readOnly(entityManager.createNamedQuery(
+            MenuItemEntity.FIND_ALL_AVAILABLE, MenuItemEntity.class));
+        return toDomain(query);
     }
     
     @Override
     public List<MenuItem> findByCategory(MenuCategory category) {
         MenuCategoryEntity entityCategory = toEntityCategory(category);
-        TypedQuery<MenuItemEntity> query = entityManager.createQuery(
-            "SELECT m FROM MenuItemEntity m WHERE m.category = :category ORDER BY m.name", 
-            MenuItemEntity.class);
+        TypedQuery<MenuItemEntity> query = readOnly(entityManager.createNamedQuery(
+            MenuItemEntity.FIND_BY_CATEGORY, MenuItemEntity.class));
         query.setParameter("category", entityCategory);
-        return query.getResultList().stream()
-            .map(MenuItemMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomain(query);
     }
     
     @Override
     public List<MenuItem> findAvailableByCategory(MenuCategory category) {
         MenuCategoryEntity entityCategory = toEntityCategory(category);
-        TypedQuery<MenuItemEntity> query = entityManager.createQuery(
-            "SELECT m FROM MenuItemEntity m WHERE m.category = :category AND m.available = true ORDER BY m.name", 
-            MenuItemEntity.class);
+        TypedQuery<MenuItemEntity> query = readOnly(entityManager.createNamedQuery(
+            MenuItemEntity.FIND_AVAILABLE_BY_CATEGORY, MenuItemEntity.class));
         query.setParameter("category", entityCategory);
-        return query.getResultList().stream()
-            .map(MenuItemMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomain(query);
     }
     
     @Override
     public List<MenuItem> searchByName(String name) {
-        TypedQuery<MenuItemEntity> query = entityManager.createQuery(
-            "SELECT m FROM MenuItemEntity m WHERE LOWER(m.name) LIKE LOWER(:name) ORDER BY m.name", 
-            MenuItemEntity.class);
+        TypedQuery<MenuItemEntity> query = readOnly(entityManager.createNamedQuery(
+            MenuItemEntity.SEARCH_BY_NAME, MenuItemEntity.class));
+        query.setParameter("name", "%" + name + "%");
+        return toDomain(query);
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name, int limit) {
+        TypedQuery<MenuItemEntity> query = readOnly(entityManager.createNamedQuery(
+            MenuItemEntity.SEARCH_BY_NAME, MenuItemEntity.class));
         query.setParameter("name", "%" + name + "%");
-        return query.getResultList().stream()
-            .map(MenuItemMapper::toDomain)
-            .collect(Collectors.toList());
+        query.setMaxResults(limit);
+        return toDomain(query);
     }
     
     @Override
     public boolean existsByName(String name) {
-        TypedQuery<Long> query = entityManager.createQuery(
-            "SELECT COUNT(m) FROM MenuItemEntity m WHERE m.name = :name", Long.class);
+        TypedQuery<Long> query = readOnly(entityManager.createNamedQuery(
+            MenuItemEntity.COUNT_BY_NAME, Long.class));
         query.setParameter("name", name);
         return query.getSingleResult() > 0;
     }
     
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> chunk : chunks(names)) {
+            TypedQuery<String> query = readOnly(entityManager.createNamedQuery(
+                MenuItemEntity.FIND_EXISTING_NAMES, String.class));
+            query.setParameter("names", chunk);
+            existing.addAll(query.getResultList());
+        }
+        return existing;
+    }
+    
+    @Override
+    public List<String> findAllNames() {
+        return readOnly(entityManager.createNamedQuery(MenuItemEntity.FIND_ALL_NAMES, String.class)).getResultList();
+    }
+    
     @Override
     @Transactional
     public void deleteById(UUID menuItemId) {
-        MenuItemEntity entity = entityManager.find(MenuItemEntity.class, menuItemId);
-        if (entity != null) {
-            entityManager.remove(entity);
-        }
+        entityManager.createNamedQuery(MenuItemEntity.DELETE)
+            .setParameter("id", menuItemId)
+            .executeUpdate();
     }
     
     @Override
     public long count() {
-        TypedQuery<Long> query = entityManager.createQuery(
-            "SELECT COUNT(m) FROM MenuItemEntity m", Long.class);
+        TypedQuery<Long> query = readOnly(entityManager.createNamedQuery(MenuItemEntity.COUNT, Long.class));
         return query.getSingleResult();
     }
     
     @Override
     public long countAvailable() {
-        TypedQuery<Long> query = entityManager.createQuery(
-            "SELECT COUNT(m) FROM MenuItemEntity m WHERE m.available = true", Long.class);
+        TypedQuery<Long> query = readOnly(entityManager.createNamedQuery(
+            MenuItemEntity.COUNT_AVAILABLE, Long.class));
         return query.getSingleResult();
     }
     
     @Override
     public long countByCategory(MenuCategory category) {
         MenuCategoryEntity entityCategory = toEntityCategory(category);
-        TypedQuery<Long> query = entityManager.createQuery(
-            "SELECT COUNT(m) FROM MenuItemEntity m WHERE m.category = :category", Long.class);
+        TypedQuery<Long> query = readOnly(entityManager.createNamedQuery(
+            MenuItemEntity.COUNT_BY_CATEGORY, Long.class));
         query.setParameter("category", entityCategory);
         return query.getSingleResult();
     }
     
+    private Set<UUID> findExistingIds(Collection<UUID> ids) {
+        Set<UUID> existing = new HashSet<>();
+        for (List<UUID> chunk : chunks(ids)) {
+            TypedQuery<UUID> query = readOnly(entityManager.createNamedQuery(
+                MenuItemEntity.FIND_EXISTING_IDS, UUID.class));
+            query.setParameter("ids", chunk);
+            existing.addAll(query.getResultList());
+        }
+        return existing;
+    }
+    
+    // Finders only map what they load: read-only entities keep no dirty-checking snapshot, and since every
+    // write in the repositories is an explicit statement, nothing is ever pending to auto-flush before a query
+    private static <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        return query
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+    
+    // Rows arrive FETCH_SIZE at a time and each entity is detached once mapped,
+    // so the persistence context does not grow with the size of the result
+    private List<MenuItem> toDomain(TypedQuery<MenuItemEntity> query) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE);
+        try (Stream<MenuItemEntity> entities = query.getResultStream()) {
+            return entities
+                .map(entity -> {
+                    MenuItem menuItem = MenuItemMapper.toDomain(entity);
+                    entityManager.detach(entity);
+                    return menuItem;
+                })
+                .collect(Collectors.toList());
+        }
+    }
+    
+    private static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += IN_CLAUSE_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + IN_CLAUSE_SIZE, list.size())));
+        }
+        return chunks;
+    }
+    
+    private void bindInsert(PreparedStatement statement, MenuItem menuItem) throws SQLException {
+        statement.setBytes(1, UuidMapper.toBytes(menuItem.getId()));
+        statement.setString(2, menuItem.getName());
+        statement.setString(3, menuItem.getDescription());
+        statement.setBigDecimal(4, menuItem.getPrice().getAmount());
+        statement.setString(5, menuItem.getPrice().getCurrencyCode());
+        statement.setString(6, toEntityCategory(menuItem.getCategory()).name());
+        statement.setString(7, menuItem.getImageUrl());
+        statement.setBoolean(8, menuItem.isAvailable());
+        statement.setInt(9, menuItem.getPreparationTimeMinutes());
+        statement.setObject(10, menuItem.getCreatedAt());
+        statement.setObject(11, menuItem.getUpdatedAt());
+    }
+    
+    private void bindUpdate(PreparedStatement statement, MenuItem menuItem) throws SQLException {
+        statement.setString(1, menuItem.getName());
+        statement.setString(2, menuItem.getDescription());
+        statement.setBigDecimal(3, menuItem.getPrice().getAmount());
+        statement.setString(4, menuItem.getPrice().getCurrencyCode());
+        statement.setString(5, toEntityCategory(menuItem.getCategory()).name());
+        statement.setString(6, menuItem.getImageUrl());
+        statement.setBoolean(7, menuItem.isAvailable());
+        statement.setInt(8, menuItem.getPreparationTimeMinutes());
+        statement.setObject(9, menuItem.getUpdatedAt());
+        statement.setBytes(10, UuidMapper.toBytes(menuItem.getId()));
+    }
+    
     private MenuCategoryEntity toEntityCategory(MenuCategory domainCategory) {
         return switch (domainCategory) {
             case APPETIZER -> MenuCategoryEntity.APPETIZER;
@@ -0,0 +1,536 @@
+package com.restaurant.infrastructure.persistence.repository;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.entity.OrderItem;
+import com.restaurant.domain.valueobject.OrderStatus;
+import com.restaurant.infrastructure.persistence.entity.OrderEntity;
+import com.restaurant.infrastructure.persistence.entity.OrderStatusEntity;
+import com.restaurant.infrastructure.persistence.mapper.OrderMapper;
+import com.restaurant.infrastructure.persistence.mapper.UuidMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * JPA implementation of OrderRepository.
+ * Finders fetch orders together with their items in one query; writes go to JDBC batches.
+ * Completed orders are moved to orders_archive and order_items_archive in batches by the archival job,
+ * and monthly partitions are split off p_future ahead of time by the partition job.
+ */
+public class JpaOrderRepository implements OrderRepository {
+    
+    private static final int BATCH_SIZE = 500;
+    private static final int FETCH_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1000;
+    
+    private static final List<OrderStatusEntity> ACTIVE_STATUSES = Arrays.stream(OrderStatus.values())
+        .filter(OrderStatus::isActive)
+        .map(OrderMapper::toEntityStatus)
+        .toList();
+    
+    private static final List<String> COMPLETED_STATUSES = Arrays.stream(OrderStatus.values())
+        .filter(OrderStatus::isCompleted)
+        .map(status -> OrderMapper.toEntityStatus(status).name())
+        .toList();
+    
+    private static final String INSERT_ORDER_SQL =
+        "INSERT INTO orders (id, customer_id, table_id, status, total_amount, currency, special_instructions, " +
+        "order_time, estimated_delivery_time, actual_delivery_time, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    // Orders have no unique key besides the primary key, so ON DUPLICATE KEY UPDATE is a safe upsert here
+    private static final String UPSERT_ORDER_SQL = INSERT_ORDER_SQL + " " +
+        "ON DUPLICATE KEY UPDATE customer_id = VALUES(customer_id), table_id = VALUES(table_id), " +
+        "status = VALUES(status), total_amount = VALUES(total_amount), currency = VALUES(currency), " +
+        "special_instructions = VALUES(special_instructions), order_time = VALUES(order_time), " +
+        "estimated_delivery_time = VALUES(estimated_delivery_time), " +
+        "actual_delivery_time = VALUES(actual_delivery_time), updated_at = VALUES(updated_at)";
+    
+    // The status condition makes the second of two concurrent transitions of an order fail instead of
+    // silently overwriting the first
+    private static final String UPDATE_STATUS_SQL =
+        "UPDATE orders SET status = ?, special_instructions = ?, estimated_delivery_time = ?, " +
+        "actual_delivery_time = ?, updated_at = ? WHERE id = ? AND status = ?";
+    
+    // Edits of a pending order; the status condition keeps a late edit from undoing a status change
+    private static final String UPDATE_PENDING_ORDER_SQL =
+        "UPDATE orders SET customer_id = ?, table_id = ?, total_amount = ?, currency = ?, " +
+        "special_instructions = ?, estimated_delivery_time = ?, updated_at = ? WHERE id = ? AND status = ?";
+    
+    private static final String DELETE_ITEMS_SQL = "DELETE FROM order_items WHERE order_id = ?";
+    
+    private static final String INSERT_ITEM_SQL =
+        "INSERT INTO order_items (id, order_id, menu_item_id, menu_item_name, unit_price, currency, quantity, " +
+        "notes, line_number, preparation_minutes) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    // SKIP LOCKED lets several instances archive at the same time without waiting on each other's batches;
+    // the (status, order_time) index serves both the filter and the ordering
+    private static final String SELECT_ARCHIVABLE_SQL =
+        "SELECT id FROM orders WHERE status IN (" + placeholders(COMPLETED_STATUSES.size()) + ") " +
+        "AND order_time < ? ORDER BY order_time LIMIT ? FOR UPDATE SKIP LOCKED";
+    
+    private static final String ORDER_COLUMNS =
+        "id, customer_id, table_id, status, total_amount, currency, special_instructions, " +
+        "order_time, estimated_delivery_time, actual_delivery_time, created_at, updated_at";
+    
+    private static final String ITEM_COLUMNS =
+        "id, order_id, menu_item_id, menu_item_name, unit_price, currency, quantity, notes, line_number, " +
+        "preparation_minutes";
+    
+    private static final String SELECT_PARTITIONS_SQL =
+        "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND PARTITION_NAME IS NOT NULL";
+    
+    // Monthly partitions are named after their month, e.g. p2026_01; p_future catches everything later
+    private static final String CATCH_ALL_PARTITION = "p_future";
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p\\d{4}_\\d{2}");
+    private static final DateTimeFormatter MONTH_PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyy_MM");
+    
+    private static final String FETCH_ORDERS =
+        "SELECT o FROM OrderEntity o LEFT JOIN FETCH o.items ";
+    
+    private final EntityManager entityManager;
+    
+    public JpaOrderRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    @Transactional
+    public Order save(Order order) {
+        saveAll(List.of(order));
+        return order;
+    }
+    
+    // A new order has no items stored yet, so they are inserted without deleting first
+    @Override
+    @Transactional
+    public Order insert(Order order) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insertOrder = connection.prepareStatement(INSERT_ORDER_SQL)) {
+                bindOrder(insertOrder, order);
+                insertOrder.executeUpdate();
+            }
+            insertItems(connection, List.of(order));
+        });
+        return order;
+    }
+    
+    @Override
+    @Transactional
+    public List<Order> saveAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        
+        // Items are replaced wholesale: one batch of deletes, then one batch of inserts for all orders
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement upsertOrder = connection.prepareStatement(UPSERT_ORDER_SQL)) {
+                int count = 0;
+                for (Order order : orders) {
+                    bindOrder(upsertOrder, order);
+                    upsertOrder.addBatch();
+                    if (++count % BATCH_SIZE == 0 || count == orders.size()) {
+                        upsertOrder.executeBatch();
+                    }
+                }
+            }
+            replaceItems(connection, orders);
+        });
+        
+        return orders;
+    }
+    
+    @Override
+    @Transactional
+    public int[] savePending(List<Order> orders) {
+        int[] rows = new int[orders.size()];
+        if (orders.isEmpty()) {
+            return rows;
+        }
+        
+        // The update locks each row it matches until commit, so no status change can slip in between
+        // the condition and the replaced items
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_PENDING_ORDER_SQL)) {
+                int count = 0;
+                for (Order order : orders) {
+                    update.setBytes(1, UuidMapper.toBytes(order.getCustomerId()));
+                    update.setBytes(2, UuidMapper.toBytes(order.getTableId()));
+                    update.setBigDecimal(3, order.getTotalAmount().getAmount());
+                    update.setString(4, order.getTotalAmount().getCurrencyCode());
+                    update.setString(5, order.getSpecialInstructions());
+                    update.setObject(6, order.getEstimatedDeliveryTime());
+                    update.setObject(7, order.getUpdatedAt());
+                    update.setBytes(8, UuidMapper.toBytes(order.getId()));
+                    update.setString(9, OrderStatusEntity.PENDING.name());
+                    update.addBatch();
+                    if (++count % BATCH_SIZE == 0 || count == orders.size()) {
+                        int[] executed = update.executeBatch();
+                        System.arraycopy(executed, 0, rows, count - executed.length, executed.length);
+                    }
+                }
+            }
+            
+            List<Order> updated = new ArrayList<>(orders.size());
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i] != 0) {
+                    updated.add(orders.get(i));
+                }
+            }
+            replaceItems(connection, updated);
+        });
+        return rows;
+    }
+    
+    @Override
+    @Transactional
+    public int updateStatus(Order order, OrderStatus previousStatus) {
+        return entityManager.createQuery(
+                "UPDATE OrderEntity o SET o.status = :status, o.specialInstructions = :specialInstructions, " +
+                "o.estimatedDeliveryTime = :estimatedDeliveryTime, o.actualDeliveryTime = :actualDeliveryTime, " +
+                "o.updatedAt = :updatedAt WHERE o.id = :id AND o.status = :previousStatus")
+            .setParameter("status", OrderMapper.toEntityStatus(order.getStatus()))
+            .setParameter("specialInstructions", order.getSpecialInstructions())
+            .setParameter("estimatedDeliveryTime", order.getEstimatedDeliveryTime())
+            .setParameter("actualDeliveryTime", order.getActualDeliveryTime())
+            .setParameter("updatedAt", order.getUpdatedAt())
+            .setParameter("id", order.getId())
+            .setParameter("previousStatus", OrderMapper.toEntityStatus(previousStatus))
+            .executeUpdate();
+    }
+    
+    @Override
+    @Transactional
+    public int[] updateStatuses(List<Order> orders, List<OrderStatus> previousStatuses) {
+        int[] rows = new int[orders.size()];
+        if (orders.isEmpty()) {
+            return rows;
+        }
+        
+        // Connector/J sends a rewritten batch of updates as one multi-statement and still reports
+        // a row count per statement
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_STATUS_SQL)) {
+                int count = 0;
+                for (int i = 0; i < orders.size(); i++) {
+                    Order order = orders.get(i);
+                    update.setString(1, OrderMapper.toEntityStatus(order.getStatus()).name());
+                    update.setString(2, order.getSpecialInstructions());
+                    update.setObject(3, order.getEstimatedDeliveryTime());
+                    update.setObject(4, order.getActualDeliveryTime());
+                    update.setObject(5, order.getUpdatedAt());
+                    update.setBytes(6, UuidMapper.toBytes(order.getId()));
+                    update.setString(7, OrderMapper.toEntityStatus(previousStatuses.get(i)).name());
+                    update.addBatch();
+                    if (++count % BATCH_SIZE == 0 || count == orders.size()) {
+                        int[] executed = update.executeBatch();
+                        System.arraycopy(executed, 0, rows, count - executed.length, executed.length);
+                    }
+                }
+            }
+        });
+        return rows;
+    }
+    
+    @Override
+    public Optional<Order> findById(UUID orderId) {
+        TypedQuery<OrderEntity> query = readOnly(entityManager.createQuery(
+            FETCH_ORDERS + "WHERE o.id = :id", OrderEntity.class));
+        query.setParameter("id", orderId);
+        return toDomain(query).stream().findFirst();
+    }
+    
+    @Override
+    public List<Order> findAllById(Collection<UUID> orderIds) {
+        List<UUID> ids = new ArrayList<>(orderIds);
+        List<Order> orders = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            TypedQuery<OrderEntity> query = readOnly(entityManager.createQuery(
+                FETCH_ORDERS + "WHERE o.id IN :ids", OrderEntity.class));
+            query.setParameter("ids", ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size())));
+            orders.addAll(toDomain(query));
+        }
+        return orders;
+    }
+    
+    @Override
+    public List<Order> findByCustomerId(UUID customerId) {
+        TypedQuery<OrderEntity> query = readOnly(entityManager.createQuery(
+            FETCH_ORDERS + "WHERE o.customerId = :customerId ORDER BY o.orderTime DESC", OrderEntity.class));
+        query.setParameter("customerId", customerId);
+        return toDomain(query);
+    }
+    
+    @Override
+    public List<Order> findByTableId(UUID tableId) {
+        TypedQuery<OrderEntity> query = readOnly(entityManager.createQuery(
+            FETCH_ORDERS + "WHERE o.tableId = :tableId ORDER BY o.orderTime DESC", OrderEntity.class));
+        query.setParameter("tableId", tableId);
+        return toDomain(query);
+    }
+    
+    @Override
+    public List<Order> findActiveByTableId(UUID tableId) {
+        TypedQuery<OrderEntity> query = readOnly(entityManager.createQuery(
+            FETCH_ORDERS + "WHERE o.tableId = :tableId AND o.status IN :statuses ORDER BY o.orderTime DESC",
+            OrderEntity.class));
+        query.setParameter("tableId", tableId);
+        query.setParameter("statuses", ACTIVE_STATUSES);
+        return toDomain(query);
+    }
+    
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        TypedQuery<OrderEntity> query = readOnly(entityManager.createQuery(
+            FETCH_ORDERS + "WHERE o.status = :status ORDER BY o.orderTime", OrderEntity.class));
+        query.setParameter("status", OrderMapper.toEntityStatus(status));
+        return toDomain(query);
+    }
+    
+    @Override
+    public List<Order> findActive() {
+        TypedQuery<OrderEntity> query = readOnly(entityManager.createQuery(
+            FETCH_ORDERS + "WHERE o.status IN :statuses ORDER BY o.orderTime", OrderEntity.class));
+        query.setParameter("statuses", ACTIVE_STATUSES);
+        return toDomain(query);
+    }
+    
+    @Override
+    public List<Order> findByOrderTimeBetween(LocalDateTime start, LocalDateTime end) {
+        TypedQuery<OrderEntity> query = readOnly(entityManager.createQuery(
+            FETCH_ORDERS + "WHERE o.orderTime BETWEEN :start AND :end ORDER BY o.orderTime", OrderEntity.class));
+        query.setParameter("start", start);
+        query.setParameter("end", end);
+        return toDomain(query);
+    }
+    
+    @Override
+    @Transactional
+    public void deleteById(UUID orderId) {
+        entityManager.createQuery("DELETE FROM OrderItemEntity i WHERE i.order.id = :id")
+            .setParameter("id", orderId)
+            .executeUpdate();
+        entityManager.createQuery("DELETE FROM OrderEntity o WHERE o.id = :id")
+            .setParameter("id", orderId)
+            .executeUpdate();
+    }
+    
+    @Override
+    @Transactional
+    public int archiveCompletedBefore(LocalDateTime cutoff, int limit) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            List<byte[]> orderIds = new ArrayList<>();
+            try (PreparedStatement select = connection.prepareStatement(SELECT_ARCHIVABLE_SQL)) {
+                int index = 1;
+                for (String status : COMPLETED_STATUSES) {
+                    select.setString(index++, status);
+                }
+                select.setObject(index++, cutoff);
+                select.setInt(index, limit);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        orderIds.add(resultSet.getBytes(1));
+                    }
+                }
+            }
+            if (orderIds.isEmpty()) {
+                return 0;
+            }
+            
+            // The order_time bound keeps the statements on orders pruned to the partitions being archived
+            String ids = placeholders(orderIds.size());
+            executeForOrders(connection, orderIds, null,
+                "INSERT INTO order_items_archive (" + ITEM_COLUMNS + ") SELECT " + ITEM_COLUMNS +
+                " FROM order_items WHERE order_id IN (" + ids + ")");
+            executeForOrders(connection, orderIds, cutoff,
+                "INSERT INTO orders_archive (" + ORDER_COLUMNS + ", archived_at) SELECT " + ORDER_COLUMNS +
+                ", NOW() FROM orders WHERE id IN (" + ids + ") AND order_time < ?");
+            executeForOrders(connection, orderIds, null,
+                "DELETE FROM order_items WHERE order_id IN (" + ids + ")");
+            return executeForOrders(connection, orderIds, cutoff,
+                "DELETE FROM orders WHERE id IN (" + ids + ") AND order_time < ?");
+        });
+    }
+    
+    // ALTER TABLE commits implicitly; the transaction only gives the work a connection
+    @Override
+    @Transactional
+    public int addMonthlyPartitionsThrough(YearMonth month) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            YearMonth lastMonth = null;
+            boolean catchAll = false;
+            try (PreparedStatement select = connection.prepareStatement(SELECT_PARTITIONS_SQL);
+                 ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    String name = resultSet.getString(1);
+                    if (CATCH_ALL_PARTITION.equals(name)) {
+                        catchAll = true;
+                    } else if (MONTH_PARTITION.matcher(name).matches()) {
+                        YearMonth partitionMonth = YearMonth.parse(name, MONTH_PARTITION_NAME);
+                        if (lastMonth == null || partitionMonth.isAfter(lastMonth)) {
+                            lastMonth = partitionMonth;
+                        }
+                    }
+                }
+            }
+            if (!catchAll || lastMonth == null || !lastMonth.isBefore(month)) {
+                return 0;
+            }
+            
+            StringBuilder partitions = new StringBuilder();
+            int added = 0;
+            for (YearMonth next = lastMonth.plusMonths(1); !next.isAfter(month); next = next.plusMonths(1)) {
+                partitions.append("PARTITION ").append(next.format(MONTH_PARTITION_NAME))
+                    .append(" VALUES LESS THAN ('").append(next.plusMonths(1).atDay(1)).append("'), ");
+                added++;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE orders REORGANIZE PARTITION " + CATCH_ALL_PARTITION + " INTO (" +
+                    partitions + "PARTITION " + CATCH_ALL_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            }
+            return added;
+        });
+    }
+    
+    @Override
+    public long count() {
+        TypedQuery<Long> query = readOnly(entityManager.createQuery(
+            "SELECT COUNT(o) FROM OrderEntity o", Long.class));
+        return query.getSingleResult();
+    }
+    
+    @Override
+    public long countByStatus(OrderStatus status) {
+        TypedQuery<Long> query = readOnly(entityManager.createQuery(
+            "SELECT COUNT(o) FROM OrderEntity o WHERE o.status = :status", Long.class));
+        query.setParameter("status", OrderMapper.toEntityStatus(status));
+        return query.getSingleResult();
+    }
+    
+    // Finders only map what they load: read-only entities keep no dirty-checking snapshot, and since every
+    // write in the repository is an explicit statement, nothing is ever pending to auto-flush before a query
+    private static <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        return query
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+    
+    // Hibernate 6 de-duplicates the root entities of a fetch join, so no DISTINCT is needed.
+    // Rows arrive FETCH_SIZE at a time and each order is detached together with its items once mapped.
+    private List<Order> toDomain(TypedQuery<OrderEntity> query) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE);
+        List<Order> orders = new ArrayList<>();
+        for (OrderEntity entity : query.getResultList()) {
+            orders.add(OrderMapper.toDomain(entity));
+            entityManager.detach(entity);
+        }
+        return orders;
+    }
+    
+    private static int executeForOrders(Connection connection, List<byte[]> orderIds, LocalDateTime cutoff,
+                                        String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (byte[] orderId : orderIds) {
+                statement.setBytes(index++, orderId);
+            }
+            if (cutoff != null) {
+                statement.setObject(index, cutoff);
+            }
+            return statement.executeUpdate();
+        }
+    }
+    
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+    
+    // One batch of deletes, then one batch of inserts for the items of all orders
+    private void replaceItems(Connection connection, List<Order> orders) throws SQLException {
+        if (orders.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement deleteItems = connection.prepareStatement(DELETE_ITEMS_SQL)) {
+            int count = 0;
+            for (Order order : orders) {
+                deleteItems.setBytes(1, UuidMapper.toBytes(order.getId()));
+                deleteItems.addBatch();
+                if (++count % BATCH_SIZE == 0 || count == orders.size()) {
+                    deleteItems.executeBatch();
+                }
+            }
+        }
+        insertItems(connection, orders);
+    }
+    
+    private void insertItems(Connection connection, List<Order> orders) throws SQLException {
+        try (PreparedStatement insertItem = connection.prepareStatement(INSERT_ITEM_SQL)) {
+            int items = 0;
+            for (Order order : orders) {
+                byte[] orderId = UuidMapper.toBytes(order.getId());
+                List<OrderItem> orderItems = order.getItems();
+                for (int line = 0; line < orderItems.size(); line++) {
+                    bindItem(insertItem, orderId, orderItems.get(line), line);
+                    insertItem.addBatch();
+                    if (++items % BATCH_SIZE == 0) {
+                        insertItem.executeBatch();
+                    }
+                }
+            }
+            if (items % BATCH_SIZE != 0) {
+                insertItem.executeBatch();
+            }
+        }
+    }
+    
+    private void bindOrder(PreparedStatement statement, Order order) throws SQLException {
+        statement.setBytes(1, UuidMapper.toBytes(order.getId()));
+        statement.setBytes(2, UuidMapper.toBytes(order.getCustomerId()));
+        statement.setBytes(3, UuidMapper.toBytes(order.getTableId()));
+        statement.setString(4, OrderMapper.toEntityStatus(order.getStatus()).name());
+        statement.setBigDecimal(5, order.getTotalAmount().getAmount());
+        statement.setString(6, order.getTotalAmount().getCurrencyCode());
+        statement.setString(7, order.getSpecialInstructions());
+        statement.setObject(8, order.getOrderTime());
+        statement.setObject(9, order.getEstimatedDeliveryTime());
+        statement.setObject(10, order.getActualDeliveryTime());
+        statement.setObject(11, order.getCreatedAt());
+        statement.setObject(12, order.getUpdatedAt());
+    }
+    
+    private void bindItem(PreparedStatement statement, byte[] orderId, OrderItem item, int lineNumber)
+            throws SQLException {
+        statement.setBytes(1, UuidMapper.toBytes(item.getId()));
+        statement.setBytes(2, orderId);
+        statement.setBytes(3, UuidMapper.toBytes(item.getMenuItemId()));
+        statement.setString(4, item.getMenuItemName());
+        statement.setBigDecimal(5, item.getUnitPrice().getAmount());
+        statement.setString(6, item.getUnitPrice().getCurrencyCode());
+        statement.setInt(7, item.getQuantity());
+        statement.setString(8, item.getNotes());
+        statement.setInt(9, lineNumber);
+        statement.setInt(10, item.getPreparationTimeMinutes());
+    }
+}
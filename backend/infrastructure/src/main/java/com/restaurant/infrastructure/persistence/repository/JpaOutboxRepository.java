@@ -0,0 +1,127 @@
+package com.restaurant.infrastructure.persistence.repository;
+
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.infrastructure.persistence.mapper.UuidMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA implementation of OutboxRepository.
+ * Appends and claims go through JDBC, since claiming relies on MySQL's FOR UPDATE SKIP LOCKED.
+ */
+public class JpaOutboxRepository implements OutboxRepository {
+    
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO outbox_messages (id, topic, payload, attempts, created_at, next_attempt_at) " +
+        "VALUES (?, ?, ?, 0, ?, ?)";
+    
+    private static final String CLAIM_SQL =
+        "SELECT id, topic, payload, attempts, created_at FROM outbox_messages " +
+        "WHERE published_at IS NULL AND next_attempt_at <= ? ORDER BY next_attempt_at LIMIT ? " +
+        "FOR UPDATE SKIP LOCKED";
+    
+    private final EntityManager entityManager;
+    
+    public JpaOutboxRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    @Transactional
+    public void append(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                int count = 0;
+                for (OutboxMessage message : messages) {
+                    insert.setBytes(1, UuidMapper.toBytes(message.id()));
+                    insert.setString(2, message.topic());
+                    insert.setString(3, message.payload());
+                    insert.setObject(4, message.createdAt());
+                    insert.setObject(5, message.createdAt());
+                    insert.addBatch();
+                    if (++count % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                if (count % BATCH_SIZE != 0) {
+                    insert.executeBatch();
+                }
+            }
+        });
+    }
+    
+    @Override
+    @Transactional
+    public List<OutboxMessage> claimPending(LocalDateTime now, int limit) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            List<OutboxMessage> messages = new ArrayList<>();
+            try (PreparedStatement claim = connection.prepareStatement(CLAIM_SQL)) {
+                claim.setObject(1, now);
+                claim.setInt(2, limit);
+                try (ResultSet resultSet = claim.executeQuery()) {
+                    while (resultSet.next()) {
+                        messages.add(new OutboxMessage(
+                            UuidMapper.fromBytes(resultSet.getBytes("id")),
+                            resultSet.getString("topic"),
+                            resultSet.getString("payload"),
+                            resultSet.getInt("attempts"),
+                            resultSet.getObject("created_at", LocalDateTime.class)
+                        ));
+                    }
+                }
+            }
+            return messages;
+        });
+    }
+    
+    @Override
+    @Transactional
+    public void markPublished(List<UUID> messageIds, LocalDateTime publishedAt) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        entityManager.createQuery(
+                "UPDATE OutboxMessageEntity m SET m.publishedAt = :publishedAt, m.nextAttemptAt = NULL " +
+                "WHERE m.id IN :ids")
+            .setParameter("publishedAt", publishedAt)
+            .setParameter("ids", messageIds)
+            .executeUpdate();
+    }
+    
+    @Override
+    @Transactional
+    public void markFailed(UUID messageId, int attempts, LocalDateTime nextAttemptAt, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        entityManager.createQuery(
+                "UPDATE OutboxMessageEntity m SET m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt, " +
+                "m.lastError = :lastError WHERE m.id = :id")
+            .setParameter("attempts", attempts)
+            .setParameter("nextAttemptAt", nextAttemptAt)
+            .setParameter("lastError", lastError)
+            .setParameter("id", messageId)
+            .executeUpdate();
+    }
+    
+    @Override
+    @Transactional
+    public int deletePublishedBefore(LocalDateTime cutoff) {
+        return entityManager.createQuery("DELETE FROM OutboxMessageEntity m WHERE m.publishedAt < :cutoff")
+            .setParameter("cutoff", cutoff)
+            .executeUpdate();
+    }
+}
@@ -0,0 +1,165 @@
+package com.restaurant.infrastructure.persistence.repository;
+
+import com.restaurant.application.port.out.RestaurantTableRepository;
+import com.restaurant.domain.entity.RestaurantTable;
+import com.restaurant.domain.valueobject.TableStatus;
+import com.restaurant.infrastructure.persistence.entity.RestaurantTableEntity;
+import com.restaurant.infrastructure.persistence.entity.TableStatusEntity;
+import com.restaurant.infrastructure.persistence.mapper.RestaurantTableMapper;
+import com.restaurant.infrastructure.persistence.mapper.UuidMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * JPA implementation of RestaurantTableRepository.
+ * Status changes are conditional UPDATEs, so concurrent hosts cannot double-book a table
+ * and no row locks are held between reading a table and changing it.
+ */
+public class JpaRestaurantTableRepository implements RestaurantTableRepository {
+    
+    private static final Map<String, Object> READ_ONLY = Map.of(HibernateHints.HINT_READ_ONLY, true);
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO restaurant_tables (id, table_number, capacity, status, location, current_order_id, " +
+        "last_occupied_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final EntityManager entityManager;
+    
+    public JpaRestaurantTableRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    @Transactional
+    public RestaurantTable save(RestaurantTable table) {
+        // Same update-then-insert as customers: ON DUPLICATE KEY UPDATE would also fire
+        // on the unique table number and overwrite a different table. Existing rows keep their
+        // status columns, which only change through compareAndSetStatus.
+        int updated = entityManager.createQuery(
+                "UPDATE RestaurantTableEntity t SET t.tableNumber = :tableNumber, t.capacity = :capacity, " +
+                "t.location = :location, t.updatedAt = :updatedAt WHERE t.id = :id")
+            .setParameter("tableNumber", table.getTableNumber())
+            .setParameter("capacity", table.getCapacity())
+            .setParameter("location", table.getLocation())
+            .setParameter("updatedAt", table.getUpdatedAt())
+            .setParameter("id", table.getId())
+            .executeUpdate();
+        
+        if (updated == 0) {
+            entityManager.createNativeQuery(INSERT_SQL)
+                .setParameter(1, UuidMapper.toBytes(table.getId()))
+                .setParameter(2, table.getTableNumber())
+                .setParameter(3, table.getCapacity())
+                .setParameter(4, RestaurantTableMapper.toEntityStatus(table.getStatus()).name())
+                .setParameter(5, table.getLocation())
+                .setParameter(6, UuidMapper.toBytes(table.getCurrentOrderId()))
+                .setParameter(7, table.getLastOccupiedAt())
+                .setParameter(8, table.getCreatedAt())
+                .setParameter(9, table.getUpdatedAt())
+                .executeUpdate();
+        }
+        
+        return table;
+    }
+    
+    @Override
+    @Transactional
+    public boolean compareAndSetStatus(RestaurantTable table, TableStatus expectedStatus) {
+        return entityManager.createQuery(
+                "UPDATE RestaurantTableEntity t SET t.status = :status, t.currentOrderId = :currentOrderId, " +
+                "t.lastOccupiedAt = :lastOccupiedAt, t.updatedAt = :updatedAt " +
+                "WHERE t.id = :id AND t.status = :expectedStatus")
+            .setParameter("status", RestaurantTableMapper.toEntityStatus(table.getStatus()))
+            .setParameter("currentOrderId", table.getCurrentOrderId())
+            .setParameter("lastOccupiedAt", table.getLastOccupiedAt())
+            .setParameter("updatedAt", table.getUpdatedAt())
+            .setParameter("id", table.getId())
+            .setParameter("expectedStatus", RestaurantTableMapper.toEntityStatus(expectedStatus))
+            .executeUpdate() == 1;
+    }
+    
+    @Override
+    public Optional<RestaurantTable> findById(UUID tableId) {
+        RestaurantTableEntity entity = entityManager.find(RestaurantTableEntity.class, tableId, READ_ONLY);
+        return Optional.ofNullable(RestaurantTableMapper.toDomain(entity));
+    }
+    
+    @Override
+    public Optional<RestaurantTable> findByTableNumber(String tableNumber) {
+        TypedQuery<RestaurantTableEntity> query = readOnly(entityManager.createQuery(
+            "SELECT t FROM RestaurantTableEntity t WHERE t.tableNumber = :tableNumber", RestaurantTableEntity.class));
+        query.setParameter("tableNumber", tableNumber);
+        return query.getResultList().stream()
+            .findFirst()
+            .map(RestaurantTableMapper::toDomain);
+    }
+    
+    @Override
+    public List<RestaurantTable> findAll() {
+        TypedQuery<RestaurantTableEntity> query = readOnly(entityManager.createQuery(
+            "SELECT t FROM RestaurantTableEntity t ORDER BY t.tableNumber", RestaurantTableEntity.class));
+        return toDomain(query);
+    }
+    
+    @Override
+    public List<RestaurantTable> findByStatus(TableStatus status) {
+        TypedQuery<RestaurantTableEntity> query = readOnly(entityManager.createQuery(
+            "SELECT t FROM RestaurantTableEntity t WHERE t.status = :status ORDER BY t.tableNumber",
+            RestaurantTableEntity.class));
+        query.setParameter("status", RestaurantTableMapper.toEntityStatus(status));
+        return toDomain(query);
+    }
+    
+    @Override
+    public Optional<RestaurantTable> findBestFit(int partySize) {
+        // Range scan on idx_table_status_capacity: the first row is already the smallest fitting table
+        TypedQuery<RestaurantTableEntity> query = readOnly(entityManager.createQuery(
+            "SELECT t FROM RestaurantTableEntity t WHERE t.status = :status AND t.capacity >= :partySize " +
+            "ORDER BY t.capacity", RestaurantTableEntity.class));
+        query.setParameter("status", TableStatusEntity.AVAILABLE);
+        query.setParameter("partySize", partySize);
+        query.setMaxResults(1);
+        return query.getResultList().stream()
+            .findFirst()
+            .map(RestaurantTableMapper::toDomain);
+    }
+    
+    @Override
+    public boolean existsByTableNumber(String tableNumber) {
+        TypedQuery<Long> query = readOnly(entityManager.createQuery(
+            "SELECT COUNT(t) FROM RestaurantTableEntity t WHERE t.tableNumber = :tableNumber", Long.class));
+        query.setParameter("tableNumber", tableNumber);
+        return query.getSingleResult() > 0;
+    }
+    
+    @Override
+    @Transactional
+    public void deleteById(UUID tableId) {
+        entityManager.createQuery("DELETE FROM RestaurantTableEntity t WHERE t.id = :id")
+            .setParameter("id", tableId)
+            .executeUpdate();
+    }
+    
+    // Tables are only ever changed by explicit statements, so finders need no
+    // dirty-checking snapshots and nothing is pending to auto-flush before a query
+    private static <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        return query
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+    
+    private static List<RestaurantTable> toDomain(TypedQuery<RestaurantTableEntity> query) {
+        return query.getResultList().stream()
+            .map(RestaurantTableMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,56 @@
+package com.restaurant.infrastructure.persistence.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound routing decision for the current request.
+ * Read-only calls may be served by a replica until the request performs its first write;
+ * from then on every read sticks to the primary so the request sees its own writes.
+ */
+public final class DataSourceRoutingContext {
+    
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+    
+    private DataSourceRoutingContext() {
+    }
+    
+    /**
+     * Run an operation that only reads, allowing it to be routed to a replica
+     */
+    public static <T> T readOnly(Supplier<T> operation) {
+        State state = STATE.get();
+        state.readOnlyDepth++;
+        try {
+            return operation.get();
+        } finally {
+            state.readOnlyDepth--;
+        }
+    }
+    
+    /**
+     * Record that the current request has written, pinning its remaining reads to the primary
+     */
+    public static void markWrite() {
+        STATE.get().wrote = true;
+    }
+    
+    /**
+     * Whether a connection acquired now may come from a replica
+     */
+    public static boolean isReadOnly() {
+        State state = STATE.get();
+        return state.readOnlyDepth > 0 && !state.wrote;
+    }
+    
+    /**
+     * Reset the routing state at the end of a request
+     */
+    public static void clear() {
+        STATE.remove();
+    }
+    
+    private static final class State {
+        private int readOnlyDepth;
+        private boolean wrote;
+    }
+}
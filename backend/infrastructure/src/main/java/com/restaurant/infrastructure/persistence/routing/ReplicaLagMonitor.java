@@ -0,0 +1,123 @@
+package com.restaurant.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Periodically probes replica lag and marks replicas that are unreachable, not replicating
+ * or further behind than the allowed lag as unhealthy, so reads fall back to the primary.
+ * Data sources that are reachable but not MySQL replicas (local stand-ins) count as zero lag.
+ * The monitor owns the replica data sources and closes them when it is closed.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final long UNAVAILABLE = -1;
+    
+    private final List<DataSource> replicas;
+    private final long maxLagSeconds;
+    private final AtomicLongArray lagSeconds;
+    private final ScheduledExecutorService scheduler;
+    
+    public ReplicaLagMonitor(List<DataSource> replicas, Duration maxLag, Duration checkInterval) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.lagSeconds = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            lagSeconds.set(i, UNAVAILABLE);
+        }
+        
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::checkAll, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    public int replicaCount() {
+        return replicas.size();
+    }
+    
+    public DataSource getReplica(int replica) {
+        return replicas.get(replica);
+    }
+    
+    public boolean isHealthy(int replica) {
+        long lag = lagSeconds.get(replica);
+        return lag != UNAVAILABLE && lag <= maxLagSeconds;
+    }
+    
+    public boolean anyHealthy() {
+        for (int i = 0; i < replicas.size(); i++) {
+            if (isHealthy(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Last observed lag in seconds, or -1 when the replica is unavailable
+     */
+    public long getLagSeconds(int replica) {
+        return lagSeconds.get(replica);
+    }
+    
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Failed to close replica data source", e);
+                }
+            }
+        }
+    }
+    
+    private void checkAll() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean wasHealthy = isHealthy(i);
+            long lag = probe(replicas.get(i));
+            lagSeconds.set(i, lag);
+            if (isHealthy(i) != wasHealthy) {
+                logger.info("Replica {} is now {} (lag: {}s)", i, wasHealthy ? "unhealthy" : "healthy", lag);
+            }
+        }
+    }
+    
+    private long probe(DataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!resultSet.next()) {
+                    return 0;
+                }
+                long lag = resultSet.getLong("Seconds_Behind_Source");
+                // NULL means the replication threads are not running
+                return resultSet.wasNull() ? UNAVAILABLE : lag;
+            } catch (SQLException e) {
+                logger.debug("Replica lag query not supported, treating reachable replica as current", e);
+                return 0;
+            }
+        } catch (SQLException e) {
+            logger.warn("Replica health check failed: {}", e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.restaurant.infrastructure.persistence.routing;
+
+import com.restaurant.application.port.out.CustomerRepository;
+import com.restaurant.domain.entity.Customer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * CustomerRepository decorator that marks the finders other than findById and findAllEmails, searches and counts
+ * as read-only, so they can be served by a replica, and pins the rest of the request to the primary after a write
+ */
+public class ReplicaRoutingCustomerRepository implements CustomerRepository {
+    
+    private final CustomerRepository delegate;
+    
+    public ReplicaRoutingCustomerRepository(CustomerRepository delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public Customer save(Customer customer) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.save(customer);
+    }
+    
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.saveAll(customers);
+    }
+    
+    @Override
+    public boolean insert(Customer customer) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.insert(customer);
+    }
+    
+    @Override
+    public int upsert(Customer customer) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.upsert(customer);
+    }
+    
+    @Override
+    public int updateActive(UUID customerId, boolean active) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.updateActive(customerId, active);
+    }
+    
+    @Override
+    public void deleteById(UUID customerId) {
+        DataSourceRoutingContext.markWrite();
+        delegate.deleteById(customerId);
+    }
+    
+    // Loading a single customer is the first step of every change to it; reading it from a lagging
+    // replica would let the following write overwrite newer state, so it stays on the primary
+    @Override
+    public Optional<Customer> findById(UUID customerId) {
+        return delegate.findById(customerId);
+    }
+    
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findByEmail(email));
+    }
+    
+    @Override
+    public List<Customer> findAll() {
+        return DataSourceRoutingContext.readOnly(delegate::findAll);
+    }
+    
+    @Override
+    public List<Customer> findAllActive() {
+        return DataSourceRoutingContext.readOnly(delegate::findAllActive);
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.searchByName(name));
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name, int limit) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.searchByName(name, limit));
+    }
+    
+    @Override
+    public boolean existsByEmail(String email) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.existsByEmail(email));
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findExistingEmails(emails));
+    }
+    
+    // Loads the filter of known emails, whose negative answers skip the database; a lagging replica would
+    // leave recent emails out and let a duplicate through to the unique index, so it stays on the primary
+    @Override
+    public List<String> findAllEmails() {
+        return delegate.findAllEmails();
+    }
+    
+    @Override
+    public long count() {
+        return DataSourceRoutingContext.readOnly(delegate::count);
+    }
+    
+    @Override
+    public long countActive() {
+        return DataSourceRoutingContext.readOnly(delegate::countActive);
+    }
+}
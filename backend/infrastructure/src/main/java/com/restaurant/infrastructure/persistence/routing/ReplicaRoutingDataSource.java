@@ -0,0 +1,90 @@
+package com.restaurant.infrastructure.persistence.routing;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * DataSource that hands out replica connections for read-only calls
+ * (see {@link DataSourceRoutingContext}) and primary connections for everything else.
+ * Replicas are used round-robin, skipping those the lag monitor reports as unhealthy.
+ */
+public class ReplicaRoutingDataSource implements DataSource {
+    
+    private final DataSource primary;
+    private final ReplicaLagMonitor replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+    
+    private DataSource target() {
+        int count = replicas.replicaCount();
+        if (count == 0 || !DataSourceRoutingContext.isReadOnly()) {
+            return primary;
+        }
+        
+        int start = Math.floorMod(next.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int candidate = (start + i) % count;
+            if (replicas.isHealthy(candidate)) {
+                return replicas.getReplica(candidate);
+            }
+        }
+        return primary;
+    }
+    
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+    
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+    
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+    
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+    
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+    
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+    
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,141 @@
+package com.restaurant.infrastructure.persistence.routing;
+
+import com.restaurant.application.port.out.MenuItemRepository;
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.domain.valueobject.Money;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * MenuItemRepository decorator that marks the finders other than findById and findAllNames, searches and counts
+ * as read-only, so they can be served by a replica, and pins the rest of the request to the primary after a write
+ */
+public class ReplicaRoutingMenuItemRepository implements MenuItemRepository {
+    
+    private final MenuItemRepository delegate;
+    
+    public ReplicaRoutingMenuItemRepository(MenuItemRepository delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public MenuItem save(MenuItem menuItem) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.save(menuItem);
+    }
+    
+    @Override
+    public List<MenuItem> saveAll(List<MenuItem> menuItems) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.saveAll(menuItems);
+    }
+    
+    @Override
+    public boolean insert(MenuItem menuItem) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.insert(menuItem);
+    }
+    
+    @Override
+    public int upsert(MenuItem menuItem) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.upsert(menuItem);
+    }
+    
+    @Override
+    public int updatePrice(UUID menuItemId, Money price) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.updatePrice(menuItemId, price);
+    }
+    
+    @Override
+    public int updateAvailability(UUID menuItemId, boolean available) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.updateAvailability(menuItemId, available);
+    }
+    
+    @Override
+    public void deleteById(UUID menuItemId) {
+        DataSourceRoutingContext.markWrite();
+        delegate.deleteById(menuItemId);
+    }
+    
+    // Loading a single menu item is the first step of every change to it; reading it from a lagging
+    // replica would let the following write overwrite newer state, so it stays on the primary
+    @Override
+    public Optional<MenuItem> findById(UUID menuItemId) {
+        return delegate.findById(menuItemId);
+    }
+    
+    @Override
+    public List<MenuItem> findAllById(Collection<UUID> menuItemIds) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findAllById(menuItemIds));
+    }
+    
+    @Override
+    public List<MenuItem> findAll() {
+        return DataSourceRoutingContext.readOnly(delegate::findAll);
+    }
+    
+    @Override
+    public List<MenuItem> findAllAvailable() {
+        return DataSourceRoutingContext.readOnly(delegate::findAllAvailable);
+    }
+    
+    @Override
+    public List<MenuItem> findByCategory(MenuCategory category) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findByCategory(category));
+    }
+    
+    @Override
+    public List<MenuItem> findAvailableByCategory(MenuCategory category) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findAvailableByCategory(category));
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.searchByName(name));
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name, int limit) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.searchByName(name, limit));
+    }
+    
+    @Override
+    public boolean existsByName(String name) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.existsByName(name));
+    }
+    
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findExistingNames(names));
+    }
+    
+    // Loads the filter of known names, whose negative answers skip the database; a lagging replica would
+    // leave recent names out and let a duplicate through to the unique index, so it stays on the primary
+    @Override
+    public List<String> findAllNames() {
+        return delegate.findAllNames();
+    }
+    
+    @Override
+    public long count() {
+        return DataSourceRoutingContext.readOnly(delegate::count);
+    }
+    
+    @Override
+    public long countAvailable() {
+        return DataSourceRoutingContext.readOnly(delegate::countAvailable);
+    }
+    
+    @Override
+    public long countByCategory(MenuCategory category) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.countByCategory(category));
+    }
+}
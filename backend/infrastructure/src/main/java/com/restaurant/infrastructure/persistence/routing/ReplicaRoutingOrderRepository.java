@@ -0,0 +1,132 @@
+package com.restaurant.infrastructure.persistence.routing;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * OrderRepository decorator that marks list finders and counts as read-only,
+ * so they can be served by a replica, and pins the rest of the request to the primary after a write
+ */
+public class ReplicaRoutingOrderRepository implements OrderRepository {
+    
+    private final OrderRepository delegate;
+    
+    public ReplicaRoutingOrderRepository(OrderRepository delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public Order save(Order order) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.save(order);
+    }
+    
+    @Override
+    public Order insert(Order order) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.insert(order);
+    }
+    
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.saveAll(orders);
+    }
+    
+    @Override
+    public int updateStatus(Order order, OrderStatus previousStatus) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.updateStatus(order, previousStatus);
+    }
+    
+    @Override
+    public int[] savePending(List<Order> orders) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.savePending(orders);
+    }
+    
+    @Override
+    public int[] updateStatuses(List<Order> orders, List<OrderStatus> previousStatuses) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.updateStatuses(orders, previousStatuses);
+    }
+    
+    @Override
+    public void deleteById(UUID orderId) {
+        DataSourceRoutingContext.markWrite();
+        delegate.deleteById(orderId);
+    }
+    
+    @Override
+    public int archiveCompletedBefore(LocalDateTime cutoff, int limit) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.archiveCompletedBefore(cutoff, limit);
+    }
+    
+    @Override
+    public int addMonthlyPartitionsThrough(YearMonth month) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.addMonthlyPartitionsThrough(month);
+    }
+    
+    // Loading a single order is the first step of every order change; reading it from a lagging
+    // replica would let the following write overwrite newer state, so it stays on the primary
+    @Override
+    public Optional<Order> findById(UUID orderId) {
+        return delegate.findById(orderId);
+    }
+    
+    // Loads the orders of a batch change, so it stays on the primary for the same reason
+    @Override
+    public List<Order> findAllById(Collection<UUID> orderIds) {
+        return delegate.findAllById(orderIds);
+    }
+    
+    @Override
+    public List<Order> findByCustomerId(UUID customerId) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findByCustomerId(customerId));
+    }
+    
+    @Override
+    public List<Order> findByTableId(UUID tableId) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findByTableId(tableId));
+    }
+    
+    @Override
+    public List<Order> findActiveByTableId(UUID tableId) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findActiveByTableId(tableId));
+    }
+    
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findByStatus(status));
+    }
+    
+    @Override
+    public List<Order> findActive() {
+        return DataSourceRoutingContext.readOnly(delegate::findActive);
+    }
+    
+    @Override
+    public List<Order> findByOrderTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findByOrderTimeBetween(start, end));
+    }
+    
+    @Override
+    public long count() {
+        return DataSourceRoutingContext.readOnly(delegate::count);
+    }
+    
+    @Override
+    public long countByStatus(OrderStatus status) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.countByStatus(status));
+    }
+}
@@ -0,0 +1,72 @@
+package com.restaurant.infrastructure.persistence.routing;
+
+import com.restaurant.application.port.out.RestaurantTableRepository;
+import com.restaurant.domain.entity.RestaurantTable;
+import com.restaurant.domain.valueobject.TableStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * RestaurantTableRepository decorator that marks listings as read-only,
+ * so they can be served by a replica, and pins the rest of the request to the primary after a write
+ */
+public class ReplicaRoutingRestaurantTableRepository implements RestaurantTableRepository {
+    
+    private final RestaurantTableRepository delegate;
+    
+    public ReplicaRoutingRestaurantTableRepository(RestaurantTableRepository delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public RestaurantTable save(RestaurantTable table) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.save(table);
+    }
+    
+    @Override
+    public boolean compareAndSetStatus(RestaurantTable table, TableStatus expectedStatus) {
+        DataSourceRoutingContext.markWrite();
+        return delegate.compareAndSetStatus(table, expectedStatus);
+    }
+    
+    @Override
+    public void deleteById(UUID tableId) {
+        DataSourceRoutingContext.markWrite();
+        delegate.deleteById(tableId);
+    }
+    
+    // Single-table lookups feed the conditional status updates; a stale replica row would only
+    // turn into lost races and retries, so they stay on the primary
+    @Override
+    public Optional<RestaurantTable> findById(UUID tableId) {
+        return delegate.findById(tableId);
+    }
+    
+    @Override
+    public Optional<RestaurantTable> findBestFit(int partySize) {
+        return delegate.findBestFit(partySize);
+    }
+    
+    @Override
+    public Optional<RestaurantTable> findByTableNumber(String tableNumber) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findByTableNumber(tableNumber));
+    }
+    
+    @Override
+    public List<RestaurantTable> findAll() {
+        return DataSourceRoutingContext.readOnly(delegate::findAll);
+    }
+    
+    @Override
+    public List<RestaurantTable> findByStatus(TableStatus status) {
+        return DataSourceRoutingContext.readOnly(() -> delegate.findByStatus(status));
+    }
+    
+    @Override
+    public boolean existsByTableNumber(String tableNumber) {
+        return delegate.existsByTableNumber(tableNumber);
+    }
+}
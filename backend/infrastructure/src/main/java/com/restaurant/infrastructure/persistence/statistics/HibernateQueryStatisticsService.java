@@ -0,0 +1,69 @@
+package com.restaurant.infrastructure.persistence.statistics;
+
+import com.restaurant.application.port.out.QueryStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hibernate implementation of QueryStatisticsService.
+ * Only reports data when hibernate.generate_statistics is enabled.
+ */
+public class HibernateQueryStatisticsService implements QueryStatisticsService {
+    
+    private final EntityManagerFactory entityManagerFactory;
+    
+    public HibernateQueryStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+    
+    @Override
+    public QueryStats getStats(int topQueries) {
+        Statistics statistics = statistics();
+        long hits = statistics.getQueryPlanCacheHitCount();
+        long misses = statistics.getQueryPlanCacheMissCount();
+        long lookups = hits + misses;
+        
+        List<QueryStat> queries = Arrays.stream(statistics.getQueries())
+            .map(query -> toQueryStat(query, statistics.getQueryStatistics(query)))
+            .sorted(Comparator.comparingLong(QueryStat::executionCount).reversed())
+            .limit(topQueries)
+            .toList();
+        
+        return new QueryStats(
+            statistics.isStatisticsEnabled(),
+            statistics.getQueryExecutionCount(),
+            hits,
+            misses,
+            lookups > 0 ? (double) hits / lookups : 0.0,
+            statistics.getQueryExecutionMaxTime(),
+            statistics.getQueryExecutionMaxTimeQueryString(),
+            queries
+        );
+    }
+    
+    @Override
+    public void reset() {
+        statistics().clear();
+    }
+    
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    private static QueryStat toQueryStat(String query, QueryStatistics statistics) {
+        return new QueryStat(
+            query,
+            statistics.getExecutionCount(),
+            statistics.getExecutionAvgTime(),
+            statistics.getExecutionMaxTime(),
+            statistics.getPlanCacheHitCount(),
+            statistics.getPlanCacheMissCount()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.restaurant.infrastructure.persistence.transaction;
+
+import com.restaurant.application.port.out.TransactionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * TransactionService decorator that runs afterCommit actions once the outermost inTransaction call
+ * has returned, which is when the transactional delegate has committed; when it throws, the transaction
+ * rolled back and the actions are dropped.
+ *
+ * Work that joins a transaction begun outside this service, such as one of a @Transactional caller,
+ * would see its actions run before that transaction commits; transactions here start in the services.
+ */
+public class AfterCommitTransactionService implements TransactionService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AfterCommitTransactionService.class);
+    
+    private final TransactionService delegate;
+    
+    // Actions waiting for the transaction of the outermost inTransaction call on this thread
+    private final ThreadLocal<List<Runnable>> pending = new ThreadLocal<>();
+    
+    public AfterCommitTransactionService(TransactionService delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        if (pending.get() != null) {
+            return delegate.inTransaction(work);
+        }
+        
+        List<Runnable> actions = new ArrayList<>();
+        pending.set(actions);
+        T result;
+        try {
+            result = delegate.inTransaction(work);
+        } finally {
+            pending.remove();
+        }
+        
+        // The work has committed; an action failing must not turn that into an error for the caller
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                logger.warn("After-commit action failed", e);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void afterCommit(Runnable action) {
+        List<Runnable> actions = pending.get();
+        if (actions != null) {
+            actions.add(action);
+        } else {
+            action.run();
+        }
+    }
+}
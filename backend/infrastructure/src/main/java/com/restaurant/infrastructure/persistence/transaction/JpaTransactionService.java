@@ -0,0 +1,19 @@
+package com.restaurant.infrastructure.persistence.transaction;
+
+import com.restaurant.application.port.out.TransactionService;
+import jakarta.transaction.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * TransactionService backed by the JPA transaction of the hosting framework.
+ * Like the JPA repositories, it must be created as a managed bean so that @Transactional is applied.
+ */
+public class JpaTransactionService implements TransactionService {
+    
+    @Override
+    @Transactional
+    public <T> T inTransaction(Supplier<T> work) {
+        return work.get();
+    }
+}
@@ -0,0 +1,210 @@
+package com.restaurant.infrastructure.search;
+
+import com.restaurant.application.port.out.CustomerRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.domain.entity.Customer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CustomerRepository decorator that serves name searches from an in-process trigram index
+ * over customer names and emails.
+ *
+ * The index is loaded in the background at startup and reloaded every refresh interval, to pick up writes
+ * made by other instances; until the first load succeeds, searches go to the delegate. Writes going through
+ * this repository update the index once their transaction has committed, with a copy of what was written,
+ * and searches return copies, so nothing a caller does to a customer changes what is indexed.
+ */
+public class SearchIndexedCustomerRepository implements CustomerRepository, AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexedCustomerRepository.class);
+    private static final int DEFAULT_LIMIT = 50;
+    
+    private final CustomerRepository delegate;
+    private final TransactionService transactionService;
+    private final TrigramIndex<Customer> index = new TrigramIndex<>(
+        Customer::getId, Customer::getName, Customer::getEmail, SearchIndexedCustomerRepository::copyOf);
+    private final ScheduledExecutorService reloader;
+    private volatile boolean loaded;
+    
+    public SearchIndexedCustomerRepository(CustomerRepository delegate, TransactionService transactionService) {
+        this(delegate, transactionService, Duration.ofMinutes(5));
+    }
+    
+    public SearchIndexedCustomerRepository(CustomerRepository delegate, TransactionService transactionService,
+                                           Duration refreshInterval) {
+        this.delegate = delegate;
+        this.transactionService = transactionService;
+        this.reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-search-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reloader.scheduleWithFixedDelay(this::reload, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name) {
+        return searchByName(name, DEFAULT_LIMIT);
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name, int limit) {
+        return loaded ? index.search(name, limit) : delegate.searchByName(name, limit);
+    }
+    
+    @Override
+    public Customer save(Customer customer) {
+        Customer saved = delegate.save(customer);
+        indexAfterCommit(saved);
+        return saved;
+    }
+    
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<Customer> saved = delegate.saveAll(customers);
+        List<Customer> snapshots = saved.stream().map(SearchIndexedCustomerRepository::copyOf).toList();
+        transactionService.afterCommit(() -> snapshots.forEach(index::put));
+        return saved;
+    }
+    
+    @Override
+    public boolean insert(Customer customer) {
+        boolean inserted = delegate.insert(customer);
+        if (inserted) {
+            indexAfterCommit(customer);
+        }
+        return inserted;
+    }
+    
+    @Override
+    public int upsert(Customer customer) {
+        int rows = delegate.upsert(customer);
+        indexAfterCommit(customer);
+        return rows;
+    }
+    
+    @Override
+    public int updateActive(UUID customerId, boolean active) {
+        int rows = delegate.updateActive(customerId, active);
+        if (rows > 0) {
+            transactionService.afterCommit(() -> index.update(customerId, customer -> {
+                if (active) {
+                    customer.activate();
+                } else {
+                    customer.deactivate();
+                }
+            }));
+        }
+        return rows;
+    }
+    
+    @Override
+    public void deleteById(UUID customerId) {
+        delegate.deleteById(customerId);
+        transactionService.afterCommit(() -> index.remove(customerId));
+    }
+    
+    @Override
+    public Optional<Customer> findById(UUID customerId) {
+        return delegate.findById(customerId);
+    }
+    
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+    
+    @Override
+    public List<Customer> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<Customer> findAllActive() {
+        return delegate.findAllActive();
+    }
+    
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+    
+    @Override
+    public List<String> findAllEmails() {
+        return delegate.findAllEmails();
+    }
+    
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+    
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+    
+    /**
+     * Stop reloading the index, and whatever the decorated repository reloads in the background
+     */
+    @Override
+    public void close() {
+        reloader.shutdownNow();
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close the decorated repository", e);
+            }
+        }
+    }
+    
+    private void indexAfterCommit(Customer customer) {
+        Customer snapshot = copyOf(customer);
+        transactionService.afterCommit(() -> index.put(snapshot));
+    }
+    
+    // Searches keep being served from the current index while it reloads, and after a failed reload.
+    // Runs outside any request, so the load gets a transaction of its own.
+    private void reload() {
+        long start = System.nanoTime();
+        try {
+            index.rebuild(() -> transactionService.inTransaction(delegate::findAll));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load customer search index, keeping the current one", e);
+            return;
+        }
+        loaded = true;
+        logger.info("Customer search index loaded with {} customers in {} ms",
+            index.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+    
+    private static Customer copyOf(Customer customer) {
+        Customer copy = new Customer();
+        copy.setId(customer.getId());
+        copy.setName(customer.getName());
+        copy.setEmail(customer.getEmail());
+        copy.setPhone(customer.getPhone());
+        copy.setAddress(customer.getAddress());
+        copy.setActive(customer.isActive());
+        copy.setCreatedAt(customer.getCreatedAt());
+        copy.setUpdatedAt(customer.getUpdatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,238 @@
+package com.restaurant.infrastructure.search;
+
+import com.restaurant.application.port.out.MenuItemRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.domain.valueobject.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MenuItemRepository decorator that serves name searches from an in-process trigram index
+ * over menu item names and descriptions.
+ *
+ * The index is loaded in the background at startup and reloaded every refresh interval, to pick up writes
+ * made by other instances; until the first load succeeds, searches go to the delegate. Writes going through
+ * this repository update the index once their transaction has committed, with a copy of what was written,
+ * and searches return copies, so nothing a caller does to a menu item changes what is indexed.
+ */
+public class SearchIndexedMenuItemRepository implements MenuItemRepository, AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexedMenuItemRepository.class);
+    private static final int DEFAULT_LIMIT = 50;
+    
+    private final MenuItemRepository delegate;
+    private final TransactionService transactionService;
+    private final TrigramIndex<MenuItem> index = new TrigramIndex<>(
+        MenuItem::getId, MenuItem::getName, MenuItem::getDescription, SearchIndexedMenuItemRepository::copyOf);
+    private final ScheduledExecutorService reloader;
+    private volatile boolean loaded;
+    
+    public SearchIndexedMenuItemRepository(MenuItemRepository delegate, TransactionService transactionService) {
+        this(delegate, transactionService, Duration.ofMinutes(5));
+    }
+    
+    public SearchIndexedMenuItemRepository(MenuItemRepository delegate, TransactionService transactionService,
+                                           Duration refreshInterval) {
+        this.delegate = delegate;
+        this.transactionService = transactionService;
+        this.reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "menu-item-search-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reloader.scheduleWithFixedDelay(this::reload, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name) {
+        return searchByName(name, DEFAULT_LIMIT);
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name, int limit) {
+        return loaded ? index.search(name, limit) : delegate.searchByName(name, limit);
+    }
+    
+    @Override
+    public MenuItem save(MenuItem menuItem) {
+        MenuItem saved = delegate.save(menuItem);
+        indexAfterCommit(saved);
+        return saved;
+    }
+    
+    @Override
+    public List<MenuItem> saveAll(List<MenuItem> menuItems) {
+        List<MenuItem> saved = delegate.saveAll(menuItems);
+        List<MenuItem> snapshots = saved.stream().map(SearchIndexedMenuItemRepository::copyOf).toList();
+        transactionService.afterCommit(() -> snapshots.forEach(index::put));
+        return saved;
+    }
+    
+    @Override
+    public boolean insert(MenuItem menuItem) {
+        boolean inserted = delegate.insert(menuItem);
+        if (inserted) {
+            indexAfterCommit(menuItem);
+        }
+        return inserted;
+    }
+    
+    @Override
+    public int upsert(MenuItem menuItem) {
+        int rows = delegate.upsert(menuItem);
+        indexAfterCommit(menuItem);
+        return rows;
+    }
+    
+    @Override
+    public int updatePrice(UUID menuItemId, Money price) {
+        int rows = delegate.updatePrice(menuItemId, price);
+        if (rows > 0) {
+            transactionService.afterCommit(() -> index.update(menuItemId, menuItem -> menuItem.updatePrice(price)));
+        }
+        return rows;
+    }
+    
+    @Override
+    public int updateAvailability(UUID menuItemId, boolean available) {
+        int rows = delegate.updateAvailability(menuItemId, available);
+        if (rows > 0) {
+            transactionService.afterCommit(() -> index.update(menuItemId, menuItem -> {
+                if (available) {
+                    menuItem.makeAvailable();
+                } else {
+                    menuItem.makeUnavailable();
+                }
+            }));
+        }
+        return rows;
+    }
+    
+    @Override
+    public void deleteById(UUID menuItemId) {
+        delegate.deleteById(menuItemId);
+        transactionService.afterCommit(() -> index.remove(menuItemId));
+    }
+    
+    @Override
+    public Optional<MenuItem> findById(UUID menuItemId) {
+        return delegate.findById(menuItemId);
+    }
+    
+    @Override
+    public List<MenuItem> findAllById(Collection<UUID> menuItemIds) {
+        return delegate.findAllById(menuItemIds);
+    }
+    
+    @Override
+    public List<MenuItem> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<MenuItem> findAllAvailable() {
+        return delegate.findAllAvailable();
+    }
+    
+    @Override
+    public List<MenuItem> findByCategory(MenuCategory category) {
+        return delegate.findByCategory(category);
+    }
+    
+    @Override
+    public List<MenuItem> findAvailableByCategory(MenuCategory category) {
+        return delegate.findAvailableByCategory(category);
+    }
+    
+    @Override
+    public boolean existsByName(String name) {
+        return delegate.existsByName(name);
+    }
+    
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        return delegate.findExistingNames(names);
+    }
+    
+    @Override
+    public List<String> findAllNames() {
+        return delegate.findAllNames();
+    }
+    
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+    
+    @Override
+    public long countAvailable() {
+        return delegate.countAvailable();
+    }
+    
+    @Override
+    public long countByCategory(MenuCategory category) {
+        return delegate.countByCategory(category);
+    }
+    
+    /**
+     * Stop reloading the index, and whatever the decorated repository reloads in the background
+     */
+    @Override
+    public void close() {
+        reloader.shutdownNow();
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close the decorated repository", e);
+            }
+        }
+    }
+    
+    private void indexAfterCommit(MenuItem menuItem) {
+        MenuItem snapshot = copyOf(menuItem);
+        transactionService.afterCommit(() -> index.put(snapshot));
+    }
+    
+    // Searches keep being served from the current index while it reloads, and after a failed reload.
+    // Runs outside any request, so the load gets a transaction of its own.
+    private void reload() {
+        long start = System.nanoTime();
+        try {
+            index.rebuild(() -> transactionService.inTransaction(delegate::findAll));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load menu item search index, keeping the current one", e);
+            return;
+        }
+        loaded = true;
+        logger.info("Menu item search index loaded with {} items in {} ms",
+            index.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+    
+    private static MenuItem copyOf(MenuItem menuItem) {
+        MenuItem copy = new MenuItem();
+        copy.setId(menuItem.getId());
+        copy.setName(menuItem.getName());
+        copy.setDescription(menuItem.getDescription());
+        copy.setPrice(menuItem.getPrice());
+        copy.setCategory(menuItem.getCategory());
+        copy.setImageUrl(menuItem.getImageUrl());
+        copy.setAvailable(menuItem.isAvailable());
+        copy.setPreparationTimeMinutes(menuItem.getPreparationTimeMinutes());
+        copy.setCreatedAt(menuItem.getCreatedAt());
+        copy.setUpdatedAt(menuItem.getUpdatedAt());
+        return copy;
+    }
+}
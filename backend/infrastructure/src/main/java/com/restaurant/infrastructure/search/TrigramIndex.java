@@ -0,0 +1,297 @@
+package com.restaurant.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * In-process trigram index with prefix and fuzzy matching.
+ *
+ * Each document has a primary text (e.g. a name) and an optional secondary text
+ * (e.g. a description or email) that contributes to ranking with a lower weight.
+ * Reads are lock-free; writes are serialized and can be applied while the index
+ * is being rebuilt from the database without losing updates.
+ *
+ * Indexed values are never handed out or changed: put keeps the value it is given, which the caller must
+ * not change afterwards, search returns copies, and update changes a copy that then replaces the entry.
+ */
+public class TrigramIndex<T> {
+    
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double SECONDARY_WEIGHT = 0.5;
+    private static final double MIN_SIMILARITY = 0.6;
+    
+    private final Function<T, UUID> idFunction;
+    private final Function<T, String> primaryText;
+    private final Function<T, String> secondaryText;
+    private final UnaryOperator<T> copier;
+    private final Object writeLock = new Object();
+    
+    private volatile Segment<T> segment = new Segment<>();
+    private List<Consumer<Segment<T>>> pendingWrites;
+    
+    public TrigramIndex(Function<T, UUID> idFunction, Function<T, String> primaryText,
+                        Function<T, String> secondaryText, UnaryOperator<T> copier) {
+        this.idFunction = idFunction;
+        this.primaryText = primaryText;
+        this.secondaryText = secondaryText;
+        this.copier = copier;
+    }
+    
+    /**
+     * Add or replace a document
+     */
+    public void put(T value) {
+        write(target -> index(target, value));
+    }
+    
+    /**
+     * Replace an indexed document, if present, by a copy with the change applied
+     */
+    public void update(UUID id, Consumer<T> change) {
+        write(target -> {
+            Document<T> document = target.documents.get(id);
+            if (document != null) {
+                T changed = copier.apply(document.value);
+                change.accept(changed);
+                index(target, changed);
+            }
+        });
+    }
+    
+    /**
+     * Remove a document
+     */
+    public void remove(UUID id) {
+        write(target -> unindex(target, id));
+    }
+    
+    /**
+     * Replace the whole index with the documents returned by the loader.
+     * Writes that happen while the loader runs are replayed on top of the fresh snapshot.
+     */
+    public void rebuild(Supplier<Collection<T>> loader) {
+        synchronized (writeLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        
+        Segment<T> fresh = new Segment<>();
+        try {
+            for (T value : loader.get()) {
+                index(fresh, value);
+            }
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingWrites = null;
+            }
+            throw e;
+        }
+        
+        synchronized (writeLock) {
+            pendingWrites.forEach(write -> write.accept(fresh));
+            pendingWrites = null;
+            segment = fresh;
+        }
+    }
+    
+    public int size() {
+        return segment.documents.size();
+    }
+    
+    /**
+     * Search for documents matching the query, best matches first
+     */
+    public List<T> search(String query, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        // Padded trigrams anchor the query at word starts (prefix matching);
+        // the inner ones also let it match inside a word, with a lower score
+        Set<String> prefixTrigrams = new LinkedHashSet<>();
+        Set<String> innerTrigrams = new HashSet<>();
+        for (String word : normalizedQuery.split(" ")) {
+            addTrigrams(prefixTrigrams, "  " + word);
+            addTrigrams(innerTrigrams, word);
+        }
+        
+        Segment<T> current = segment;
+        Map<UUID, Candidate> candidates = new HashMap<>();
+        for (String trigram : prefixTrigrams) {
+            boolean inner = innerTrigrams.contains(trigram);
+            for (UUID id : current.postings(Field.PRIMARY, trigram)) {
+                candidates.computeIfAbsent(id, key -> new Candidate()).hitPrimary(inner);
+            }
+            for (UUID id : current.postings(Field.SECONDARY, trigram)) {
+                candidates.computeIfAbsent(id, key -> new Candidate()).hitSecondary(inner);
+            }
+        }
+        
+        List<Match<T>> matches = new ArrayList<>();
+        for (Map.Entry<UUID, Candidate> entry : candidates.entrySet()) {
+            Document<T> document = current.documents.get(entry.getKey());
+            if (document == null) {
+                continue;
+            }
+            
+            double score = entry.getValue().score(prefixTrigrams.size(), innerTrigrams.size());
+            if (document.primary.startsWith(normalizedQuery)) {
+                score += 1.0;
+            } else if (document.primary.contains(normalizedQuery)) {
+                score += 0.5;
+            } else if (document.secondary.contains(normalizedQuery)) {
+                score += 0.25;
+            }
+            
+            if (score >= MIN_SIMILARITY) {
+                matches.add(new Match<>(document, score));
+            }
+        }
+        
+        return matches.stream()
+            .sorted(Comparator.<Match<T>>comparingDouble(Match::score).reversed()
+                .thenComparing(match -> match.document().primary))
+            .limit(limit)
+            .map(match -> copier.apply(match.document().value))
+            .toList();
+    }
+    
+    private void write(Consumer<Segment<T>> operation) {
+        synchronized (writeLock) {
+            operation.accept(segment);
+            if (pendingWrites != null) {
+                pendingWrites.add(operation);
+            }
+        }
+    }
+    
+    private void index(Segment<T> target, T value) {
+        UUID id = idFunction.apply(value);
+        unindex(target, id);
+        
+        String primary = normalize(primaryText.apply(value));
+        String secondary = secondaryText == null ? "" : normalize(secondaryText.apply(value));
+        Document<T> document = new Document<>(value, primary, secondary, trigrams(primary), trigrams(secondary));
+        
+        document.primaryTrigrams.forEach(trigram -> target.add(Field.PRIMARY, trigram, id));
+        document.secondaryTrigrams.forEach(trigram -> target.add(Field.SECONDARY, trigram, id));
+        target.documents.put(id, document);
+    }
+    
+    private void unindex(Segment<T> target, UUID id) {
+        Document<T> previous = target.documents.remove(id);
+        if (previous != null) {
+            previous.primaryTrigrams.forEach(trigram -> target.remove(Field.PRIMARY, trigram, id));
+            previous.secondaryTrigrams.forEach(trigram -> target.remove(Field.SECONDARY, trigram, id));
+        }
+    }
+    
+    private static Set<String> trigrams(String normalizedText) {
+        Set<String> trigrams = new HashSet<>();
+        if (!normalizedText.isEmpty()) {
+            for (String word : normalizedText.split(" ")) {
+                addTrigrams(trigrams, "  " + word + " ");
+            }
+        }
+        return trigrams;
+    }
+    
+    private static void addTrigrams(Set<String> target, String text) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            target.add(text.substring(i, i + 3));
+        }
+    }
+    
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(stripped).replaceAll(" ").trim();
+    }
+    
+    private enum Field { PRIMARY, SECONDARY }
+    
+    private record Document<T>(T value, String primary, String secondary,
+                               Set<String> primaryTrigrams, Set<String> secondaryTrigrams) {}
+    
+    private record Match<T>(Document<T> document, double score) {}
+    
+    private static class Segment<T> {
+        
+        private final Map<UUID, Document<T>> documents = new ConcurrentHashMap<>();
+        private final Map<String, Set<UUID>> primaryPostings = new ConcurrentHashMap<>();
+        private final Map<String, Set<UUID>> secondaryPostings = new ConcurrentHashMap<>();
+        
+        Set<UUID> postings(Field field, String trigram) {
+            return postingsFor(field).getOrDefault(trigram, Set.of());
+        }
+        
+        void add(Field field, String trigram, UUID id) {
+            postingsFor(field).computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        
+        void remove(Field field, String trigram, UUID id) {
+            postingsFor(field).computeIfPresent(trigram, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        
+        private Map<String, Set<UUID>> postingsFor(Field field) {
+            return field == Field.PRIMARY ? primaryPostings : secondaryPostings;
+        }
+    }
+    
+    private static class Candidate {
+        
+        private int primaryHits;
+        private int primaryInnerHits;
+        private int secondaryHits;
+        private int secondaryInnerHits;
+        
+        void hitPrimary(boolean inner) {
+            primaryHits++;
+            if (inner) {
+                primaryInnerHits++;
+            }
+        }
+        
+        void hitSecondary(boolean inner) {
+            secondaryHits++;
+            if (inner) {
+                secondaryInnerHits++;
+            }
+        }
+        
+        double score(int prefixTrigramCount, int innerTrigramCount) {
+            double primary = similarity(primaryHits, primaryInnerHits, prefixTrigramCount, innerTrigramCount);
+            double secondary = similarity(secondaryHits, secondaryInnerHits, prefixTrigramCount, innerTrigramCount);
+            return Math.max(primary, SECONDARY_WEIGHT * secondary);
+        }
+        
+        private static double similarity(int hits, int innerHits, int prefixTrigramCount, int innerTrigramCount) {
+            double prefix = (double) hits / prefixTrigramCount;
+            double inner = innerTrigramCount == 0 ? 0.0 : 0.8 * innerHits / innerTrigramCount;
+            return Math.max(prefix, inner);
+        }
+    }
+}
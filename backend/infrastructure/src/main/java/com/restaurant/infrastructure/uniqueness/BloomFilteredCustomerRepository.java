@@ -0,0 +1,138 @@
+package com.restaurant.infrastructure.uniqueness;
+
+import com.restaurant.application.port.out.CustomerRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.domain.entity.Customer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * CustomerRepository decorator that answers email existence checks for emails it has never seen
+ * without a query. Emails the filter might know are still confirmed against the database,
+ * and the unique email index rejects anything the filter missed.
+ */
+public class BloomFilteredCustomerRepository implements CustomerRepository, AutoCloseable {
+    
+    private final CustomerRepository delegate;
+    private final KnownKeyFilter emails;
+    
+    public BloomFilteredCustomerRepository(CustomerRepository delegate, TransactionService transactionService) {
+        this(delegate, transactionService, Duration.ofMinutes(10));
+    }
+    
+    public BloomFilteredCustomerRepository(CustomerRepository delegate, TransactionService transactionService,
+                                           Duration refreshInterval) {
+        this.delegate = delegate;
+        // Loaded off the request path, in a transaction of its own, reading only the email column
+        this.emails = new KnownKeyFilter("customer email",
+            () -> transactionService.inTransaction(delegate::findAllEmails), refreshInterval);
+    }
+    
+    @Override
+    public boolean existsByEmail(String email) {
+        return emails.mightContain(email) && delegate.existsByEmail(email);
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(Collection<String> candidates) {
+        List<String> known = candidates.stream().filter(emails::mightContain).toList();
+        return known.isEmpty() ? Set.of() : delegate.findExistingEmails(known);
+    }
+    
+    @Override
+    public List<String> findAllEmails() {
+        return delegate.findAllEmails();
+    }
+    
+    @Override
+    public Customer save(Customer customer) {
+        Customer saved = delegate.save(customer);
+        emails.add(saved.getEmail());
+        return saved;
+    }
+    
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<Customer> saved = delegate.saveAll(customers);
+        saved.forEach(customer -> emails.add(customer.getEmail()));
+        return saved;
+    }
+    
+    @Override
+    public boolean insert(Customer customer) {
+        boolean inserted = delegate.insert(customer);
+        // A rejected insert means the email exists after all
+        emails.add(customer.getEmail());
+        return inserted;
+    }
+    
+    @Override
+    public int upsert(Customer customer) {
+        int rows = delegate.upsert(customer);
+        emails.add(customer.getEmail());
+        return rows;
+    }
+    
+    @Override
+    public int updateActive(UUID customerId, boolean active) {
+        return delegate.updateActive(customerId, active);
+    }
+    
+    @Override
+    public void deleteById(UUID customerId) {
+        delegate.deleteById(customerId);
+    }
+    
+    @Override
+    public Optional<Customer> findById(UUID customerId) {
+        return delegate.findById(customerId);
+    }
+    
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+    
+    @Override
+    public List<Customer> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<Customer> findAllActive() {
+        return delegate.findAllActive();
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name) {
+        return delegate.searchByName(name);
+    }
+    
+    @Override
+    public List<Customer> searchByName(String name, int limit) {
+        return delegate.searchByName(name, limit);
+    }
+    
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+    
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+    
+    /**
+     * Stop reloading the email filter
+     */
+    @Override
+    public void close() {
+        emails.close();
+    }
+}
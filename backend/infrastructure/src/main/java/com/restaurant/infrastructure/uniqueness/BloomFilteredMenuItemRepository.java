@@ -0,0 +1,160 @@
+package com.restaurant.infrastructure.uniqueness;
+
+import com.restaurant.application.port.out.MenuItemRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.domain.valueobject.Money;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * MenuItemRepository decorator that answers name existence checks for names it has never seen
+ * without a query. Names the filter might know are still confirmed against the database,
+ * and the unique name index rejects anything the filter missed.
+ */
+public class BloomFilteredMenuItemRepository implements MenuItemRepository, AutoCloseable {
+    
+    private final MenuItemRepository delegate;
+    private final KnownKeyFilter names;
+    
+    public BloomFilteredMenuItemRepository(MenuItemRepository delegate, TransactionService transactionService) {
+        this(delegate, transactionService, Duration.ofMinutes(10));
+    }
+    
+    public BloomFilteredMenuItemRepository(MenuItemRepository delegate, TransactionService transactionService,
+                                           Duration refreshInterval) {
+        this.delegate = delegate;
+        // Loaded off the request path, in a transaction of its own, reading only the name column
+        this.names = new KnownKeyFilter("menu item name",
+            () -> transactionService.inTransaction(delegate::findAllNames), refreshInterval);
+    }
+    
+    @Override
+    public boolean existsByName(String name) {
+        return names.mightContain(name) && delegate.existsByName(name);
+    }
+    
+    @Override
+    public Set<String> findExistingNames(Collection<String> candidates) {
+        List<String> known = candidates.stream().filter(names::mightContain).toList();
+        return known.isEmpty() ? Set.of() : delegate.findExistingNames(known);
+    }
+    
+    @Override
+    public List<String> findAllNames() {
+        return delegate.findAllNames();
+    }
+    
+    @Override
+    public MenuItem save(MenuItem menuItem) {
+        MenuItem saved = delegate.save(menuItem);
+        names.add(saved.getName());
+        return saved;
+    }
+    
+    @Override
+    public List<MenuItem> saveAll(List<MenuItem> menuItems) {
+        List<MenuItem> saved = delegate.saveAll(menuItems);
+        saved.forEach(menuItem -> names.add(menuItem.getName()));
+        return saved;
+    }
+    
+    @Override
+    public boolean insert(MenuItem menuItem) {
+        boolean inserted = delegate.insert(menuItem);
+        // A rejected insert means the name exists after all
+        names.add(menuItem.getName());
+        return inserted;
+    }
+    
+    @Override
+    public int upsert(MenuItem menuItem) {
+        int rows = delegate.upsert(menuItem);
+        names.add(menuItem.getName());
+        return rows;
+    }
+    
+    @Override
+    public int updatePrice(UUID menuItemId, Money price) {
+        return delegate.updatePrice(menuItemId, price);
+    }
+    
+    @Override
+    public int updateAvailability(UUID menuItemId, boolean available) {
+        return delegate.updateAvailability(menuItemId, available);
+    }
+    
+    @Override
+    public void deleteById(UUID menuItemId) {
+        delegate.deleteById(menuItemId);
+    }
+    
+    @Override
+    public Optional<MenuItem> findById(UUID menuItemId) {
+        return delegate.findById(menuItemId);
+    }
+    
+    @Override
+    public List<MenuItem> findAllById(Collection<UUID> menuItemIds) {
+        return delegate.findAllById(menuItemIds);
+    }
+    
+    @Override
+    public List<MenuItem> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<MenuItem> findAllAvailable() {
+        return delegate.findAllAvailable();
+    }
+    
+    @Override
+    public List<MenuItem> findByCategory(MenuCategory category) {
+        return delegate.findByCategory(category);
+    }
+    
+    @Override
+    public List<MenuItem> findAvailableByCategory(MenuCategory category) {
+        return delegate.findAvailableByCategory(category);
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name) {
+        return delegate.searchByName(name);
+    }
+    
+    @Override
+    public List<MenuItem> searchByName(String name, int limit) {
+        return delegate.searchByName(name, limit);
+    }
+    
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+    
+    @Override
+    public long countAvailable() {
+        return delegate.countAvailable();
+    }
+    
+    @Override
+    public long countByCategory(MenuCategory category) {
+        return delegate.countByCategory(category);
+    }
+    
+    /**
+     * Stop reloading the name filter
+     */
+    @Override
+    public void close() {
+        names.close();
+    }
+}
@@ -0,0 +1,136 @@
+package com.restaurant.infrastructure.uniqueness;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bloom filter of the values of a unique column, loaded from the database by a background thread at startup
+ * and then once per refresh interval, so no request ever waits for a load. The reload drops deleted values
+ * and picks up values written by other instances; until then those only cost a query or a rejected insert,
+ * never a wrong answer, because the unique index stays the source of truth. Before the first load, and while
+ * loads fail, every key might be known and the checks go to the database.
+ */
+public class KnownKeyFilter implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(KnownKeyFilter.class);
+    private static final int MIN_CAPACITY = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    
+    private final String name;
+    private final Supplier<Collection<String>> loader;
+    private final Object loadLock = new Object();
+    private final Object writeLock = new Object();
+    private final ScheduledExecutorService reloader;
+    
+    private volatile BloomFilter filter;
+    private List<String> pendingKeys;
+    
+    public KnownKeyFilter(String name, Supplier<Collection<String>> loader, Duration refreshInterval) {
+        this(name, loader, Duration.ZERO, refreshInterval);
+    }
+    
+    public KnownKeyFilter(String name, Supplier<Collection<String>> loader, Duration initialDelay,
+                          Duration refreshInterval) {
+        this.name = name;
+        this.loader = loader;
+        this.reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name.replace(' ', '-') + "-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reloader.scheduleWithFixedDelay(this::runScheduled, initialDelay.toMillis(),
+            Math.max(1, refreshInterval.toMillis()), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * False only when the key is certainly not in the database as of the last load, or was not written since
+     */
+    public boolean mightContain(String key) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(normalize(key));
+    }
+    
+    /**
+     * Record a key that was just written
+     */
+    public void add(String key) {
+        if (key == null) {
+            return;
+        }
+        String normalized = normalize(key);
+        synchronized (writeLock) {
+            if (filter != null) {
+                filter.put(normalized);
+            }
+            if (pendingKeys != null) {
+                pendingKeys.add(normalized);
+            }
+        }
+    }
+    
+    /**
+     * Load the filter from the database now, waiting for a load already running; a failed load keeps the current one
+     */
+    public void loadNow() {
+        synchronized (loadLock) {
+            synchronized (writeLock) {
+                pendingKeys = new ArrayList<>();
+            }
+            try {
+                reload();
+            } finally {
+                synchronized (writeLock) {
+                    pendingKeys = null;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Stop reloading the filter
+     */
+    @Override
+    public void close() {
+        reloader.shutdownNow();
+    }
+    
+    private void runScheduled() {
+        try {
+            loadNow();
+        } catch (RuntimeException e) {
+            // Checks keep using the current filter, or the database before the first load; the next run tries again
+            logger.warn("Failed to load the {} filter", name, e);
+        }
+    }
+    
+    private void reload() {
+        long start = System.nanoTime();
+        Collection<String> keys = loader.get();
+        // Sized at twice the current count so that the false positive rate holds while new keys arrive
+        BloomFilter fresh = new BloomFilter(Math.max(MIN_CAPACITY, keys.size() * 2), FALSE_POSITIVE_RATE);
+        keys.forEach(key -> fresh.put(normalize(key)));
+        
+        // Keys written while the loader ran are replayed on top of the fresh filter
+        synchronized (writeLock) {
+            pendingKeys.forEach(fresh::put);
+            filter = fresh;
+        }
+        logger.info("Loaded the {} filter with {} keys in {} ms",
+            name, keys.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+    
+    // MySQL's default collation compares case-insensitively, so the filter does too
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,98 @@
+-- Tables added after the baseline: restaurant tables, orders and their items, their archive, and the
+-- outbox. They run on databases baselined at version 1 as well, which never had them; IF NOT EXISTS
+-- leaves a table alone that was created by hand before this migration.
+
+CREATE TABLE IF NOT EXISTS restaurant_tables (
+    id BINARY(16) NOT NULL,
+    table_number VARCHAR(10) NOT NULL,
+    capacity INTEGER NOT NULL,
+    status ENUM ('AVAILABLE', 'OCCUPIED', 'RESERVED', 'CLEANING', 'OUT_OF_SERVICE') NOT NULL,
+    location VARCHAR(200),
+    current_order_id BINARY(16),
+    last_occupied_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_table_number (table_number),
+    KEY idx_table_status_capacity (status, capacity)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS orders (
+    id BINARY(16) NOT NULL,
+    customer_id BINARY(16) NOT NULL,
+    table_id BINARY(16),
+    status ENUM ('PENDING', 'CONFIRMED', 'PREPARING', 'READY', 'DELIVERED', 'CANCELLED') NOT NULL,
+    total_amount DECIMAL(10, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    special_instructions VARCHAR(500),
+    order_time DATETIME(6) NOT NULL,
+    estimated_delivery_time DATETIME(6),
+    actual_delivery_time DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_order_customer (customer_id),
+    KEY idx_order_table (table_id),
+    KEY idx_order_status_time (status, order_time),
+    KEY idx_order_time (order_time)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id BINARY(16) NOT NULL,
+    order_id BINARY(16) NOT NULL,
+    menu_item_id BINARY(16) NOT NULL,
+    menu_item_name VARCHAR(100) NOT NULL,
+    unit_price DECIMAL(10, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    quantity INTEGER NOT NULL,
+    notes VARCHAR(200),
+    line_number INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_order_item_order (order_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id BINARY(16) NOT NULL,
+    customer_id BINARY(16) NOT NULL,
+    table_id BINARY(16),
+    status ENUM ('PENDING', 'CONFIRMED', 'PREPARING', 'READY', 'DELIVERED', 'CANCELLED') NOT NULL,
+    total_amount DECIMAL(10, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    special_instructions VARCHAR(500),
+    order_time DATETIME(6) NOT NULL,
+    estimated_delivery_time DATETIME(6),
+    actual_delivery_time DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_order_archive_customer (customer_id),
+    KEY idx_order_archive_time (order_time)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS order_items_archive (
+    id BINARY(16) NOT NULL,
+    order_id BINARY(16) NOT NULL,
+    menu_item_id BINARY(16) NOT NULL,
+    menu_item_name VARCHAR(100) NOT NULL,
+    unit_price DECIMAL(10, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    quantity INTEGER NOT NULL,
+    notes VARCHAR(200),
+    line_number INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_order_item_archive_order (order_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id BINARY(16) NOT NULL,
+    topic VARCHAR(100) NOT NULL,
+    payload VARCHAR(1000) NOT NULL,
+    attempts INTEGER NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    next_attempt_at DATETIME(6),
+    published_at DATETIME(6),
+    last_error VARCHAR(500),
+    PRIMARY KEY (id),
+    KEY idx_outbox_pending (published_at, next_attempt_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,37 @@
+-- Baseline: the schema as Hibernate generated it from the customer and menu item entities, the only
+-- ones mapped before migrations took over. Databases that already have these tables are baselined at
+-- this version and skip the script; every table added since is created by a later migration.
+
+CREATE TABLE customers (
+    id BINARY(16) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(20),
+    address VARCHAR(500),
+    active BIT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_customer_email (email),
+    KEY idx_customer_active (active),
+    KEY idx_customer_name (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE menu_items (
+    id BINARY(16) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    price DECIMAL(10, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    category ENUM ('APPETIZER', 'MAIN_COURSE', 'DESSERT', 'BEVERAGE', 'SALAD', 'SOUP', 'PASTA', 'PIZZA',
+        'SEAFOOD', 'MEAT', 'VEGETARIAN', 'VEGAN', 'GLUTEN_FREE', 'KIDS_MENU', 'SPECIAL') NOT NULL,
+    image_url VARCHAR(500),
+    available BIT NOT NULL,
+    preparation_time_minutes INTEGER NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_menu_item_name (name),
+    KEY idx_menu_item_category (category),
+    KEY idx_menu_item_available (available)
+) ENGINE = InnoDB;
@@ -0,0 +1,51 @@
+-- Range-partition orders by order month.
+--
+-- MySQL requires the partitioning column in every unique key and does not support foreign keys
+-- on partitioned tables, so order_time joins the primary key and any order_items foreign key left
+-- over from older schemas is dropped. Queries bounded on order_time (date ranges, archival) only
+-- touch the matching partitions. The statements also apply to a table that is already partitioned.
+--
+-- Later months need no migration: OrderPartitionJob splits them off p_future at startup and then
+-- periodically, through OrderRepository.addMonthlyPartitionsThrough, keeping partitions a configured
+-- number of months ahead so orders never land in p_future.
+
+SET @order_items_fk = (
+    SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+    WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'order_items' AND REFERENCED_TABLE_NAME = 'orders'
+    LIMIT 1);
+SET @drop_fk = IF(@order_items_fk IS NULL, 'DO 0',
+    CONCAT('ALTER TABLE order_items DROP FOREIGN KEY ', @order_items_fk));
+PREPARE drop_fk FROM @drop_fk;
+EXECUTE drop_fk;
+DEALLOCATE PREPARE drop_fk;
+
+ALTER TABLE orders DROP PRIMARY KEY, ADD PRIMARY KEY (id, order_time);
+
+ALTER TABLE orders PARTITION BY RANGE COLUMNS (order_time) (
+    PARTITION p_history VALUES LESS THAN ('2026-01-01'),
+    PARTITION p2026_01 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p2026_02 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p2026_03 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p2026_04 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p2026_05 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p2026_06 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p2026_07 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p2026_08 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p2026_09 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p2026_10 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p2026_11 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p2026_12 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p2027_01 VALUES LESS THAN ('2027-02-01'),
+    PARTITION p2027_02 VALUES LESS THAN ('2027-03-01'),
+    PARTITION p2027_03 VALUES LESS THAN ('2027-04-01'),
+    PARTITION p2027_04 VALUES LESS THAN ('2027-05-01'),
+    PARTITION p2027_05 VALUES LESS THAN ('2027-06-01'),
+    PARTITION p2027_06 VALUES LESS THAN ('2027-07-01'),
+    PARTITION p2027_07 VALUES LESS THAN ('2027-08-01'),
+    PARTITION p2027_08 VALUES LESS THAN ('2027-09-01'),
+    PARTITION p2027_09 VALUES LESS THAN ('2027-10-01'),
+    PARTITION p2027_10 VALUES LESS THAN ('2027-11-01'),
+    PARTITION p2027_11 VALUES LESS THAN ('2027-12-01'),
+    PARTITION p2027_12 VALUES LESS THAN ('2028-01-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
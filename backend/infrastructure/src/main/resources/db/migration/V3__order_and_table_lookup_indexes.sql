@@ -0,0 +1,19 @@
+-- Composite indexes for the finders that filter on one column and sort on another,
+-- so MySQL reads the rows in order instead of sorting them after the lookup:
+--   orders by customer or table, newest first
+--   order items of an order, by line number (the @OrderBy of the items collection)
+--   tables by status, by table number
+-- The single-column indexes they replace are left-prefixes of the new ones.
+
+ALTER TABLE orders
+    DROP INDEX idx_order_customer,
+    DROP INDEX idx_order_table,
+    ADD INDEX idx_order_customer_time (customer_id, order_time),
+    ADD INDEX idx_order_table_time (table_id, order_time);
+
+ALTER TABLE order_items
+    DROP INDEX idx_order_item_order,
+    ADD INDEX idx_order_item_order_line (order_id, line_number);
+
+ALTER TABLE restaurant_tables
+    ADD INDEX idx_table_status_number (status, table_number);
@@ -0,0 +1,466 @@
+package com.restaurant.infrastructure.coalescing;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.entity.OrderItem;
+import com.restaurant.domain.valueobject.Money;
+import com.restaurant.domain.valueobject.OrderStatus;
+import com.restaurant.infrastructure.coalescing.CoalescingOrderRepository.Durability;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingOrderRepositoryTest {
+    
+    private static final UUID DISH = UUID.randomUUID();
+    private static final UUID TABLE = UUID.randomUUID();
+    
+    // Long enough that the scheduled flush never runs during a test; flushes are triggered explicitly
+    private static final Duration WINDOW = Duration.ofHours(1);
+    
+    private final FakeOrderRepository database = new FakeOrderRepository();
+    private CoalescingOrderRepository repository;
+    
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.close();
+        }
+    }
+    
+    @Test
+    @DisplayName("A window and batch size that are not positive are rejected")
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new CoalescingOrderRepository(database, Durability.GROUP_COMMIT, Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CoalescingOrderRepository(database, Durability.GROUP_COMMIT, WINDOW, 0));
+    }
+    
+    @Test
+    @DisplayName("Durability is parsed from its configured spelling")
+    void parsesDurability() {
+        assertEquals(Durability.GROUP_COMMIT, Durability.parse(" group-commit "));
+        assertEquals(Durability.WRITE_THROUGH, Durability.parse("WRITE_THROUGH"));
+    }
+    
+    @Test
+    @DisplayName("A new order is inserted before the insert returns")
+    void newOrderIsInserted() {
+        repository = groupCommit(10);
+        Order order = pendingOrder(1);
+        
+        repository.insert(order);
+        
+        assertEquals(List.of("insert"), database.writes);
+        assertEquals(1, quantity(database.stored(order.getId())));
+    }
+    
+    @Test
+    @DisplayName("An edit of an order whose stored status is not known is written at once, and only over a pending one")
+    void unknownOrderIsWrittenOnlyWhilePending() {
+        repository = groupCommit(10);
+        Order pending = pendingOrder(1);
+        Order confirmed = pendingOrder(1);
+        database.insert(pending);
+        database.insert(confirmed);
+        database.stored(confirmed.getId()).setStatus(OrderStatus.CONFIRMED);
+        
+        pending.updateItemQuantity(DISH, 2);
+        repository.save(pending);
+        confirmed.updateItemQuantity(DISH, 2);
+        
+        assertThrows(IllegalStateException.class, () -> repository.save(confirmed));
+        assertThrows(IllegalStateException.class, () -> repository.save(pendingOrder(1)));
+        assertEquals(2, quantity(database.stored(pending.getId())));
+        assertEquals(1, quantity(database.stored(confirmed.getId())));
+        assertEquals(OrderStatus.CONFIRMED, database.stored(confirmed.getId()).getStatus());
+        
+        pending.updateItemQuantity(DISH, 3);
+        repository.save(pending);
+        assertEquals(2, quantity(database.stored(pending.getId())));
+    }
+    
+    @Test
+    @DisplayName("Repeated edits of a pending order are held and written once, in their latest state")
+    void editsAreCoalesced() {
+        repository = groupCommit(10);
+        Order order = storedPendingOrder();
+        
+        for (int quantity : new int[] {2, 3, 2, 4}) {
+            order.updateItemQuantity(DISH, quantity);
+            repository.save(order);
+        }
+        assertEquals(1, quantity(database.stored(order.getId())));
+        assertEquals(0, database.savePendingBatches.size());
+        
+        repository.flushAll();
+        
+        assertEquals(List.of(1), database.savePendingBatches);
+        assertEquals(4, quantity(database.stored(order.getId())));
+        repository.flushAll();
+        assertEquals(List.of(1), database.savePendingBatches);
+    }
+    
+    @Test
+    @DisplayName("The held edits of several orders are written together in one batch")
+    void heldOrdersShareABatch() {
+        repository = groupCommit(10);
+        Order first = storedPendingOrder();
+        Order second = storedPendingOrder();
+        first.updateItemQuantity(DISH, 2);
+        second.updateItemQuantity(DISH, 3);
+        repository.save(first);
+        repository.save(second);
+        
+        repository.flushAll();
+        
+        assertEquals(List.of(2), database.savePendingBatches);
+        assertEquals(2, quantity(database.stored(first.getId())));
+        assertEquals(3, quantity(database.stored(second.getId())));
+    }
+    
+    @Test
+    @DisplayName("Changing an order after saving it does not change the held state")
+    void heldStateIsACopy() {
+        repository = groupCommit(10);
+        Order order = storedPendingOrder();
+        order.updateItemQuantity(DISH, 2);
+        repository.save(order);
+        
+        order.updateItemQuantity(DISH, 5);
+        repository.flushAll();
+        
+        assertEquals(2, quantity(database.stored(order.getId())));
+    }
+    
+    @Test
+    @DisplayName("Reads return the held state and finders merge held orders into their results")
+    void readsOwnWrites() {
+        repository = groupCommit(10);
+        Order edited = storedPendingOrder();
+        Order moved = storedPendingOrder();
+        edited.updateItemQuantity(DISH, 2);
+        moved.setTableId(UUID.randomUUID());
+        repository.save(edited);
+        repository.save(moved);
+        
+        Order found = repository.findById(edited.getId()).orElseThrow();
+        assertNotSame(edited, found);
+        assertEquals(2, quantity(found));
+        
+        List<Order> atTable = repository.findByTableId(TABLE);
+        assertEquals(List.of(edited.getId()), atTable.stream().map(Order::getId).toList());
+        assertEquals(2, quantity(atTable.get(0)));
+        assertEquals(2, repository.findByStatus(OrderStatus.PENDING).size());
+        assertEquals(List.of(moved.getId()), repository.findByTableId(moved.getTableId()).stream()
+            .map(Order::getId).toList());
+    }
+    
+    @Test
+    @DisplayName("Held edits are written before a status change of the order")
+    void statusChangeWritesHeldEditsFirst() {
+        repository = groupCommit(10);
+        Order order = storedPendingOrder();
+        order.updateItemQuantity(DISH, 3);
+        repository.save(order);
+        
+        order.confirm();
+        assertEquals(1, repository.updateStatus(order, OrderStatus.PENDING));
+        
+        assertEquals(List.of("savePending", "updateStatus"), database.writes);
+        Order stored = database.stored(order.getId());
+        assertEquals(3, quantity(stored));
+        assertEquals(OrderStatus.CONFIRMED, stored.getStatus());
+    }
+    
+    @Test
+    @DisplayName("An edit of an order known to have left pending is rejected")
+    void editOfConfirmedOrderIsRejected() {
+        repository = groupCommit(10);
+        Order order = storedPendingOrder();
+        order.confirm();
+        repository.updateStatus(order, OrderStatus.PENDING);
+        
+        Order late = repository.findById(order.getId()).orElseThrow();
+        late.setStatus(OrderStatus.PENDING);
+        
+        assertThrows(IllegalStateException.class, () -> repository.save(late));
+        assertEquals(OrderStatus.CONFIRMED, database.stored(order.getId()).getStatus());
+    }
+    
+    @Test
+    @DisplayName("Held edits of an order confirmed elsewhere are lost, not written over the confirmation")
+    void heldEditsOfOrderConfirmedElsewhereAreLost() {
+        repository = groupCommit(10);
+        Order order = storedPendingOrder();
+        order.updateItemQuantity(DISH, 2);
+        repository.save(order);
+        database.stored(order.getId()).setStatus(OrderStatus.CONFIRMED);
+        
+        repository.flushAll();
+        
+        assertEquals(1, repository.lostEdits());
+        Order stored = database.stored(order.getId());
+        assertEquals(OrderStatus.CONFIRMED, stored.getStatus());
+        assertEquals(1, quantity(stored));
+    }
+    
+    @Test
+    @DisplayName("Reaching the batch size writes the held orders without waiting for the window")
+    void fullBatchIsFlushedEarly() throws InterruptedException {
+        repository = groupCommit(2);
+        Order first = storedPendingOrder();
+        Order second = storedPendingOrder();
+        first.updateItemQuantity(DISH, 2);
+        second.updateItemQuantity(DISH, 2);
+        repository.save(first);
+        repository.save(second);
+        
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (quantity(database.stored(second.getId())) != 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        
+        assertEquals(2, quantity(database.stored(first.getId())));
+        assertEquals(2, quantity(database.stored(second.getId())));
+    }
+    
+    @Test
+    @DisplayName("Closing writes what is still held")
+    void closeFlushes() {
+        repository = groupCommit(10);
+        Order order = storedPendingOrder();
+        order.updateItemQuantity(DISH, 2);
+        repository.save(order);
+        
+        repository.close();
+        
+        assertEquals(2, quantity(database.stored(order.getId())));
+    }
+    
+    @Test
+    @DisplayName("Write-through durability writes every edit before the save returns")
+    void writeThroughWritesEveryEdit() {
+        repository = new CoalescingOrderRepository(database, Durability.WRITE_THROUGH, WINDOW, 10);
+        Order order = storedPendingOrder();
+        
+        order.updateItemQuantity(DISH, 2);
+        repository.save(order);
+        order.updateItemQuantity(DISH, 3);
+        repository.save(order);
+        
+        assertEquals(List.of(1, 1), database.savePendingBatches);
+        assertEquals(3, quantity(database.stored(order.getId())));
+    }
+    
+    @Test
+    @DisplayName("Write-through durability rejects an edit of an order that left pending elsewhere")
+    void writeThroughRejectsEditOfConfirmedOrder() {
+        repository = new CoalescingOrderRepository(database, Durability.WRITE_THROUGH, WINDOW, 10);
+        Order order = storedPendingOrder();
+        database.stored(order.getId()).setStatus(OrderStatus.CONFIRMED);
+        
+        order.updateItemQuantity(DISH, 2);
+        
+        assertThrows(IllegalStateException.class, () -> repository.save(order));
+        assertEquals(1, quantity(database.stored(order.getId())));
+    }
+    
+    private CoalescingOrderRepository groupCommit(int maxBatch) {
+        return new CoalescingOrderRepository(database, Durability.GROUP_COMMIT, WINDOW, maxBatch);
+    }
+    
+    // Inserted through the repository, so that it is known to be stored as pending
+    private Order storedPendingOrder() {
+        Order order = pendingOrder(1);
+        repository.insert(order);
+        database.writes.clear();
+        return order;
+    }
+    
+    private static Order pendingOrder(int quantity) {
+        Order order = new Order(UUID.randomUUID(), TABLE);
+        order.setItems(List.of(new OrderItem(DISH, "Dish", Money.ofCents(1000, Money.DEFAULT_CURRENCY),
+            quantity, null, 10)));
+        return order;
+    }
+    
+    private static int quantity(Order order) {
+        return order.getItems().get(0).getQuantity();
+    }
+    
+    /**
+     * Orders kept in memory as copies, with savePending writing only over a stored pending order
+     */
+    private static final class FakeOrderRepository implements OrderRepository {
+        
+        private final Map<UUID, Order> orders = new LinkedHashMap<>();
+        private final List<Integer> savePendingBatches = new ArrayList<>();
+        private final List<String> writes = new ArrayList<>();
+        
+        synchronized Order stored(UUID orderId) {
+            return orders.get(orderId);
+        }
+        
+        @Override
+        public synchronized Order save(Order order) {
+            orders.put(order.getId(), copyOf(order));
+            writes.add("save");
+            return order;
+        }
+        
+        @Override
+        public synchronized Order insert(Order order) {
+            orders.put(order.getId(), copyOf(order));
+            writes.add("insert");
+            return order;
+        }
+        
+        @Override
+        public synchronized List<Order> saveAll(List<Order> batch) {
+            for (Order order : batch) {
+                orders.put(order.getId(), copyOf(order));
+            }
+            writes.add("saveAll");
+            return batch;
+        }
+        
+        @Override
+        public synchronized int[] savePending(List<Order> batch) {
+            savePendingBatches.add(batch.size());
+            writes.add("savePending");
+            int[] rows = new int[batch.size()];
+            for (int i = 0; i < rows.length; i++) {
+                Order stored = orders.get(batch.get(i).getId());
+                if (stored != null && stored.getStatus() == OrderStatus.PENDING) {
+                    orders.put(stored.getId(), copyOf(batch.get(i)));
+                    rows[i] = 1;
+                }
+            }
+            return rows;
+        }
+        
+        @Override
+        public synchronized int updateStatus(Order order, OrderStatus previousStatus) {
+            writes.add("updateStatus");
+            Order stored = orders.get(order.getId());
+            if (stored == null || stored.getStatus() != previousStatus) {
+                return 0;
+            }
+            stored.setStatus(order.getStatus());
+            return 1;
+        }
+        
+        @Override
+        public int[] updateStatuses(List<Order> batch, List<OrderStatus> previousStatuses) {
+            int[] rows = new int[batch.size()];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = updateStatus(batch.get(i), previousStatuses.get(i));
+            }
+            return rows;
+        }
+        
+        @Override
+        public synchronized Optional<Order> findById(UUID orderId) {
+            return Optional.ofNullable(orders.get(orderId)).map(FakeOrderRepository::copyOf);
+        }
+        
+        @Override
+        public List<Order> findAllById(Collection<UUID> orderIds) {
+            return find(order -> orderIds.contains(order.getId()));
+        }
+        
+        @Override
+        public List<Order> findByCustomerId(UUID customerId) {
+            return find(order -> customerId.equals(order.getCustomerId()));
+        }
+        
+        @Override
+        public List<Order> findByTableId(UUID tableId) {
+            return find(order -> tableId.equals(order.getTableId()));
+        }
+        
+        @Override
+        public List<Order> findActiveByTableId(UUID tableId) {
+            return find(order -> order.getStatus().isActive() && tableId.equals(order.getTableId()));
+        }
+        
+        @Override
+        public List<Order> findByStatus(OrderStatus status) {
+            return find(order -> order.getStatus() == status);
+        }
+        
+        @Override
+        public List<Order> findActive() {
+            return find(order -> order.getStatus().isActive());
+        }
+        
+        @Override
+        public List<Order> findByOrderTimeBetween(LocalDateTime start, LocalDateTime end) {
+            return find(order -> !order.getOrderTime().isBefore(start) && !order.getOrderTime().isAfter(end));
+        }
+        
+        @Override
+        public synchronized void deleteById(UUID orderId) {
+            orders.remove(orderId);
+        }
+        
+        @Override
+        public int archiveCompletedBefore(LocalDateTime cutoff, int limit) {
+            return 0;
+        }
+        
+        @Override
+        public int addMonthlyPartitionsThrough(YearMonth month) {
+            return 0;
+        }
+        
+        @Override
+        public synchronized long count() {
+            return orders.size();
+        }
+        
+        @Override
+        public long countByStatus(OrderStatus status) {
+            return findByStatus(status).size();
+        }
+        
+        private synchronized List<Order> find(Predicate<Order> matches) {
+            return orders.values().stream()
+                .filter(matches)
+                .sorted(Comparator.comparing(Order::getOrderTime))
+                .map(FakeOrderRepository::copyOf)
+                .toList();
+        }
+        
+        // Items can no longer be changed once they belong to an order, so they are shared
+        private static Order copyOf(Order order) {
+            Order copy = new Order(order.getCustomerId(), order.getTableId());
+            copy.setId(order.getId());
+            copy.setStatus(order.getStatus());
+            copy.setItems(order.getItems());
+            copy.setSpecialInstructions(order.getSpecialInstructions());
+            copy.setOrderTime(order.getOrderTime());
+            return copy;
+        }
+    }
+}
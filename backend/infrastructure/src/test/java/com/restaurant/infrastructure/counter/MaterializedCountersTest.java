@@ -0,0 +1,128 @@
+package com.restaurant.infrastructure.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MaterializedCountersTest {
+    
+    private static final Duration NEVER = Duration.ofHours(1);
+    
+    @Test
+    @DisplayName("Counts are loaded on the first read only, and unknown keys count zero")
+    void loadsOnFirstRead() {
+        Loader loader = new Loader(Map.of("PENDING", 3L));
+        MaterializedCounters<String> counters = new MaterializedCounters<>("orders", loader, NEVER);
+        assertEquals(0, loader.calls);
+        
+        assertEquals(3, counters.get("PENDING"));
+        assertEquals(0, counters.get("READY"));
+        assertEquals(1, loader.calls);
+    }
+    
+    @Test
+    @DisplayName("Deltas change the loaded counts without another load")
+    void appliesDeltas() {
+        Loader loader = new Loader(Map.of("PENDING", 3L));
+        MaterializedCounters<String> counters = new MaterializedCounters<>("orders", loader, NEVER);
+        counters.get("PENDING");
+        
+        counters.add("PENDING", -1);
+        counters.add("CONFIRMED", 1);
+        counters.add("READY", 0);
+        
+        assertEquals(2, counters.get("PENDING"));
+        assertEquals(1, counters.get("CONFIRMED"));
+        assertEquals(0, counters.get("READY"));
+        assertEquals(1, loader.calls);
+    }
+    
+    @Test
+    @DisplayName("An invalidation makes the next read load the counts again, dropping keys no longer loaded")
+    void invalidateReloads() {
+        Loader loader = new Loader(Map.of("PENDING", 3L, "READY", 1L), Map.of("PENDING", 5L));
+        MaterializedCounters<String> counters = new MaterializedCounters<>("orders", loader, NEVER);
+        counters.get("PENDING");
+        
+        counters.invalidate();
+        
+        assertEquals(5, counters.get("PENDING"));
+        assertEquals(0, counters.get("READY"));
+        assertEquals(2, loader.calls);
+    }
+    
+    @Test
+    @DisplayName("Counts older than the reconcile interval are replaced by freshly loaded ones")
+    void reconcilesStaleCounts() throws InterruptedException {
+        Loader loader = new Loader(Map.of("PENDING", 3L), Map.of("PENDING", 7L));
+        MaterializedCounters<String> counters = new MaterializedCounters<>("orders", loader, Duration.ofMillis(1));
+        counters.get("PENDING");
+        counters.add("PENDING", 1);
+        
+        Thread.sleep(5);
+        
+        assertEquals(7, counters.get("PENDING"));
+        assertEquals(2, loader.calls);
+    }
+    
+    @Test
+    @DisplayName("A load during which a delta was applied is retried, up to three times")
+    void retriesLoadsRacingWithDeltas() {
+        Loader loader = new Loader(Map.of("PENDING", 1L), Map.of("PENDING", 2L), Map.of("PENDING", 3L));
+        MaterializedCounters<String> counters = new MaterializedCounters<>("orders", loader, NEVER);
+        loader.duringLoad = () -> counters.add("PENDING", 1);
+        
+        assertEquals(3, counters.get("PENDING"));
+        assertEquals(3, loader.calls);
+    }
+    
+    @Test
+    @DisplayName("A failed reconcile keeps the current counts, a failed first load fails the read")
+    void failedLoads() throws InterruptedException {
+        Loader loader = new Loader(Map.of("PENDING", 3L));
+        MaterializedCounters<String> counters = new MaterializedCounters<>("orders", loader, Duration.ofMillis(1));
+        counters.get("PENDING");
+        loader.failing = true;
+        Thread.sleep(5);
+        
+        assertEquals(3, counters.get("PENDING"));
+        
+        counters.invalidate();
+        assertThrows(IllegalStateException.class, () -> counters.get("PENDING"));
+    }
+    
+    /**
+     * Returns the given results in turn, repeating the last one
+     */
+    private static final class Loader implements Supplier<Map<String, Long>> {
+        
+        private final Deque<Map<String, Long>> results;
+        private int calls;
+        private boolean failing;
+        private Runnable duringLoad = () -> { };
+        
+        @SafeVarargs
+        Loader(Map<String, Long>... results) {
+            this.results = new ArrayDeque<>(List.of(results));
+        }
+        
+        @Override
+        public Map<String, Long> get() {
+            calls++;
+            duringLoad.run();
+            if (failing) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return results.size() > 1 ? results.poll() : results.peek();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.restaurant.infrastructure.index;
+
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.valueobject.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActiveOrderIndexTest {
+    
+    private static final LocalDateTime OPENING = LocalDateTime.of(2026, 10, 19, 12, 0);
+    private static final UUID TABLE = UUID.randomUUID();
+    private static final UUID OTHER_TABLE = UUID.randomUUID();
+    
+    private final ActiveOrderIndex index = new ActiveOrderIndex();
+    
+    @Test
+    @DisplayName("Active orders are found by status oldest first and by table newest first")
+    void indexesActiveOrders() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID elsewhere = UUID.randomUUID();
+        index.put(order(second, OrderStatus.PENDING, TABLE, 5), 1);
+        index.put(order(first, OrderStatus.PENDING, TABLE, 0), 1);
+        index.put(order(elsewhere, OrderStatus.CONFIRMED, OTHER_TABLE, 3), 1);
+        
+        assertEquals(List.of(first, elsewhere, second), ids(index.findActive()));
+        assertEquals(List.of(first, second), ids(index.findByStatus(OrderStatus.PENDING)));
+        assertEquals(List.of(second, first), ids(index.findByTableId(TABLE)));
+        assertTrue(index.findByStatus(OrderStatus.READY).isEmpty());
+        assertTrue(index.findByTableId(UUID.randomUUID()).isEmpty());
+        assertEquals(3, index.size());
+    }
+    
+    @Test
+    @DisplayName("A newer state moves the order to its new status and table")
+    void newerStateMovesTheOrder() {
+        UUID id = UUID.randomUUID();
+        index.put(order(id, OrderStatus.PENDING, TABLE, 0), 1);
+        
+        index.put(order(id, OrderStatus.CONFIRMED, OTHER_TABLE, 0), 2);
+        
+        assertTrue(index.findByStatus(OrderStatus.PENDING).isEmpty());
+        assertTrue(index.findByTableId(TABLE).isEmpty());
+        assertEquals(List.of(id), ids(index.findByStatus(OrderStatus.CONFIRMED)));
+        assertEquals(List.of(id), ids(index.findByTableId(OTHER_TABLE)));
+        assertEquals(1, index.size());
+    }
+    
+    @Test
+    @DisplayName("A state read before the one already applied is ignored")
+    void staleWriteIsIgnored() {
+        UUID id = UUID.randomUUID();
+        index.put(order(id, OrderStatus.CONFIRMED, TABLE, 0), 20);
+        
+        index.put(order(id, OrderStatus.PENDING, OTHER_TABLE, 0), 10);
+        
+        assertEquals(List.of(id), ids(index.findByStatus(OrderStatus.CONFIRMED)));
+        assertEquals(List.of(id), ids(index.findByTableId(TABLE)));
+        assertTrue(index.findByStatus(OrderStatus.PENDING).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Read times are compared so that they keep their order when System.nanoTime overflows")
+    void readTimesSurviveOverflow() {
+        UUID id = UUID.randomUUID();
+        index.put(order(id, OrderStatus.PENDING, TABLE, 0), Long.MAX_VALUE);
+        
+        index.put(order(id, OrderStatus.CONFIRMED, TABLE, 0), Long.MIN_VALUE);
+        
+        assertEquals(List.of(id), ids(index.findByStatus(OrderStatus.CONFIRMED)));
+    }
+    
+    @Test
+    @DisplayName("A completed order is dropped and an older active state cannot bring it back")
+    void completedOrderLeavesATombstone() {
+        UUID id = UUID.randomUUID();
+        index.put(order(id, OrderStatus.READY, TABLE, 0), 10);
+        
+        index.put(order(id, OrderStatus.DELIVERED, TABLE, 0), 20);
+        index.put(order(id, OrderStatus.READY, TABLE, 0), 15);
+        
+        assertEquals(0, index.size());
+        assertTrue(index.findByTableId(TABLE).isEmpty());
+        assertTrue(index.findByStatus(OrderStatus.DELIVERED).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("A removed order cannot be brought back by an older state, only by a newer one")
+    void removalLeavesATombstone() {
+        UUID id = UUID.randomUUID();
+        index.put(order(id, OrderStatus.PENDING, TABLE, 0), 10);
+        
+        index.remove(id, 20);
+        index.put(order(id, OrderStatus.PENDING, TABLE, 0), 15);
+        assertEquals(0, index.size());
+        
+        index.put(order(id, OrderStatus.PENDING, TABLE, 0), 25);
+        assertEquals(List.of(id), ids(index.findActive()));
+    }
+    
+    @Test
+    @DisplayName("A rebuild replaces the content but keeps the changes made after it read the orders")
+    void rebuildKeepsNewerChanges() {
+        UUID gone = UUID.randomUUID();
+        UUID changedLater = UUID.randomUUID();
+        UUID removedLater = UUID.randomUUID();
+        UUID loaded = UUID.randomUUID();
+        index.put(order(gone, OrderStatus.PENDING, TABLE, 0), 10);
+        index.put(order(changedLater, OrderStatus.READY, TABLE, 1), 30);
+        index.remove(removedLater, 30);
+        
+        index.rebuild(List.of(
+            order(changedLater, OrderStatus.PREPARING, OTHER_TABLE, 1),
+            order(removedLater, OrderStatus.PENDING, TABLE, 2),
+            order(loaded, OrderStatus.CONFIRMED, OTHER_TABLE, 3),
+            order(UUID.randomUUID(), OrderStatus.CANCELLED, TABLE, 4)), 20);
+        
+        assertEquals(List.of(changedLater, loaded), ids(index.findActive()));
+        assertEquals(List.of(changedLater), ids(index.findByStatus(OrderStatus.READY)));
+        assertEquals(List.of(changedLater), ids(index.findByTableId(TABLE)));
+        assertEquals(List.of(loaded), ids(index.findByTableId(OTHER_TABLE)));
+    }
+    
+    @Test
+    @DisplayName("Tombstones older than a rebuild are cleared by it")
+    void rebuildClearsOlderTombstones() {
+        UUID id = UUID.randomUUID();
+        index.remove(id, 10);
+        
+        index.rebuild(List.of(), 20);
+        index.put(order(id, OrderStatus.PENDING, TABLE, 0), 15);
+        
+        assertEquals(List.of(id), ids(index.findActive()));
+    }
+    
+    private static Order order(UUID id, OrderStatus status, UUID tableId, int minutesAfterOpening) {
+        Order order = new Order(UUID.randomUUID(), tableId);
+        order.setId(id);
+        order.setStatus(status);
+        order.setOrderTime(OPENING.plusMinutes(minutesAfterOpening));
+        return order;
+    }
+    
+    private static List<UUID> ids(List<Order> orders) {
+        return orders.stream().map(Order::getId).toList();
+    }
+}
@@ -0,0 +1,238 @@
+package com.restaurant.infrastructure.outbox;
+
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.application.port.out.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboxRelayTest {
+    
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    
+    // Long enough that the scheduled run never happens during a test; publishing is triggered explicitly
+    private static final Duration INTERVAL = Duration.ofHours(1);
+    
+    private final FakeOutboxRepository outbox = new FakeOutboxRepository();
+    private final CountingTransactionService transactions = new CountingTransactionService();
+    private final List<String> consumed = new ArrayList<>();
+    private OutboxRelay relay;
+    
+    @AfterEach
+    void tearDown() {
+        if (relay != null) {
+            relay.close();
+        }
+    }
+    
+    @Test
+    @DisplayName("A batch size that is not positive is rejected")
+    void rejectsInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new OutboxRelay(outbox, transactions, Map.of(), INTERVAL, 0, CLOCK));
+    }
+    
+    @Test
+    @DisplayName("Consumed messages are marked published and messages without a consumer are acknowledged")
+    void publishesAndAcknowledges() {
+        relay = relay(10, Map.of("evict", record("evict")));
+        OutboxMessage evict = outbox.add("evict", "menu:1", 0);
+        OutboxMessage unknown = outbox.add("unknown", "x", 0);
+        
+        assertEquals(2, relay.publishNow());
+        
+        assertEquals(List.of("evict:menu:1"), consumed);
+        assertEquals(Set.of(evict.id(), unknown.id()), outbox.published);
+        assertTrue(outbox.failures.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("The same topic and payload is consumed once per batch, and every copy is marked published")
+    void deduplicatesWithinABatch() {
+        relay = relay(10, Map.of("evict", record("evict"), "evict-pattern", record("evict-pattern")));
+        OutboxMessage first = outbox.add("evict", "menu:1", 0);
+        OutboxMessage repeat = outbox.add("evict", "menu:1", 0);
+        OutboxMessage other = outbox.add("evict", "menu:2", 0);
+        OutboxMessage otherTopic = outbox.add("evict-pattern", "menu:1", 0);
+        
+        relay.publishNow();
+        
+        assertEquals(List.of("evict:menu:1", "evict:menu:2", "evict-pattern:menu:1"), consumed);
+        assertEquals(Set.of(first.id(), repeat.id(), other.id(), otherTopic.id()), outbox.published);
+    }
+    
+    @Test
+    @DisplayName("A copy of a failed message later in the same batch is still consumed")
+    void failedMessageDoesNotSuppressItsCopy() {
+        int[] calls = {0};
+        relay = relay(10, Map.of("evict", message -> {
+            if (calls[0]++ == 0) {
+                throw new IllegalStateException("cache unavailable");
+            }
+            consumed.add(message.payload());
+        }));
+        OutboxMessage failing = outbox.add("evict", "menu:1", 0);
+        OutboxMessage repeat = outbox.add("evict", "menu:1", 0);
+        
+        relay.publishNow();
+        
+        assertEquals(List.of("menu:1"), consumed);
+        assertEquals(Set.of(repeat.id()), outbox.published);
+        assertEquals(List.of(new Failure(failing.id(), 1, NOW.plusSeconds(1), "cache unavailable")), outbox.failures);
+    }
+    
+    @Test
+    @DisplayName("Failed messages are retried with a backoff that doubles on each attempt")
+    void backoffDoubles() {
+        relay = relay(10, Map.of("evict", message -> {
+            throw new IllegalStateException("cache unavailable");
+        }));
+        OutboxMessage first = outbox.add("evict", "a", 0);
+        OutboxMessage second = outbox.add("evict", "b", 1);
+        OutboxMessage fourth = outbox.add("evict", "c", 3);
+        OutboxMessage ninth = outbox.add("evict", "d", 8);
+        
+        relay.publishNow();
+        
+        assertEquals(List.of(
+            new Failure(first.id(), 1, NOW.plusSeconds(1), "cache unavailable"),
+            new Failure(second.id(), 2, NOW.plusSeconds(2), "cache unavailable"),
+            new Failure(fourth.id(), 4, NOW.plusSeconds(8), "cache unavailable"),
+            new Failure(ninth.id(), 9, NOW.plusSeconds(256), "cache unavailable")), outbox.failures);
+        assertTrue(outbox.published.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("A message that fails its tenth attempt is parked")
+    void parksAfterTooManyAttempts() {
+        relay = relay(10, Map.of("evict", message -> {
+            throw new IllegalStateException();
+        }));
+        OutboxMessage message = outbox.add("evict", "a", 9);
+        
+        relay.publishNow();
+        
+        Failure failure = outbox.failures.get(0);
+        assertEquals(message.id(), failure.messageId());
+        assertEquals(10, failure.attempts());
+        assertNull(failure.nextAttemptAt());
+        assertEquals("null", failure.error());
+    }
+    
+    @Test
+    @DisplayName("Full batches are followed by another batch, each in its own transaction")
+    void drainsInBatches() {
+        relay = relay(2, Map.of("evict", record("evict")));
+        for (int i = 0; i < 5; i++) {
+            outbox.add("evict", "menu:" + i, 0);
+        }
+        
+        assertEquals(5, relay.publishNow());
+        
+        assertEquals(3, transactions.count);
+        assertEquals(List.of(2, 2, 1), outbox.claimed);
+        assertEquals(5, consumed.size());
+    }
+    
+    @Test
+    @DisplayName("Published messages older than a day are deleted at most once a minute")
+    void cleansUpPublishedMessages() {
+        relay = relay(10, Map.of());
+        
+        relay.publishNow();
+        relay.publishNow();
+        
+        assertEquals(List.of(NOW.minusDays(1)), outbox.cleanups);
+    }
+    
+    private OutboxRelay relay(int batchSize, Map<String, OutboxConsumer> consumers) {
+        return new OutboxRelay(outbox, transactions, consumers, INTERVAL, batchSize, CLOCK);
+    }
+    
+    private OutboxConsumer record(String topic) {
+        return message -> consumed.add(topic + ":" + message.payload());
+    }
+    
+    private record Failure(UUID messageId, int attempts, LocalDateTime nextAttemptAt, String error) {
+    }
+    
+    /**
+     * Pending messages in insertion order; claimed ones stay pending until they are marked
+     */
+    private static final class FakeOutboxRepository implements OutboxRepository {
+        
+        private final List<OutboxMessage> pending = new ArrayList<>();
+        private final Set<UUID> published = new HashSet<>();
+        private final List<Failure> failures = new ArrayList<>();
+        private final List<Integer> claimed = new ArrayList<>();
+        private final List<LocalDateTime> cleanups = new ArrayList<>();
+        
+        OutboxMessage add(String topic, String payload, int attempts) {
+            OutboxMessage message = new OutboxMessage(UUID.randomUUID(), topic, payload, attempts, NOW);
+            pending.add(message);
+            return message;
+        }
+        
+        @Override
+        public void append(List<OutboxMessage> messages) {
+            pending.addAll(messages);
+        }
+        
+        @Override
+        public List<OutboxMessage> claimPending(LocalDateTime now, int limit) {
+            List<OutboxMessage> due = pending.stream().limit(limit).toList();
+            claimed.add(due.size());
+            return due;
+        }
+        
+        @Override
+        public void markPublished(List<UUID> messageIds, LocalDateTime publishedAt) {
+            published.addAll(messageIds);
+            pending.removeIf(message -> messageIds.contains(message.id()));
+        }
+        
+        // Not due again within the test
+        @Override
+        public void markFailed(UUID messageId, int attempts, LocalDateTime nextAttemptAt, String error) {
+            failures.add(new Failure(messageId, attempts, nextAttemptAt, error));
+            pending.removeIf(message -> message.id().equals(messageId));
+        }
+        
+        @Override
+        public int deletePublishedBefore(LocalDateTime cutoff) {
+            cleanups.add(cutoff);
+            return 0;
+        }
+    }
+    
+    private static final class CountingTransactionService implements TransactionService {
+        
+        private int count;
+        
+        @Override
+        public <T> T inTransaction(Supplier<T> work) {
+            count++;
+            return work.get();
+        }
+    }
+}
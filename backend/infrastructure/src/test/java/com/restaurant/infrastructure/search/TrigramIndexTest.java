@@ -0,0 +1,177 @@
+package com.restaurant.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+    
+    private TrigramIndex<Dish> index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex<>(Dish::id, Dish::name, Dish::notes, Dish::copy);
+    }
+    
+    @Test
+    @DisplayName("A query matches the start of any word, best matches first")
+    void prefixMatches() {
+        index.put(new Dish("Pepperoni Pizza", null));
+        index.put(new Dish("Pizza Bianca", null));
+        index.put(new Dish("Caesar Salad", null));
+        
+        assertEquals(List.of("Pizza Bianca", "Pepperoni Pizza"), names(index.search("pizz", 10)));
+        assertEquals(List.of("Pizza Bianca"), names(index.search("pizz", 1)));
+    }
+    
+    @Test
+    @DisplayName("Case and accents are ignored and small typos still match")
+    void normalizedAndFuzzy() {
+        index.put(new Dish("Crème Brûlée", null));
+        index.put(new Dish("Margherita", null));
+        
+        assertEquals(List.of("Crème Brûlée"), names(index.search("CREME brulee", 10)));
+        assertEquals(List.of("Margherita"), names(index.search("margerita", 10)));
+    }
+    
+    @Test
+    @DisplayName("The secondary text matches too, ranked below the primary text")
+    void secondaryTextRanksLower() {
+        index.put(new Dish("Napoletana", "tomato, anchovies, capers"));
+        index.put(new Dish("Anchovy Toast", null));
+        
+        assertEquals(List.of("Anchovy Toast", "Napoletana"), names(index.search("ancho", 10)));
+    }
+    
+    @Test
+    @DisplayName("Searches return copies, so changing a result leaves the index as it was")
+    void searchReturnsCopies() {
+        Dish dish = new Dish("Margherita", null);
+        index.put(dish);
+        
+        Dish found = index.search("margherita", 1).get(0);
+        assertNotSame(dish, found);
+        found.name = "Changed";
+        
+        assertEquals(List.of("Margherita"), names(index.search("margherita", 10)));
+        assertEquals(List.of(), index.search("changed", 10));
+    }
+    
+    @Test
+    @DisplayName("An update replaces the entry with a changed copy")
+    void updateReplacesTheEntry() {
+        Dish dish = new Dish("Margherita", null);
+        index.put(dish);
+        
+        index.update(dish.id, indexed -> indexed.name = "Calzone");
+        index.update(UUID.randomUUID(), indexed -> indexed.name = "Missing");
+        
+        assertEquals("Margherita", dish.name);
+        assertEquals(List.of("Calzone"), names(index.search("calzone", 10)));
+        assertEquals(List.of(), index.search("margherita", 10));
+        assertEquals(1, index.size());
+    }
+    
+    @Test
+    @DisplayName("Putting a document again replaces it, and removing it takes it out")
+    void putReplacesAndRemoveRemoves() {
+        Dish dish = new Dish("Margherita", null);
+        index.put(dish);
+        index.put(new Dish(dish.id, "Marinara", null));
+        
+        assertEquals(List.of(), index.search("margherita", 10));
+        assertEquals(List.of("Marinara"), names(index.search("marinara", 10)));
+        
+        index.remove(dish.id);
+        assertEquals(List.of(), index.search("marinara", 10));
+        assertEquals(0, index.size());
+    }
+    
+    @Test
+    @DisplayName("Writes made while a rebuild loads are replayed on top of the loaded documents")
+    void rebuildReplaysConcurrentWrites() {
+        Dish stale = new Dish("Old Special", null);
+        index.put(stale);
+        Dish added = new Dish("Tiramisu", null);
+        Dish loadedThenRemoved = new Dish("Panna Cotta", null);
+        
+        index.rebuild(() -> {
+            index.put(added);
+            index.remove(loadedThenRemoved.id);
+            return List.of(new Dish("Margherita", null), loadedThenRemoved);
+        });
+        
+        assertEquals(2, index.size());
+        assertEquals(List.of("Tiramisu"), names(index.search("tiramisu", 10)));
+        assertEquals(List.of(), index.search("panna", 10));
+        assertEquals(List.of(), index.search("special", 10));
+    }
+    
+    @Test
+    @DisplayName("A failed rebuild keeps the current documents")
+    void failedRebuildKeepsTheIndex() {
+        index.put(new Dish("Margherita", null));
+        
+        assertThrows(IllegalStateException.class, () -> index.rebuild(() -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        index.put(new Dish("Tiramisu", null));
+        
+        assertEquals(2, index.size());
+        assertEquals(List.of("Margherita"), names(index.search("margherita", 10)));
+    }
+    
+    @Test
+    @DisplayName("Blank queries and non-positive limits match nothing")
+    void blankQueries() {
+        index.put(new Dish("Margherita", null));
+        
+        assertTrue(index.search(" - ", 10).isEmpty());
+        assertTrue(index.search("margherita", 0).isEmpty());
+    }
+    
+    private static List<String> names(List<Dish> dishes) {
+        return dishes.stream().map(Dish::name).toList();
+    }
+    
+    private static final class Dish {
+        
+        private final UUID id;
+        private String name;
+        private final String notes;
+        
+        private Dish(String name, String notes) {
+            this(UUID.randomUUID(), name, notes);
+        }
+        
+        private Dish(UUID id, String name, String notes) {
+            this.id = id;
+            this.name = name;
+            this.notes = notes;
+        }
+        
+        UUID id() {
+            return id;
+        }
+        
+        String name() {
+            return name;
+        }
+        
+        String notes() {
+            return notes;
+        }
+        
+        Dish copy() {
+            return new Dish(id, name, notes);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.restaurant.infrastructure.uniqueness;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+    
+    @Test
+    @DisplayName("Every key put is reported as possibly contained")
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("customer" + i + "@example.com");
+        }
+        
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("customer" + i + "@example.com"));
+        }
+    }
+    
+    @Test
+    @DisplayName("The false positive rate stays near the configured one at the expected number of keys")
+    void falsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("customer" + i + "@example.com");
+        }
+        
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("guest" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < probes * 0.02, falsePositives + " false positives in " + probes);
+    }
+    
+    @Test
+    @DisplayName("An empty filter contains nothing")
+    void emptyFilter() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        
+        assertFalse(filter.mightContain("anyone@example.com"));
+        assertFalse(filter.mightContain(""));
+    }
+    
+    @Test
+    @DisplayName("Keys put from several threads at once are all kept")
+    void concurrentPuts() throws InterruptedException {
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 10_000;
+            threads.add(new Thread(() -> {
+                for (int i = offset; i < offset + 10_000; i++) {
+                    filter.put("key" + i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        for (int i = 0; i < 40_000; i++) {
+            assertTrue(filter.mightContain("key" + i));
+        }
+    }
+    
+    @Test
+    @DisplayName("Sizes and rates out of range are rejected")
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
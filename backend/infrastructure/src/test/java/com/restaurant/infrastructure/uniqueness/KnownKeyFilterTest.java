@@ -0,0 +1,149 @@
+package com.restaurant.infrastructure.uniqueness;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KnownKeyFilterTest {
+    
+    private static final Duration HOUR = Duration.ofHours(1);
+    
+    @Test
+    @DisplayName("Checks never load the filter; until the first load every key might be known")
+    void checksNeverLoad() {
+        CountingLoader loader = new CountingLoader(List.of("ana@example.com"));
+        try (KnownKeyFilter filter = new KnownKeyFilter("email", loader, HOUR, HOUR)) {
+            assertTrue(filter.mightContain("bob@example.com"));
+            assertEquals(0, loader.calls.get());
+        }
+    }
+    
+    @Test
+    @DisplayName("A loaded filter answers case-insensitively")
+    void answersCaseInsensitively() {
+        CountingLoader loader = new CountingLoader(List.of("Ana@Example.com"));
+        try (KnownKeyFilter filter = new KnownKeyFilter("email", loader, HOUR, HOUR)) {
+            filter.loadNow();
+            
+            assertTrue(filter.mightContain("ana@example.com"));
+            assertFalse(filter.mightContain("bob@example.com"));
+            assertEquals(1, loader.calls.get());
+        }
+    }
+    
+    @Test
+    @DisplayName("The filter loads itself on a background thread at startup")
+    void loadsInTheBackground() throws InterruptedException {
+        CountDownLatch loaded = new CountDownLatch(1);
+        AtomicReference<String> loadingThread = new AtomicReference<>();
+        try (KnownKeyFilter filter = new KnownKeyFilter("customer email", () -> {
+            loadingThread.set(Thread.currentThread().getName());
+            loaded.countDown();
+            return List.of();
+        }, HOUR)) {
+            assertTrue(loaded.await(5, TimeUnit.SECONDS));
+            assertEquals("customer-email-filter", loadingThread.get());
+        }
+    }
+    
+    @Test
+    @DisplayName("Keys written after the load are known without a reload")
+    void addedKeysAreKnown() {
+        CountingLoader loader = new CountingLoader(List.of());
+        try (KnownKeyFilter filter = new KnownKeyFilter("email", loader, HOUR, HOUR)) {
+            filter.loadNow();
+            
+            filter.add("New@Example.com");
+            filter.add(null);
+            
+            assertTrue(filter.mightContain("new@example.com"));
+            assertEquals(1, loader.calls.get());
+        }
+    }
+    
+    @Test
+    @DisplayName("A reload drops deleted keys")
+    void reloadDropsDeletedKeys() {
+        List<String> stored = new ArrayList<>(List.of("ana@example.com"));
+        CountingLoader loader = new CountingLoader(stored);
+        try (KnownKeyFilter filter = new KnownKeyFilter("email", loader, HOUR, HOUR)) {
+            filter.loadNow();
+            assertTrue(filter.mightContain("ana@example.com"));
+            
+            stored.clear();
+            filter.loadNow();
+            
+            assertFalse(filter.mightContain("ana@example.com"));
+            assertEquals(2, loader.calls.get());
+        }
+    }
+    
+    @Test
+    @DisplayName("Keys written while a load runs are replayed on top of the loaded filter")
+    void pendingKeysAreReplayed() {
+        KnownKeyFilter[] filter = new KnownKeyFilter[1];
+        filter[0] = new KnownKeyFilter("email", () -> {
+            // Written by another request after the loader's query read the table
+            filter[0].add("late@example.com");
+            return List.of("ana@example.com");
+        }, HOUR, HOUR);
+        try (KnownKeyFilter loading = filter[0]) {
+            loading.loadNow();
+            
+            assertTrue(loading.mightContain("ana@example.com"));
+            assertTrue(loading.mightContain("late@example.com"));
+        }
+    }
+    
+    @Test
+    @DisplayName("A failed load keeps the current answers, maybe before the first load, and the next load retries")
+    void failedLoadKeepsTheCurrentFilter() {
+        AtomicInteger calls = new AtomicInteger();
+        try (KnownKeyFilter filter = new KnownKeyFilter("email", () -> {
+            if (calls.incrementAndGet() % 2 == 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return List.of("ana@example.com");
+        }, HOUR, HOUR)) {
+            assertThrows(IllegalStateException.class, filter::loadNow);
+            assertTrue(filter.mightContain("bob@example.com"));
+            
+            filter.loadNow();
+            assertFalse(filter.mightContain("bob@example.com"));
+            
+            assertThrows(IllegalStateException.class, filter::loadNow);
+            assertFalse(filter.mightContain("bob@example.com"));
+            assertTrue(filter.mightContain("ana@example.com"));
+        }
+    }
+    
+    private static final class CountingLoader implements Supplier<Collection<String>> {
+        
+        private final Collection<String> keys;
+        private final AtomicInteger calls = new AtomicInteger();
+        
+        private CountingLoader(Collection<String> keys) {
+            this.keys = keys;
+        }
+        
+        @Override
+        public Collection<String> get() {
+            calls.incrementAndGet();
+            return List.copyOf(keys);
+        }
+    }
+}
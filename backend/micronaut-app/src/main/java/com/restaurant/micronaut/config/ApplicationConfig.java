@@ -2,23 +2,57 @@ package com.restaurant.micronaut.config;
 
 import com.restaurant.application.port.in.CustomerUseCase;
 import com.restaurant.application.port.in.MenuUseCase;
+import com.restaurant.application.port.in.MonitoringUseCase;
+import com.restaurant.application.port.in.OrderUseCase;
+import com.restaurant.application.port.in.TableUseCase;
 import com.restaurant.application.port.out.CacheService;
 import com.restaurant.application.port.out.CustomerRepository;
 import com.restaurant.application.port.out.MenuItemRepository;
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.QueryStatisticsService;
+import com.restaurant.application.port.out.RepositoryMetricsService;
+import com.restaurant.application.port.out.RestaurantTableRepository;
+import com.restaurant.application.port.out.TransactionService;
 import com.restaurant.application.service.CustomerService;
 import com.restaurant.application.service.MenuService;
+import com.restaurant.application.service.MonitoringService;
+import com.restaurant.application.service.OrderService;
+import com.restaurant.application.service.TableService;
+import com.restaurant.domain.kitchen.KitchenBacklog;
 import com.restaurant.infrastructure.cache.RedisCacheService;
+import com.restaurant.infrastructure.coalescing.CoalescingOrderRepository;
+import com.restaurant.infrastructure.counter.CountingCustomerRepository;
+import com.restaurant.infrastructure.counter.CountingMenuItemRepository;
+import com.restaurant.infrastructure.index.ActiveIndexedOrderRepository;
+import com.restaurant.infrastructure.index.RedisOrderChangeChannel;
+import com.restaurant.infrastructure.persistence.instrumentation.InMemoryRepositoryMetricsService;
 import com.restaurant.infrastructure.persistence.repository.JpaCustomerRepository;
 import com.restaurant.infrastructure.persistence.repository.JpaMenuItemRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingCustomerRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingMenuItemRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingOrderRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingRestaurantTableRepository;
+import com.restaurant.infrastructure.persistence.statistics.HibernateQueryStatisticsService;
+import com.restaurant.infrastructure.persistence.transaction.AfterCommitTransactionService;
+import com.restaurant.infrastructure.search.SearchIndexedCustomerRepository;
+import com.restaurant.infrastructure.search.SearchIndexedMenuItemRepository;
+import com.restaurant.infrastructure.uniqueness.BloomFilteredCustomerRepository;
+import com.restaurant.infrastructure.uniqueness.BloomFilteredMenuItemRepository;
+import com.restaurant.micronaut.repository.TransactionalJpaOrderRepository;
+import com.restaurant.micronaut.repository.TransactionalJpaOutboxRepository;
+import com.restaurant.micronaut.repository.TransactionalJpaRestaurantTableRepository;
+import com.restaurant.micronaut.repository.TransactionalJpaTransactionService;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
-import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.Persistence;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
-import javax.sql.DataSource;
+
+import java.time.Duration;
 
 /**
  * Micronaut configuration for dependency injection
@@ -26,14 +60,6 @@ import javax.sql.DataSource;
 @Factory
 public class ApplicationConfig {
     
-    @Singleton
-    @Primary
-    public EntityManager entityManager() {
-        // Create EntityManagerFactory with programmatic configuration
-        EntityManagerFactory emf = Persistence.createEntityManagerFactory("default");
-        return emf.createEntityManager();
-    }
-    
     @Singleton
     @Primary
     public JedisPool jedisPool() {
@@ -54,32 +80,86 @@ public class ApplicationConfig {
     
     @Singleton
     @Primary
-    public JpaCustomerRepository jpaCustomerRepository(EntityManager entityManager) {
-        return new JpaCustomerRepository(entityManager);
+    public RedisCacheService redisCacheService(JedisPool jedisPool) {
+        return new RedisCacheService(jedisPool);
+    }
+    
+    @Singleton
+    @Bean(preDestroy = "close")
+    public RedisOrderChangeChannel orderChangeChannel(JedisPool jedisPool) {
+        return new RedisOrderChangeChannel(jedisPool);
     }
     
     @Singleton
     @Primary
-    public JpaMenuItemRepository jpaMenuItemRepository(EntityManager entityManager) {
-        return new JpaMenuItemRepository(entityManager);
+    public InMemoryRepositoryMetricsService repositoryMetricsService(
+            @Value("${restaurant.monitoring.slow-query-threshold:200ms}") Duration slowQueryThreshold,
+            @Value("${restaurant.monitoring.slow-query-capacity:100}") int slowQueryCapacity) {
+        return new InMemoryRepositoryMetricsService(slowQueryThreshold, slowQueryCapacity);
     }
     
+    // The JPA or JDBC repository, whichever restaurant.persistence.adapter enables
     @Singleton
     @Primary
-    public RedisCacheService redisCacheService(JedisPool jedisPool) {
-        return new RedisCacheService(jedisPool);
+    @Bean(preDestroy = "close")
+    public SearchIndexedCustomerRepository customerRepository(JpaCustomerRepository jpaCustomerRepository,
+                                                              InMemoryRepositoryMetricsService metrics,
+                                                              TransactionService transactionService) {
+        CustomerRepository counting = new CountingCustomerRepository(
+            metrics.instrument(CustomerRepository.class, jpaCustomerRepository), transactionService);
+        return new SearchIndexedCustomerRepository(new BloomFilteredCustomerRepository(
+            new ReplicaRoutingCustomerRepository(counting), transactionService), transactionService);
+    }
+    
+    @Singleton
+    @Primary
+    @Bean(preDestroy = "close")
+    public SearchIndexedMenuItemRepository menuItemRepository(JpaMenuItemRepository jpaMenuItemRepository,
+                                                              InMemoryRepositoryMetricsService metrics,
+                                                              TransactionService transactionService) {
+        MenuItemRepository counting = new CountingMenuItemRepository(
+            metrics.instrument(MenuItemRepository.class, jpaMenuItemRepository), transactionService);
+        return new SearchIndexedMenuItemRepository(new BloomFilteredMenuItemRepository(
+            new ReplicaRoutingMenuItemRepository(counting), transactionService), transactionService);
     }
     
     @Singleton
     @Primary
-    public CustomerRepository customerRepository(JpaCustomerRepository jpaCustomerRepository) {
-        return jpaCustomerRepository;
+    @Bean(preDestroy = "close")
+    public CoalescingOrderRepository orderRepository(
+            TransactionalJpaOrderRepository jpaOrderRepository,
+            InMemoryRepositoryMetricsService metrics,
+            TransactionService transactionService,
+            RedisOrderChangeChannel orderChangeChannel,
+            @Value("${restaurant.orders.write-durability:write-through}") String writeDurability,
+            @Value("${restaurant.orders.write-window:100ms}") Duration writeWindow,
+            @Value("${restaurant.orders.write-max-batch:500}") int writeMaxBatch) {
+        return new CoalescingOrderRepository(
+            new ReplicaRoutingOrderRepository(new ActiveIndexedOrderRepository(
+                metrics.instrument(OrderRepository.class, jpaOrderRepository), transactionService, orderChangeChannel)),
+            CoalescingOrderRepository.Durability.parse(writeDurability), writeWindow, writeMaxBatch);
     }
     
     @Singleton
     @Primary
-    public MenuItemRepository menuItemRepository(JpaMenuItemRepository jpaMenuItemRepository) {
-        return jpaMenuItemRepository;
+    public RestaurantTableRepository restaurantTableRepository(
+            TransactionalJpaRestaurantTableRepository jpaRestaurantTableRepository,
+            InMemoryRepositoryMetricsService metrics) {
+        return new ReplicaRoutingRestaurantTableRepository(
+            metrics.instrument(RestaurantTableRepository.class, jpaRestaurantTableRepository));
+    }
+    
+    @Singleton
+    @Primary
+    public OutboxRepository outboxRepository(TransactionalJpaOutboxRepository jpaOutboxRepository,
+                                             InMemoryRepositoryMetricsService metrics) {
+        return metrics.instrument(OutboxRepository.class, jpaOutboxRepository);
+    }
+    
+    @Singleton
+    @Primary
+    public TransactionService transactionService(TransactionalJpaTransactionService jpaTransactionService) {
+        return new AfterCommitTransactionService(jpaTransactionService);
     }
     
     @Singleton
@@ -92,15 +172,47 @@ public class ApplicationConfig {
     @Primary
     public CustomerUseCase customerUseCase(
             CustomerRepository customerRepository,
-            CacheService cacheService) {
-        return new CustomerService(customerRepository, cacheService);
+            CacheService cacheService,
+            OutboxRepository outboxRepository,
+            TransactionService transactionService) {
+        return new CustomerService(customerRepository, cacheService, outboxRepository, transactionService);
     }
     
     @Singleton
     @Primary
     public MenuUseCase menuUseCase(
             MenuItemRepository menuItemRepository,
-            CacheService cacheService) {
-        return new MenuService(menuItemRepository, cacheService);
+            CacheService cacheService,
+            OutboxRepository outboxRepository,
+            TransactionService transactionService) {
+        return new MenuService(menuItemRepository, cacheService, outboxRepository, transactionService);
+    }
+    
+    @Singleton
+    @Primary
+    public OrderUseCase orderUseCase(
+            OrderRepository orderRepository,
+            MenuItemRepository menuItemRepository,
+            @Value("${restaurant.kitchen.stations:4}") int kitchenStations) {
+        return new OrderService(orderRepository, menuItemRepository, new KitchenBacklog(kitchenStations));
+    }
+    
+    @Singleton
+    @Primary
+    public TableUseCase tableUseCase(RestaurantTableRepository restaurantTableRepository) {
+        return new TableService(restaurantTableRepository);
+    }
+    
+    @Singleton
+    @Primary
+    public QueryStatisticsService queryStatisticsService(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryStatisticsService(entityManagerFactory);
+    }
+    
+    @Singleton
+    @Primary
+    public MonitoringUseCase monitoringUseCase(QueryStatisticsService queryStatisticsService,
+                                               RepositoryMetricsService repositoryMetricsService) {
+        return new MonitoringService(queryStatisticsService, repositoryMetricsService);
     }
 }
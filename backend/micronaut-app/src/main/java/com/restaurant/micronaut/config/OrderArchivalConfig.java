@@ -0,0 +1,31 @@
+package com.restaurant.micronaut.config;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.infrastructure.persistence.archive.OrderArchivalJob;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+
+import java.time.Duration;
+
+/**
+ * Background archival of completed orders, enabled unless restaurant.archive.enabled is false.
+ * Delivered and cancelled orders older than the retention period are moved to the archive tables in batches.
+ */
+@Factory
+@Requires(property = "restaurant.archive.enabled", notEquals = "false")
+public class OrderArchivalConfig {
+    
+    // Eagerly created, since nothing else depends on the job
+    @Context
+    @Bean(preDestroy = "close")
+    public OrderArchivalJob orderArchivalJob(
+            OrderRepository orderRepository,
+            @Value("${restaurant.archive.retention-days:90}") int retentionDays,
+            @Value("${restaurant.archive.batch-size:500}") int batchSize,
+            @Value("${restaurant.archive.interval:1h}") Duration interval) {
+        return new OrderArchivalJob(orderRepository, Duration.ofDays(retentionDays), batchSize, interval);
+    }
+}
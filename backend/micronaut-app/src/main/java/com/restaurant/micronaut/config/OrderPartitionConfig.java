@@ -0,0 +1,30 @@
+package com.restaurant.micronaut.config;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.infrastructure.persistence.archive.OrderPartitionJob;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+
+import java.time.Duration;
+
+/**
+ * Background creation of monthly order partitions, enabled unless restaurant.partitions.enabled is false.
+ * The months up to months-ahead from now are split off p_future at startup and then every interval.
+ */
+@Factory
+@Requires(property = "restaurant.partitions.enabled", notEquals = "false")
+public class OrderPartitionConfig {
+    
+    // Eagerly created, since nothing else depends on the job
+    @Context
+    @Bean(preDestroy = "close")
+    public OrderPartitionJob orderPartitionJob(
+            OrderRepository orderRepository,
+            @Value("${restaurant.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${restaurant.partitions.interval:24h}") Duration interval) {
+        return new OrderPartitionJob(orderRepository, monthsAhead, interval);
+    }
+}
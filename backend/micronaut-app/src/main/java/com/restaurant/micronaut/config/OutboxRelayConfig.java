@@ -0,0 +1,40 @@
+package com.restaurant.micronaut.config;
+
+import com.restaurant.application.port.out.CacheService;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.infrastructure.outbox.CacheInvalidationConsumer;
+import com.restaurant.infrastructure.outbox.OutboxRelay;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Background relay of the transactional outbox, enabled unless restaurant.outbox.enabled is false.
+ * Cache invalidations written by the use cases are applied here, after their transaction has committed.
+ */
+@Factory
+@Requires(property = "restaurant.outbox.enabled", notEquals = "false")
+public class OutboxRelayConfig {
+    
+    // Eagerly created, since nothing else depends on the relay
+    @Context
+    @Bean(preDestroy = "close")
+    public OutboxRelay outboxRelay(
+            OutboxRepository outboxRepository,
+            TransactionService transactionService,
+            CacheService cacheService,
+            @Value("${restaurant.outbox.interval:200ms}") Duration interval,
+            @Value("${restaurant.outbox.batch-size:100}") int batchSize) {
+        CacheInvalidationConsumer cacheInvalidation = new CacheInvalidationConsumer(cacheService);
+        return new OutboxRelay(outboxRepository, transactionService, Map.of(
+            OutboxRepository.CACHE_EVICT, cacheInvalidation,
+            OutboxRepository.CACHE_EVICT_PATTERN, cacheInvalidation
+        ), interval, batchSize);
+    }
+}
@@ -0,0 +1,91 @@
+package com.restaurant.micronaut.config;
+
+import com.restaurant.infrastructure.persistence.routing.DataSourceRoutingContext;
+import com.restaurant.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import jakarta.inject.Singleton;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replica routing, enabled when restaurant.replica.urls lists at least one replica.
+ * The default datasource is wrapped so that read-only repository calls go to a healthy
+ * replica and everything else to the primary.
+ */
+@Factory
+@Requires(property = "restaurant.replica.urls")
+public class ReadReplicaConfig {
+    
+    @Singleton
+    @Bean(preDestroy = "close")
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Value("${restaurant.replica.urls}") List<String> replicaUrls,
+            @Value("${restaurant.replica.username:${datasources.default.username}}") String username,
+            @Value("${restaurant.replica.password:${datasources.default.password}}") String password,
+            @Value("${restaurant.replica.max-lag:5s}") Duration maxLag,
+            @Value("${restaurant.replica.check-interval:1s}") Duration checkInterval) {
+        List<DataSource> replicas = replicaUrls.stream()
+            .map(url -> {
+                HikariConfig config = new HikariConfig();
+                config.setJdbcUrl(url);
+                config.setUsername(username);
+                config.setPassword(password);
+                config.setReadOnly(true);
+                return (DataSource) new HikariDataSource(config);
+            })
+            .toList();
+        return new ReplicaLagMonitor(replicas, maxLag, checkInterval);
+    }
+    
+    /**
+     * Wraps the default datasource with the replica router
+     */
+    @Singleton
+    @Requires(property = "restaurant.replica.urls")
+    public static class RoutingDataSourceListener implements BeanCreatedEventListener<DataSource> {
+        
+        private final ReplicaLagMonitor replicaLagMonitor;
+        
+        public RoutingDataSourceListener(ReplicaLagMonitor replicaLagMonitor) {
+            this.replicaLagMonitor = replicaLagMonitor;
+        }
+        
+        @Override
+        public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+            return new ReplicaRoutingDataSource(event.getBean(), replicaLagMonitor);
+        }
+    }
+    
+    /**
+     * Resets read-your-writes stickiness in a finally around every {@link RoutingContextScoped} method, on the
+     * thread that served the request. A response filter may run on another thread than the controller, so it
+     * could leave that thread pinned to the primary for the requests it serves next.
+     */
+    @Singleton
+    @InterceptorBean(RoutingContextScoped.class)
+    @Requires(property = "restaurant.replica.urls")
+    public static class RoutingContextInterceptor implements MethodInterceptor<Object, Object> {
+        
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context) {
+            try {
+                return context.proceed();
+            } finally {
+                DataSourceRoutingContext.clear();
+            }
+        }
+    }
+}
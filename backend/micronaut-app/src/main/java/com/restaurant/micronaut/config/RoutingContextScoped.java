@@ -0,0 +1,21 @@
+package com.restaurant.micronaut.config;
+
+import io.micronaut.aop.Around;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Resets read-your-writes stickiness when an annotated method returns or throws, on the thread that ran it.
+ * Put on controllers that reach the repositories, so a request never inherits the primary pinning of an
+ * earlier one served by the same event loop or executor thread.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Around
+public @interface RoutingContextScoped {
+}
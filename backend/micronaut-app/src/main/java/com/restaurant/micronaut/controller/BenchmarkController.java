@@ -1,26 +1,42 @@
 package com.restaurant.micronaut.controller;
 
+import com.restaurant.application.port.in.TableUseCase;
+import com.restaurant.domain.entity.RestaurantTable;
+import com.restaurant.micronaut.config.RoutingContextScoped;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.QueryValue;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.scheduling.TaskExecutors;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Benchmark controller to test Virtual Threads performance in Micronaut
  */
 @Controller("/api/v1/benchmark")
 @Tag(name = "Benchmark", description = "Virtual Threads performance testing")
+@RoutingContextScoped
 public class BenchmarkController {
 
+    @Inject
+    private TableUseCase tableUseCase;
+
     private boolean isVirtualThread(Thread thread) {
         // Check if thread is virtual (compatible with Java 19+)
         return thread.toString().contains("VirtualThread") || 
@@ -97,4 +113,74 @@ public class BenchmarkController {
         
         return HttpResponse.ok(response);
     }
+
+    @Post("/table-contention")
+    @ExecuteOn(TaskExecutors.IO)
+    @Operation(summary = "Test table occupancy under contention",
+               description = "Concurrent hosts race to occupy a few scratch tables; exactly one host per table may win")
+    public HttpResponse<Map<String, Object>> testTableContention(
+            @Parameter(description = "Number of concurrent hosts")
+            @QueryValue(defaultValue = "500") int hosts,
+            @Parameter(description = "Number of scratch tables (1-100)")
+            @QueryValue(defaultValue = "10") int tables) {
+
+        int hostCount = Math.max(1, Math.min(hosts, 10_000));
+        int tableCount = Math.max(1, Math.min(tables, 100));
+
+        // Table numbers are limited to 10 characters
+        String runId = Long.toString(System.nanoTime() % 1_000_000, 36);
+        List<RestaurantTable> scratchTables = new ArrayList<>();
+        Map<UUID, AtomicInteger> winners = new ConcurrentHashMap<>();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long startTime = System.nanoTime();
+
+        try {
+            for (int i = 0; i < tableCount; i++) {
+                scratchTables.add(tableUseCase.createTable(
+                    new TableUseCase.CreateTableCommand("B" + runId + "-" + i, 4, "benchmark")));
+            }
+
+            startTime = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < hostCount; i++) {
+                    UUID tableId = scratchTables.get(i % tableCount).getId();
+                    executor.submit(() -> {
+                        try {
+                            tableUseCase.occupyTable(tableId, UUID.randomUUID());
+                            winners.computeIfAbsent(tableId, id -> new AtomicInteger()).incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            rejected.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                    });
+                }
+            }
+        } finally {
+            for (RestaurantTable table : scratchTables) {
+                tableUseCase.makeTableAvailable(table.getId());
+                tableUseCase.deleteTable(table.getId());
+            }
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        int seated = winners.values().stream().mapToInt(AtomicInteger::get).sum();
+        long doubleBooked = winners.values().stream().filter(count -> count.get() > 1).count();
+
+        Map<String, Object> response = Map.of(
+            "framework", "Micronaut",
+            "hosts", hostCount,
+            "tables", tableCount,
+            "seated", seated,
+            "rejected", rejected.get(),
+            "errors", errors.get(),
+            "doubleBookedTables", doubleBooked,
+            "executionTimeMs", elapsedMs,
+            "attemptsPerSecond", hostCount * 1000L / elapsedMs,
+            "timestamp", LocalDateTime.now()
+        );
+
+        return HttpResponse.ok(response);
+    }
 }
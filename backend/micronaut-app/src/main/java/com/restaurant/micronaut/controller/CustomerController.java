@@ -2,10 +2,15 @@ package com.restaurant.micronaut.controller;
 
 import com.restaurant.application.port.in.CustomerUseCase;
 import com.restaurant.domain.entity.Customer;
+import com.restaurant.micronaut.config.RoutingContextScoped;
 import com.restaurant.micronaut.dto.CustomerDTO;
+import com.restaurant.micronaut.mapper.BulkImportMapper;
 import com.restaurant.micronaut.mapper.CustomerDTOMapper;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.*;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,6 +20,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +30,7 @@ import java.util.stream.Collectors;
  */
 @Controller("/api/v1/customers")
 @Tag(name = "Customers", description = "Customer management operations")
+@RoutingContextScoped
 public class CustomerController {
     
     @Inject
@@ -31,6 +38,9 @@ public class CustomerController {
     
     private CustomerDTOMapper customerMapper;
     
+    @Inject
+    private BulkImportMapper bulkImportMapper;
+    
     @Post
     @Operation(summary = "Create a new customer")
     public HttpResponse<CustomerDTO> createCustomer(@Body CreateCustomerRequest request) {
@@ -82,13 +92,20 @@ public class CustomerController {
             .orElse(HttpResponse.notFound());
     }
     
+    @Get("/stats")
+    @Operation(summary = "Get customer counts")
+    public HttpResponse<CustomerUseCase.CustomerStatistics> getCustomerStatistics() {
+        return HttpResponse.ok(customerUseCase.getCustomerStatistics());
+    }
+    
     @Get("/search")
     @Operation(summary = "Search customers by name")
-    public HttpResponse<List<CustomerDTO>> searchCustomers(@QueryValue String name) {
+    public HttpResponse<List<CustomerDTO>> searchCustomers(@QueryValue String name,
+                                                           @QueryValue(defaultValue = "50") int limit) {
         if (name == null || name.trim().isEmpty()) {
             return HttpResponse.badRequest();
         }
-        List<Customer> customers = customerUseCase.searchCustomersByName(name.trim());
+        List<Customer> customers = customerUseCase.searchCustomersByName(name.trim(), limit);
         List<CustomerDTO> dtos = customers.stream()
             .map(customerMapper::toDTO)
             .collect(Collectors.toList());
@@ -143,6 +160,26 @@ public class CustomerController {
         }
     }
     
+    // Blocks on the request body, so it runs off the event loop
+    @Post(value = "/import", consumes = {BulkImportMapper.TEXT_CSV, BulkImportMapper.APPLICATION_NDJSON})
+    @ExecuteOn(TaskExecutors.IO)
+    @Operation(summary = "Bulk import customers from a CSV or NDJSON stream")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import finished"),
+        @ApiResponse(responseCode = "400",
+            description = "Malformed import record; the records before it were imported, as the counts report")
+    })
+    public HttpResponse<CustomerUseCase.ImportResult> importCustomers(
+            @Header(HttpHeaders.CONTENT_TYPE) String contentType, @Body InputStream body) {
+        try {
+            CustomerUseCase.ImportResult result =
+                customerUseCase.importCustomers(bulkImportMapper.toCustomerCommands(body, contentType));
+            return result.error() == null ? HttpResponse.ok(result) : HttpResponse.badRequest(result);
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest(new CustomerUseCase.ImportResult(0, 0, 0, e.getMessage()));
+        }
+    }
+    
     // Request records
     public record CreateCustomerRequest(String name, String email, String phone, String address) {}
     public record UpdateCustomerRequest(String name, String email, String phone, String address) {}
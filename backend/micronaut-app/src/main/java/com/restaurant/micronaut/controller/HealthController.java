@@ -1,9 +1,11 @@
 package com.restaurant.micronaut.controller;
 
+import com.restaurant.application.port.in.MonitoringUseCase;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.annotation.QueryValue;
 import io.micronaut.http.MediaType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +13,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -22,6 +25,9 @@ import java.util.Map;
 @Tag(name = "Health", description = "Application health check operations")
 public class HealthController {
 
+    @Inject
+    private MonitoringUseCase monitoringUseCase;
+
     @Get
     @Produces(MediaType.APPLICATION_JSON)
     @Operation(summary = "Health check", description = "Check the health status of the application")
@@ -76,6 +82,20 @@ public class HealthController {
         ));
     }
 
+    @Get("/slow-queries")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Slow queries", description = "Recent repository calls that exceeded the slow-call threshold")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Slow calls with parameters and call site, newest first")
+    })
+    public HttpResponse<Map<String, Object>> slowQueries(@QueryValue(defaultValue = "20") int limit) {
+        return HttpResponse.ok(Map.of(
+            "slowThresholdMs", monitoringUseCase.getRepositoryStatistics().slowThresholdMs(),
+            "slowQueries", monitoringUseCase.getSlowQueries(limit),
+            "timestamp", LocalDateTime.now()
+        ));
+    }
+
     // Response record
     public record HealthResponse(
         String status,
@@ -4,10 +4,15 @@ import com.restaurant.application.port.in.MenuUseCase;
 import com.restaurant.domain.entity.MenuItem;
 import com.restaurant.domain.valueobject.MenuCategory;
 import com.restaurant.domain.valueobject.Money;
+import com.restaurant.micronaut.config.RoutingContextScoped;
 import com.restaurant.micronaut.dto.MenuItemDTO;
+import com.restaurant.micronaut.mapper.BulkImportMapper;
 import com.restaurant.micronaut.mapper.MenuItemDTOMapper;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.*;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +22,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
@@ -27,6 +33,7 @@ import java.util.stream.Collectors;
  */
 @Controller("/api/v1/menu-items")
 @Tag(name = "Menu Items", description = "Menu item management operations")
+@RoutingContextScoped
 public class MenuItemController {
     
     @Inject
@@ -35,6 +42,9 @@ public class MenuItemController {
     @Inject
     private MenuItemDTOMapper menuItemMapper;
     
+    @Inject
+    private BulkImportMapper bulkImportMapper;
+    
     @Post
     @Operation(summary = "Create a new menu item", description = "Create a new menu item in the restaurant")
     @ApiResponses({
@@ -111,6 +121,12 @@ public class MenuItemController {
         return HttpResponse.ok(dtos);
     }
     
+    @Get("/stats")
+    @Operation(summary = "Get menu item counts", description = "Total, available and per-category menu item counts")
+    public HttpResponse<MenuUseCase.MenuStatistics> getMenuStatistics() {
+        return HttpResponse.ok(menuUseCase.getMenuStatistics());
+    }
+    
     @Get("/by-category")
     @Operation(summary = "Get menu items by category", description = "Retrieve menu items filtered by category")
     @ApiResponses({
@@ -202,6 +218,26 @@ public class MenuItemController {
         }
     }
     
+    // Blocks on the request body, so it runs off the event loop
+    @Post(value = "/import", consumes = {BulkImportMapper.TEXT_CSV, BulkImportMapper.APPLICATION_NDJSON})
+    @ExecuteOn(TaskExecutors.IO)
+    @Operation(summary = "Bulk import menu items from a CSV or NDJSON stream")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import finished"),
+        @ApiResponse(responseCode = "400",
+            description = "Malformed import record; the records before it were imported, as the counts report")
+    })
+    public HttpResponse<MenuUseCase.ImportResult> importMenuItems(
+            @Header(HttpHeaders.CONTENT_TYPE) String contentType, @Body InputStream body) {
+        try {
+            MenuUseCase.ImportResult result =
+                menuUseCase.importMenuItems(bulkImportMapper.toMenuItemCommands(body, contentType));
+            return result.error() == null ? HttpResponse.ok(result) : HttpResponse.badRequest(result);
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest(new MenuUseCase.ImportResult(0, 0, 0, e.getMessage()));
+        }
+    }
+    
     // Request records
     public record CreateMenuItemRequest(String name, String description, BigDecimal price, String category, String imageUrl, int preparationTimeMinutes) {}
     public record UpdateMenuItemRequest(String name, String description, BigDecimal price, String category, String imageUrl, int preparationTimeMinutes, boolean available) {}
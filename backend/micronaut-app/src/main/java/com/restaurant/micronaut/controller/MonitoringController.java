@@ -0,0 +1,56 @@
+package com.restaurant.micronaut.controller;
+
+import com.restaurant.application.port.in.MonitoringUseCase;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+
+import java.util.List;
+
+/**
+ * Micronaut REST controller for runtime monitoring
+ */
+@Controller("/api/v1/monitoring")
+@Tag(name = "Monitoring", description = "Runtime monitoring operations")
+public class MonitoringController {
+    
+    @Inject
+    private MonitoringUseCase monitoringUseCase;
+    
+    @Get("/queries")
+    @Operation(summary = "Get query execution and plan cache statistics")
+    public HttpResponse<MonitoringUseCase.QueryStatistics> getQueryStatistics(
+            @Parameter(description = "Number of per-query entries") @QueryValue(defaultValue = "20") int top) {
+        return HttpResponse.ok(monitoringUseCase.getQueryStatistics(top));
+    }
+    
+    @Delete("/queries")
+    @Operation(summary = "Reset query statistics")
+    public HttpResponse<Void> resetQueryStatistics() {
+        monitoringUseCase.resetQueryStatistics();
+        return HttpResponse.noContent();
+    }
+    
+    @Get("/repositories")
+    @Operation(summary = "Get repository call statistics")
+    public HttpResponse<MonitoringUseCase.RepositoryStatistics> getRepositoryStatistics() {
+        return HttpResponse.ok(monitoringUseCase.getRepositoryStatistics());
+    }
+    
+    @Get("/slow-queries")
+    @Operation(summary = "Get recent slow repository calls")
+    public HttpResponse<List<MonitoringUseCase.SlowQuery>> getSlowQueries(
+            @Parameter(description = "Maximum number of entries") @QueryValue(defaultValue = "20") int limit) {
+        return HttpResponse.ok(monitoringUseCase.getSlowQueries(limit));
+    }
+    
+    @Delete("/repositories")
+    @Operation(summary = "Reset repository call statistics and slow calls")
+    public HttpResponse<Void> resetRepositoryStatistics() {
+        monitoringUseCase.resetRepositoryStatistics();
+        return HttpResponse.noContent();
+    }
+}
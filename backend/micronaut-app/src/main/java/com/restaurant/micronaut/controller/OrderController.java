@@ -0,0 +1,258 @@
+package com.restaurant.micronaut.controller;
+
+import com.restaurant.application.port.in.OrderUseCase;
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.valueobject.OrderStatus;
+import com.restaurant.micronaut.config.RoutingContextScoped;
+import com.restaurant.micronaut.dto.OrderDTO;
+import com.restaurant.micronaut.mapper.OrderDTOMapper;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Micronaut REST controller for order operations
+ */
+@Controller("/api/v1/orders")
+@Tag(name = "Orders", description = "Order management operations")
+@RoutingContextScoped
+public class OrderController {
+    
+    @Inject
+    private OrderUseCase orderUseCase;
+    
+    @Inject
+    private OrderDTOMapper orderMapper;
+    
+    @Post
+    @Operation(summary = "Create a new order")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Order created successfully",
+                    content = @Content(schema = @Schema(implementation = OrderDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid order data")
+    })
+    public HttpResponse<OrderDTO> createOrder(@Body CreateOrderRequest request) {
+        try {
+            OrderUseCase.CreateOrderCommand command = new OrderUseCase.CreateOrderCommand(
+                request.customerId(), request.tableId(), request.specialInstructions()
+            );
+            Order order = orderUseCase.createOrder(command);
+            return HttpResponse.created(orderMapper.toDTO(order));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+    }
+    
+    @Post("/place")
+    @Operation(summary = "Place an order with all its items at once")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Order placed successfully",
+                    content = @Content(schema = @Schema(implementation = OrderDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid order data or unknown menu item"),
+        @ApiResponse(responseCode = "409", description = "A menu item is not available")
+    })
+    public HttpResponse<OrderDTO> placeOrder(@Body PlaceOrderRequest request) {
+        try {
+            List<OrderUseCase.OrderLine> lines = request.lines() == null ? null : request.lines().stream()
+                .map(line -> new OrderUseCase.OrderLine(line.menuItemId(), line.quantity(), line.notes()))
+                .collect(Collectors.toList());
+            OrderUseCase.PlaceOrderCommand command = new OrderUseCase.PlaceOrderCommand(
+                request.customerId(), request.tableId(), request.specialInstructions(), lines
+            );
+            Order order = orderUseCase.placeOrder(command);
+            return HttpResponse.created(orderMapper.toDTO(order));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        } catch (IllegalStateException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT);
+        }
+    }
+    
+    @Get("/{id}")
+    @Operation(summary = "Get order by ID")
+    public HttpResponse<OrderDTO> getOrderById(@PathVariable UUID id) {
+        return orderUseCase.findOrderById(id)
+            .map(orderMapper::toDTO)
+            .map(HttpResponse::ok)
+            .orElse(HttpResponse.notFound());
+    }
+    
+    @Get
+    @Operation(summary = "Get orders placed in a time range", description = "Today's orders when no range is given")
+    public HttpResponse<List<OrderDTO>> getOrders(
+            @Parameter(description = "Range start") @QueryValue @Nullable LocalDateTime start,
+            @Parameter(description = "Range end") @QueryValue @Nullable LocalDateTime end) {
+        if (start == null && end == null) {
+            return HttpResponse.ok(toDTOs(orderUseCase.getTodaysOrders()));
+        }
+        if (start == null || end == null) {
+            return HttpResponse.badRequest();
+        }
+        try {
+            return HttpResponse.ok(toDTOs(orderUseCase.getOrdersByDateRange(start, end)));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+    }
+    
+    @Get("/active")
+    @Operation(summary = "Get active orders")
+    public HttpResponse<List<OrderDTO>> getActiveOrders() {
+        return HttpResponse.ok(toDTOs(orderUseCase.getActiveOrders()));
+    }
+    
+    @Get("/customer/{customerId}")
+    @Operation(summary = "Get orders by customer")
+    public HttpResponse<List<OrderDTO>> getOrdersByCustomer(@PathVariable UUID customerId) {
+        return HttpResponse.ok(toDTOs(orderUseCase.getOrdersByCustomer(customerId)));
+    }
+    
+    @Get("/table/{tableId}")
+    @Operation(summary = "Get orders by table")
+    public HttpResponse<List<OrderDTO>> getOrdersByTable(
+            @PathVariable UUID tableId,
+            @Parameter(description = "Only orders not yet delivered or cancelled")
+            @QueryValue(defaultValue = "false") boolean active) {
+        return HttpResponse.ok(toDTOs(active
+            ? orderUseCase.getActiveOrdersByTable(tableId)
+            : orderUseCase.getOrdersByTable(tableId)));
+    }
+    
+    @Get("/status/{status}")
+    @Operation(summary = "Get orders by status")
+    public HttpResponse<List<OrderDTO>> getOrdersByStatus(@PathVariable String status) {
+        try {
+            OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
+            return HttpResponse.ok(toDTOs(orderUseCase.getOrdersByStatus(orderStatus)));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+    }
+    
+    @Put("/status")
+    @Operation(summary = "Move several orders to the same status at once",
+               description = "Returns the result of each order, including those that could not be moved")
+    public HttpResponse<List<OrderUseCase.TransitionResult>> transitionOrders(@Body TransitionOrdersRequest request) {
+        try {
+            OrderStatus status = request.status() != null ? OrderStatus.valueOf(request.status().toUpperCase()) : null;
+            return HttpResponse.ok(orderUseCase.transitionOrders(
+                new OrderUseCase.TransitionOrdersCommand(request.orderIds(), status, request.reason())));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+    }
+    
+    @Post("/{id}/items")
+    @Operation(summary = "Add an item to a pending order")
+    public HttpResponse<OrderDTO> addItem(@PathVariable UUID id, @Body AddOrderItemRequest request) {
+        if (request.quantity() < 1) {
+            return HttpResponse.badRequest();
+        }
+        return execute(() -> orderUseCase.addItemToOrder(new OrderUseCase.AddOrderItemCommand(
+            id, request.menuItemId(), request.quantity(), request.notes())));
+    }
+    
+    @Put("/{id}/items/{menuItemId}")
+    @Operation(summary = "Change the quantity of an item in a pending order")
+    public HttpResponse<OrderDTO> updateItemQuantity(@PathVariable UUID id, @PathVariable UUID menuItemId,
+                                                     @Body UpdateQuantityRequest request) {
+        if (request.quantity() < 1) {
+            return HttpResponse.badRequest();
+        }
+        return execute(() -> orderUseCase.updateOrderItemQuantity(id, menuItemId, request.quantity()));
+    }
+    
+    @Delete("/{id}/items/{menuItemId}")
+    @Operation(summary = "Remove an item from a pending order")
+    public HttpResponse<OrderDTO> removeItem(@PathVariable UUID id, @PathVariable UUID menuItemId) {
+        return execute(() -> orderUseCase.removeItemFromOrder(id, menuItemId));
+    }
+    
+    @Put("/{id}/confirm")
+    @Operation(summary = "Confirm an order")
+    public HttpResponse<OrderDTO> confirmOrder(@PathVariable UUID id) {
+        return execute(() -> orderUseCase.confirmOrder(id));
+    }
+    
+    @Put("/{id}/start-preparing")
+    @Operation(summary = "Start preparing an order")
+    public HttpResponse<OrderDTO> startPreparingOrder(@PathVariable UUID id) {
+        return execute(() -> orderUseCase.startPreparingOrder(id));
+    }
+    
+    @Put("/{id}/ready")
+    @Operation(summary = "Mark an order as ready")
+    public HttpResponse<OrderDTO> markOrderReady(@PathVariable UUID id) {
+        return execute(() -> orderUseCase.markOrderReady(id));
+    }
+    
+    @Put("/{id}/deliver")
+    @Operation(summary = "Deliver an order")
+    public HttpResponse<OrderDTO> deliverOrder(@PathVariable UUID id) {
+        return execute(() -> orderUseCase.deliverOrder(id));
+    }
+    
+    @Put("/{id}/cancel")
+    @Operation(summary = "Cancel an order")
+    public HttpResponse<OrderDTO> cancelOrder(@PathVariable UUID id, @Body CancelOrderRequest request) {
+        return execute(() -> orderUseCase.cancelOrder(id, request.reason()));
+    }
+    
+    // Unknown orders or menu items are 404, invalid status transitions are 409
+    private HttpResponse<OrderDTO> execute(Supplier<Order> operation) {
+        try {
+            return HttpResponse.ok(orderMapper.toDTO(operation.get()));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.notFound();
+        } catch (IllegalStateException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT);
+        }
+    }
+    
+    private List<OrderDTO> toDTOs(List<Order> orders) {
+        return orders.stream()
+            .map(orderMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+    
+    // DTOs
+    public record CreateOrderRequest(
+        UUID customerId,
+        UUID tableId,
+        String specialInstructions
+    ) {}
+    
+    public record PlaceOrderRequest(
+        UUID customerId,
+        UUID tableId,
+        String specialInstructions,
+        List<AddOrderItemRequest> lines
+    ) {}
+    
+    public record AddOrderItemRequest(
+        UUID menuItemId,
+        int quantity,
+        String notes
+    ) {}
+    
+    public record UpdateQuantityRequest(int quantity) {}
+    
+    public record CancelOrderRequest(String reason) {}
+    
+    public record TransitionOrdersRequest(List<UUID> orderIds, String status, String reason) {}
+}
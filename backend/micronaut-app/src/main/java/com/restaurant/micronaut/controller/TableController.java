@@ -0,0 +1,216 @@
+package com.restaurant.micronaut.controller;
+
+import com.restaurant.application.port.in.TableUseCase;
+import com.restaurant.domain.entity.RestaurantTable;
+import com.restaurant.domain.valueobject.TableStatus;
+import com.restaurant.micronaut.config.RoutingContextScoped;
+import com.restaurant.micronaut.dto.RestaurantTableDTO;
+import com.restaurant.micronaut.mapper.RestaurantTableDTOMapper;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Micronaut REST controller for restaurant table operations
+ */
+@Controller("/api/v1/tables")
+@Tag(name = "Tables", description = "Restaurant table management operations")
+@RoutingContextScoped
+public class TableController {
+    
+    @Inject
+    private TableUseCase tableUseCase;
+    
+    @Inject
+    private RestaurantTableDTOMapper tableMapper;
+    
+    @Post
+    @Operation(summary = "Create a new table")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Table created successfully",
+                    content = @Content(schema = @Schema(implementation = RestaurantTableDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid table data")
+    })
+    public HttpResponse<RestaurantTableDTO> createTable(@Body CreateTableRequest request) {
+        try {
+            TableUseCase.CreateTableCommand command = new TableUseCase.CreateTableCommand(
+                request.tableNumber(), request.capacity(), request.location()
+            );
+            RestaurantTable table = tableUseCase.createTable(command);
+            return HttpResponse.created(tableMapper.toDTO(table));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+    }
+    
+    @Get
+    @Operation(summary = "Get all tables, optionally filtered by status")
+    public HttpResponse<List<RestaurantTableDTO>> getTables(
+            @Parameter(description = "Filter by status") @QueryValue @Nullable String status) {
+        if (status == null) {
+            return HttpResponse.ok(toDTOs(tableUseCase.getAllTables()));
+        }
+        try {
+            TableStatus tableStatus = TableStatus.valueOf(status.toUpperCase());
+            return HttpResponse.ok(toDTOs(tableUseCase.getTablesByStatus(tableStatus)));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+    }
+    
+    @Get("/available")
+    @Operation(summary = "Get available tables")
+    public HttpResponse<List<RestaurantTableDTO>> getAvailableTables() {
+        return HttpResponse.ok(toDTOs(tableUseCase.getAvailableTables()));
+    }
+    
+    @Get("/best-fit")
+    @Operation(summary = "Find the smallest available table for a party")
+    public HttpResponse<RestaurantTableDTO> findBestFit(@QueryValue int partySize) {
+        try {
+            return tableUseCase.findAvailableTableForPartySize(partySize)
+                .map(tableMapper::toDTO)
+                .map(HttpResponse::ok)
+                .orElse(HttpResponse.notFound());
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+    }
+    
+    @Get("/{id}")
+    @Operation(summary = "Get table by ID")
+    public HttpResponse<RestaurantTableDTO> getTableById(@PathVariable UUID id) {
+        return tableUseCase.findTableById(id)
+            .map(tableMapper::toDTO)
+            .map(HttpResponse::ok)
+            .orElse(HttpResponse.notFound());
+    }
+    
+    @Get("/number/{tableNumber}")
+    @Operation(summary = "Get table by number")
+    public HttpResponse<RestaurantTableDTO> getTableByNumber(@PathVariable String tableNumber) {
+        return tableUseCase.findTableByNumber(tableNumber)
+            .map(tableMapper::toDTO)
+            .map(HttpResponse::ok)
+            .orElse(HttpResponse.notFound());
+    }
+    
+    @Put("/{id}")
+    @Operation(summary = "Update table")
+    public HttpResponse<RestaurantTableDTO> updateTable(@PathVariable UUID id, @Body UpdateTableRequest request) {
+        try {
+            TableUseCase.UpdateTableCommand command = new TableUseCase.UpdateTableCommand(
+                id, request.tableNumber(), request.capacity(), request.location()
+            );
+            return HttpResponse.ok(tableMapper.toDTO(tableUseCase.updateTable(command)));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        }
+    }
+    
+    @Post("/seat")
+    @Operation(summary = "Seat a party at the smallest available table that fits")
+    public HttpResponse<RestaurantTableDTO> seatParty(@Body SeatPartyRequest request) {
+        try {
+            return tableUseCase.seatParty(request.partySize(), request.orderId())
+                .map(tableMapper::toDTO)
+                .map(HttpResponse::ok)
+                .orElse(HttpResponse.notFound());
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.badRequest();
+        } catch (IllegalStateException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT);
+        }
+    }
+    
+    @Put("/{id}/occupy")
+    @Operation(summary = "Occupy a table")
+    public HttpResponse<RestaurantTableDTO> occupyTable(@PathVariable UUID id, @Body OccupyTableRequest request) {
+        return execute(() -> tableUseCase.occupyTable(id, request.orderId()));
+    }
+    
+    @Put("/{id}/reserve")
+    @Operation(summary = "Reserve a table")
+    public HttpResponse<RestaurantTableDTO> reserveTable(@PathVariable UUID id) {
+        return execute(() -> tableUseCase.reserveTable(id));
+    }
+    
+    @Put("/{id}/release")
+    @Operation(summary = "Make a table available")
+    public HttpResponse<RestaurantTableDTO> releaseTable(@PathVariable UUID id) {
+        return execute(() -> tableUseCase.makeTableAvailable(id));
+    }
+    
+    @Put("/{id}/cleaning")
+    @Operation(summary = "Mark a table for cleaning")
+    public HttpResponse<RestaurantTableDTO> markForCleaning(@PathVariable UUID id) {
+        return execute(() -> tableUseCase.markTableForCleaning(id));
+    }
+    
+    @Put("/{id}/out-of-service")
+    @Operation(summary = "Mark a table out of service")
+    public HttpResponse<RestaurantTableDTO> markOutOfService(@PathVariable UUID id) {
+        return execute(() -> tableUseCase.markTableOutOfService(id));
+    }
+    
+    @Delete("/{id}")
+    @Operation(summary = "Delete table")
+    public HttpResponse<Void> deleteTable(@PathVariable UUID id) {
+        try {
+            tableUseCase.deleteTable(id);
+            return HttpResponse.noContent();
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.notFound();
+        } catch (IllegalStateException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT);
+        }
+    }
+    
+    // Unknown tables are 404, invalid or lost status transitions are 409
+    private HttpResponse<RestaurantTableDTO> execute(Supplier<RestaurantTable> operation) {
+        try {
+            return HttpResponse.ok(tableMapper.toDTO(operation.get()));
+        } catch (IllegalArgumentException e) {
+            return HttpResponse.notFound();
+        } catch (IllegalStateException e) {
+            return HttpResponse.status(HttpStatus.CONFLICT);
+        }
+    }
+    
+    private List<RestaurantTableDTO> toDTOs(List<RestaurantTable> tables) {
+        return tables.stream()
+            .map(tableMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+    
+    // DTOs
+    public record CreateTableRequest(
+        String tableNumber,
+        int capacity,
+        String location
+    ) {}
+    
+    public record UpdateTableRequest(
+        String tableNumber,
+        int capacity,
+        String location
+    ) {}
+    
+    public record SeatPartyRequest(int partySize, UUID orderId) {}
+    
+    public record OccupyTableRequest(UUID orderId) {}
+}
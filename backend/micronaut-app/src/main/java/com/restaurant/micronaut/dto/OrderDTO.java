@@ -1,6 +1,7 @@
 package com.restaurant.micronaut.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
@@ -37,6 +38,9 @@ public class OrderDTO {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime orderTime;
     
+    @Schema(description = "When the order is expected to be ready. While it is confirmed or preparing, this is " +
+        "the kitchen backlog estimate of the instance serving the request; instances estimate independently, " +
+        "so with several of them the value can differ between requests")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime estimatedDeliveryTime;
     
@@ -48,7 +52,7 @@ public class OrderDTO {
     
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime updatedAt;
-
+    
     // Nested DTO for Order Items
     public static class OrderItemDTO {
         private UUID menuItemId;
@@ -57,11 +61,11 @@ public class OrderDTO {
         private BigDecimal unitPrice;
         private BigDecimal subtotal;
         private String specialInstructions;
-
+        
         // Constructors
         public OrderItemDTO() {
         }
-
+        
         public OrderItemDTO(UUID menuItemId, String menuItemName, int quantity, 
                            BigDecimal unitPrice, BigDecimal subtotal, String specialInstructions) {
             this.menuItemId = menuItemId;
@@ -71,162 +75,162 @@ public class OrderDTO {
             this.subtotal = subtotal;
             this.specialInstructions = specialInstructions;
         }
-
+        
         // Getters and Setters
         public UUID getMenuItemId() {
             return menuItemId;
         }
-
+        
         public void setMenuItemId(UUID menuItemId) {
             this.menuItemId = menuItemId;
         }
-
+        
         public String getMenuItemName() {
             return menuItemName;
         }
-
+        
         public void setMenuItemName(String menuItemName) {
             this.menuItemName = menuItemName;
         }
-
+        
         public int getQuantity() {
             return quantity;
         }
-
+        
         public void setQuantity(int quantity) {
             this.quantity = quantity;
         }
-
+        
         public BigDecimal getUnitPrice() {
             return unitPrice;
         }
-
+        
         public void setUnitPrice(BigDecimal unitPrice) {
             this.unitPrice = unitPrice;
         }
-
+        
         public BigDecimal getSubtotal() {
             return subtotal;
         }
-
+        
         public void setSubtotal(BigDecimal subtotal) {
             this.subtotal = subtotal;
         }
-
+        
         public String getSpecialInstructions() {
             return specialInstructions;
         }
-
+        
         public void setSpecialInstructions(String specialInstructions) {
             this.specialInstructions = specialInstructions;
         }
     }
-
+    
     // Constructors
     public OrderDTO() {
     }
-
+    
     // Getters and Setters
     public UUID getId() {
         return id;
     }
-
+    
     public void setId(UUID id) {
         this.id = id;
     }
-
+    
     public UUID getCustomerId() {
         return customerId;
     }
-
+    
     public void setCustomerId(UUID customerId) {
         this.customerId = customerId;
     }
-
+    
     public UUID getTableId() {
         return tableId;
     }
-
+    
     public void setTableId(UUID tableId) {
         this.tableId = tableId;
     }
-
+    
     public String getStatus() {
         return status;
     }
-
+    
     public void setStatus(String status) {
         this.status = status;
     }
-
+    
     public List<OrderItemDTO> getItems() {
         return items;
     }
-
+    
     public void setItems(List<OrderItemDTO> items) {
         this.items = items;
     }
-
+    
     public BigDecimal getTotalAmount() {
         return totalAmount;
     }
-
+    
     public void setTotalAmount(BigDecimal totalAmount) {
         this.totalAmount = totalAmount;
     }
-
+    
     public String getCurrency() {
         return currency;
     }
-
+    
     public void setCurrency(String currency) {
         this.currency = currency;
     }
-
+    
     public String getSpecialInstructions() {
         return specialInstructions;
     }
-
+    
     public void setSpecialInstructions(String specialInstructions) {
         this.specialInstructions = specialInstructions;
     }
-
+    
     public LocalDateTime getOrderTime() {
         return orderTime;
     }
-
+    
     public void setOrderTime(LocalDateTime orderTime) {
         this.orderTime = orderTime;
     }
-
+    
     public LocalDateTime getEstimatedDeliveryTime() {
         return estimatedDeliveryTime;
     }
-
+    
     public void setEstimatedDeliveryTime(LocalDateTime estimatedDeliveryTime) {
         this.estimatedDeliveryTime = estimatedDeliveryTime;
     }
-
+    
     public LocalDateTime getActualDeliveryTime() {
         return actualDeliveryTime;
     }
-
+    
     public void setActualDeliveryTime(LocalDateTime actualDeliveryTime) {
         this.actualDeliveryTime = actualDeliveryTime;
     }
-
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
-
+    
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-
+    
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
-
+    
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
@@ -0,0 +1,21 @@
+package com.restaurant.micronaut.repository;
+
+import com.restaurant.infrastructure.persistence.jdbc.JdbcMenuItemRepository;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+/**
+ * JdbcMenuItemRepository managed by Micronaut, replacing the JPA one when
+ * restaurant.persistence.adapter is jdbc
+ */
+@Singleton
+@Transactional
+@Requires(property = "restaurant.persistence.adapter", value = "jdbc")
+public class TransactionalJdbcMenuItemRepository extends JdbcMenuItemRepository {
+    
+    public TransactionalJdbcMenuItemRepository(EntityManager entityManager) {
+        super(entityManager);
+    }
+}
@@ -0,0 +1,21 @@
+package com.restaurant.micronaut.repository;
+
+import com.restaurant.infrastructure.persistence.repository.JpaMenuItemRepository;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+/**
+ * JpaMenuItemRepository managed by Micronaut: every call runs in a transaction
+ * with its own session, bound to the injected current-session EntityManager
+ */
+@Singleton
+@Transactional
+@Requires(property = "restaurant.persistence.adapter", notEquals = "jdbc")
+public class TransactionalJpaMenuItemRepository extends JpaMenuItemRepository {
+    
+    public TransactionalJpaMenuItemRepository(EntityManager entityManager) {
+        super(entityManager);
+    }
+}
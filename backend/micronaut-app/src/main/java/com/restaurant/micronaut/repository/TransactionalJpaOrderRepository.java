@@ -0,0 +1,19 @@
+package com.restaurant.micronaut.repository;
+
+import com.restaurant.infrastructure.persistence.repository.JpaOrderRepository;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+/**
+ * JpaOrderRepository managed by Micronaut: every call runs in a transaction
+ * with its own session, bound to the injected current-session EntityManager
+ */
+@Singleton
+@Transactional
+public class TransactionalJpaOrderRepository extends JpaOrderRepository {
+    
+    public TransactionalJpaOrderRepository(EntityManager entityManager) {
+        super(entityManager);
+    }
+}
@@ -0,0 +1,19 @@
+package com.restaurant.micronaut.repository;
+
+import com.restaurant.infrastructure.persistence.repository.JpaOutboxRepository;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+/**
+ * JpaOutboxRepository managed by Micronaut: every call runs in a transaction
+ * with its own session, bound to the injected current-session EntityManager
+ */
+@Singleton
+@Transactional
+public class TransactionalJpaOutboxRepository extends JpaOutboxRepository {
+    
+    public TransactionalJpaOutboxRepository(EntityManager entityManager) {
+        super(entityManager);
+    }
+}
@@ -0,0 +1,14 @@
+package com.restaurant.micronaut.repository;
+
+import com.restaurant.infrastructure.persistence.transaction.JpaTransactionService;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+/**
+ * JpaTransactionService managed by Micronaut, so that the work passed to it
+ * and the repository calls it makes share one transaction
+ */
+@Singleton
+@Transactional
+public class TransactionalJpaTransactionService extends JpaTransactionService {
+}
@@ -1,23 +1,73 @@
 package com.restaurant.quarkus.config;
 
+import com.restaurant.application.port.in.AsyncCustomerUseCase;
+import com.restaurant.application.port.in.AsyncMenuUseCase;
 import com.restaurant.application.port.in.CustomerUseCase;
 import com.restaurant.application.port.in.MenuUseCase;
+import com.restaurant.application.port.in.MonitoringUseCase;
+import com.restaurant.application.port.in.OrderUseCase;
+import com.restaurant.application.port.in.TableUseCase;
+import com.restaurant.application.port.out.AsyncCustomerRepository;
+import com.restaurant.application.port.out.AsyncMenuItemRepository;
 import com.restaurant.application.port.out.CacheService;
 import com.restaurant.application.port.out.CustomerRepository;
 import com.restaurant.application.port.out.MenuItemRepository;
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.QueryStatisticsService;
+import com.restaurant.application.port.out.RepositoryMetricsService;
+import com.restaurant.application.port.out.RestaurantTableRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.application.service.AsyncCustomerService;
+import com.restaurant.application.service.AsyncMenuService;
 import com.restaurant.application.service.CustomerService;
 import com.restaurant.application.service.MenuService;
+import com.restaurant.application.service.MonitoringService;
+import com.restaurant.application.service.OrderService;
+import com.restaurant.application.service.TableService;
+import com.restaurant.domain.kitchen.KitchenBacklog;
 import com.restaurant.infrastructure.cache.RedisCacheService;
+import com.restaurant.infrastructure.coalescing.CoalescingOrderRepository;
+import com.restaurant.infrastructure.counter.CountingCustomerRepository;
+import com.restaurant.infrastructure.counter.CountingMenuItemRepository;
+import com.restaurant.infrastructure.index.ActiveIndexedOrderRepository;
+import com.restaurant.infrastructure.index.RedisOrderChangeChannel;
+import com.restaurant.infrastructure.persistence.instrumentation.InMemoryRepositoryMetricsService;
+import com.restaurant.infrastructure.persistence.jdbc.JdbcCustomerRepository;
+import com.restaurant.infrastructure.persistence.jdbc.JdbcMenuItemRepository;
 import com.restaurant.infrastructure.persistence.repository.JpaCustomerRepository;
 import com.restaurant.infrastructure.persistence.repository.JpaMenuItemRepository;
+import com.restaurant.infrastructure.persistence.repository.JpaOrderRepository;
+import com.restaurant.infrastructure.persistence.repository.JpaOutboxRepository;
+import com.restaurant.infrastructure.persistence.repository.JpaRestaurantTableRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingCustomerRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingMenuItemRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingOrderRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingRestaurantTableRepository;
+import com.restaurant.infrastructure.persistence.statistics.HibernateQueryStatisticsService;
+import com.restaurant.infrastructure.persistence.transaction.AfterCommitTransactionService;
+import com.restaurant.infrastructure.persistence.transaction.JpaTransactionService;
+import com.restaurant.infrastructure.search.SearchIndexedCustomerRepository;
+import com.restaurant.infrastructure.search.SearchIndexedMenuItemRepository;
+import com.restaurant.infrastructure.uniqueness.BloomFilteredCustomerRepository;
+import com.restaurant.infrastructure.uniqueness.BloomFilteredMenuItemRepository;
+import com.restaurant.quarkus.repository.ReactiveCustomerRepository;
+import com.restaurant.quarkus.repository.ReactiveMenuItemRepository;
+import io.quarkus.arc.InterceptionProxy;
+import io.vertx.mysqlclient.MySQLPool;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
+import java.time.Duration;
+
 /**
  * Quarkus application configuration for dependency injection
  */
@@ -27,7 +77,28 @@ public class ApplicationConfig {
     // Use Quarkus-native injection for JPA EntityManager
     @Inject
     EntityManager entityManager;
-
+    
+    @ConfigProperty(name = "restaurant.monitoring.slow-query-threshold", defaultValue = "200ms")
+    Duration slowQueryThreshold;
+    
+    @ConfigProperty(name = "restaurant.monitoring.slow-query-capacity", defaultValue = "100")
+    int slowQueryCapacity;
+    
+    @ConfigProperty(name = "restaurant.persistence.adapter", defaultValue = "jpa")
+    String persistenceAdapter;
+    
+    @ConfigProperty(name = "restaurant.kitchen.stations", defaultValue = "4")
+    int kitchenStations;
+    
+    @ConfigProperty(name = "restaurant.orders.write-durability", defaultValue = "write-through")
+    String orderWriteDurability;
+    
+    @ConfigProperty(name = "restaurant.orders.write-window", defaultValue = "100ms")
+    Duration orderWriteWindow;
+    
+    @ConfigProperty(name = "restaurant.orders.write-max-batch", defaultValue = "500")
+    int orderWriteMaxBatch;
+    
     @Produces
     @Singleton
     public JedisPool jedisPool() {
@@ -53,25 +124,160 @@ public class ApplicationConfig {
     
     @Produces
     @Singleton
-    public CustomerUseCase customerUseCase(CustomerRepository customerRepository, CacheService cacheService) {
-        return new CustomerService(customerRepository, cacheService);
+    public RedisOrderChangeChannel orderChangeChannel(JedisPool jedisPool) {
+        return new RedisOrderChangeChannel(jedisPool);
+    }
+    
+    public void closeOrderChangeChannel(@Disposes RedisOrderChangeChannel orderChangeChannel) {
+        orderChangeChannel.close();
     }
     
     @Produces
     @Singleton
-    public CustomerRepository customerRepository() {
-        return new JpaCustomerRepository(entityManager);
+    public CustomerUseCase customerUseCase(CustomerRepository customerRepository, CacheService cacheService,
+                                           OutboxRepository outboxRepository, TransactionService transactionService) {
+        return new CustomerService(customerRepository, cacheService, outboxRepository, transactionService);
     }
     
     @Produces
     @Singleton
-    public MenuItemRepository menuItemRepository() {
-        return new JpaMenuItemRepository(entityManager);
+    public InMemoryRepositoryMetricsService repositoryMetricsService() {
+        return new InMemoryRepositoryMetricsService(slowQueryThreshold, slowQueryCapacity);
     }
-
+    
+    // Producer results are not intercepted, so the JPA repositories are wrapped in an
+    // interception proxy to keep their @Transactional methods transactional
+    @Produces
+    @Singleton
+    public SearchIndexedCustomerRepository customerRepository(InterceptionProxy<JpaCustomerRepository> transactional,
+                                                              InMemoryRepositoryMetricsService metrics,
+                                                              TransactionService transactionService) {
+        CustomerRepository jpaRepository = transactional.create("jdbc".equals(persistenceAdapter)
+            ? new JdbcCustomerRepository(entityManager)
+            : new JpaCustomerRepository(entityManager));
+        CustomerRepository counting = new CountingCustomerRepository(
+            metrics.instrument(CustomerRepository.class, jpaRepository), transactionService);
+        return new SearchIndexedCustomerRepository(new BloomFilteredCustomerRepository(
+            new ReplicaRoutingCustomerRepository(counting), transactionService), transactionService);
+    }
+    
+    @Produces
+    @Singleton
+    public SearchIndexedMenuItemRepository menuItemRepository(InterceptionProxy<JpaMenuItemRepository> transactional,
+                                                              InMemoryRepositoryMetricsService metrics,
+                                                              TransactionService transactionService) {
+        MenuItemRepository jpaRepository = transactional.create("jdbc".equals(persistenceAdapter)
+            ? new JdbcMenuItemRepository(entityManager)
+            : new JpaMenuItemRepository(entityManager));
+        MenuItemRepository counting = new CountingMenuItemRepository(
+            metrics.instrument(MenuItemRepository.class, jpaRepository), transactionService);
+        return new SearchIndexedMenuItemRepository(new BloomFilteredMenuItemRepository(
+            new ReplicaRoutingMenuItemRepository(counting), transactionService), transactionService);
+    }
+    
+    public void closeCustomerRepository(@Disposes SearchIndexedCustomerRepository customerRepository) {
+        customerRepository.close();
+    }
+    
+    public void closeMenuItemRepository(@Disposes SearchIndexedMenuItemRepository menuItemRepository) {
+        menuItemRepository.close();
+    }
+    
+    @Produces
+    @Singleton
+    public CoalescingOrderRepository orderRepository(InterceptionProxy<JpaOrderRepository> transactional,
+                                                     InMemoryRepositoryMetricsService metrics,
+                                                     TransactionService transactionService,
+                                                     RedisOrderChangeChannel orderChangeChannel) {
+        OrderRepository jpaRepository = transactional.create(new JpaOrderRepository(entityManager));
+        return new CoalescingOrderRepository(
+            new ReplicaRoutingOrderRepository(new ActiveIndexedOrderRepository(
+                metrics.instrument(OrderRepository.class, jpaRepository), transactionService, orderChangeChannel)),
+            CoalescingOrderRepository.Durability.parse(orderWriteDurability), orderWriteWindow, orderWriteMaxBatch);
+    }
+    
+    public void closeOrderRepository(@Disposes CoalescingOrderRepository orderRepository) {
+        orderRepository.close();
+    }
+    
+    @Produces
+    @Singleton
+    public RestaurantTableRepository restaurantTableRepository(
+            InterceptionProxy<JpaRestaurantTableRepository> transactional,
+            InMemoryRepositoryMetricsService metrics) {
+        RestaurantTableRepository jpaRepository = transactional.create(new JpaRestaurantTableRepository(entityManager));
+        return new ReplicaRoutingRestaurantTableRepository(
+            metrics.instrument(RestaurantTableRepository.class, jpaRepository));
+    }
+    
+    @Produces
+    @Singleton
+    public OutboxRepository outboxRepository(InterceptionProxy<JpaOutboxRepository> transactional,
+                                             InMemoryRepositoryMetricsService metrics) {
+        OutboxRepository jpaRepository = transactional.create(new JpaOutboxRepository(entityManager));
+        return metrics.instrument(OutboxRepository.class, jpaRepository);
+    }
+    
+    @Produces
+    @Singleton
+    public TransactionService transactionService(InterceptionProxy<JpaTransactionService> transactional) {
+        return new AfterCommitTransactionService(transactional.create(new JpaTransactionService()));
+    }
+    
+    @Produces
+    @Singleton
+    public MenuUseCase menuUseCase(MenuItemRepository menuItemRepository, CacheService cacheService,
+                                   OutboxRepository outboxRepository, TransactionService transactionService) {
+        return new MenuService(menuItemRepository, cacheService, outboxRepository, transactionService);
+    }
+    
+    @Produces
+    @Singleton
+    public OrderUseCase orderUseCase(OrderRepository orderRepository, MenuItemRepository menuItemRepository) {
+        return new OrderService(orderRepository, menuItemRepository, new KitchenBacklog(kitchenStations));
+    }
+    
+    @Produces
+    @Singleton
+    public TableUseCase tableUseCase(RestaurantTableRepository restaurantTableRepository) {
+        return new TableService(restaurantTableRepository);
+    }
+    
+    // Non-blocking adapters on the reactive MySQL pool, served under /api/v1/reactive
+    @Produces
+    @Singleton
+    public AsyncCustomerRepository asyncCustomerRepository(MySQLPool pool) {
+        return new ReactiveCustomerRepository(pool);
+    }
+    
+    @Produces
+    @Singleton
+    public AsyncMenuItemRepository asyncMenuItemRepository(MySQLPool pool) {
+        return new ReactiveMenuItemRepository(pool);
+    }
+    
+    @Produces
+    @Singleton
+    public AsyncCustomerUseCase asyncCustomerUseCase(AsyncCustomerRepository asyncCustomerRepository) {
+        return new AsyncCustomerService(asyncCustomerRepository);
+    }
+    
+    @Produces
+    @Singleton
+    public AsyncMenuUseCase asyncMenuUseCase(AsyncMenuItemRepository asyncMenuItemRepository) {
+        return new AsyncMenuService(asyncMenuItemRepository);
+    }
+    
+    @Produces
+    @Singleton
+    public QueryStatisticsService queryStatisticsService(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryStatisticsService(entityManagerFactory);
+    }
+    
     @Produces
     @Singleton
-    public MenuUseCase menuUseCase(MenuItemRepository menuItemRepository, CacheService cacheService) {
-        return new MenuService(menuItemRepository, cacheService);
+    public MonitoringUseCase monitoringUseCase(QueryStatisticsService queryStatisticsService,
+                                               RepositoryMetricsService repositoryMetricsService) {
+        return new MonitoringService(queryStatisticsService, repositoryMetricsService);
     }
 }
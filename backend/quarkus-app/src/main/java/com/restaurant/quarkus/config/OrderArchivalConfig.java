@@ -0,0 +1,49 @@
+package com.restaurant.quarkus.config;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.infrastructure.persistence.archive.OrderArchivalJob;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+
+/**
+ * Background archival of completed orders, enabled unless restaurant.archive.enabled is false.
+ * Delivered and cancelled orders older than the retention period are moved to the archive tables in batches.
+ */
+@ApplicationScoped
+public class OrderArchivalConfig {
+    
+    @ConfigProperty(name = "restaurant.archive.enabled", defaultValue = "true")
+    boolean enabled;
+    
+    @ConfigProperty(name = "restaurant.archive.retention-days", defaultValue = "90")
+    int retentionDays;
+    
+    @ConfigProperty(name = "restaurant.archive.batch-size", defaultValue = "500")
+    int batchSize;
+    
+    @ConfigProperty(name = "restaurant.archive.interval", defaultValue = "1h")
+    Duration interval;
+    
+    @Inject
+    OrderRepository orderRepository;
+    
+    private volatile OrderArchivalJob archivalJob;
+    
+    void onStart(@Observes StartupEvent event) {
+        if (enabled) {
+            archivalJob = new OrderArchivalJob(orderRepository, Duration.ofDays(retentionDays), batchSize, interval);
+        }
+    }
+    
+    void onStop(@Observes ShutdownEvent event) {
+        if (archivalJob != null) {
+            archivalJob.close();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.restaurant.quarkus.config;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.infrastructure.persistence.archive.OrderPartitionJob;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+
+/**
+ * Background creation of monthly order partitions, enabled unless restaurant.partitions.enabled is false.
+ * The months up to months-ahead from now are split off p_future at startup and then every interval.
+ */
+@ApplicationScoped
+public class OrderPartitionConfig {
+    
+    @ConfigProperty(name = "restaurant.partitions.enabled", defaultValue = "true")
+    boolean enabled;
+    
+    @ConfigProperty(name = "restaurant.partitions.months-ahead", defaultValue = "3")
+    int monthsAhead;
+    
+    @ConfigProperty(name = "restaurant.partitions.interval", defaultValue = "24h")
+    Duration interval;
+    
+    @Inject
+    OrderRepository orderRepository;
+    
+    private volatile OrderPartitionJob partitionJob;
+    
+    void onStart(@Observes StartupEvent event) {
+        if (enabled) {
+            partitionJob = new OrderPartitionJob(orderRepository, monthsAhead, interval);
+        }
+    }
+    
+    void onStop(@Observes ShutdownEvent event) {
+        if (partitionJob != null) {
+            partitionJob.close();
+        }
+    }
+}
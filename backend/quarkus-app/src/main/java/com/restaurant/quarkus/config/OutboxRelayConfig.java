@@ -0,0 +1,60 @@
+package com.restaurant.quarkus.config;
+
+import com.restaurant.application.port.out.CacheService;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.infrastructure.outbox.CacheInvalidationConsumer;
+import com.restaurant.infrastructure.outbox.OutboxRelay;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Background relay of the transactional outbox, enabled unless restaurant.outbox.enabled is false.
+ * Cache invalidations written by the use cases are applied here, after their transaction has committed.
+ */
+@ApplicationScoped
+public class OutboxRelayConfig {
+    
+    @ConfigProperty(name = "restaurant.outbox.enabled", defaultValue = "true")
+    boolean enabled;
+    
+    @ConfigProperty(name = "restaurant.outbox.interval", defaultValue = "200ms")
+    Duration interval;
+    
+    @ConfigProperty(name = "restaurant.outbox.batch-size", defaultValue = "100")
+    int batchSize;
+    
+    @Inject
+    OutboxRepository outboxRepository;
+    
+    @Inject
+    TransactionService transactionService;
+    
+    @Inject
+    CacheService cacheService;
+    
+    private volatile OutboxRelay relay;
+    
+    void onStart(@Observes StartupEvent event) {
+        if (enabled) {
+            CacheInvalidationConsumer cacheInvalidation = new CacheInvalidationConsumer(cacheService);
+            relay = new OutboxRelay(outboxRepository, transactionService, Map.of(
+                OutboxRepository.CACHE_EVICT, cacheInvalidation,
+                OutboxRepository.CACHE_EVICT_PATTERN, cacheInvalidation
+            ), interval, batchSize);
+        }
+    }
+    
+    void onStop(@Observes ShutdownEvent event) {
+        if (relay != null) {
+            relay.close();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.restaurant.quarkus.config;
+
+import com.restaurant.infrastructure.persistence.routing.DataSourceRoutingContext;
+import com.restaurant.infrastructure.persistence.routing.ReplicaLagMonitor;
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalPoolInterceptor;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replica routing for Quarkus.
+ * Hibernate ORM is bound to the Agroal pool, so instead of swapping the DataSource the default
+ * datasource uses a Connector/J replication URL and connections are switched to read-only,
+ * which Connector/J serves from a replica, for read-only repository calls while the replica
+ * datasource is within the allowed lag.
+ */
+@ApplicationScoped
+public class ReadReplicaConfig implements AgroalPoolInterceptor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaConfig.class);
+    
+    @ConfigProperty(name = "restaurant.replica.enabled", defaultValue = "false")
+    boolean enabled;
+    
+    @ConfigProperty(name = "restaurant.replica.max-lag", defaultValue = "5s")
+    Duration maxLag;
+    
+    @ConfigProperty(name = "restaurant.replica.check-interval", defaultValue = "1s")
+    Duration checkInterval;
+    
+    @Inject
+    @DataSource("replica")
+    Instance<AgroalDataSource> replicaDataSource;
+    
+    private volatile ReplicaLagMonitor lagMonitor;
+    
+    void onStart(@Observes StartupEvent event) {
+        if (enabled) {
+            lagMonitor = new ReplicaLagMonitor(List.of(replicaDataSource.get()), maxLag, checkInterval);
+        }
+    }
+    
+    void onStop(@Observes ShutdownEvent event) {
+        if (lagMonitor != null) {
+            lagMonitor.close();
+        }
+    }
+    
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        ReplicaLagMonitor monitor = lagMonitor;
+        if (monitor != null && DataSourceRoutingContext.isReadOnly() && monitor.anyHealthy()) {
+            setReadOnly(connection, true);
+        }
+    }
+    
+    @Override
+    public void onConnectionReturn(Connection connection) {
+        if (lagMonitor != null) {
+            setReadOnly(connection, false);
+        }
+    }
+    
+    /**
+     * Reset read-your-writes stickiness once the request is done
+     */
+    @ServerResponseFilter
+    public void clearRoutingContext() {
+        DataSourceRoutingContext.clear();
+    }
+    
+    private void setReadOnly(Connection connection, boolean readOnly) {
+        try {
+            connection.setReadOnly(readOnly);
+        } catch (SQLException e) {
+            logger.warn("Failed to switch connection read-only mode to {}", readOnly, e);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.restaurant.quarkus.controller;
 
+import com.restaurant.application.port.in.TableUseCase;
+import com.restaurant.domain.entity.RestaurantTable;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
@@ -11,8 +15,15 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Benchmark controller to test Virtual Threads performance in Quarkus
@@ -21,6 +32,9 @@ import java.util.concurrent.CompletableFuture;
 @Tag(name = "Benchmark", description = "Virtual Threads performance testing")
 public class BenchmarkController {
 
+    @Inject
+    TableUseCase tableUseCase;
+
     private boolean isVirtualThread(Thread thread) {
         // Check if thread is virtual (compatible with Java 19+)
         return thread.toString().contains("VirtualThread") || 
@@ -101,4 +115,77 @@ public class BenchmarkController {
             "timestamp", LocalDateTime.now()
         );
     }
+
+    @POST
+    @Path("/table-contention")
+    @Produces(MediaType.APPLICATION_JSON)
+    @RunOnVirtualThread
+    @Operation(summary = "Test table occupancy under contention",
+               description = "Concurrent hosts race to occupy a few scratch tables; exactly one host per table may win")
+    public Map<String, Object> testTableContention(
+            @Parameter(description = "Number of concurrent hosts")
+            @QueryParam("hosts") Integer hosts,
+            @Parameter(description = "Number of scratch tables (1-100)")
+            @QueryParam("tables") Integer tables) {
+
+        if (hosts == null) hosts = 500;
+        if (tables == null) tables = 10;
+
+        int hostCount = Math.max(1, Math.min(hosts, 10_000));
+        int tableCount = Math.max(1, Math.min(tables, 100));
+
+        // Table numbers are limited to 10 characters
+        String runId = Long.toString(System.nanoTime() % 1_000_000, 36);
+        List<RestaurantTable> scratchTables = new ArrayList<>();
+        Map<UUID, AtomicInteger> winners = new ConcurrentHashMap<>();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long startTime = System.nanoTime();
+
+        try {
+            for (int i = 0; i < tableCount; i++) {
+                scratchTables.add(tableUseCase.createTable(
+                    new TableUseCase.CreateTableCommand("B" + runId + "-" + i, 4, "benchmark")));
+            }
+
+            startTime = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < hostCount; i++) {
+                    UUID tableId = scratchTables.get(i % tableCount).getId();
+                    executor.submit(() -> {
+                        try {
+                            tableUseCase.occupyTable(tableId, UUID.randomUUID());
+                            winners.computeIfAbsent(tableId, id -> new AtomicInteger()).incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            rejected.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                    });
+                }
+            }
+        } finally {
+            for (RestaurantTable table : scratchTables) {
+                tableUseCase.makeTableAvailable(table.getId());
+                tableUseCase.deleteTable(table.getId());
+            }
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        int seated = winners.values().stream().mapToInt(AtomicInteger::get).sum();
+        long doubleBooked = winners.values().stream().filter(count -> count.get() > 1).count();
+
+        return Map.of(
+            "framework", "Quarkus",
+            "hosts", hostCount,
+            "tables", tableCount,
+            "seated", seated,
+            "rejected", rejected.get(),
+            "errors", errors.get(),
+            "doubleBookedTables", doubleBooked,
+            "executionTimeMs", elapsedMs,
+            "attemptsPerSecond", hostCount * 1000L / elapsedMs,
+            "timestamp", LocalDateTime.now()
+        );
+    }
 }
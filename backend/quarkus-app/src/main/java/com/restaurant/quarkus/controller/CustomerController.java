@@ -3,10 +3,12 @@ package com.restaurant.quarkus.controller;
 import com.restaurant.application.port.in.CustomerUseCase;
 import com.restaurant.domain.entity.Customer;
 import com.restaurant.quarkus.dto.CustomerDTO;
+import com.restaurant.quarkus.mapper.BulkImportMapper;
 import com.restaurant.quarkus.mapper.CustomerDTOMapper;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -14,6 +16,7 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +37,9 @@ public class CustomerController {
     @Inject
     CustomerDTOMapper customerMapper;
     
+    @Inject
+    BulkImportMapper bulkImportMapper;
+    
     @POST
     @Operation(summary = "Create a new customer")
     @APIResponse(responseCode = "201", description = "Customer created successfully")
@@ -89,16 +95,25 @@ public class CustomerController {
                 .entity(new ErrorResponse("Customer not found")).build());
     }
     
+    @GET
+    @Path("/stats")
+    @Operation(summary = "Get customer counts")
+    @APIResponse(responseCode = "200", description = "Total and active customer counts")
+    public Response getCustomerStatistics() {
+        return Response.ok(customerUseCase.getCustomerStatistics()).build();
+    }
+    
     @GET
     @Path("/search")
     @Operation(summary = "Search customers by name")
     @APIResponse(responseCode = "200", description = "List of matching customers")
-    public Response searchCustomers(@QueryParam("name") String name) {
+    public Response searchCustomers(@QueryParam("name") String name,
+                                    @QueryParam("limit") @DefaultValue("50") int limit) {
         if (name == null || name.trim().isEmpty()) {
             return Response.status(Response.Status.BAD_REQUEST)
                 .entity(new ErrorResponse("Name parameter is required")).build();
         }
-        List<Customer> customers = customerUseCase.searchCustomersByName(name.trim());
+        List<Customer> customers = customerUseCase.searchCustomersByName(name.trim(), limit);
         List<CustomerDTO> dtos = customers.stream()
             .map(customerMapper::toDTO)
             .collect(Collectors.toList());
@@ -169,6 +184,25 @@ public class CustomerController {
         }
     }
     
+    @POST
+    @Path("/import")
+    @Consumes({BulkImportMapper.TEXT_CSV, BulkImportMapper.APPLICATION_NDJSON})
+    @Operation(summary = "Bulk import customers from a CSV or NDJSON stream")
+    @APIResponse(responseCode = "200", description = "Import finished")
+    @APIResponse(responseCode = "400",
+        description = "Malformed import record; the records before it were imported, as the counts report")
+    public Response importCustomers(@HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        try {
+            CustomerUseCase.ImportResult result =
+                customerUseCase.importCustomers(bulkImportMapper.toCustomerCommands(body, contentType));
+            Response.Status status = result.error() == null ? Response.Status.OK : Response.Status.BAD_REQUEST;
+            return Response.status(status).entity(result).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
     // DTOs
     public record CreateCustomerRequest(
         String name,
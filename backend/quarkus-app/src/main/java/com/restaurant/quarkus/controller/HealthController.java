@@ -1,10 +1,13 @@
 package com.restaurant.quarkus.controller;
 
+import com.restaurant.application.port.in.MonitoringUseCase;
 import com.restaurant.application.port.out.CacheService;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.health.HealthCheck;
@@ -29,6 +32,9 @@ public class HealthController {
     @Inject
     CacheService cacheService;
     
+    @Inject
+    MonitoringUseCase monitoringUseCase;
+    
     @GET
     @Path("/info")
     @Operation(summary = "Get application information")
@@ -59,6 +65,19 @@ public class HealthController {
         }
     }
     
+    @GET
+    @Path("/slow-queries")
+    @Operation(summary = "Get recent slow repository calls")
+    @APIResponse(responseCode = "200", description = "Slow-call threshold and the latest slow calls, newest first")
+    public Response getSlowQueries(@QueryParam("limit") @DefaultValue("20") int limit) {
+        Map<String, Object> slowQueries = Map.of(
+            "slowThresholdMs", monitoringUseCase.getRepositoryStatistics().slowThresholdMs(),
+            "slowQueries", monitoringUseCase.getSlowQueries(limit),
+            "timestamp", LocalDateTime.now()
+        );
+        return Response.ok(slowQueries).build();
+    }
+    
     @Liveness
     public static class LivenessCheck implements HealthCheck {
         @Override
@@ -107,12 +107,13 @@ public class MenuController {
     @Path("/search")
     @Operation(summary = "Search menu items by name")
     @APIResponse(responseCode = "200", description = "List of matching menu items")
-    public Response searchMenuItems(@QueryParam("name") String name) {
+    public Response searchMenuItems(@QueryParam("name") String name,
+                                    @QueryParam("limit") @DefaultValue("50") int limit) {
         if (name == null || name.trim().isEmpty()) {
             return Response.status(Response.Status.BAD_REQUEST)
                 .entity(new ErrorResponse("Name parameter is required")).build();
         }
-        List<MenuItem> menuItems = menuUseCase.searchMenuItemsByName(name.trim());
+        List<MenuItem> menuItems = menuUseCase.searchMenuItemsByName(name.trim(), limit);
         return Response.ok(menuItems).build();
     }
     
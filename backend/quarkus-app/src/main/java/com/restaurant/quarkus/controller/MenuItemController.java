@@ -4,9 +4,11 @@ import com.restaurant.application.port.in.MenuUseCase;
 import com.restaurant.domain.entity.MenuItem;
 import com.restaurant.domain.valueobject.MenuCategory;
 import com.restaurant.domain.valueobject.Money;
+import com.restaurant.quarkus.mapper.BulkImportMapper;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -15,6 +17,7 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import java.math.BigDecimal;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,6 +34,9 @@ public class MenuItemController {
     @Inject
     MenuUseCase menuUseCase;
     
+    @Inject
+    BulkImportMapper bulkImportMapper;
+    
     @POST
     @Operation(summary = "Create a new menu item")
     @APIResponse(responseCode = "201", description = "Menu item created successfully")
@@ -99,16 +105,25 @@ public class MenuItemController {
         return Response.ok(menuItems).build();
     }
     
+    @GET
+    @Path("/stats")
+    @Operation(summary = "Get menu item counts")
+    @APIResponse(responseCode = "200", description = "Total, available and per-category menu item counts")
+    public Response getMenuStatistics() {
+        return Response.ok(menuUseCase.getMenuStatistics()).build();
+    }
+    
     @GET
     @Path("/search")
     @Operation(summary = "Search menu items by name")
     @APIResponse(responseCode = "200", description = "List of matching menu items")
-    public Response searchMenuItems(@QueryParam("name") String name) {
+    public Response searchMenuItems(@QueryParam("name") String name,
+                                    @QueryParam("limit") @DefaultValue("50") int limit) {
         if (name == null || name.trim().isEmpty()) {
             return Response.status(Response.Status.BAD_REQUEST)
                 .entity(new ErrorResponse("Name parameter is required")).build();
         }
-        List<MenuItem> menuItems = menuUseCase.searchMenuItemsByName(name.trim());
+        List<MenuItem> menuItems = menuUseCase.searchMenuItemsByName(name.trim(), limit);
         return Response.ok(menuItems).build();
     }
     
@@ -185,6 +200,25 @@ public class MenuItemController {
         }
     }
     
+    @POST
+    @Path("/import")
+    @Consumes({BulkImportMapper.TEXT_CSV, BulkImportMapper.APPLICATION_NDJSON})
+    @Operation(summary = "Bulk import menu items from a CSV or NDJSON stream")
+    @APIResponse(responseCode = "200", description = "Import finished")
+    @APIResponse(responseCode = "400",
+        description = "Malformed import record; the records before it were imported, as the counts report")
+    public Response importMenuItems(@HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        try {
+            MenuUseCase.ImportResult result =
+                menuUseCase.importMenuItems(bulkImportMapper.toMenuItemCommands(body, contentType));
+            Response.Status status = result.error() == null ? Response.Status.OK : Response.Status.BAD_REQUEST;
+            return Response.status(status).entity(result).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
     // DTOs
     public record CreateMenuItemRequest(
         String name,
@@ -0,0 +1,67 @@
+package com.restaurant.quarkus.controller;
+
+import com.restaurant.application.port.in.MonitoringUseCase;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * REST controller for runtime monitoring
+ */
+@Path("/api/v1/monitoring")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Monitoring", description = "Runtime monitoring operations")
+public class MonitoringController {
+    
+    @Inject
+    MonitoringUseCase monitoringUseCase;
+    
+    @GET
+    @Path("/queries")
+    @Operation(summary = "Get query execution and plan cache statistics")
+    @APIResponse(responseCode = "200", description = "Query statistics, most executed queries first")
+    public Response getQueryStatistics(
+            @Parameter(description = "Number of per-query entries") @QueryParam("top") @DefaultValue("20") int top) {
+        return Response.ok(monitoringUseCase.getQueryStatistics(top)).build();
+    }
+    
+    @DELETE
+    @Path("/queries")
+    @Operation(summary = "Reset query statistics")
+    @APIResponse(responseCode = "204", description = "Query statistics reset")
+    public Response resetQueryStatistics() {
+        monitoringUseCase.resetQueryStatistics();
+        return Response.noContent().build();
+    }
+    
+    @GET
+    @Path("/repositories")
+    @Operation(summary = "Get repository call statistics")
+    @APIResponse(responseCode = "200", description = "Per-method timings and row counts, most total time first")
+    public Response getRepositoryStatistics() {
+        return Response.ok(monitoringUseCase.getRepositoryStatistics()).build();
+    }
+    
+    @GET
+    @Path("/slow-queries")
+    @Operation(summary = "Get recent slow repository calls")
+    @APIResponse(responseCode = "200", description = "Slow calls with parameters and call site, newest first")
+    public Response getSlowQueries(
+            @Parameter(description = "Maximum number of entries") @QueryParam("limit") @DefaultValue("20") int limit) {
+        return Response.ok(monitoringUseCase.getSlowQueries(limit)).build();
+    }
+    
+    @DELETE
+    @Path("/repositories")
+    @Operation(summary = "Reset repository call statistics and slow calls")
+    @APIResponse(responseCode = "204", description = "Repository statistics reset")
+    public Response resetRepositoryStatistics() {
+        monitoringUseCase.resetRepositoryStatistics();
+        return Response.noContent().build();
+    }
+}
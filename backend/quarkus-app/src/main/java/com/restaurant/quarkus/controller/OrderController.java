@@ -0,0 +1,315 @@
+package com.restaurant.quarkus.controller;
+
+import com.restaurant.application.port.in.OrderUseCase;
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.valueobject.OrderStatus;
+import com.restaurant.quarkus.dto.OrderDTO;
+import com.restaurant.quarkus.mapper.OrderDTOMapper;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for order operations
+ */
+@Path("/api/v1/orders")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Orders", description = "Order management operations")
+public class OrderController {
+    
+    @Inject
+    OrderUseCase orderUseCase;
+    
+    @Inject
+    OrderDTOMapper orderMapper;
+    
+    @POST
+    @Operation(summary = "Create a new order")
+    @APIResponse(responseCode = "201", description = "Order created successfully")
+    @APIResponse(responseCode = "400", description = "Invalid order data")
+    public Response createOrder(CreateOrderRequest request) {
+        try {
+            OrderUseCase.CreateOrderCommand command = new OrderUseCase.CreateOrderCommand(
+                request.customerId(), request.tableId(), request.specialInstructions()
+            );
+            Order order = orderUseCase.createOrder(command);
+            return Response.status(Response.Status.CREATED).entity(orderMapper.toDTO(order)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    @POST
+    @Path("/place")
+    @Operation(summary = "Place an order with all its items at once")
+    @APIResponse(responseCode = "201", description = "Order placed successfully")
+    @APIResponse(responseCode = "400", description = "Invalid order data or unknown menu item")
+    @APIResponse(responseCode = "409", description = "A menu item is not available")
+    public Response placeOrder(PlaceOrderRequest request) {
+        try {
+            List<OrderUseCase.OrderLine> lines = request.lines() == null ? null : request.lines().stream()
+                .map(line -> new OrderUseCase.OrderLine(line.menuItemId(), line.quantity(), line.notes()))
+                .collect(Collectors.toList());
+            OrderUseCase.PlaceOrderCommand command = new OrderUseCase.PlaceOrderCommand(
+                request.customerId(), request.tableId(), request.specialInstructions(), lines
+            );
+            Order order = orderUseCase.placeOrder(command);
+            return Response.status(Response.Status.CREATED).entity(orderMapper.toDTO(order)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Get order by ID")
+    @APIResponse(responseCode = "200", description = "Order found")
+    @APIResponse(responseCode = "404", description = "Order not found")
+    public Response getOrderById(@Parameter(description = "Order ID") @PathParam("id") UUID orderId) {
+        return orderUseCase.findOrderById(orderId)
+            .map(order -> Response.ok(orderMapper.toDTO(order)).build())
+            .orElse(Response.status(Response.Status.NOT_FOUND)
+                .entity(new ErrorResponse("Order not found")).build());
+    }
+    
+    @GET
+    @Operation(summary = "Get orders placed in a time range, today's orders by default")
+    @APIResponse(responseCode = "200", description = "List of orders")
+    @APIResponse(responseCode = "400", description = "Invalid time range")
+    public Response getOrders(@QueryParam("start") LocalDateTime start, @QueryParam("end") LocalDateTime end) {
+        if (start == null && end == null) {
+            return Response.ok(toDTOs(orderUseCase.getTodaysOrders())).build();
+        }
+        if (start == null || end == null) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("Both start and end are required")).build();
+        }
+        try {
+            return Response.ok(toDTOs(orderUseCase.getOrdersByDateRange(start, end))).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    @GET
+    @Path("/active")
+    @Operation(summary = "Get active orders")
+    @APIResponse(responseCode = "200", description = "List of active orders")
+    public Response getActiveOrders() {
+        return Response.ok(toDTOs(orderUseCase.getActiveOrders())).build();
+    }
+    
+    @GET
+    @Path("/customer/{customerId}")
+    @Operation(summary = "Get orders by customer")
+    @APIResponse(responseCode = "200", description = "List of orders")
+    public Response getOrdersByCustomer(@PathParam("customerId") UUID customerId) {
+        return Response.ok(toDTOs(orderUseCase.getOrdersByCustomer(customerId))).build();
+    }
+    
+    @GET
+    @Path("/table/{tableId}")
+    @Operation(summary = "Get orders by table")
+    @APIResponse(responseCode = "200", description = "List of orders")
+    public Response getOrdersByTable(
+            @PathParam("tableId") UUID tableId,
+            @Parameter(description = "Only orders not yet delivered or cancelled")
+            @QueryParam("active") @DefaultValue("false") boolean active) {
+        return Response.ok(toDTOs(active
+            ? orderUseCase.getActiveOrdersByTable(tableId)
+            : orderUseCase.getOrdersByTable(tableId))).build();
+    }
+    
+    @GET
+    @Path("/status/{status}")
+    @Operation(summary = "Get orders by status")
+    @APIResponse(responseCode = "200", description = "List of orders")
+    @APIResponse(responseCode = "400", description = "Invalid status")
+    public Response getOrdersByStatus(@PathParam("status") String status) {
+        try {
+            OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
+            return Response.ok(toDTOs(orderUseCase.getOrdersByStatus(orderStatus))).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("Invalid status: " + status)).build();
+        }
+    }
+    
+    @PUT
+    @Path("/status")
+    @Operation(summary = "Move several orders to the same status at once")
+    @APIResponse(responseCode = "200", description = "Result of each order, including those that could not be moved")
+    @APIResponse(responseCode = "400", description = "Invalid status or no order IDs")
+    public Response transitionOrders(TransitionOrdersRequest request) {
+        OrderStatus status;
+        try {
+            status = request.status() != null ? OrderStatus.valueOf(request.status().toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("Invalid status: " + request.status())).build();
+        }
+        try {
+            return Response.ok(orderUseCase.transitionOrders(
+                new OrderUseCase.TransitionOrdersCommand(request.orderIds(), status, request.reason()))).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    @POST
+    @Path("/{id}/items")
+    @Operation(summary = "Add an item to a pending order")
+    @APIResponse(responseCode = "200", description = "Item added")
+    @APIResponse(responseCode = "400", description = "Invalid quantity")
+    @APIResponse(responseCode = "404", description = "Order or menu item not found")
+    @APIResponse(responseCode = "409", description = "Order cannot be modified")
+    public Response addItem(@PathParam("id") UUID orderId, AddOrderItemRequest request) {
+        if (request.quantity() < 1) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("Quantity must be at least 1")).build();
+        }
+        return execute(() -> orderUseCase.addItemToOrder(new OrderUseCase.AddOrderItemCommand(
+            orderId, request.menuItemId(), request.quantity(), request.notes())));
+    }
+    
+    @PUT
+    @Path("/{id}/items/{menuItemId}")
+    @Operation(summary = "Change the quantity of an item in a pending order")
+    @APIResponse(responseCode = "200", description = "Quantity updated")
+    @APIResponse(responseCode = "400", description = "Invalid quantity")
+    @APIResponse(responseCode = "404", description = "Order not found")
+    @APIResponse(responseCode = "409", description = "Order cannot be modified")
+    public Response updateItemQuantity(@PathParam("id") UUID orderId, @PathParam("menuItemId") UUID menuItemId,
+                                       UpdateQuantityRequest request) {
+        if (request.quantity() < 1) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("Quantity must be at least 1")).build();
+        }
+        return execute(() -> orderUseCase.updateOrderItemQuantity(orderId, menuItemId, request.quantity()));
+    }
+    
+    @DELETE
+    @Path("/{id}/items/{menuItemId}")
+    @Operation(summary = "Remove an item from a pending order")
+    @APIResponse(responseCode = "200", description = "Item removed")
+    @APIResponse(responseCode = "404", description = "Order not found")
+    @APIResponse(responseCode = "409", description = "Order cannot be modified")
+    public Response removeItem(@PathParam("id") UUID orderId, @PathParam("menuItemId") UUID menuItemId) {
+        return execute(() -> orderUseCase.removeItemFromOrder(orderId, menuItemId));
+    }
+    
+    @PUT
+    @Path("/{id}/confirm")
+    @Operation(summary = "Confirm an order")
+    @APIResponse(responseCode = "200", description = "Order confirmed")
+    @APIResponse(responseCode = "404", description = "Order not found")
+    @APIResponse(responseCode = "409", description = "Invalid status transition")
+    public Response confirmOrder(@PathParam("id") UUID orderId) {
+        return execute(() -> orderUseCase.confirmOrder(orderId));
+    }
+    
+    @PUT
+    @Path("/{id}/start-preparing")
+    @Operation(summary = "Start preparing an order")
+    @APIResponse(responseCode = "200", description = "Order is being prepared")
+    @APIResponse(responseCode = "404", description = "Order not found")
+    @APIResponse(responseCode = "409", description = "Invalid status transition")
+    public Response startPreparingOrder(@PathParam("id") UUID orderId) {
+        return execute(() -> orderUseCase.startPreparingOrder(orderId));
+    }
+    
+    @PUT
+    @Path("/{id}/ready")
+    @Operation(summary = "Mark an order as ready")
+    @APIResponse(responseCode = "200", description = "Order is ready")
+    @APIResponse(responseCode = "404", description = "Order not found")
+    @APIResponse(responseCode = "409", description = "Invalid status transition")
+    public Response markOrderReady(@PathParam("id") UUID orderId) {
+        return execute(() -> orderUseCase.markOrderReady(orderId));
+    }
+    
+    @PUT
+    @Path("/{id}/deliver")
+    @Operation(summary = "Deliver an order")
+    @APIResponse(responseCode = "200", description = "Order delivered")
+    @APIResponse(responseCode = "404", description = "Order not found")
+    @APIResponse(responseCode = "409", description = "Invalid status transition")
+    public Response deliverOrder(@PathParam("id") UUID orderId) {
+        return execute(() -> orderUseCase.deliverOrder(orderId));
+    }
+    
+    @PUT
+    @Path("/{id}/cancel")
+    @Operation(summary = "Cancel an order")
+    @APIResponse(responseCode = "200", description = "Order cancelled")
+    @APIResponse(responseCode = "404", description = "Order not found")
+    @APIResponse(responseCode = "409", description = "Order cannot be cancelled")
+    public Response cancelOrder(@PathParam("id") UUID orderId, CancelOrderRequest request) {
+        return execute(() -> orderUseCase.cancelOrder(orderId, request.reason()));
+    }
+    
+    private Response execute(Supplier<Order> operation) {
+        try {
+            return Response.ok(orderMapper.toDTO(operation.get())).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    private List<OrderDTO> toDTOs(List<Order> orders) {
+        return orders.stream()
+            .map(orderMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+    
+    // DTOs
+    public record CreateOrderRequest(
+        UUID customerId,
+        UUID tableId,
+        String specialInstructions
+    ) {}
+    
+    public record PlaceOrderRequest(
+        UUID customerId,
+        UUID tableId,
+        String specialInstructions,
+        List<AddOrderItemRequest> lines
+    ) {}
+    
+    public record AddOrderItemRequest(
+        UUID menuItemId,
+        int quantity,
+        String notes
+    ) {}
+    
+    public record UpdateQuantityRequest(int quantity) {}
+    
+    public record CancelOrderRequest(String reason) {}
+    
+    public record TransitionOrdersRequest(List<UUID> orderIds, String status, String reason) {}
+    
+    public record ErrorResponse(String message) {}
+}
@@ -0,0 +1,115 @@
+package com.restaurant.quarkus.controller;
+
+import com.restaurant.application.port.in.AsyncCustomerUseCase;
+import com.restaurant.application.port.in.CustomerUseCase;
+import com.restaurant.quarkus.mapper.CustomerDTOMapper;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking REST controller for customer operations.
+ * Returning a CompletionStage keeps these endpoints on the event loop, end to end on the reactive MySQL client,
+ * for comparison with the virtual-thread and JDBC endpoints under /api/v1/customers.
+ */
+@Path("/api/v1/reactive/customers")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Reactive Customers", description = "Non-blocking customer operations")
+public class ReactiveCustomerController {
+    
+    @Inject
+    AsyncCustomerUseCase customerUseCase;
+    
+    @Inject
+    CustomerDTOMapper customerMapper;
+    
+    @POST
+    @Operation(summary = "Create a new customer")
+    @APIResponse(responseCode = "201", description = "Customer created successfully")
+    @APIResponse(responseCode = "400", description = "Invalid customer data")
+    public CompletionStage<Response> createCustomer(@Valid CreateCustomerRequest request) {
+        CustomerUseCase.CreateCustomerCommand command = new CustomerUseCase.CreateCustomerCommand(
+            request.name(), request.email(), request.phone(), request.address()
+        );
+        return customerUseCase.createCustomer(command)
+            .thenApply(customer -> Response.status(Response.Status.CREATED).entity(customerMapper.toDTO(customer)).build())
+            .exceptionally(ReactiveCustomerController::badRequest);
+    }
+    
+    @GET
+    @Operation(summary = "Get all active customers")
+    @APIResponse(responseCode = "200", description = "List of customers")
+    public CompletionStage<Response> getAllCustomers() {
+        return customerUseCase.getAllActiveCustomers()
+            .thenApply(customers -> Response.ok(customers.stream().map(customerMapper::toDTO).toList()).build());
+    }
+    
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Get customer by ID")
+    @APIResponse(responseCode = "200", description = "Customer found")
+    @APIResponse(responseCode = "404", description = "Customer not found")
+    public CompletionStage<Response> getCustomerById(@Parameter(description = "Customer ID") @PathParam("id") UUID customerId) {
+        return customerUseCase.findCustomerById(customerId)
+            .thenApply(customer -> customer.map(c -> Response.ok(customerMapper.toDTO(c)).build())
+                .orElse(Response.status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse("Customer not found")).build()));
+    }
+    
+    @GET
+    @Path("/email/{email}")
+    @Operation(summary = "Get customer by email")
+    @APIResponse(responseCode = "200", description = "Customer found")
+    @APIResponse(responseCode = "404", description = "Customer not found")
+    public CompletionStage<Response> getCustomerByEmail(@Parameter(description = "Customer email") @PathParam("email") String email) {
+        return customerUseCase.findCustomerByEmail(email)
+            .thenApply(customer -> customer.map(c -> Response.ok(customerMapper.toDTO(c)).build())
+                .orElse(Response.status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse("Customer not found")).build()));
+    }
+    
+    @GET
+    @Path("/search")
+    @Operation(summary = "Search customers by name")
+    @APIResponse(responseCode = "200", description = "List of matching customers")
+    public CompletionStage<Response> searchCustomers(@QueryParam("name") String name,
+                                                     @QueryParam("limit") @DefaultValue("50") int limit) {
+        if (name == null || name.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("Name parameter is required")).build());
+        }
+        return customerUseCase.searchCustomersByName(name.trim(), limit)
+            .thenApply(customers -> Response.ok(customers.stream().map(customerMapper::toDTO).toList()).build());
+    }
+    
+    private static Response badRequest(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IllegalArgumentException) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(cause.getMessage())).build();
+        }
+        throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+    }
+    
+    // DTOs
+    public record CreateCustomerRequest(
+        String name,
+        String email,
+        String phone,
+        String address
+    ) {}
+    
+    public record ErrorResponse(String message) {}
+}
@@ -0,0 +1,132 @@
+package com.restaurant.quarkus.controller;
+
+import com.restaurant.application.port.in.AsyncMenuUseCase;
+import com.restaurant.application.port.in.MenuUseCase;
+import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.domain.valueobject.Money;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking REST controller for menu item operations.
+ * Returning a CompletionStage keeps these endpoints on the event loop, end to end on the reactive MySQL client,
+ * for comparison with the virtual-thread and JDBC endpoints under /api/v1/menu-items.
+ */
+@Path("/api/v1/reactive/menu-items")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Reactive Menu Items", description = "Non-blocking menu item operations")
+public class ReactiveMenuItemController {
+    
+    @Inject
+    AsyncMenuUseCase menuUseCase;
+    
+    @POST
+    @Operation(summary = "Create a new menu item")
+    @APIResponse(responseCode = "201", description = "Menu item created successfully")
+    @APIResponse(responseCode = "400", description = "Invalid menu item data")
+    public CompletionStage<Response> createMenuItem(@Valid CreateMenuItemRequest request) {
+        MenuUseCase.CreateMenuItemCommand command;
+        try {
+            command = new MenuUseCase.CreateMenuItemCommand(
+                request.name(),
+                request.description(),
+                new Money(request.price(), request.currency()),
+                MenuCategory.valueOf(request.category()),
+                request.imageUrl(),
+                request.preparationTimeMinutes() == null ? 0 : request.preparationTimeMinutes()
+            );
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(badRequest(e));
+        }
+        return menuUseCase.createMenuItem(command)
+            .thenApply(menuItem -> Response.status(Response.Status.CREATED).entity(menuItem).build())
+            .exceptionally(ReactiveMenuItemController::badRequest);
+    }
+    
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Get menu item by ID")
+    @APIResponse(responseCode = "200", description = "Menu item found")
+    @APIResponse(responseCode = "404", description = "Menu item not found")
+    public CompletionStage<Response> getMenuItemById(@Parameter(description = "Menu item ID") @PathParam("id") UUID id) {
+        return menuUseCase.findMenuItemById(id)
+            .thenApply(menuItem -> menuItem.map(item -> Response.ok(item).build())
+                .orElse(Response.status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse("Menu item not found")).build()));
+    }
+    
+    @GET
+    @Path("/by-category")
+    @Operation(summary = "Get menu items by category")
+    @APIResponse(responseCode = "200", description = "List of menu items in category")
+    public CompletionStage<Response> getMenuItemsByCategory(@QueryParam("category") String category) {
+        MenuCategory menuCategory;
+        try {
+            menuCategory = MenuCategory.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("Invalid category: " + category)).build());
+        }
+        return menuUseCase.getMenuItemsByCategory(menuCategory)
+            .thenApply(menuItems -> Response.ok(menuItems).build());
+    }
+    
+    @GET
+    @Path("/available")
+    @Operation(summary = "Get available menu items")
+    @APIResponse(responseCode = "200", description = "List of available menu items")
+    public CompletionStage<Response> getAvailableMenuItems() {
+        return menuUseCase.getAvailableMenuItems()
+            .thenApply(menuItems -> Response.ok(menuItems).build());
+    }
+    
+    @GET
+    @Path("/search")
+    @Operation(summary = "Search menu items by name")
+    @APIResponse(responseCode = "200", description = "List of matching menu items")
+    public CompletionStage<Response> searchMenuItems(@QueryParam("name") String name,
+                                                     @QueryParam("limit") @DefaultValue("50") int limit) {
+        if (name == null || name.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("Name parameter is required")).build());
+        }
+        return menuUseCase.searchMenuItemsByName(name.trim(), limit)
+            .thenApply(menuItems -> Response.ok(menuItems).build());
+    }
+    
+    private static Response badRequest(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IllegalArgumentException) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(cause.getMessage())).build();
+        }
+        throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+    }
+    
+    // DTOs
+    public record CreateMenuItemRequest(
+        String name,
+        String description,
+        BigDecimal price,
+        String currency,
+        String category,
+        String imageUrl,
+        Integer preparationTimeMinutes
+    ) {}
+    
+    public record ErrorResponse(String message) {}
+}
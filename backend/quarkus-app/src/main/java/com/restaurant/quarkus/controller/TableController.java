@@ -0,0 +1,263 @@
+package com.restaurant.quarkus.controller;
+
+import com.restaurant.application.port.in.TableUseCase;
+import com.restaurant.domain.entity.RestaurantTable;
+import com.restaurant.domain.valueobject.TableStatus;
+import com.restaurant.quarkus.dto.RestaurantTableDTO;
+import com.restaurant.quarkus.mapper.RestaurantTableDTOMapper;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for restaurant table operations
+ */
+@Path("/api/v1/tables")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Tables", description = "Restaurant table management operations")
+public class TableController {
+    
+    @Inject
+    TableUseCase tableUseCase;
+    
+    @Inject
+    RestaurantTableDTOMapper tableMapper;
+    
+    @POST
+    @Operation(summary = "Create a new table")
+    @APIResponse(responseCode = "201", description = "Table created successfully")
+    @APIResponse(responseCode = "400", description = "Invalid table data")
+    public Response createTable(CreateTableRequest request) {
+        try {
+            TableUseCase.CreateTableCommand command = new TableUseCase.CreateTableCommand(
+                request.tableNumber(), request.capacity(), request.location()
+            );
+            RestaurantTable table = tableUseCase.createTable(command);
+            return Response.status(Response.Status.CREATED).entity(tableMapper.toDTO(table)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    @GET
+    @Operation(summary = "Get all tables, optionally filtered by status")
+    @APIResponse(responseCode = "200", description = "List of tables")
+    @APIResponse(responseCode = "400", description = "Invalid status")
+    public Response getTables(@QueryParam("status") String status) {
+        if (status == null) {
+            return Response.ok(toDTOs(tableUseCase.getAllTables())).build();
+        }
+        try {
+            TableStatus tableStatus = TableStatus.valueOf(status.toUpperCase());
+            return Response.ok(toDTOs(tableUseCase.getTablesByStatus(tableStatus))).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("Invalid status: " + status)).build();
+        }
+    }
+    
+    @GET
+    @Path("/available")
+    @Operation(summary = "Get available tables")
+    @APIResponse(responseCode = "200", description = "List of available tables")
+    public Response getAvailableTables() {
+        return Response.ok(toDTOs(tableUseCase.getAvailableTables())).build();
+    }
+    
+    @GET
+    @Path("/best-fit")
+    @Operation(summary = "Find the smallest available table for a party")
+    @APIResponse(responseCode = "200", description = "Table found")
+    @APIResponse(responseCode = "400", description = "Invalid party size")
+    @APIResponse(responseCode = "404", description = "No available table fits the party")
+    public Response findBestFit(@QueryParam("partySize") int partySize) {
+        try {
+            return tableUseCase.findAvailableTableForPartySize(partySize)
+                .map(table -> Response.ok(tableMapper.toDTO(table)).build())
+                .orElse(Response.status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse("No available table for party of " + partySize)).build());
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Get table by ID")
+    @APIResponse(responseCode = "200", description = "Table found")
+    @APIResponse(responseCode = "404", description = "Table not found")
+    public Response getTableById(@Parameter(description = "Table ID") @PathParam("id") UUID tableId) {
+        return tableUseCase.findTableById(tableId)
+            .map(table -> Response.ok(tableMapper.toDTO(table)).build())
+            .orElse(Response.status(Response.Status.NOT_FOUND)
+                .entity(new ErrorResponse("Table not found")).build());
+    }
+    
+    @GET
+    @Path("/number/{tableNumber}")
+    @Operation(summary = "Get table by number")
+    @APIResponse(responseCode = "200", description = "Table found")
+    @APIResponse(responseCode = "404", description = "Table not found")
+    public Response getTableByNumber(@PathParam("tableNumber") String tableNumber) {
+        return tableUseCase.findTableByNumber(tableNumber)
+            .map(table -> Response.ok(tableMapper.toDTO(table)).build())
+            .orElse(Response.status(Response.Status.NOT_FOUND)
+                .entity(new ErrorResponse("Table not found")).build());
+    }
+    
+    @PUT
+    @Path("/{id}")
+    @Operation(summary = "Update table")
+    @APIResponse(responseCode = "200", description = "Table updated successfully")
+    @APIResponse(responseCode = "400", description = "Invalid table data")
+    public Response updateTable(@PathParam("id") UUID tableId, UpdateTableRequest request) {
+        try {
+            TableUseCase.UpdateTableCommand command = new TableUseCase.UpdateTableCommand(
+                tableId, request.tableNumber(), request.capacity(), request.location()
+            );
+            return Response.ok(tableMapper.toDTO(tableUseCase.updateTable(command))).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    @POST
+    @Path("/seat")
+    @Operation(summary = "Seat a party at the smallest available table that fits")
+    @APIResponse(responseCode = "200", description = "Party seated")
+    @APIResponse(responseCode = "400", description = "Invalid party size")
+    @APIResponse(responseCode = "404", description = "No available table fits the party")
+    @APIResponse(responseCode = "409", description = "Too much concurrent seating, try again")
+    public Response seatParty(SeatPartyRequest request) {
+        try {
+            return tableUseCase.seatParty(request.partySize(), request.orderId())
+                .map(table -> Response.ok(tableMapper.toDTO(table)).build())
+                .orElse(Response.status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse("No available table for party of " + request.partySize())).build());
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    @PUT
+    @Path("/{id}/occupy")
+    @Operation(summary = "Occupy a table")
+    @APIResponse(responseCode = "200", description = "Table occupied")
+    @APIResponse(responseCode = "404", description = "Table not found")
+    @APIResponse(responseCode = "409", description = "Table is not available")
+    public Response occupyTable(@PathParam("id") UUID tableId, OccupyTableRequest request) {
+        return execute(() -> tableUseCase.occupyTable(tableId, request.orderId()));
+    }
+    
+    @PUT
+    @Path("/{id}/reserve")
+    @Operation(summary = "Reserve a table")
+    @APIResponse(responseCode = "200", description = "Table reserved")
+    @APIResponse(responseCode = "404", description = "Table not found")
+    @APIResponse(responseCode = "409", description = "Table is not available")
+    public Response reserveTable(@PathParam("id") UUID tableId) {
+        return execute(() -> tableUseCase.reserveTable(tableId));
+    }
+    
+    @PUT
+    @Path("/{id}/release")
+    @Operation(summary = "Make a table available")
+    @APIResponse(responseCode = "200", description = "Table available")
+    @APIResponse(responseCode = "404", description = "Table not found")
+    public Response releaseTable(@PathParam("id") UUID tableId) {
+        return execute(() -> tableUseCase.makeTableAvailable(tableId));
+    }
+    
+    @PUT
+    @Path("/{id}/cleaning")
+    @Operation(summary = "Mark a table for cleaning")
+    @APIResponse(responseCode = "200", description = "Table marked for cleaning")
+    @APIResponse(responseCode = "404", description = "Table not found")
+    @APIResponse(responseCode = "409", description = "Table is occupied")
+    public Response markForCleaning(@PathParam("id") UUID tableId) {
+        return execute(() -> tableUseCase.markTableForCleaning(tableId));
+    }
+    
+    @PUT
+    @Path("/{id}/out-of-service")
+    @Operation(summary = "Mark a table out of service")
+    @APIResponse(responseCode = "200", description = "Table out of service")
+    @APIResponse(responseCode = "404", description = "Table not found")
+    public Response markOutOfService(@PathParam("id") UUID tableId) {
+        return execute(() -> tableUseCase.markTableOutOfService(tableId));
+    }
+    
+    @DELETE
+    @Path("/{id}")
+    @Operation(summary = "Delete table")
+    @APIResponse(responseCode = "204", description = "Table deleted successfully")
+    @APIResponse(responseCode = "404", description = "Table not found")
+    @APIResponse(responseCode = "409", description = "Table is occupied")
+    public Response deleteTable(@PathParam("id") UUID tableId) {
+        try {
+            tableUseCase.deleteTable(tableId);
+            return Response.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    private Response execute(Supplier<RestaurantTable> operation) {
+        try {
+            return Response.ok(tableMapper.toDTO(operation.get())).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .entity(new ErrorResponse(e.getMessage())).build();
+        }
+    }
+    
+    private List<RestaurantTableDTO> toDTOs(List<RestaurantTable> tables) {
+        return tables.stream()
+            .map(tableMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+    
+    // DTOs
+    public record CreateTableRequest(
+        String tableNumber,
+        int capacity,
+        String location
+    ) {}
+    
+    public record UpdateTableRequest(
+        String tableNumber,
+        int capacity,
+        String location
+    ) {}
+    
+    public record SeatPartyRequest(int partySize, UUID orderId) {}
+    
+    public record OccupyTableRequest(UUID orderId) {}
+    
+    public record ErrorResponse(String message) {}
+}
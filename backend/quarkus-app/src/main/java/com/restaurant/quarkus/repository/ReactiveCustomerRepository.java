@@ -0,0 +1,113 @@
+package com.restaurant.quarkus.repository;
+
+import com.restaurant.application.port.out.AsyncCustomerRepository;
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.domain.entity.Customer;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Customer repository on the non-blocking MySQL client.
+ * Statements mirror the JPA repository, so both adapters can serve the same schema side by side.
+ */
+public class ReactiveCustomerRepository implements AsyncCustomerRepository {
+    
+    private static final String COLUMNS = "id, name, email, phone, address, created_at, updated_at, active";
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO customers (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM customers WHERE id = ?";
+    private static final String FIND_BY_EMAIL_SQL = "SELECT " + COLUMNS + " FROM customers WHERE email = ?";
+    private static final String FIND_ALL_ACTIVE_SQL =
+        "SELECT " + COLUMNS + " FROM customers WHERE active = true ORDER BY name";
+    private static final String SEARCH_BY_NAME_SQL =
+        "SELECT " + COLUMNS + " FROM customers WHERE LOWER(name) LIKE LOWER(?) ORDER BY name LIMIT ?";
+    
+    private final Pool pool;
+    
+    public ReactiveCustomerRepository(Pool pool) {
+        this.pool = pool;
+    }
+    
+    @Override
+    public CompletionStage<Boolean> insert(Customer customer, List<OutboxMessage> outboxMessages) {
+        // A plain INSERT; a duplicate email fails it on the unique index and rolls back the outbox messages too
+        return pool.withTransaction(connection -> connection.preparedQuery(INSERT_SQL)
+                .execute(insertTuple(customer))
+                .compose(ignored -> ReactiveSql.append(connection, outboxMessages)))
+            .map(ignored -> true)
+            .recover(ReactiveSql::falseOnDuplicateKey)
+            .toCompletionStage();
+    }
+    
+    @Override
+    public CompletionStage<Optional<Customer>> findById(UUID customerId) {
+        return pool.preparedQuery(FIND_BY_ID_SQL).execute(Tuple.of(ReactiveSql.id(customerId)))
+            .map(rows -> toList(rows).stream().findFirst())
+            .toCompletionStage();
+    }
+    
+    @Override
+    public CompletionStage<Optional<Customer>> findByEmail(String email) {
+        return pool.preparedQuery(FIND_BY_EMAIL_SQL).execute(Tuple.of(email))
+            .map(rows -> toList(rows).stream().findFirst())
+            .toCompletionStage();
+    }
+    
+    @Override
+    public CompletionStage<List<Customer>> findAllActive() {
+        return pool.preparedQuery(FIND_ALL_ACTIVE_SQL).execute()
+            .map(ReactiveCustomerRepository::toList)
+            .toCompletionStage();
+    }
+    
+    @Override
+    public CompletionStage<List<Customer>> searchByName(String name, int limit) {
+        return pool.preparedQuery(SEARCH_BY_NAME_SQL).execute(Tuple.of("%" + name + "%", limit))
+            .map(ReactiveCustomerRepository::toList)
+            .toCompletionStage();
+    }
+    
+    private static Tuple insertTuple(Customer customer) {
+        return Tuple.of(
+            ReactiveSql.id(customer.getId()),
+            customer.getName(),
+            customer.getEmail(),
+            customer.getPhone(),
+            customer.getAddress(),
+            customer.getCreatedAt(),
+            customer.getUpdatedAt(),
+            customer.isActive()
+        );
+    }
+    
+    private static List<Customer> toList(RowSet<Row> rows) {
+        List<Customer> customers = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            customers.add(toDomain(row));
+        }
+        return customers;
+    }
+    
+    private static Customer toDomain(Row row) {
+        Customer customer = new Customer();
+        customer.setId(ReactiveSql.id(row));
+        customer.setName(row.getString("name"));
+        customer.setEmail(row.getString("email"));
+        customer.setPhone(row.getString("phone"));
+        customer.setAddress(row.getString("address"));
+        customer.setCreatedAt(row.getLocalDateTime("created_at"));
+        customer.setUpdatedAt(row.getLocalDateTime("updated_at"));
+        customer.setActive(ReactiveSql.bool(row, "active"));
+        return customer;
+    }
+}
@@ -0,0 +1,124 @@
+package com.restaurant.quarkus.repository;
+
+import com.restaurant.application.port.out.AsyncMenuItemRepository;
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.domain.entity.MenuItem;
+import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.infrastructure.persistence.mapper.MoneyMapper;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Menu item repository on the non-blocking MySQL client.
+ * Statements mirror the JPA repository, so both adapters can serve the same schema side by side.
+ */
+public class ReactiveMenuItemRepository implements AsyncMenuItemRepository {
+    
+    private static final String COLUMNS =
+        "id, name, description, price, currency, category, image_url, available, preparation_time_minutes, " +
+        "created_at, updated_at";
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO menu_items (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM menu_items WHERE id = ?";
+    private static final String FIND_ALL_AVAILABLE_SQL =
+        "SELECT " + COLUMNS + " FROM menu_items WHERE available = true ORDER BY category, name";
+    private static final String FIND_BY_CATEGORY_SQL =
+        "SELECT " + COLUMNS + " FROM menu_items WHERE category = ? ORDER BY name";
+    private static final String SEARCH_BY_NAME_SQL =
+        "SELECT " + COLUMNS + " FROM menu_items WHERE LOWER(name) LIKE LOWER(?) ORDER BY name LIMIT ?";
+    
+    private final Pool pool;
+    
+    public ReactiveMenuItemRepository(Pool pool) {
+        this.pool = pool;
+    }
+    
+    @Override
+    public CompletionStage<Boolean> insert(MenuItem menuItem, List<OutboxMessage> outboxMessages) {
+        // A plain INSERT; a duplicate name fails it on the unique index and rolls back the outbox messages too
+        return pool.withTransaction(connection -> connection.preparedQuery(INSERT_SQL)
+                .execute(insertTuple(menuItem))
+                .compose(ignored -> ReactiveSql.append(connection, outboxMessages)))
+            .map(ignored -> true)
+            .recover(ReactiveSql::falseOnDuplicateKey)
+            .toCompletionStage();
+    }
+    
+    @Override
+    public CompletionStage<Optional<MenuItem>> findById(UUID menuItemId) {
+        return pool.preparedQuery(FIND_BY_ID_SQL).execute(Tuple.of(ReactiveSql.id(menuItemId)))
+            .map(rows -> toList(rows).stream().findFirst())
+            .toCompletionStage();
+    }
+    
+    @Override
+    public CompletionStage<List<MenuItem>> findAllAvailable() {
+        return pool.preparedQuery(FIND_ALL_AVAILABLE_SQL).execute()
+            .map(ReactiveMenuItemRepository::toList)
+            .toCompletionStage();
+    }
+    
+    @Override
+    public CompletionStage<List<MenuItem>> findByCategory(MenuCategory category) {
+        return pool.preparedQuery(FIND_BY_CATEGORY_SQL).execute(Tuple.of(category.name()))
+            .map(ReactiveMenuItemRepository::toList)
+            .toCompletionStage();
+    }
+    
+    @Override
+    public CompletionStage<List<MenuItem>> searchByName(String name, int limit) {
+        return pool.preparedQuery(SEARCH_BY_NAME_SQL).execute(Tuple.of("%" + name + "%", limit))
+            .map(ReactiveMenuItemRepository::toList)
+            .toCompletionStage();
+    }
+    
+    private static Tuple insertTuple(MenuItem menuItem) {
+        return Tuple.of(
+            ReactiveSql.id(menuItem.getId()),
+            menuItem.getName(),
+            menuItem.getDescription(),
+            menuItem.getPrice().getAmount(),
+            menuItem.getPrice().getCurrencyCode(),
+            menuItem.getCategory().name(),
+            menuItem.getImageUrl(),
+            menuItem.isAvailable(),
+            menuItem.getPreparationTimeMinutes(),
+            menuItem.getCreatedAt(),
+            menuItem.getUpdatedAt()
+        );
+    }
+    
+    private static List<MenuItem> toList(RowSet<Row> rows) {
+        List<MenuItem> menuItems = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            menuItems.add(toDomain(row));
+        }
+        return menuItems;
+    }
+    
+    private static MenuItem toDomain(Row row) {
+        MenuItem menuItem = new MenuItem();
+        menuItem.setId(ReactiveSql.id(row));
+        menuItem.setName(row.getString("name"));
+        menuItem.setDescription(row.getString("description"));
+        menuItem.setPrice(MoneyMapper.toMoney(row.getBigDecimal("price"), row.getString("currency")));
+        menuItem.setCategory(MenuCategory.valueOf(row.getString("category")));
+        menuItem.setImageUrl(row.getString("image_url"));
+        menuItem.setAvailable(ReactiveSql.bool(row, "available"));
+        Integer preparationTime = row.getInteger("preparation_time_minutes");
+        menuItem.setPreparationTimeMinutes(preparationTime == null ? 0 : preparationTime);
+        menuItem.setCreatedAt(row.getLocalDateTime("created_at"));
+        menuItem.setUpdatedAt(row.getLocalDateTime("updated_at"));
+        return menuItem;
+    }
+}
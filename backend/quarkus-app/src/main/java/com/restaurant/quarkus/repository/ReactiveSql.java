@@ -0,0 +1,68 @@
+package com.restaurant.quarkus.repository;
+
+import com.restaurant.application.port.out.OutboxRepository.OutboxMessage;
+import com.restaurant.infrastructure.persistence.mapper.UuidMapper;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mysqlclient.MySQLException;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared statements and conversions of the reactive repositories
+ */
+final class ReactiveSql {
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO outbox_messages (id, topic, payload, attempts, created_at, next_attempt_at) " +
+        "VALUES (?, ?, ?, 0, ?, ?)";
+    
+    // MySQL ER_DUP_ENTRY, raised by the unique email and name indexes
+    private static final int DUPLICATE_KEY_ERROR = 1062;
+    
+    private ReactiveSql() {
+    }
+    
+    /**
+     * Append outbox messages on the connection of the surrounding transaction
+     */
+    static Future<Void> append(SqlConnection connection, List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return Future.succeededFuture();
+        }
+        List<Tuple> batch = messages.stream()
+            .map(message -> Tuple.of(id(message.id()), message.topic(), message.payload(),
+                message.createdAt(), message.createdAt()))
+            .toList();
+        return connection.preparedQuery(INSERT_SQL).executeBatch(batch).mapEmpty();
+    }
+    
+    /**
+     * Recover a failed insert into false when it only hit a unique index, keeping any other failure
+     */
+    static Future<Boolean> falseOnDuplicateKey(Throwable failure) {
+        return failure instanceof MySQLException e && e.getErrorCode() == DUPLICATE_KEY_ERROR
+            ? Future.succeededFuture(false)
+            : Future.failedFuture(failure);
+    }
+    
+    static Buffer id(UUID uuid) {
+        return Buffer.buffer(UuidMapper.toBytes(uuid));
+    }
+    
+    static UUID id(Row row) {
+        return UuidMapper.fromBytes(row.getBuffer("id").getBytes());
+    }
+    
+    /**
+     * Read a boolean column, which Hibernate maps to BIT(1) on MySQL and the client returns as a number
+     */
+    static boolean bool(Row row, String column) {
+        Object value = row.getValue(column);
+        return value instanceof Boolean bool ? bool : value instanceof Number number && number.longValue() != 0;
+    }
+}
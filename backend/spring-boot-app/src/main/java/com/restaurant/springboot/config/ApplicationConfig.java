@@ -2,21 +2,62 @@ package com.restaurant.springboot.config;
 
 import com.restaurant.application.port.in.CustomerUseCase;
 import com.restaurant.application.port.in.MenuUseCase;
+import com.restaurant.application.port.in.MonitoringUseCase;
+import com.restaurant.application.port.in.OrderUseCase;
+import com.restaurant.application.port.in.TableUseCase;
 import com.restaurant.application.port.out.CacheService;
 import com.restaurant.application.port.out.CustomerRepository;
 import com.restaurant.application.port.out.MenuItemRepository;
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.QueryStatisticsService;
+import com.restaurant.application.port.out.RepositoryMetricsService;
+import com.restaurant.application.port.out.RestaurantTableRepository;
+import com.restaurant.application.port.out.TransactionService;
 import com.restaurant.application.service.CustomerService;
 import com.restaurant.application.service.MenuService;
+import com.restaurant.application.service.MonitoringService;
+import com.restaurant.application.service.OrderService;
+import com.restaurant.application.service.TableService;
+import com.restaurant.domain.kitchen.KitchenBacklog;
 import com.restaurant.infrastructure.cache.RedisCacheService;
+import com.restaurant.infrastructure.coalescing.CoalescingOrderRepository;
+import com.restaurant.infrastructure.counter.CountingCustomerRepository;
+import com.restaurant.infrastructure.counter.CountingMenuItemRepository;
+import com.restaurant.infrastructure.index.ActiveIndexedOrderRepository;
+import com.restaurant.infrastructure.index.RedisOrderChangeChannel;
+import com.restaurant.infrastructure.persistence.instrumentation.InMemoryRepositoryMetricsService;
+import com.restaurant.infrastructure.persistence.jdbc.JdbcCustomerRepository;
+import com.restaurant.infrastructure.persistence.jdbc.JdbcMenuItemRepository;
 import com.restaurant.infrastructure.persistence.repository.JpaCustomerRepository;
 import com.restaurant.infrastructure.persistence.repository.JpaMenuItemRepository;
+import com.restaurant.infrastructure.persistence.repository.JpaOrderRepository;
+import com.restaurant.infrastructure.persistence.repository.JpaOutboxRepository;
+import com.restaurant.infrastructure.persistence.repository.JpaRestaurantTableRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingCustomerRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingMenuItemRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingOrderRepository;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingRestaurantTableRepository;
+import com.restaurant.infrastructure.persistence.statistics.HibernateQueryStatisticsService;
+import com.restaurant.infrastructure.persistence.transaction.AfterCommitTransactionService;
+import com.restaurant.infrastructure.persistence.transaction.JpaTransactionService;
+import com.restaurant.infrastructure.search.SearchIndexedCustomerRepository;
+import com.restaurant.infrastructure.search.SearchIndexedMenuItemRepository;
+import com.restaurant.infrastructure.uniqueness.BloomFilteredCustomerRepository;
+import com.restaurant.infrastructure.uniqueness.BloomFilteredMenuItemRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import redis.clients.jedis.JedisPool;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import redis.clients.jedis.JedisPoolConfig;
 
+import java.time.Duration;
+
 /**
  * Spring Boot application configuration
  */
@@ -29,6 +70,27 @@ public class ApplicationConfig {
     @Value("${spring.data.redis.port:6379}")
     private int redisPort;
     
+    @Value("${restaurant.monitoring.slow-query-threshold:200ms}")
+    private Duration slowQueryThreshold;
+    
+    @Value("${restaurant.monitoring.slow-query-capacity:100}")
+    private int slowQueryCapacity;
+    
+    @Value("${restaurant.persistence.adapter:jpa}")
+    private String persistenceAdapter;
+    
+    @Value("${restaurant.kitchen.stations:4}")
+    private int kitchenStations;
+    
+    @Value("${restaurant.orders.write-durability:write-through}")
+    private String orderWriteDurability;
+    
+    @Value("${restaurant.orders.write-window:100ms}")
+    private Duration orderWriteWindow;
+    
+    @Value("${restaurant.orders.write-max-batch:500}")
+    private int orderWriteMaxBatch;
+    
     @Bean
     public JedisPool jedisPool() {
         JedisPoolConfig poolConfig = new JedisPoolConfig();
@@ -47,23 +109,148 @@ public class ApplicationConfig {
         return new RedisCacheService(jedisPool);
     }
     
+    @Bean(destroyMethod = "close")
+    public RedisOrderChangeChannel orderChangeChannel(JedisPool jedisPool) {
+        return new RedisOrderChangeChannel(jedisPool);
+    }
+    
+    @Bean
+    public InMemoryRepositoryMetricsService repositoryMetricsService() {
+        return new InMemoryRepositoryMetricsService(slowQueryThreshold, slowQueryCapacity);
+    }
+    
+    // The JPA repositories are beans of their own so that Spring applies their @Transactional methods;
+    // the decorators wrapping them are the primary port implementations
+    @Bean
+    public JpaCustomerRepository jpaCustomerRepository(EntityManager entityManager) {
+        return "jdbc".equals(persistenceAdapter)
+            ? new JdbcCustomerRepository(entityManager)
+            : new JpaCustomerRepository(entityManager);
+    }
+    
+    @Bean
+    public JpaMenuItemRepository jpaMenuItemRepository(EntityManager entityManager) {
+        return "jdbc".equals(persistenceAdapter)
+            ? new JdbcMenuItemRepository(entityManager)
+            : new JpaMenuItemRepository(entityManager);
+    }
+    
+    @Bean
+    public JpaOrderRepository jpaOrderRepository(EntityManager entityManager) {
+        return new JpaOrderRepository(entityManager);
+    }
+    
+    @Bean
+    public JpaRestaurantTableRepository jpaRestaurantTableRepository(EntityManager entityManager) {
+        return new JpaRestaurantTableRepository(entityManager);
+    }
+    
+    @Bean
+    public JpaOutboxRepository jpaOutboxRepository(EntityManager entityManager) {
+        return new JpaOutboxRepository(entityManager);
+    }
+    
+    @Bean
+    public JpaTransactionService jpaTransactionService() {
+        return new JpaTransactionService();
+    }
+    
+    @Bean
+    @Primary
+    public TransactionService transactionService(JpaTransactionService jpaTransactionService) {
+        return new AfterCommitTransactionService(jpaTransactionService);
+    }
+    
+    @Bean
+    @Primary
+    public OutboxRepository outboxRepository(JpaOutboxRepository jpaOutboxRepository,
+                                             InMemoryRepositoryMetricsService metrics) {
+        return metrics.instrument(OutboxRepository.class, jpaOutboxRepository);
+    }
+    
+    @Bean(destroyMethod = "close")
+    @Primary
+    public SearchIndexedCustomerRepository customerRepository(JpaCustomerRepository jpaCustomerRepository,
+                                                              InMemoryRepositoryMetricsService metrics,
+                                                              TransactionService transactionService) {
+        CustomerRepository counting = new CountingCustomerRepository(
+            metrics.instrument(CustomerRepository.class, jpaCustomerRepository), transactionService);
+        return new SearchIndexedCustomerRepository(new BloomFilteredCustomerRepository(
+            new ReplicaRoutingCustomerRepository(counting), transactionService), transactionService);
+    }
+    
+    @Bean(destroyMethod = "close")
+    @Primary
+    public SearchIndexedMenuItemRepository menuItemRepository(JpaMenuItemRepository jpaMenuItemRepository,
+                                                              InMemoryRepositoryMetricsService metrics,
+                                                              TransactionService transactionService) {
+        MenuItemRepository counting = new CountingMenuItemRepository(
+            metrics.instrument(MenuItemRepository.class, jpaMenuItemRepository), transactionService);
+        return new SearchIndexedMenuItemRepository(new BloomFilteredMenuItemRepository(
+            new ReplicaRoutingMenuItemRepository(counting), transactionService), transactionService);
+    }
+    
+    @Bean(destroyMethod = "close")
+    @Primary
+    public CoalescingOrderRepository orderRepository(JpaOrderRepository jpaOrderRepository,
+                                                     InMemoryRepositoryMetricsService metrics,
+                                                     TransactionService transactionService,
+                                                     RedisOrderChangeChannel orderChangeChannel) {
+        return new CoalescingOrderRepository(
+            new ReplicaRoutingOrderRepository(new ActiveIndexedOrderRepository(
+                metrics.instrument(OrderRepository.class, jpaOrderRepository), transactionService, orderChangeChannel)),
+            CoalescingOrderRepository.Durability.parse(orderWriteDurability), orderWriteWindow, orderWriteMaxBatch);
+    }
+    
+    @Bean
+    @Primary
+    public RestaurantTableRepository restaurantTableRepository(JpaRestaurantTableRepository jpaRestaurantTableRepository,
+                                                               InMemoryRepositoryMetricsService metrics) {
+        return new ReplicaRoutingRestaurantTableRepository(
+            metrics.instrument(RestaurantTableRepository.class, jpaRestaurantTableRepository));
+    }
+    
+    @Bean
+    public CustomerUseCase customerUseCase(CustomerRepository customerRepository, CacheService cacheService,
+                                           OutboxRepository outboxRepository, TransactionService transactionService) {
+        return new CustomerService(customerRepository, cacheService, outboxRepository, transactionService);
+    }
+    
+    @Bean
+    public MenuUseCase menuUseCase(MenuItemRepository menuItemRepository, CacheService cacheService,
+                                   OutboxRepository outboxRepository, TransactionService transactionService) {
+        return new MenuService(menuItemRepository, cacheService, outboxRepository, transactionService);
+    }
+    
+    @Bean
+    public OrderUseCase orderUseCase(OrderRepository orderRepository, MenuItemRepository menuItemRepository) {
+        return new OrderService(orderRepository, menuItemRepository, new KitchenBacklog(kitchenStations));
+    }
+    
     @Bean
-    public CustomerRepository customerRepository(EntityManager entityManager) {
-        return new JpaCustomerRepository(entityManager);
+    public TableUseCase tableUseCase(RestaurantTableRepository restaurantTableRepository) {
+        return new TableService(restaurantTableRepository);
     }
     
     @Bean
-    public MenuItemRepository menuItemRepository(EntityManager entityManager) {
-        return new JpaMenuItemRepository(entityManager);
+    public QueryStatisticsService queryStatisticsService(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryStatisticsService(entityManagerFactory);
     }
     
     @Bean
-    public CustomerUseCase customerUseCase(CustomerRepository customerRepository, CacheService cacheService) {
-        return new CustomerService(customerRepository, cacheService);
+    public MonitoringUseCase monitoringUseCase(QueryStatisticsService queryStatisticsService,
+                                               RepositoryMetricsService repositoryMetricsService) {
+        return new MonitoringService(queryStatisticsService, repositoryMetricsService);
     }
     
+    /**
+     * Reports the slow-call threshold and the latest slow repository calls under /actuator/health
+     */
     @Bean
-    public MenuUseCase menuUseCase(MenuItemRepository menuItemRepository, CacheService cacheService) {
-        return new MenuService(menuItemRepository, cacheService);
+    public HealthIndicator repositoriesHealthIndicator(MonitoringUseCase monitoringUseCase) {
+        return () -> Health.up()
+            .withDetail("slowThresholdMs", monitoringUseCase.getRepositoryStatistics().slowThresholdMs())
+            .withDetail("slowQueries", monitoringUseCase.getSlowQueries(5))
+            .build();
     }
 }
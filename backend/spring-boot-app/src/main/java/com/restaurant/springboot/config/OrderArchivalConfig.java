@@ -0,0 +1,33 @@
+package com.restaurant.springboot.config;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.infrastructure.persistence.archive.OrderArchivalJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Background archival of completed orders, enabled unless restaurant.archive.enabled is false.
+ * Delivered and cancelled orders older than the retention period are moved to the archive tables in batches.
+ */
+@Configuration
+@ConditionalOnProperty(name = "restaurant.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchivalConfig {
+    
+    @Value("${restaurant.archive.retention-days:90}")
+    private int retentionDays;
+    
+    @Value("${restaurant.archive.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${restaurant.archive.interval:1h}")
+    private Duration interval;
+    
+    @Bean(destroyMethod = "close")
+    public OrderArchivalJob orderArchivalJob(OrderRepository orderRepository) {
+        return new OrderArchivalJob(orderRepository, Duration.ofDays(retentionDays), batchSize, interval);
+    }
+}
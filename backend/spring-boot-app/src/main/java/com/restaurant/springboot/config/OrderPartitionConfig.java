@@ -0,0 +1,30 @@
+package com.restaurant.springboot.config;
+
+import com.restaurant.application.port.out.OrderRepository;
+import com.restaurant.infrastructure.persistence.archive.OrderPartitionJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Background creation of monthly order partitions, enabled unless restaurant.partitions.enabled is false.
+ * The months up to months-ahead from now are split off p_future at startup and then every interval.
+ */
+@Configuration
+@ConditionalOnProperty(name = "restaurant.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderPartitionConfig {
+    
+    @Value("${restaurant.partitions.months-ahead:3}")
+    private int monthsAhead;
+    
+    @Value("${restaurant.partitions.interval:24h}")
+    private Duration interval;
+    
+    @Bean(destroyMethod = "close")
+    public OrderPartitionJob orderPartitionJob(OrderRepository orderRepository) {
+        return new OrderPartitionJob(orderRepository, monthsAhead, interval);
+    }
+}
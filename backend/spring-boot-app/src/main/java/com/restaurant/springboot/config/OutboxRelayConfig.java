@@ -0,0 +1,39 @@
+package com.restaurant.springboot.config;
+
+import com.restaurant.application.port.out.CacheService;
+import com.restaurant.application.port.out.OutboxRepository;
+import com.restaurant.application.port.out.TransactionService;
+import com.restaurant.infrastructure.outbox.CacheInvalidationConsumer;
+import com.restaurant.infrastructure.outbox.OutboxRelay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Background relay of the transactional outbox, enabled unless restaurant.outbox.enabled is false.
+ * Cache invalidations written by the use cases are applied here, after their transaction has committed.
+ */
+@Configuration
+@ConditionalOnProperty(name = "restaurant.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayConfig {
+    
+    @Value("${restaurant.outbox.interval:200ms}")
+    private Duration interval;
+    
+    @Value("${restaurant.outbox.batch-size:100}")
+    private int batchSize;
+    
+    @Bean(destroyMethod = "close")
+    public OutboxRelay outboxRelay(OutboxRepository outboxRepository, TransactionService transactionService,
+                                   CacheService cacheService) {
+        CacheInvalidationConsumer cacheInvalidation = new CacheInvalidationConsumer(cacheService);
+        return new OutboxRelay(outboxRepository, transactionService, Map.of(
+            OutboxRepository.CACHE_EVICT, cacheInvalidation,
+            OutboxRepository.CACHE_EVICT_PATTERN, cacheInvalidation
+        ), interval, batchSize);
+    }
+}
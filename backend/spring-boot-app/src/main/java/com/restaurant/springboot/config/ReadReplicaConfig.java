@@ -0,0 +1,83 @@
+package com.restaurant.springboot.config;
+
+import com.restaurant.infrastructure.persistence.routing.DataSourceRoutingContext;
+import com.restaurant.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.restaurant.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.Filter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replica routing, enabled when restaurant.replica.urls lists at least one replica.
+ * Read-only repository calls go to a healthy replica, everything else to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "restaurant.replica.urls")
+public class ReadReplicaConfig {
+    
+    @Value("${restaurant.replica.urls}")
+    private List<String> replicaUrls;
+    
+    @Value("${restaurant.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+    
+    @Value("${restaurant.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+    
+    @Value("${restaurant.replica.max-lag:5s}")
+    private Duration maxLag;
+    
+    @Value("${restaurant.replica.check-interval:1s}")
+    private Duration checkInterval;
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+    
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties properties) {
+        List<DataSource> replicas = replicaUrls.stream()
+            .map(url -> (DataSource) DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.getDriverClassName())
+                .url(url)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build())
+            .toList();
+        return new ReplicaLagMonitor(replicas, maxLag, checkInterval);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaLagMonitor);
+    }
+    
+    /**
+     * Reset read-your-writes stickiness once the request is done
+     */
+    @Bean
+    public Filter replicaRoutingFilter() {
+        return (request, response, chain) -> {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                DataSourceRoutingContext.clear();
+            }
+        };
+    }
+}
@@ -1,6 +1,10 @@
 package com.restaurant.springboot.controller;
 
+import com.restaurant.application.port.in.TableUseCase;
+import com.restaurant.domain.entity.RestaurantTable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,8 +13,15 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Benchmark controller to test Virtual Threads performance
@@ -20,6 +31,9 @@ import java.util.concurrent.CompletableFuture;
 @Tag(name = "Benchmark", description = "Virtual Threads performance testing")
 public class BenchmarkController {
 
+    @Autowired
+    private TableUseCase tableUseCase;
+
     private boolean isVirtualThread(Thread thread) {
         // Check if thread is virtual (compatible with Java 19+)
         return thread.toString().contains("VirtualThread") || 
@@ -92,4 +106,71 @@ public class BenchmarkController {
             );
         });
     }
+
+    @PostMapping("/table-contention")
+    @Operation(summary = "Test table occupancy under contention",
+               description = "Concurrent hosts race to occupy a few scratch tables; exactly one host per table may win")
+    public Map<String, Object> testTableContention(
+            @Parameter(description = "Number of concurrent hosts")
+            @RequestParam(defaultValue = "500") int hosts,
+            @Parameter(description = "Number of scratch tables (1-100)")
+            @RequestParam(defaultValue = "10") int tables) {
+
+        int hostCount = Math.max(1, Math.min(hosts, 10_000));
+        int tableCount = Math.max(1, Math.min(tables, 100));
+
+        // Table numbers are limited to 10 characters
+        String runId = Long.toString(System.nanoTime() % 1_000_000, 36);
+        List<RestaurantTable> scratchTables = new ArrayList<>();
+        Map<UUID, AtomicInteger> winners = new ConcurrentHashMap<>();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long startTime = System.nanoTime();
+
+        try {
+            for (int i = 0; i < tableCount; i++) {
+                scratchTables.add(tableUseCase.createTable(
+                    new TableUseCase.CreateTableCommand("B" + runId + "-" + i, 4, "benchmark")));
+            }
+
+            startTime = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < hostCount; i++) {
+                    UUID tableId = scratchTables.get(i % tableCount).getId();
+                    executor.submit(() -> {
+                        try {
+                            tableUseCase.occupyTable(tableId, UUID.randomUUID());
+                            winners.computeIfAbsent(tableId, id -> new AtomicInteger()).incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            rejected.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                    });
+                }
+            }
+        } finally {
+            for (RestaurantTable table : scratchTables) {
+                tableUseCase.makeTableAvailable(table.getId());
+                tableUseCase.deleteTable(table.getId());
+            }
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        int seated = winners.values().stream().mapToInt(AtomicInteger::get).sum();
+        long doubleBooked = winners.values().stream().filter(count -> count.get() > 1).count();
+
+        return Map.of(
+            "framework", "Spring Boot",
+            "hosts", hostCount,
+            "tables", tableCount,
+            "seated", seated,
+            "rejected", rejected.get(),
+            "errors", errors.get(),
+            "doubleBookedTables", doubleBooked,
+            "executionTimeMs", elapsedMs,
+            "attemptsPerSecond", hostCount * 1000L / elapsedMs,
+            "timestamp", LocalDateTime.now()
+        );
+    }
 }
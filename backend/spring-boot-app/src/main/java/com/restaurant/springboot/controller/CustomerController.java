@@ -3,6 +3,7 @@ package com.restaurant.springboot.controller;
 import com.restaurant.application.port.in.CustomerUseCase;
 import com.restaurant.domain.entity.Customer;
 import com.restaurant.springboot.dto.CustomerDTO;
+import com.restaurant.springboot.mapper.BulkImportMapper;
 import com.restaurant.springboot.mapper.CustomerDTOMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,10 +11,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +36,9 @@ public class CustomerController {
     @Autowired
     private CustomerDTOMapper customerMapper;
     
+    @Autowired
+    private BulkImportMapper bulkImportMapper;
+    
     @PostMapping
     @Operation(summary = "Create a new customer")
     @ApiResponse(responseCode = "201", description = "Customer created successfully")
@@ -86,14 +92,22 @@ public class CustomerController {
             .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/stats")
+    @Operation(summary = "Get customer counts")
+    @ApiResponse(responseCode = "200", description = "Total and active customer counts")
+    public ResponseEntity<CustomerUseCase.CustomerStatistics> getCustomerStatistics() {
+        return ResponseEntity.ok(customerUseCase.getCustomerStatistics());
+    }
+    
     @GetMapping("/search")
     @Operation(summary = "Search customers by name")
     @ApiResponse(responseCode = "200", description = "List of matching customers")
-    public ResponseEntity<?> searchCustomers(@RequestParam String name) {
+    public ResponseEntity<?> searchCustomers(@RequestParam String name,
+                                             @RequestParam(defaultValue = "50") int limit) {
         if (name == null || name.trim().isEmpty()) {
             return ResponseEntity.badRequest().body(new ErrorResponse("Name parameter is required"));
         }
-        List<Customer> customers = customerUseCase.searchCustomersByName(name.trim());
+        List<Customer> customers = customerUseCase.searchCustomersByName(name.trim(), limit);
         List<CustomerDTO> dtos = customers.stream()
             .map(customerMapper::toDTO)
             .collect(Collectors.toList());
@@ -158,6 +172,21 @@ public class CustomerController {
         }
     }
     
+    @PostMapping(value = "/import", consumes = {BulkImportMapper.TEXT_CSV, BulkImportMapper.APPLICATION_NDJSON})
+    @Operation(summary = "Bulk import customers from a CSV or NDJSON stream")
+    @ApiResponse(responseCode = "200", description = "Import finished")
+    @ApiResponse(responseCode = "400",
+        description = "Malformed import record; the records before it were imported, as the counts report")
+    public ResponseEntity<?> importCustomers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        try {
+            CustomerUseCase.ImportResult result = customerUseCase.importCustomers(bulkImportMapper.toCustomerCommands(body, contentType));
+            return result.error() == null ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
     // DTOs
     public record CreateCustomerRequest(
         String name,
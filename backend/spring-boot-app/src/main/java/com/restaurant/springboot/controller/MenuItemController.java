@@ -5,6 +5,7 @@ import com.restaurant.domain.entity.MenuItem;
 import com.restaurant.domain.valueobject.MenuCategory;
 import com.restaurant.domain.valueobject.Money;
 import com.restaurant.springboot.dto.MenuItemDTO;
+import com.restaurant.springboot.mapper.BulkImportMapper;
 import com.restaurant.springboot.mapper.MenuItemDTOMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,10 +13,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +39,9 @@ public class MenuItemController {
     @Autowired
     private MenuItemDTOMapper menuItemMapper;
     
+    @Autowired
+    private BulkImportMapper bulkImportMapper;
+    
     @PostMapping
     @Operation(summary = "Create a new menu item")
     @ApiResponse(responseCode = "201", description = "Menu item created successfully")
@@ -109,14 +115,22 @@ public class MenuItemController {
         return ResponseEntity.ok(dtos);
     }
     
+    @GetMapping("/stats")
+    @Operation(summary = "Get menu item counts")
+    @ApiResponse(responseCode = "200", description = "Total, available and per-category menu item counts")
+    public ResponseEntity<MenuUseCase.MenuStatistics> getMenuStatistics() {
+        return ResponseEntity.ok(menuUseCase.getMenuStatistics());
+    }
+    
     @GetMapping("/search")
     @Operation(summary = "Search menu items by name")
     @ApiResponse(responseCode = "200", description = "List of matching menu items")
-    public ResponseEntity<?> searchMenuItems(@RequestParam String name) {
+    public ResponseEntity<?> searchMenuItems(@RequestParam String name,
+                                             @RequestParam(defaultValue = "50") int limit) {
         if (name == null || name.trim().isEmpty()) {
             return ResponseEntity.badRequest().body(new ErrorResponse("Name parameter is required"));
         }
-        List<MenuItem> menuItems = menuUseCase.searchMenuItemsByName(name.trim());
+        List<MenuItem> menuItems = menuUseCase.searchMenuItemsByName(name.trim(), limit);
         List<MenuItemDTO> dtos = menuItems.stream()
             .map(menuItemMapper::toDTO)
             .collect(Collectors.toList());
@@ -188,6 +202,21 @@ public class MenuItemController {
         }
     }
     
+    @PostMapping(value = "/import", consumes = {BulkImportMapper.TEXT_CSV, BulkImportMapper.APPLICATION_NDJSON})
+    @Operation(summary = "Bulk import menu items from a CSV or NDJSON stream")
+    @ApiResponse(responseCode = "200", description = "Import finished")
+    @ApiResponse(responseCode = "400",
+        description = "Malformed import record; the records before it were imported, as the counts report")
+    public ResponseEntity<?> importMenuItems(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        try {
+            MenuUseCase.ImportResult result = menuUseCase.importMenuItems(bulkImportMapper.toMenuItemCommands(body, contentType));
+            return result.error() == null ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
     // DTOs
     public record CreateMenuItemRequest(
         String name,
@@ -0,0 +1,63 @@
+package com.restaurant.springboot.controller;
+
+import com.restaurant.application.port.in.MonitoringUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Spring Boot REST controller for runtime monitoring
+ */
+@RestController
+@RequestMapping("/api/v1/monitoring")
+@Tag(name = "Monitoring", description = "Runtime monitoring operations")
+public class MonitoringController {
+    
+    @Autowired
+    private MonitoringUseCase monitoringUseCase;
+    
+    @GetMapping("/queries")
+    @Operation(summary = "Get query execution and plan cache statistics")
+    @ApiResponse(responseCode = "200", description = "Query statistics, most executed queries first")
+    public ResponseEntity<MonitoringUseCase.QueryStatistics> getQueryStatistics(
+            @Parameter(description = "Number of per-query entries") @RequestParam(defaultValue = "20") int top) {
+        return ResponseEntity.ok(monitoringUseCase.getQueryStatistics(top));
+    }
+    
+    @DeleteMapping("/queries")
+    @Operation(summary = "Reset query statistics")
+    @ApiResponse(responseCode = "204", description = "Query statistics reset")
+    public ResponseEntity<Void> resetQueryStatistics() {
+        monitoringUseCase.resetQueryStatistics();
+        return ResponseEntity.noContent().build();
+    }
+    
+    @GetMapping("/repositories")
+    @Operation(summary = "Get repository call statistics")
+    @ApiResponse(responseCode = "200", description = "Per-method timings and row counts, most total time first")
+    public ResponseEntity<MonitoringUseCase.RepositoryStatistics> getRepositoryStatistics() {
+        return ResponseEntity.ok(monitoringUseCase.getRepositoryStatistics());
+    }
+    
+    @GetMapping("/slow-queries")
+    @Operation(summary = "Get recent slow repository calls")
+    @ApiResponse(responseCode = "200", description = "Slow calls with parameters and call site, newest first")
+    public ResponseEntity<List<MonitoringUseCase.SlowQuery>> getSlowQueries(
+            @Parameter(description = "Maximum number of entries") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(monitoringUseCase.getSlowQueries(limit));
+    }
+    
+    @DeleteMapping("/repositories")
+    @Operation(summary = "Reset repository call statistics and slow calls")
+    @ApiResponse(responseCode = "204", description = "Repository statistics reset")
+    public ResponseEntity<Void> resetRepositoryStatistics() {
+        monitoringUseCase.resetRepositoryStatistics();
+        return ResponseEntity.noContent().build();
+    }
+}
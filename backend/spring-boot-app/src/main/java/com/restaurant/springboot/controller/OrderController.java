@@ -0,0 +1,289 @@
+package com.restaurant.springboot.controller;
+
+import com.restaurant.application.port.in.OrderUseCase;
+import com.restaurant.domain.entity.Order;
+import com.restaurant.domain.valueobject.OrderStatus;
+import com.restaurant.springboot.dto.OrderDTO;
+import com.restaurant.springboot.mapper.OrderDTOMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Spring Boot REST controller for order operations
+ */
+@RestController
+@RequestMapping("/api/v1/orders")
+@Tag(name = "Orders", description = "Order management operations")
+public class OrderController {
+    
+    @Autowired
+    private OrderUseCase orderUseCase;
+    
+    @Autowired
+    private OrderDTOMapper orderMapper;
+    
+    @PostMapping
+    @Operation(summary = "Create a new order")
+    @ApiResponse(responseCode = "201", description = "Order created successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid order data")
+    public ResponseEntity<?> createOrder(@RequestBody CreateOrderRequest request) {
+        try {
+            OrderUseCase.CreateOrderCommand command = new OrderUseCase.CreateOrderCommand(
+                request.customerId(), request.tableId(), request.specialInstructions()
+            );
+            Order order = orderUseCase.createOrder(command);
+            return ResponseEntity.status(HttpStatus.CREATED).body(orderMapper.toDTO(order));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/place")
+    @Operation(summary = "Place an order with all its items at once")
+    @ApiResponse(responseCode = "201", description = "Order placed successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid order data or unknown menu item")
+    @ApiResponse(responseCode = "409", description = "A menu item is not available")
+    public ResponseEntity<?> placeOrder(@RequestBody PlaceOrderRequest request) {
+        try {
+            List<OrderUseCase.OrderLine> lines = request.lines() == null ? null : request.lines().stream()
+                .map(line -> new OrderUseCase.OrderLine(line.menuItemId(), line.quantity(), line.notes()))
+                .collect(Collectors.toList());
+            OrderUseCase.PlaceOrderCommand command = new OrderUseCase.PlaceOrderCommand(
+                request.customerId(), request.tableId(), request.specialInstructions(), lines
+            );
+            Order order = orderUseCase.placeOrder(command);
+            return ResponseEntity.status(HttpStatus.CREATED).body(orderMapper.toDTO(order));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/{id}")
+    @Operation(summary = "Get order by ID")
+    @ApiResponse(responseCode = "200", description = "Order found")
+    @ApiResponse(responseCode = "404", description = "Order not found")
+    public ResponseEntity<?> getOrderById(@Parameter(description = "Order ID") @PathVariable UUID id) {
+        return orderUseCase.findOrderById(id)
+            .map(order -> ResponseEntity.ok(orderMapper.toDTO(order)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping
+    @Operation(summary = "Get orders placed in a time range, today's orders by default")
+    @ApiResponse(responseCode = "200", description = "List of orders")
+    @ApiResponse(responseCode = "400", description = "Invalid time range")
+    public ResponseEntity<?> getOrders(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        if (start == null && end == null) {
+            return ResponseEntity.ok(toDTOs(orderUseCase.getTodaysOrders()));
+        }
+        if (start == null || end == null) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Both start and end are required"));
+        }
+        try {
+            return ResponseEntity.ok(toDTOs(orderUseCase.getOrdersByDateRange(start, end)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/active")
+    @Operation(summary = "Get active orders")
+    @ApiResponse(responseCode = "200", description = "List of active orders")
+    public ResponseEntity<List<OrderDTO>> getActiveOrders() {
+        return ResponseEntity.ok(toDTOs(orderUseCase.getActiveOrders()));
+    }
+    
+    @GetMapping("/customer/{customerId}")
+    @Operation(summary = "Get orders by customer")
+    @ApiResponse(responseCode = "200", description = "List of orders")
+    public ResponseEntity<List<OrderDTO>> getOrdersByCustomer(@PathVariable UUID customerId) {
+        return ResponseEntity.ok(toDTOs(orderUseCase.getOrdersByCustomer(customerId)));
+    }
+    
+    @GetMapping("/table/{tableId}")
+    @Operation(summary = "Get orders by table")
+    @ApiResponse(responseCode = "200", description = "List of orders")
+    public ResponseEntity<List<OrderDTO>> getOrdersByTable(
+            @PathVariable UUID tableId,
+            @Parameter(description = "Only orders not yet delivered or cancelled")
+            @RequestParam(defaultValue = "false") boolean active) {
+        return ResponseEntity.ok(toDTOs(active
+            ? orderUseCase.getActiveOrdersByTable(tableId)
+            : orderUseCase.getOrdersByTable(tableId)));
+    }
+    
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Get orders by status")
+    @ApiResponse(responseCode = "200", description = "List of orders")
+    @ApiResponse(responseCode = "400", description = "Invalid status")
+    public ResponseEntity<?> getOrdersByStatus(@PathVariable String status) {
+        try {
+            OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
+            return ResponseEntity.ok(toDTOs(orderUseCase.getOrdersByStatus(orderStatus)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid status: " + status));
+        }
+    }
+    
+    @PutMapping("/status")
+    @Operation(summary = "Move several orders to the same status at once")
+    @ApiResponse(responseCode = "200", description = "Result of each order, including those that could not be moved")
+    @ApiResponse(responseCode = "400", description = "Invalid status or no order IDs")
+    public ResponseEntity<?> transitionOrders(@RequestBody TransitionOrdersRequest request) {
+        OrderStatus status;
+        try {
+            status = request.status() != null ? OrderStatus.valueOf(request.status().toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid status: " + request.status()));
+        }
+        try {
+            return ResponseEntity.ok(orderUseCase.transitionOrders(
+                new OrderUseCase.TransitionOrdersCommand(request.orderIds(), status, request.reason())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/{id}/items")
+    @Operation(summary = "Add an item to a pending order")
+    @ApiResponse(responseCode = "200", description = "Item added")
+    @ApiResponse(responseCode = "400", description = "Invalid quantity")
+    @ApiResponse(responseCode = "404", description = "Order or menu item not found")
+    @ApiResponse(responseCode = "409", description = "Order cannot be modified")
+    public ResponseEntity<?> addItem(@PathVariable UUID id, @RequestBody AddOrderItemRequest request) {
+        if (request.quantity() < 1) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Quantity must be at least 1"));
+        }
+        return execute(() -> orderUseCase.addItemToOrder(new OrderUseCase.AddOrderItemCommand(
+            id, request.menuItemId(), request.quantity(), request.notes())));
+    }
+    
+    @PutMapping("/{id}/items/{menuItemId}")
+    @Operation(summary = "Change the quantity of an item in a pending order")
+    @ApiResponse(responseCode = "200", description = "Quantity updated")
+    @ApiResponse(responseCode = "400", description = "Invalid quantity")
+    @ApiResponse(responseCode = "404", description = "Order not found")
+    @ApiResponse(responseCode = "409", description = "Order cannot be modified")
+    public ResponseEntity<?> updateItemQuantity(@PathVariable UUID id, @PathVariable UUID menuItemId,
+                                                @RequestBody UpdateQuantityRequest request) {
+        if (request.quantity() < 1) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Quantity must be at least 1"));
+        }
+        return execute(() -> orderUseCase.updateOrderItemQuantity(id, menuItemId, request.quantity()));
+    }
+    
+    @DeleteMapping("/{id}/items/{menuItemId}")
+    @Operation(summary = "Remove an item from a pending order")
+    @ApiResponse(responseCode = "200", description = "Item removed")
+    @ApiResponse(responseCode = "404", description = "Order not found")
+    @ApiResponse(responseCode = "409", description = "Order cannot be modified")
+    public ResponseEntity<?> removeItem(@PathVariable UUID id, @PathVariable UUID menuItemId) {
+        return execute(() -> orderUseCase.removeItemFromOrder(id, menuItemId));
+    }
+    
+    @PutMapping("/{id}/confirm")
+    @Operation(summary = "Confirm an order")
+    @ApiResponse(responseCode = "200", description = "Order confirmed")
+    @ApiResponse(responseCode = "404", description = "Order not found")
+    @ApiResponse(responseCode = "409", description = "Invalid status transition")
+    public ResponseEntity<?> confirmOrder(@PathVariable UUID id) {
+        return execute(() -> orderUseCase.confirmOrder(id));
+    }
+    
+    @PutMapping("/{id}/start-preparing")
+    @Operation(summary = "Start preparing an order")
+    @ApiResponse(responseCode = "200", description = "Order is being prepared")
+    @ApiResponse(responseCode = "404", description = "Order not found")
+    @ApiResponse(responseCode = "409", description = "Invalid status transition")
+    public ResponseEntity<?> startPreparingOrder(@PathVariable UUID id) {
+        return execute(() -> orderUseCase.startPreparingOrder(id));
+    }
+    
+    @PutMapping("/{id}/ready")
+    @Operation(summary = "Mark an order as ready")
+    @ApiResponse(responseCode = "200", description = "Order is ready")
+    @ApiResponse(responseCode = "404", description = "Order not found")
+    @ApiResponse(responseCode = "409", description = "Invalid status transition")
+    public ResponseEntity<?> markOrderReady(@PathVariable UUID id) {
+        return execute(() -> orderUseCase.markOrderReady(id));
+    }
+    
+    @PutMapping("/{id}/deliver")
+    @Operation(summary = "Deliver an order")
+    @ApiResponse(responseCode = "200", description = "Order delivered")
+    @ApiResponse(responseCode = "404", description = "Order not found")
+    @ApiResponse(responseCode = "409", description = "Invalid status transition")
+    public ResponseEntity<?> deliverOrder(@PathVariable UUID id) {
+        return execute(() -> orderUseCase.deliverOrder(id));
+    }
+    
+    @PutMapping("/{id}/cancel")
+    @Operation(summary = "Cancel an order")
+    @ApiResponse(responseCode = "200", description = "Order cancelled")
+    @ApiResponse(responseCode = "404", description = "Order not found")
+    @ApiResponse(responseCode = "409", description = "Order cannot be cancelled")
+    public ResponseEntity<?> cancelOrder(@PathVariable UUID id, @RequestBody CancelOrderRequest request) {
+        return execute(() -> orderUseCase.cancelOrder(id, request.reason()));
+    }
+    
+    private ResponseEntity<?> execute(Supplier<Order> operation) {
+        try {
+            return ResponseEntity.ok(orderMapper.toDTO(operation.get()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    private List<OrderDTO> toDTOs(List<Order> orders) {
+        return orders.stream()
+            .map(orderMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+    
+    // DTOs
+    public record CreateOrderRequest(
+        UUID customerId,
+        UUID tableId,
+        String specialInstructions
+    ) {}
+    
+    public record PlaceOrderRequest(
+        UUID customerId,
+        UUID tableId,
+        String specialInstructions,
+        List<AddOrderItemRequest> lines
+    ) {}
+    
+    public record AddOrderItemRequest(
+        UUID menuItemId,
+        int quantity,
+        String notes
+    ) {}
+    
+    public record UpdateQuantityRequest(int quantity) {}
+    
+    public record CancelOrderRequest(String reason) {}
+    
+    public record TransitionOrdersRequest(List<UUID> orderIds, String status, String reason) {}
+    
+    public record ErrorResponse(String message) {}
+}
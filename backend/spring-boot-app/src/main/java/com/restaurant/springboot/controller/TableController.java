@@ -0,0 +1,237 @@
+package com.restaurant.springboot.controller;
+
+import com.restaurant.application.port.in.TableUseCase;
+import com.restaurant.domain.entity.RestaurantTable;
+import com.restaurant.domain.valueobject.TableStatus;
+import com.restaurant.springboot.dto.RestaurantTableDTO;
+import com.restaurant.springboot.mapper.RestaurantTableDTOMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Spring Boot REST controller for restaurant table operations
+ */
+@RestController
+@RequestMapping("/api/v1/tables")
+@Tag(name = "Tables", description = "Restaurant table management operations")
+public class TableController {
+    
+    @Autowired
+    private TableUseCase tableUseCase;
+    
+    @Autowired
+    private RestaurantTableDTOMapper tableMapper;
+    
+    @PostMapping
+    @Operation(summary = "Create a new table")
+    @ApiResponse(responseCode = "201", description = "Table created successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid table data")
+    public ResponseEntity<?> createTable(@RequestBody CreateTableRequest request) {
+        try {
+            TableUseCase.CreateTableCommand command = new TableUseCase.CreateTableCommand(
+                request.tableNumber(), request.capacity(), request.location()
+            );
+            RestaurantTable table = tableUseCase.createTable(command);
+            return ResponseEntity.status(HttpStatus.CREATED).body(tableMapper.toDTO(table));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @GetMapping
+    @Operation(summary = "Get all tables, optionally filtered by status")
+    @ApiResponse(responseCode = "200", description = "List of tables")
+    @ApiResponse(responseCode = "400", description = "Invalid status")
+    public ResponseEntity<?> getTables(@RequestParam(required = false) String status) {
+        if (status == null) {
+            return ResponseEntity.ok(toDTOs(tableUseCase.getAllTables()));
+        }
+        try {
+            TableStatus tableStatus = TableStatus.valueOf(status.toUpperCase());
+            return ResponseEntity.ok(toDTOs(tableUseCase.getTablesByStatus(tableStatus)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid status: " + status));
+        }
+    }
+    
+    @GetMapping("/available")
+    @Operation(summary = "Get available tables")
+    @ApiResponse(responseCode = "200", description = "List of available tables")
+    public ResponseEntity<List<RestaurantTableDTO>> getAvailableTables() {
+        return ResponseEntity.ok(toDTOs(tableUseCase.getAvailableTables()));
+    }
+    
+    @GetMapping("/best-fit")
+    @Operation(summary = "Find the smallest available table for a party")
+    @ApiResponse(responseCode = "200", description = "Table found")
+    @ApiResponse(responseCode = "400", description = "Invalid party size")
+    @ApiResponse(responseCode = "404", description = "No available table fits the party")
+    public ResponseEntity<?> findBestFit(@RequestParam int partySize) {
+        try {
+            return tableUseCase.findAvailableTableForPartySize(partySize)
+                .<ResponseEntity<?>>map(table -> ResponseEntity.ok(tableMapper.toDTO(table)))
+                .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/{id}")
+    @Operation(summary = "Get table by ID")
+    @ApiResponse(responseCode = "200", description = "Table found")
+    @ApiResponse(responseCode = "404", description = "Table not found")
+    public ResponseEntity<?> getTableById(@Parameter(description = "Table ID") @PathVariable UUID id) {
+        return tableUseCase.findTableById(id)
+            .map(table -> ResponseEntity.ok(tableMapper.toDTO(table)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/number/{tableNumber}")
+    @Operation(summary = "Get table by number")
+    @ApiResponse(responseCode = "200", description = "Table found")
+    @ApiResponse(responseCode = "404", description = "Table not found")
+    public ResponseEntity<?> getTableByNumber(@PathVariable String tableNumber) {
+        return tableUseCase.findTableByNumber(tableNumber)
+            .map(table -> ResponseEntity.ok(tableMapper.toDTO(table)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PutMapping("/{id}")
+    @Operation(summary = "Update table")
+    @ApiResponse(responseCode = "200", description = "Table updated successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid table data")
+    public ResponseEntity<?> updateTable(@PathVariable UUID id, @RequestBody UpdateTableRequest request) {
+        try {
+            TableUseCase.UpdateTableCommand command = new TableUseCase.UpdateTableCommand(
+                id, request.tableNumber(), request.capacity(), request.location()
+            );
+            return ResponseEntity.ok(tableMapper.toDTO(tableUseCase.updateTable(command)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/seat")
+    @Operation(summary = "Seat a party at the smallest available table that fits")
+    @ApiResponse(responseCode = "200", description = "Party seated")
+    @ApiResponse(responseCode = "400", description = "Invalid party size")
+    @ApiResponse(responseCode = "404", description = "No available table fits the party")
+    @ApiResponse(responseCode = "409", description = "Too much concurrent seating, try again")
+    public ResponseEntity<?> seatParty(@RequestBody SeatPartyRequest request) {
+        try {
+            return tableUseCase.seatParty(request.partySize(), request.orderId())
+                .<ResponseEntity<?>>map(table -> ResponseEntity.ok(tableMapper.toDTO(table)))
+                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse("No available table for party of " + request.partySize())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @PutMapping("/{id}/occupy")
+    @Operation(summary = "Occupy a table")
+    @ApiResponse(responseCode = "200", description = "Table occupied")
+    @ApiResponse(responseCode = "404", description = "Table not found")
+    @ApiResponse(responseCode = "409", description = "Table is not available")
+    public ResponseEntity<?> occupyTable(@PathVariable UUID id, @RequestBody OccupyTableRequest request) {
+        return execute(() -> tableUseCase.occupyTable(id, request.orderId()));
+    }
+    
+    @PutMapping("/{id}/reserve")
+    @Operation(summary = "Reserve a table")
+    @ApiResponse(responseCode = "200", description = "Table reserved")
+    @ApiResponse(responseCode = "404", description = "Table not found")
+    @ApiResponse(responseCode = "409", description = "Table is not available")
+    public ResponseEntity<?> reserveTable(@PathVariable UUID id) {
+        return execute(() -> tableUseCase.reserveTable(id));
+    }
+    
+    @PutMapping("/{id}/release")
+    @Operation(summary = "Make a table available")
+    @ApiResponse(responseCode = "200", description = "Table available")
+    @ApiResponse(responseCode = "404", description = "Table not found")
+    public ResponseEntity<?> releaseTable(@PathVariable UUID id) {
+        return execute(() -> tableUseCase.makeTableAvailable(id));
+    }
+    
+    @PutMapping("/{id}/cleaning")
+    @Operation(summary = "Mark a table for cleaning")
+    @ApiResponse(responseCode = "200", description = "Table marked for cleaning")
+    @ApiResponse(responseCode = "404", description = "Table not found")
+    @ApiResponse(responseCode = "409", description = "Table is occupied")
+    public ResponseEntity<?> markForCleaning(@PathVariable UUID id) {
+        return execute(() -> tableUseCase.markTableForCleaning(id));
+    }
+    
+    @PutMapping("/{id}/out-of-service")
+    @Operation(summary = "Mark a table out of service")
+    @ApiResponse(responseCode = "200", description = "Table out of service")
+    @ApiResponse(responseCode = "404", description = "Table not found")
+    public ResponseEntity<?> markOutOfService(@PathVariable UUID id) {
+        return execute(() -> tableUseCase.markTableOutOfService(id));
+    }
+    
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete table")
+    @ApiResponse(responseCode = "204", description = "Table deleted successfully")
+    @ApiResponse(responseCode = "404", description = "Table not found")
+    @ApiResponse(responseCode = "409", description = "Table is occupied")
+    public ResponseEntity<?> deleteTable(@PathVariable UUID id) {
+        try {
+            tableUseCase.deleteTable(id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    private ResponseEntity<?> execute(Supplier<RestaurantTable> operation) {
+        try {
+            return ResponseEntity.ok(tableMapper.toDTO(operation.get()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    private List<RestaurantTableDTO> toDTOs(List<RestaurantTable> tables) {
+        return tables.stream()
+            .map(tableMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+    
+    // DTOs
+    public record CreateTableRequest(
+        String tableNumber,
+        int capacity,
+        String location
+    ) {}
+    
+    public record UpdateTableRequest(
+        String tableNumber,
+        int capacity,
+        String location
+    ) {}
+    
+    public record SeatPartyRequest(int partySize, UUID orderId) {}
+    
+    public record OccupyTableRequest(UUID orderId) {}
+    
+    public record ErrorResponse(String message) {}
+}
@@ -0,0 +1,156 @@
+package com.restaurant.springboot.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.application.port.in.CustomerUseCase;
+import com.restaurant.application.port.in.MenuUseCase;
+import com.restaurant.domain.valueobject.MenuCategory;
+import com.restaurant.domain.valueobject.Money;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Mapper from streamed CSV / NDJSON request bodies to import commands.
+ * Records are parsed lazily, one line at a time, so the request body is never held in memory.
+ */
+@Component
+public class BulkImportMapper {
+    
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    
+    private final ObjectMapper objectMapper;
+    
+    public BulkImportMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    public Iterator<MenuUseCase.CreateMenuItemCommand> toMenuItemCommands(InputStream body, String contentType) {
+        return records(body, contentType, record -> new MenuUseCase.CreateMenuItemCommand(
+            required(record, "name"),
+            record.get("description"),
+            new Money(new BigDecimal(required(record, "price")), orDefault(record.get("currency"), "USD")),
+            MenuCategory.valueOf(required(record, "category").toUpperCase()),
+            record.get("imageUrl"),
+            Integer.parseInt(orDefault(record.get("preparationTimeMinutes"), "0"))
+        ));
+    }
+    
+    public Iterator<CustomerUseCase.CreateCustomerCommand> toCustomerCommands(InputStream body, String contentType) {
+        return records(body, contentType, record -> new CustomerUseCase.CreateCustomerCommand(
+            required(record, "name"),
+            required(record, "email"),
+            record.get("phone"),
+            record.get("address")
+        ));
+    }
+    
+    private <T> Iterator<T> records(InputStream body, String contentType, Function<Map<String, String>, T> mapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        boolean csv = contentType != null && contentType.startsWith(TEXT_CSV);
+        List<String> header = csv ? csvHeader(reader) : List.of();
+        AtomicInteger lineNumber = new AtomicInteger(csv ? 1 : 0);
+        
+        return reader.lines()
+            .peek(line -> lineNumber.incrementAndGet())
+            .filter(line -> !line.isBlank())
+            .map(line -> {
+                try {
+                    return mapper.apply(csv ? csvRecord(header, line) : jsonRecord(line));
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException(
+                        "Invalid import record at line " + lineNumber.get() + ": " + e.getMessage(), e);
+                }
+            })
+            .iterator();
+    }
+    
+    private List<String> csvHeader(BufferedReader reader) {
+        try {
+            String line = reader.readLine();
+            if (line == null || line.isBlank()) {
+                throw new IllegalArgumentException("CSV import requires a header line");
+            }
+            return splitCsvLine(line).stream().map(String::trim).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private Map<String, String> csvRecord(List<String> header, String line) {
+        List<String> values = splitCsvLine(line);
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            String value = values.get(i).trim();
+            record.put(header.get(i), value.isEmpty() ? null : value);
+        }
+        return record;
+    }
+    
+    private Map<String, String> jsonRecord(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            Map<String, String> record = new HashMap<>();
+            node.fields().forEachRemaining(field ->
+                record.put(field.getKey(), field.getValue().isNull() ? null : field.getValue().asText()));
+            return record;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("malformed JSON", e);
+        }
+    }
+    
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+    
+    private static String required(Map<String, String> record, String field) {
+        String value = record.get(field);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("missing field '" + field + "'");
+        }
+        return value;
+    }
+    
+    private static String orDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
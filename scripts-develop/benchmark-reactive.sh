@@ -0,0 +1,66 @@
+#!/bin/bash
+
+# Reactive vs Virtual Threads Benchmark Script
+# Compares the Quarkus virtual-thread + JDBC endpoints with the reactive MySQL client endpoints
+# under a large number of concurrent connections. Requires wrk (https://github.com/wg/wrk).
+
+set -e
+
+# Colors for output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+# Configuration (override with environment variables)
+BASE_URL="${BASE_URL:-http://localhost:8081}"
+CONNECTIONS="${CONNECTIONS:-10000}"
+THREADS="${THREADS:-8}"
+DURATION="${DURATION:-60s}"
+WARMUP="${WARMUP:-15s}"
+
+# Uncached on both paths, so every request reaches MySQL
+BLOCKING_PATH="/api/v1/customers"
+REACTIVE_PATH="/api/v1/reactive/customers"
+
+echo -e "${BLUE}========================================${NC}"
+echo -e "${BLUE}  Reactive vs Virtual Threads Benchmark${NC}"
+echo -e "${BLUE}========================================${NC}"
+
+if ! command -v wrk &> /dev/null; then
+    echo -e "${RED}❌ wrk is not installed or not in PATH${NC}"
+    exit 1
+fi
+
+if ! curl -sf "$BASE_URL/q/health" > /dev/null; then
+    echo -e "${RED}❌ Quarkus is not reachable at $BASE_URL${NC}"
+    echo -e "${YELLOW}   Start it with ./scripts-develop/start-quarkus.sh${NC}"
+    exit 1
+fi
+
+# Each connection needs a file descriptor on this side
+REQUIRED_FDS=$((CONNECTIONS + 1024))
+if [ "$(ulimit -n)" != "unlimited" ] && [ "$(ulimit -n)" -lt "$REQUIRED_FDS" ]; then
+    ulimit -n "$REQUIRED_FDS" 2>/dev/null || {
+        echo -e "${YELLOW}⚠️  Open file limit is $(ulimit -n); raise it to $REQUIRED_FDS for $CONNECTIONS connections${NC}"
+    }
+fi
+
+run_benchmark() {
+    local name=$1
+    local path=$2
+    
+    echo -e "${BLUE}🔥 Warming up $name ($WARMUP)...${NC}"
+    wrk -t"$THREADS" -c"$THREADS" -d"$WARMUP" "$BASE_URL$path" > /dev/null
+    
+    echo -e "${BLUE}🚀 $name: $CONNECTIONS connections, $THREADS threads, $DURATION${NC}"
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency --timeout 30s "$BASE_URL$path"
+    echo ""
+}
+
+run_benchmark "Virtual threads + JDBC" "$BLOCKING_PATH"
+run_benchmark "Reactive MySQL client" "$REACTIVE_PATH"
+
+echo -e "${GREEN}✅ Benchmark finished${NC}"
+echo -e "${YELLOW}   Compare Requests/sec, the latency percentiles and socket errors of both runs${NC}"
@@ -0,0 +1,67 @@
+#!/bin/bash
+
+# JPA vs plain-JDBC Read Adapter Benchmark Script
+# Compares two instances of the same backend, one started with the default JPA repositories and one
+# with PERSISTENCE_ADAPTER=jdbc, on uncached list endpoints that map every row. Requires wrk (https://github.com/wg/wrk).
+#
+# Example with Spring Boot (the JDBC instance on a second port):
+#   ./scripts-develop/start-spring-boot.sh
+#   PERSISTENCE_ADAPTER=jdbc SERVER_PORT=8092 java -jar backend/spring-boot-app/target/*.jar
+#   JPA_URL=http://localhost:8082 JDBC_URL=http://localhost:8092 ./scripts-develop/benchmark-read-adapters.sh
+
+set -e
+
+# Colors for output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+# Configuration (override with environment variables)
+JPA_URL="${JPA_URL:-http://localhost:8082}"
+JDBC_URL="${JDBC_URL:-http://localhost:8092}"
+CONNECTIONS="${CONNECTIONS:-64}"
+THREADS="${THREADS:-8}"
+DURATION="${DURATION:-60s}"
+WARMUP="${WARMUP:-30s}"
+
+# Neither list is cached, so every request reads and maps all rows
+PATHS=("/api/v1/menu-items" "/api/v1/customers")
+
+echo -e "${BLUE}========================================${NC}"
+echo -e "${BLUE}  JPA vs JDBC Read Adapter Benchmark${NC}"
+echo -e "${BLUE}========================================${NC}"
+
+if ! command -v wrk &> /dev/null; then
+    echo -e "${RED}❌ wrk is not installed or not in PATH${NC}"
+    exit 1
+fi
+
+for url in "$JPA_URL" "$JDBC_URL"; do
+    if ! curl -sf "$url${PATHS[0]}" > /dev/null; then
+        echo -e "${RED}❌ No backend is reachable at $url${NC}"
+        exit 1
+    fi
+done
+
+run_benchmark() {
+    local name=$1
+    local url=$2
+    
+    for path in "${PATHS[@]}"; do
+        # Warm-up lets the JIT compile the mapping code and fills the driver's statement cache
+        echo -e "${BLUE}🔥 Warming up $name $path ($WARMUP)...${NC}"
+        wrk -t"$THREADS" -c"$CONNECTIONS" -d"$WARMUP" "$url$path" > /dev/null
+        
+        echo -e "${BLUE}🚀 $name $path: $CONNECTIONS connections, $THREADS threads, $DURATION${NC}"
+        wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency "$url$path"
+        echo ""
+    done
+}
+
+run_benchmark "JPA" "$JPA_URL"
+run_benchmark "JDBC" "$JDBC_URL"
+
+echo -e "${GREEN}✅ Benchmark finished${NC}"
+echo -e "${YELLOW}   Compare Requests/sec and latency percentiles per endpoint; run with the same data set on both instances${NC}"